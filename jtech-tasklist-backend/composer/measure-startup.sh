@@ -0,0 +1,57 @@
+#!/bin/bash
+# Mede o tempo de inicialização e a latência da primeira requisição do fat jar
+# comum e do launcher de inicialização rápida (AOT + CDS), no mesmo perfil.
+#
+# Pré-requisitos: ./gradlew fastStart -Paot[=perfis] e, no perfil padrão, um PostgreSQL
+# acessível (ou variáveis DS_*). O fat jar roda com os perfis usados no build do AOT.
+# Uso: ./composer/measure-startup.sh [repetições]
+# Saída em CSV (;) com uma linha por execução; compare as medianas de cada variante.
+
+RUNS=${1:-5}
+PORT=${PORT:-8080}
+cd "$(dirname "$0")/.."
+
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+FAST=build/fast-start/run.sh
+
+if [ ! -f "$JAR" ] || [ ! -x "$FAST" ]; then
+    echo "❌ Execute ./gradlew fastStart -Paot antes da medição"
+    exit 1
+fi
+
+PROFILES=$(cat build/fast-start/profiles 2>/dev/null)
+
+measure() {
+    local label=$1
+    shift
+    for i in $(seq 1 "$RUNS"); do
+        local log
+        log=$(mktemp)
+        local start
+        start=$(date +%s%N)
+        PORT=$PORT "$@" > "$log" 2>&1 &
+        local pid=$!
+
+        # Aguarda a aplicação ficar pronta (health check)
+        until curl -s -o /dev/null "http://localhost:$PORT/actuator/health"; do
+            sleep 0.05
+        done
+        local ready
+        ready=$(date +%s%N)
+        local first
+        first=$(curl -s -o /dev/null -w '%{time_total}' "http://localhost:$PORT/tasks")
+
+        local started
+        started=$(grep -o 'Started StartTasklist in [0-9.]* seconds' "$log" | grep -o '[0-9.]*' | head -1)
+        echo "$label;$i;${started};$(( (ready - start) / 1000000 ));${first}"
+
+        kill "$pid"
+        wait "$pid" 2>/dev/null
+        rm -f "$log"
+    done
+}
+
+echo "variante;execucao;started_in_s;ate_health_ms;primeira_requisicao_tasks_s"
+echo "# perfis: ${PROFILES:-padrão}" >&2
+measure "fat-jar" java -Dspring.profiles.active="$PROFILES" -jar "$JAR"
+measure "fast-start" "$FAST"
@@ -0,0 +1,59 @@
+/*
+*  @(#)TaskResponseMappingBenchmark.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.adapters.input.protocols.TaskResponse;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.benchmarks.TaskFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+* Benchmark do TaskController.toResponse, individual e para uma página inteira.
+*
+* @author JTech
+*/
+@State(Scope.Benchmark)
+public class TaskResponseMappingBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int listSize;
+
+    private TaskController controller;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        controller = new TaskController(null);
+        tasks = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            tasks.add(TaskFixtures.task(i, 256));
+        }
+    }
+
+    @Benchmark
+    public TaskResponse single() {
+        return controller.toResponse(tasks.get(0));
+    }
+
+    @Benchmark
+    public List<TaskResponse> list() {
+        return tasks.stream().map(controller::toResponse).toList();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+*  @(#)TasklistResponseBenchmark.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.TasklistEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+* Benchmark do TasklistResponse.of, que usa BeanUtils.copyProperties (reflexão).
+*
+* @author JTech
+*/
+@State(Scope.Benchmark)
+public class TasklistResponseBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int listSize;
+
+    private List<TasklistEntity> entities;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            entities.add(TasklistEntity.builder().id(new UUID(1L, i)).build());
+        }
+    }
+
+    @Benchmark
+    public TasklistResponse single() {
+        return TasklistResponse.of(entities.get(0));
+    }
+
+    @Benchmark
+    public TasklistResponse list() {
+        return TasklistResponse.of(entities);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+*  @(#)DescriptionCompressionBenchmark.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.compression;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+* Benchmark do custo de compressão e descompressão das descrições, com um texto
+* no formato de log colado (o caso que motivou a compressão). A taxa de compressão
+* sai nos contadores auxiliares de {@code encode}: {@code storedChars} dividido por
+* {@code originalBytes}.
+*
+* @author JTech
+*/
+@State(Scope.Benchmark)
+public class DescriptionCompressionBenchmark {
+
+    @Param({"8192", "65536", "524288"})
+    public int descriptionLength;
+
+    private DescriptionCompressor compressor;
+    private String description;
+    private String stored;
+    private int originalBytes;
+
+    @Setup
+    public void setUp() {
+        compressor = new DescriptionCompressor(true, 0, new SimpleMeterRegistry());
+        description = log(descriptionLength);
+        stored = compressor.encode(description);
+        originalBytes = description.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    public String encode(Sizes sizes) {
+        String encoded = compressor.encode(description);
+        sizes.originalBytes += originalBytes;
+        sizes.storedChars += encoded.length();
+        return encoded;
+    }
+
+    @Benchmark
+    public String decode() {
+        return DescriptionCompressor.decode(stored);
+    }
+
+    /**
+     * Tamanhos acumulados por iteração, reportados pelo JMH junto com o tempo.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes {
+
+        public long originalBytes;
+        public long storedChars;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            originalBytes = 0;
+            storedChars = 0;
+        }
+    }
+
+    private static String log(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        int line = 0;
+        while (builder.length() < length) {
+            builder.append("2025-01-15 10:30:").append(String.format("%02d", line % 60))
+                .append('.').append(String.format("%03d", (line * 37) % 1000))
+                .append(line % 7 == 0 ? " ERROR " : " INFO ")
+                .append("[worker-").append(line % 16).append("] ")
+                .append(line % 7 == 0
+                    ? "Falha ao processar a tarefa " + (1000 + line) + ": tempo limite excedido\n"
+                    : "Tarefa " + (1000 + line) + " processada em " + (line * 13 % 500) + " ms\n");
+            line++;
+        }
+        builder.setLength(length);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+*  @(#)TaskStoreBenchmark.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.logstore;
+
+import br.com.jtech.tasklist.StartTasklist;
+import br.com.jtech.tasklist.adapters.output.TaskAdapter;
+import br.com.jtech.tasklist.adapters.output.outbox.TaskEventOutbox;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import br.com.jtech.tasklist.benchmarks.TaskFixtures;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+* Benchmark de create/update/findById do log de tarefas em arquivos mapeados
+* comparado ao adapter JPA.
+*
+* O adapter JPA roda sobre um H2 em memória (sem rede nem disco), o que favorece o
+* JPA; para comparar com o PostgreSQL, informe -Dbenchmark.datasource.url,
+* -Dbenchmark.datasource.username/password, -Dbenchmark.datasource.driver e
+* -Dbenchmark.jpa.dialect.
+*
+* @author JTech
+*/
+@State(Scope.Benchmark)
+public class TaskStoreBenchmark {
+
+    private static final int SEED_SIZE = 10_000;
+
+    @Param({"jpa", "logstore"})
+    public String store;
+
+    @Param({"512"})
+    public int descriptionLength;
+
+    private TaskOutputGateway gateway;
+    private ConfigurableApplicationContext context;
+    private LogStoreTaskAdapter logStore;
+    private Path directory;
+    private List<Task> seeded;
+    private String description;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        description = TaskFixtures.description(descriptionLength);
+        if ("jpa".equals(store)) {
+            context = new SpringApplicationBuilder(StartTasklist.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + System.getProperty("benchmark.datasource.url",
+                        "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false"),
+                    "--spring.datasource.username=" + System.getProperty("benchmark.datasource.username", "sa"),
+                    "--spring.datasource.password=" + System.getProperty("benchmark.datasource.password", ""),
+                    "--spring.datasource.driver-class-name="
+                        + System.getProperty("benchmark.datasource.driver", "org.h2.Driver"),
+                    "--spring.jpa.database-platform="
+                        + System.getProperty("benchmark.jpa.dialect", "org.hibernate.dialect.H2Dialect"),
+                    "--logging.level.root=warn");
+            gateway = context.getBean(TaskAdapter.class);
+        } else {
+            directory = Files.createTempDirectory("tasklist-logstore");
+            logStore = new LogStoreTaskAdapter(directory, DataSize.ofMegabytes(64), false, 256, 0.5,
+                new DataVersion(), new TaskEventOutbox(null, ""));
+            gateway = logStore;
+        }
+        seeded = new ArrayList<>(SEED_SIZE);
+        for (int i = 0; i < SEED_SIZE; i++) {
+            seeded.add(gateway.save(newTask("Semente " + i)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        if (logStore != null) {
+            logStore.close();
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    public Task create() {
+        return gateway.save(newTask("Tarefa " + System.nanoTime()));
+    }
+
+    @Benchmark
+    public Task update() {
+        Task task = randomSeeded();
+        return gateway.update(task.toBuilder().status("em andamento").build());
+    }
+
+    @Benchmark
+    public Object findById() {
+        return gateway.findById(randomSeeded().getId());
+    }
+
+    private Task randomSeeded() {
+        return seeded.get(ThreadLocalRandom.current().nextInt(seeded.size()));
+    }
+
+    private Task newTask(String title) {
+        return Task.builder()
+            .title(title)
+            .description(description)
+            .status("pendente")
+            .build();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+*  @(#)TaskMappingBenchmark.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.domains;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
+import br.com.jtech.tasklist.benchmarks.TaskFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+* Benchmark da conversão entre a entidade JPA e o domínio Task.
+*
+* @author JTech
+*/
+@State(Scope.Benchmark)
+public class TaskMappingBenchmark {
+
+    @Param({"64", "4096"})
+    public int descriptionLength;
+
+    private TaskEntity entity;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        entity = TaskFixtures.entity(42, descriptionLength);
+        task = Task.of(entity);
+    }
+
+    @Benchmark
+    public Task entityToDomain() {
+        return Task.of(entity);
+    }
+
+    @Benchmark
+    public TaskEntity domainToEntity() {
+        return task.toEntity();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+*  @(#)TaskErrorPathBenchmark.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.DomainException;
+import br.com.jtech.tasklist.application.core.domains.Ids;
+import br.com.jtech.tasklist.application.core.domains.Result;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import br.com.jtech.tasklist.benchmarks.TaskFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+* Benchmark do caminho de erro esperado: criação com título duplicado e ID inválido.
+* Compara a exceção com pilha usada antes (IllegalArgumentException + String.format)
+* com a exceção sem pilha e com o canal tipado {@link Result}.
+*
+* @author JTech
+*/
+@State(Scope.Benchmark)
+public class TaskErrorPathBenchmark {
+
+    private static final String INVALID_ID = "not-a-valid-task-id";
+
+    private TaskUseCase useCase;
+    private Task existing;
+
+    @Setup
+    public void setUp() {
+        existing = TaskFixtures.task(1, 64);
+        useCase = new TaskUseCase(new DuplicateTitleGateway(existing));
+    }
+
+    @Benchmark
+    public Object legacyThrowingCreate() {
+        try {
+            // Comportamento anterior: exceção com pilha completa e mensagem formatada
+            throw new IllegalArgumentException(
+                String.format("Já existe uma tarefa com o título '%s' (ignorando maiúsculas/minúsculas)",
+                    existing.getTitle().trim())
+            );
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public Object stacklessThrowingCreate() {
+        try {
+            return useCase.create(duplicate());
+        } catch (DomainException e) {
+            return e.getError();
+        }
+    }
+
+    @Benchmark
+    public Result<Task> resultCreate() {
+        return useCase.tryCreate(duplicate());
+    }
+
+    @Benchmark
+    public Object legacyInvalidId() {
+        try {
+            return UUID.fromString(INVALID_ID);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Object parseInvalidId() {
+        return Ids.parseUuid(INVALID_ID);
+    }
+
+    private Task duplicate() {
+        return Task.builder().title(existing.getTitle()).build();
+    }
+
+    /**
+     * Gateway em memória que sempre encontra uma tarefa com o mesmo título.
+     */
+    private static final class DuplicateTitleGateway implements TaskOutputGateway {
+
+        private final Task existing;
+
+        private DuplicateTitleGateway(Task existing) {
+            this.existing = existing;
+        }
+
+        @Override
+        public Task save(Task task) {
+            return task;
+        }
+
+        @Override
+        public List<Task> findAll() {
+            return List.of(existing);
+        }
+
+        @Override
+        public Optional<Task> findById(String id) {
+            return Optional.of(existing);
+        }
+
+        @Override
+        public Task update(Task task) {
+            return task;
+        }
+
+        @Override
+        public void deleteById(String id) {
+        }
+
+        @Override
+        public Optional<Task> findByTitleIgnoreCase(String title) {
+            return Optional.of(existing);
+        }
+
+        @Override
+        public Optional<String> findNextRank(String tasklistId, String rank, String excludedId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> findPreviousRank(String tasklistId, String rank, String excludedId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Task> updateRank(String id, String rank) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+*  @(#)TaskFixtures.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.benchmarks;
+
+import br.com.jtech.tasklist.adapters.input.protocols.TaskResponse;
+import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
+import br.com.jtech.tasklist.application.core.domains.Task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+* Massa de dados compartilhada pelos benchmarks JMH.
+* Os valores são determinísticos para que execuções diferentes sejam comparáveis.
+*
+* @author JTech
+*/
+public final class TaskFixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 10, 30, 0);
+
+    private TaskFixtures() {
+    }
+
+    public static String description(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        String words = "Revisar o backlog e atualizar a documentação da API de tarefas. ";
+        while (builder.length() < length) {
+            builder.append(words);
+        }
+        builder.setLength(length);
+        return builder.toString();
+    }
+
+    public static TaskEntity entity(int index, int descriptionLength) {
+        return TaskEntity.builder()
+            .id(new UUID(0L, index))
+            .title("Tarefa " + index)
+            .description(description(descriptionLength))
+            .status(index % 3 == 0 ? "concluída" : "pendente")
+            .createdAt(NOW.minusMinutes(index))
+            .updatedAt(NOW)
+            .build();
+    }
+
+    public static Task task(int index, int descriptionLength) {
+        return Task.of(entity(index, descriptionLength));
+    }
+
+    public static TaskResponse response(int index, int descriptionLength) {
+        Task task = task(index, descriptionLength);
+        return TaskResponse.builder()
+            .id(task.getId())
+            .title(task.getTitle())
+            .description(task.getDescription())
+            .status(task.getStatus())
+            .createdAt(task.getCreatedAt())
+            .updatedAt(task.getUpdatedAt())
+            .build();
+    }
+
+    public static List<TaskResponse> responses(int size, int descriptionLength) {
+        List<TaskResponse> responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            responses.add(response(i, descriptionLength));
+        }
+        return responses;
+    }
+}
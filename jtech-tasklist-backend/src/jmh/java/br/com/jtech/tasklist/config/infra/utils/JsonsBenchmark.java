@@ -0,0 +1,62 @@
+/*
+*  @(#)JsonsBenchmark.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.utils;
+
+import br.com.jtech.tasklist.adapters.input.protocols.TaskResponse;
+import br.com.jtech.tasklist.benchmarks.TaskFixtures;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+* Benchmark de serialização e desserialização com {@link Jsons} para
+* listas de tarefas de tamanhos realistas.
+*
+* @author JTech
+*/
+@State(Scope.Benchmark)
+public class JsonsBenchmark {
+
+    private static final TypeReference<List<TaskResponse>> TASK_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1", "100", "1000"})
+    public int listSize;
+
+    @Param({"64", "4096"})
+    public int descriptionLength;
+
+    private List<TaskResponse> responses;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        responses = TaskFixtures.responses(listSize, descriptionLength);
+        json = Jsons.toJsonString(responses);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return Jsons.toJsonString(responses);
+    }
+
+    @Benchmark
+    public List<TaskResponse> parseJsonString() {
+        return Jsons.parseJsonString(json, TASK_LIST);
+    }
+}
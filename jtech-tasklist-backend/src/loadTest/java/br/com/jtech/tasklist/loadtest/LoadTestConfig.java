@@ -0,0 +1,83 @@
+/*
+*  @(#)LoadTestConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+* Parâmetros do teste de carga, lidos de propriedades de sistema "loadtest.*".
+*
+* @param rate        Taxa de chegada em requisições por segundo (modelo aberto)
+* @param duration    Duração da fase medida
+* @param warmup      Duração do aquecimento, descartado do relatório
+* @param writeRatio  Fração das requisições que são escritas (POST /tasks)
+* @param listRatio   Fração das leituras que são listagens (GET /tasks); o restante é GET /tasks/{id}
+* @param seedTasks   Quantidade de tarefas criadas antes da carga (tamanho da lista)
+* @param maxInFlight Limite de requisições simultâneas; excedentes contam como descartadas
+* @param timeout     Timeout de cada requisição
+* @param reportDir   Diretório onde os histogramas são gravados
+* @param stack       Pilha testada: servlet, reactive ou both (as duas, em sequência, com comparativo)
+*
+* @author JTech
+*/
+public record LoadTestConfig(
+        int rate,
+        Duration duration,
+        Duration warmup,
+        double writeRatio,
+        double listRatio,
+        int seedTasks,
+        int maxInFlight,
+        Duration timeout,
+        Path reportDir,
+        String stack) {
+
+    public static final String SERVLET = "servlet";
+    public static final String REACTIVE = "reactive";
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+            Integer.getInteger("loadtest.rate", 200),
+            Duration.ofSeconds(Long.getLong("loadtest.duration", 30L)),
+            Duration.ofSeconds(Long.getLong("loadtest.warmup", 5L)),
+            Double.parseDouble(System.getProperty("loadtest.writeRatio", "0.2")),
+            Double.parseDouble(System.getProperty("loadtest.listRatio", "0.3")),
+            Integer.getInteger("loadtest.seedTasks", 100),
+            Integer.getInteger("loadtest.maxInFlight", 2_000),
+            Duration.ofMillis(Long.getLong("loadtest.timeoutMs", 5_000L)),
+            Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest")),
+            System.getProperty("loadtest.stack", SERVLET));
+    }
+
+    /**
+     * Pilhas a executar, na ordem.
+     */
+    public List<String> stacks() {
+        return switch (stack) {
+            case SERVLET, REACTIVE -> List.of(stack);
+            case "both" -> List.of(SERVLET, REACTIVE);
+            default -> throw new IllegalArgumentException(
+                "loadtest.stack inválido (servlet, reactive ou both): " + stack);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "rate=%d req/s, duration=%ss, warmup=%ss, writeRatio=%.2f, listRatio=%.2f, seedTasks=%d, maxInFlight=%d, "
+                + "stack=%s",
+            rate, duration.toSeconds(), warmup.toSeconds(), writeRatio, listRatio, seedTasks, maxInFlight, stack);
+    }
+}
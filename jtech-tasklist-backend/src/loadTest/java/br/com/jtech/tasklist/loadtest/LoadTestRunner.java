@@ -0,0 +1,165 @@
+/*
+*  @(#)LoadTestRunner.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.loadtest;
+
+import br.com.jtech.tasklist.StartTasklist;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+* Ponto de entrada do teste de carga (./gradlew loadTest).
+*
+* Sobe a aplicação em processo com o perfil "test" (H2 em memória, porta aleatória),
+* cria a massa inicial, executa o aquecimento e a fase medida, e imprime
+* p50/p99/p999, vazão e taxa de erros por operação.
+*
+* Com {@code -Dloadtest.stack=reactive} a aplicação sobe também com o perfil
+* "reactive" (WebFlux + R2DBC sobre o mesmo H2); com {@code both}, as duas pilhas
+* são medidas em sequência, cada uma em um banco novo, e um comparativo é impresso
+* ao final.
+*
+* @author JTech
+*/
+public class LoadTestRunner {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+    private static final String H2_OPTIONS = "DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.out.println("::: Teste de carga: " + config);
+        Map<String, PhaseStats> results = new LinkedHashMap<>();
+        for (String stack : config.stacks()) {
+            results.put(stack, run(config, stack));
+        }
+        if (results.size() > 1) {
+            compare(results, System.out);
+        }
+    }
+
+    private static PhaseStats run(LoadTestConfig config, String stack) throws Exception {
+        String database = "loadtest-" + stack;
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(StartTasklist.class);
+        if (LoadTestConfig.REACTIVE.equals(stack)) {
+            builder.profiles("test", LoadTestConfig.REACTIVE);
+        } else {
+            builder.profiles("test");
+        }
+        ConfigurableApplicationContext context = builder.run("--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:" + database + ";" + H2_OPTIONS,
+            "--reactive.r2dbc.url=r2dbc:h2:mem:///" + database + "?options=" + H2_OPTIONS,
+            "--reactive.r2dbc.username=sa",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.br.com.jtech.tasklist=warn",
+            "--logging.level.root=warn");
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            OpenModelDriver driver = new OpenModelDriver(config, URI.create("http://localhost:" + port));
+
+            System.out.println("::: Pilha " + stack + ": criando a massa inicial...");
+            driver.seed();
+            System.out.println("::: Aquecimento...");
+            driver.run(config.warmup());
+            System.out.println("::: Medindo...");
+            PhaseStats stats = driver.run(config.duration());
+
+            report(config, stack, stats, System.out);
+            writeHistograms(config.reportDir().resolve(stack), stats);
+            return stats;
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * Resumo lado a lado das pilhas medidas, pelo tempo de resposta total.
+     */
+    private static void compare(Map<String, PhaseStats> results, PrintStream out) {
+        out.println("======================================================");
+        out.println("== Comparativo (ms, TOTAL)");
+        out.printf("== %-9s %10s %8s %8s %8s %8s%n", "pilha", "req/s", "p50", "p99", "p999", "erros");
+        results.forEach((stack, stats) -> {
+            Histogram total = stats.totalResponseTime();
+            out.printf("== %-9s %10.1f %8.2f %8.2f %8.2f %8d%n", stack,
+                (total.getTotalCount() - stats.dropped()) / stats.elapsedSeconds(),
+                total.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                total.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                total.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                stats.errorCount());
+        });
+        out.println("======================================================");
+    }
+
+    private static void report(LoadTestConfig config, String stack, PhaseStats stats, PrintStream out) {
+        Histogram total = stats.totalResponseTime();
+        double seconds = stats.elapsedSeconds();
+        long requests = total.getTotalCount();
+
+        out.println("======================================================");
+        out.printf("== Pilha:.....................%s%n", stack);
+        out.printf("== Taxa alvo:.................%d req/s%n", config.rate());
+        out.printf("== Vazão obtida:..............%.1f req/s%n", (requests - stats.dropped()) / seconds);
+        out.printf("== Requisições:...............%d (descartadas: %d)%n", requests, stats.dropped());
+        out.printf("== Erros:.....................%d (%.2f%%)%n", stats.errorCount(),
+            requests == 0 ? 0.0 : stats.errorCount() * 100.0 / requests);
+        stats.errors().forEach((type, count) -> out.printf("==    %s: %d%n", type, count.sum()));
+        out.println("== Tempo de resposta (ms, corrigido para omissão coordenada)");
+        out.printf("== %-8s %8s %8s %8s %8s %10s%n", "op", "p50", "p99", "p999", "max", "serv. p99");
+        printLine(out, "TOTAL", total, null);
+        for (Operation operation : Operation.values()) {
+            printLine(out, operation.name(), stats.responseTime(operation), stats.serviceTime(operation));
+        }
+        out.println("======================================================");
+    }
+
+    private static void printLine(PrintStream out, String label, Histogram response, Histogram service) {
+        if (response.getTotalCount() == 0) {
+            return;
+        }
+        out.printf("== %-8s %8.2f %8.2f %8.2f %8.2f %10s%n", label,
+            response.getValueAtPercentile(50) / MICROS_PER_MILLI,
+            response.getValueAtPercentile(99) / MICROS_PER_MILLI,
+            response.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+            response.getMaxValue() / MICROS_PER_MILLI,
+            service != null ? String.format("%.2f", service.getValueAtPercentile(99) / MICROS_PER_MILLI) : "-");
+    }
+
+    /**
+     * Grava a distribuição completa de cada operação em formato .hgrm,
+     * que pode ser plotado em https://hdrhistogram.github.io/HdrHistogram/plotFiles.html.
+     */
+    private static void writeHistograms(Path dir, PhaseStats stats) throws IOException {
+        Files.createDirectories(dir);
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        histograms.put("total", stats.totalResponseTime());
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation.name().toLowerCase(), stats.responseTime(operation));
+        }
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            try (PrintStream file = new PrintStream(Files.newOutputStream(dir.resolve(entry.getKey() + ".hgrm")))) {
+                entry.getValue().outputPercentileDistribution(file, MICROS_PER_MILLI);
+            }
+        }
+        System.out.println("::: Histogramas gravados em " + dir.toAbsolutePath());
+    }
+}
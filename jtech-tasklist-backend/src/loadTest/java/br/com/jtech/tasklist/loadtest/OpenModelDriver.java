@@ -0,0 +1,158 @@
+/*
+*  @(#)OpenModelDriver.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+* Gerador de carga em modelo aberto: as requisições são disparadas em uma taxa
+* fixa, independentemente do tempo de resposta do servidor, usando o cliente HTTP
+* assíncrono do JDK.
+*
+* Disparos que encontram {@code maxInFlight} requisições em voo não são enviados,
+* mas entram no histograma de resposta com o timeout configurado e contam como
+* erro: omiti-los deixaria os percentis otimistas justamente sob saturação.
+*
+* @author JTech
+*/
+public class OpenModelDriver {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final LoadTestConfig config;
+    private final URI baseUri;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<String> taskIds = new ArrayList<>();
+    private final AtomicLong titleSequence = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public OpenModelDriver(LoadTestConfig config, URI baseUri) {
+        this.config = config;
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(config.timeout())
+            .build();
+    }
+
+    /**
+     * Cria as tarefas iniciais de forma síncrona e guarda seus ids para as leituras.
+     */
+    public void seed() throws IOException, InterruptedException {
+        for (int i = 0; i < config.seedTasks(); i++) {
+            HttpResponse<String> response = client.send(createRequest(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Falha ao criar tarefa inicial: HTTP " + response.statusCode());
+            }
+            JsonNode body = mapper.readTree(response.body());
+            taskIds.add(body.get("id").asText());
+        }
+    }
+
+    /**
+     * Executa uma fase de carga com a duração informada.
+     *
+     * @param duration Duração da fase
+     * @return Estatísticas coletadas
+     */
+    public PhaseStats run(Duration duration) throws InterruptedException {
+        PhaseStats stats = new PhaseStats();
+        long intervalNanos = NANOS_PER_SECOND / config.rate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (inFlight.get() >= config.maxInFlight()) {
+                stats.recordDropped(nextOperation(), config.timeout().toNanos());
+                continue;
+            }
+            dispatch(nextOperation(), intended, stats);
+        }
+
+        awaitInFlight();
+        stats.finish();
+        return stats;
+    }
+
+    private void dispatch(Operation operation, long intended, PhaseStats stats) {
+        HttpRequest request = switch (operation) {
+            case CREATE -> createRequest();
+            case LIST -> get("/tasks");
+            case GET -> get("/tasks/" + taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size())));
+        };
+        long sent = System.nanoTime();
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, error) -> {
+                long completed = System.nanoTime();
+                inFlight.decrementAndGet();
+                stats.record(operation, intended, sent, completed, response != null ? response.statusCode() : -1, error);
+            });
+    }
+
+    private Operation nextOperation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (taskIds.isEmpty() || random.nextDouble() < config.writeRatio()) {
+            return Operation.CREATE;
+        }
+        return random.nextDouble() < config.listRatio() ? Operation.LIST : Operation.GET;
+    }
+
+    private HttpRequest createRequest() {
+        String body = String.format(
+            "{\"title\":\"carga-%d-%d\",\"description\":\"Tarefa gerada pelo teste de carga\",\"status\":\"pendente\"}",
+            titleSequence.incrementAndGet(), System.nanoTime());
+        return HttpRequest.newBuilder(baseUri.resolve("/tasks"))
+            .timeout(config.timeout())
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(config.timeout())
+            .GET()
+            .build();
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + config.timeout().toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
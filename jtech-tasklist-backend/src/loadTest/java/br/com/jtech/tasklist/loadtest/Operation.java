@@ -0,0 +1,24 @@
+/*
+*  @(#)Operation.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.loadtest;
+
+/**
+* Operações disparadas pelo teste de carga.
+*
+* @author JTech
+*/
+public enum Operation {
+    CREATE,
+    LIST,
+    GET
+}
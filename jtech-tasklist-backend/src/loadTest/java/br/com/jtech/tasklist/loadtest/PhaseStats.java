@@ -0,0 +1,114 @@
+/*
+*  @(#)PhaseStats.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+* Estatísticas de uma fase do teste de carga (aquecimento ou medição).
+*
+* O tempo de resposta é medido a partir do instante PLANEJADO de envio, e não do
+* instante real. Assim, atrasos do próprio gerador ou filas no servidor entram na
+* medição, corrigindo a omissão coordenada. O tempo de serviço (a partir do envio
+* real) é mantido separadamente para comparação. Requisições descartadas pelo
+* gerador entram no tempo de resposta com o valor do timeout e contam como erro.
+*
+* @author JTech
+*/
+public class PhaseStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<Operation, Histogram> responseTimes = new EnumMap<>(Operation.class);
+    private final Map<Operation, Histogram> serviceTimes = new EnumMap<>(Operation.class);
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    static final String DROPPED = "Descartada (limite em voo)";
+
+    private final LongAdder dropped = new LongAdder();
+    private final long startNanos = System.nanoTime();
+    private volatile long endNanos;
+
+    public PhaseStats() {
+        for (Operation operation : Operation.values()) {
+            responseTimes.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            serviceTimes.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+        }
+    }
+
+    void record(Operation operation, long intendedNanos, long sentNanos, long completedNanos, int status, Throwable error) {
+        responseTimes.get(operation).recordValue(toMicros(completedNanos - intendedNanos));
+        serviceTimes.get(operation).recordValue(toMicros(completedNanos - sentNanos));
+        if (error != null) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            errors.computeIfAbsent(cause.getClass().getSimpleName(), key -> new LongAdder()).increment();
+        } else if (status >= 400) {
+            errors.computeIfAbsent("HTTP " + status, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Registra um disparo não enviado como se tivesse esgotado o timeout, sem tempo
+     * de serviço (a requisição não chegou ao servidor).
+     */
+    void recordDropped(Operation operation, long timeoutNanos) {
+        dropped.increment();
+        responseTimes.get(operation).recordValue(toMicros(timeoutNanos));
+        errors.computeIfAbsent(DROPPED, key -> new LongAdder()).increment();
+    }
+
+    void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    public Histogram responseTime(Operation operation) {
+        return responseTimes.get(operation);
+    }
+
+    public Histogram serviceTime(Operation operation) {
+        return serviceTimes.get(operation);
+    }
+
+    public Histogram totalResponseTime() {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        responseTimes.values().forEach(total::add);
+        return total;
+    }
+
+    public Map<String, LongAdder> errors() {
+        return errors;
+    }
+
+    public long errorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public double elapsedSeconds() {
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        return (end - startNanos) / 1_000_000_000.0;
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(1L, nanos / 1_000L), HIGHEST_TRACKABLE_MICROS);
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.jtech.tasklist;
 
+import br.com.jtech.tasklist.config.infra.startup.StartupAnalysis;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,7 +8,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class StartTasklist {
 
 	public static void main(String[] args) {
-		SpringApplication.run(StartTasklist.class, args);
+		SpringApplication application = new SpringApplication(StartTasklist.class);
+		application.setApplicationStartup(StartupAnalysis.newApplicationStartup());
+		application.run(args);
 	}
 
 }
@@ -14,8 +14,11 @@
 package br.com.jtech.tasklist.adapters.input.controllers;
 
 import br.com.jtech.tasklist.adapters.input.protocols.TasklistRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.TasklistResponse;
 import br.com.jtech.tasklist.application.ports.input.CreateTasklistInputGateway;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -36,9 +39,15 @@ public class CreateTasklistController {
 
     private final CreateTasklistInputGateway createTasklistInputGateway;
 
+    /**
+     * Cria uma lista com suas tarefas e sublistas (árvore completa) em uma única transação.
+     *
+     * @param request Árvore de listas e tarefas
+     * @return Árvore criada, com os IDs gerados, e status 201 (Created)
+     */
     @PostMapping
-    public ResponseEntity<Void> create(@RequestBody TasklistRequest request) {
-        createTasklistInputGateway.create(of(request));
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<TasklistResponse> create(@Valid @RequestBody TasklistRequest request) {
+        var created = createTasklistInputGateway.create(of(request));
+        return ResponseEntity.status(HttpStatus.CREATED).body(TasklistResponse.of(created));
      }
  }
\ No newline at end of file
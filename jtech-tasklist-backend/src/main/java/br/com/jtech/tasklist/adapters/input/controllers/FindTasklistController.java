@@ -0,0 +1,51 @@
+/*
+*  @(#)FindTasklistController.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.adapters.input.protocols.TasklistResponse;
+import br.com.jtech.tasklist.application.ports.input.FindTasklistInputGateway;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+* Controller REST de consulta de listas de tarefas.
+*
+* Endpoints disponíveis:
+* - GET /api/v1/tasklists/{id} - Buscar lista com suas tarefas
+*
+* @author JTech
+*/
+@RestController
+@RequestMapping("/api/v1/tasklists")
+@RequiredArgsConstructor
+public class FindTasklistController {
+
+    private final FindTasklistInputGateway findTasklistInputGateway;
+
+    /**
+     * Busca uma lista de tarefas por ID, com as tarefas ordenadas pela posição.
+     *
+     * @param id ID da lista
+     * @return Lista encontrada com status 200 (OK) ou 404 (Not Found)
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<TasklistResponse> findById(@PathVariable String id) {
+        return findTasklistInputGateway.findById(id)
+            .map(tasklist -> ResponseEntity.ok(TasklistResponse.of(tasklist)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+*  @(#)ReactiveTaskController.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.adapters.input.protocols.TaskMoveRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskResponse;
+import br.com.jtech.tasklist.application.core.domains.Result;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.ports.input.ReactiveTaskInputGateway;
+import br.com.jtech.tasklist.config.infra.utils.GlobalExceptionHandler;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static br.com.jtech.tasklist.application.core.domains.Task.of;
+
+/**
+* Controller WebFlux com os mesmos endpoints e contratos do {@link TaskController},
+* ativo apenas no perfil "reactive" (que também troca o servidor para Netty).
+*
+* Nenhum método bloqueia: a requisição fica suspensa até o R2DBC responder, sem
+* ocupar uma thread enquanto isso. GET /tasks é enviado como array JSON à medida
+* que as linhas chegam.
+*
+* @author JTech
+*/
+@RestController
+@RequestMapping("/tasks")
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTaskController {
+
+    private final ReactiveTaskInputGateway taskInputGateway;
+
+    /**
+     * Cria uma nova tarefa.
+     *
+     * @param request Dados da tarefa a ser criada
+     * @return Tarefa criada com status 201 (Created) ou 400 (Bad Request) se o título já existir
+     */
+    @PostMapping
+    public Mono<ResponseEntity<?>> create(@Valid @RequestBody TaskRequest request) {
+        return taskInputGateway.tryCreate(of(request)).<ResponseEntity<?>>map(result -> switch (result) {
+            case Result.Success<Task> success ->
+                ResponseEntity.status(HttpStatus.CREATED).body(TaskResponse.of(success.value()));
+            case Result.Failure<Task> failure -> GlobalExceptionHandler.domainError(failure.error());
+        });
+    }
+
+    /**
+     * Lista todas as tarefas.
+     *
+     * @return Tarefas com status 200 (OK)
+     */
+    @GetMapping
+    public Flux<TaskResponse> findAll() {
+        return taskInputGateway.findAll().map(TaskResponse::of);
+    }
+
+    /**
+     * Busca uma tarefa por ID.
+     *
+     * @param id ID da tarefa
+     * @return Tarefa encontrada com status 200 (OK) ou 404 (Not Found)
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TaskResponse>> findById(@PathVariable String id) {
+        return taskInputGateway.findById(id)
+            .map(task -> ResponseEntity.ok(TaskResponse.of(task)))
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Atualiza uma tarefa existente.
+     *
+     * @param id ID da tarefa a ser atualizada
+     * @param request Dados atualizados da tarefa
+     * @return Tarefa atualizada com status 200 (OK), 404 (Not Found) ou 400 (Bad Request)
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<?>> update(
+            @PathVariable String id,
+            @Valid @RequestBody TaskRequest request) {
+        return taskInputGateway.tryUpdate(id, of(request)).<ResponseEntity<?>>map(result -> switch (result) {
+            case Result.Success<Task> success -> ResponseEntity.ok(TaskResponse.of(success.value()));
+            case Result.Failure<Task> failure -> GlobalExceptionHandler.domainError(failure.error());
+        });
+    }
+
+    /**
+     * Deleta uma tarefa por ID.
+     *
+     * @param id ID da tarefa a ser deletada
+     * @return Status 204 (No Content) se deletada ou 404 (Not Found) se não encontrada
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable String id) {
+        return taskInputGateway.delete(id)
+            .map(deleted -> deleted
+                ? ResponseEntity.noContent().<Void>build()
+                : ResponseEntity.notFound().<Void>build());
+    }
+
+    /**
+     * Move uma tarefa para antes ou depois de outra tarefa da mesma lista.
+     *
+     * @param id ID da tarefa a ser movida
+     * @param request Vizinho de referência (beforeId ou afterId)
+     * @return Tarefa com a nova chave de ordenação com status 200 (OK) ou 404 (Not Found)
+     */
+    @PostMapping("/{id}/move")
+    public Mono<ResponseEntity<TaskResponse>> move(
+            @PathVariable String id,
+            @RequestBody TaskMoveRequest request) {
+        return taskInputGateway.move(id, request.getBeforeId(), request.getAfterId())
+            .map(movedTask -> ResponseEntity.ok(TaskResponse.of(movedTask)))
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -12,17 +12,33 @@
 */
 package br.com.jtech.tasklist.adapters.input.controllers;
 
+import br.com.jtech.tasklist.adapters.input.protocols.TaskMoveRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskQueryRequest;
 import br.com.jtech.tasklist.adapters.input.protocols.TaskRequest;
 import br.com.jtech.tasklist.adapters.input.protocols.TaskResponse;
+import br.com.jtech.tasklist.application.core.domains.Result;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskCount;
+import br.com.jtech.tasklist.application.core.domains.TaskField;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
 import br.com.jtech.tasklist.application.ports.input.TaskInputGateway;
+import br.com.jtech.tasklist.config.infra.utils.GlobalExceptionHandler;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static br.com.jtech.tasklist.application.core.domains.Task.of;
@@ -36,54 +52,135 @@ import static br.com.jtech.tasklist.application.core.domains.Task.of;
 * - GET /tasks/{id} - Buscar tarefa por ID
 * - PUT /tasks/{id} - Atualizar tarefa
 * - DELETE /tasks/{id} - Deletar tarefa
+* - POST /tasks/{id}/move - Mover tarefa dentro da lista
+*
+* GET /tasks e GET /tasks/{id} aceitam {@code ?fields=id,title,status}: somente os
+* campos pedidos são lidos do banco e serializados.
+*
+* GET /tasks também aceita filtros (status, createdFrom/createdTo, updatedFrom/updatedTo,
+* titlePrefix), ordenação ({@code sort}) e {@code limit}; combinações sem índice são
+* recusadas com 400 quando a tabela é grande (ver TaskQueryPlanner).
+*
+* Toda listagem informa o total em X-Total-Count e, em X-Total-Count-Type, se ele é
+* exato ({@code exact}) ou estimado ({@code estimated}); {@code ?exactCount=true}
+* exige a contagem exata.
+*
+* No perfil "reactive" os mesmos endpoints são servidos pelo ReactiveTaskController.
 *
 * @author JTech
 */
 @RestController
 @RequestMapping("/tasks")
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class TaskController {
 
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public static final String TOTAL_COUNT_TYPE_HEADER = "X-Total-Count-Type";
+
+    private static final String FIELDS_DESCRIPTION = "Campos da resposta, separados por vírgula. "
+        + "Somente esses campos são lidos do banco. Valores aceitos: " + TaskField.NAMES;
+
     private final TaskInputGateway taskInputGateway;
 
     /**
      * Cria uma nova tarefa.
      *
      * @param request Dados da tarefa a ser criada
-     * @return Tarefa criada com status 201 (Created)
+     * @return Tarefa criada com status 201 (Created) ou 400 (Bad Request) se o título já existir
      */
     @PostMapping
-    public ResponseEntity<TaskResponse> create(@Valid @RequestBody TaskRequest request) {
+    public ResponseEntity<?> create(@Valid @RequestBody TaskRequest request) {
         Task task = of(request);
-        Task createdTask = taskInputGateway.create(task);
-        TaskResponse response = toResponse(createdTask);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return switch (taskInputGateway.tryCreate(task)) {
+            case Result.Success<Task> success -> ResponseEntity.status(HttpStatus.CREATED).body(toResponse(success.value()));
+            case Result.Failure<Task> failure -> GlobalExceptionHandler.domainError(failure.error());
+        };
     }
 
     /**
-     * Lista todas as tarefas.
+     * Lista as tarefas: todas ou, com algum parâmetro de consulta, as que atendem aos
+     * filtros, na ordem pedida e até o limite.
      *
-     * @return Lista de tarefas com status 200 (OK)
+     * @param fields Campos da resposta, separados por vírgula (ausente = todos)
+     * @param query Filtros, ordenação e limite (todos opcionais)
+     * @param exactCount true para exigir X-Total-Count exato mesmo em consultas com muitas tarefas
+     * @return Lista de tarefas com status 200 (OK) ou 400 (Bad Request) se algum campo, filtro
+     *         ou ordenação for inválido ou a combinação exigir ler a tabela inteira
      */
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> findAll() {
-        List<Task> tasks = taskInputGateway.findAll();
-        List<TaskResponse> responses = tasks.stream()
-            .map(this::toResponse)
-            .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+    @ApiResponse(responseCode = "200", description = "Tarefas, apenas com os campos pedidos",
+        content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class))),
+        headers = {
+            @Header(name = TOTAL_COUNT_HEADER, description = "Total de tarefas da consulta, sem o limite"),
+            @Header(name = TOTAL_COUNT_TYPE_HEADER, description = "exact ou estimated")
+        })
+    public ResponseEntity<List<?>> findAll(
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,title,status")
+            @RequestParam(required = false) String fields,
+            @ParameterObject TaskQueryRequest query,
+            @Parameter(description = "Exige X-Total-Count exato (COUNT completo) em vez da estimativa")
+            @RequestParam(defaultValue = "false") boolean exactCount) {
+        if (query.hasCriteria()) {
+            return query(query, fields, exactCount);
+        }
+        if (fields == null) {
+            List<Task> tasks = taskInputGateway.findAll();
+            List<TaskResponse> responses = tasks.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+            return withTotal(responses, TaskCount.exact(responses.size()));
+        }
+        Set<TaskField> selected = TaskField.parse(fields);
+        List<?> responses = taskInputGateway.findAll(selected).stream()
+            .map(task -> TaskResponse.of(task, selected))
+            .toList();
+        return withTotal(responses, TaskCount.exact(responses.size()));
+    }
+
+    private ResponseEntity<List<?>> query(TaskQueryRequest request, String fields, boolean exactCount) {
+        Set<TaskField> selected = TaskField.parse(fields);
+        TaskQuery query = request.toQuery();
+        List<Task> tasks = taskInputGateway.findAll(query, selected);
+        // Abaixo do limite a página já contém todas as tarefas da consulta: não é preciso contar
+        TaskCount total = tasks.size() < query.limit()
+            ? TaskCount.exact(tasks.size())
+            : taskInputGateway.count(query, exactCount);
+        if (fields == null) {
+            return withTotal(tasks.stream().map(this::toResponse).toList(), total);
+        }
+        return withTotal(tasks.stream().map(task -> TaskResponse.of(task, selected)).toList(), total);
+    }
+
+    private static ResponseEntity<List<?>> withTotal(List<?> body, TaskCount total) {
+        return ResponseEntity.ok()
+            .header(TOTAL_COUNT_HEADER, String.valueOf(total.value()))
+            .header(TOTAL_COUNT_TYPE_HEADER, total.exact() ? "exact" : "estimated")
+            .body(body);
     }
 
     /**
      * Busca uma tarefa por ID.
      *
      * @param id ID da tarefa
-     * @return Tarefa encontrada com status 200 (OK) ou 404 (Not Found)
+     * @param fields Campos da resposta, separados por vírgula (ausente = todos)
+     * @return Tarefa encontrada com status 200 (OK), 404 (Not Found) ou 400 (Bad Request) se algum campo não existir
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> findById(@PathVariable String id) {
-        return taskInputGateway.findById(id)
-            .map(task -> ResponseEntity.ok(toResponse(task)))
+    @ApiResponse(responseCode = "200", description = "Tarefa, apenas com os campos pedidos",
+        content = @Content(schema = @Schema(implementation = TaskResponse.class)))
+    public ResponseEntity<?> findById(
+            @PathVariable String id,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,title,status")
+            @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return taskInputGateway.findById(id)
+                .map(task -> ResponseEntity.ok(toResponse(task)))
+                .orElse(ResponseEntity.notFound().build());
+        }
+        Set<TaskField> selected = TaskField.parse(fields);
+        return taskInputGateway.findById(id, selected)
+            .map(task -> ResponseEntity.ok(TaskResponse.of(task, selected)))
             .orElse(ResponseEntity.notFound().build());
     }
 
@@ -92,16 +189,17 @@ public class TaskController {
      *
      * @param id ID da tarefa a ser atualizada
      * @param request Dados atualizados da tarefa
-     * @return Tarefa atualizada com status 200 (OK) ou 404 (Not Found)
+     * @return Tarefa atualizada com status 200 (OK), 404 (Not Found) ou 400 (Bad Request)
      */
     @PutMapping("/{id}")
-    public ResponseEntity<TaskResponse> update(
+    public ResponseEntity<?> update(
             @PathVariable String id,
             @Valid @RequestBody TaskRequest request) {
         Task task = of(request);
-        return taskInputGateway.update(id, task)
-            .map(updatedTask -> ResponseEntity.ok(toResponse(updatedTask)))
-            .orElse(ResponseEntity.notFound().build());
+        return switch (taskInputGateway.tryUpdate(id, task)) {
+            case Result.Success<Task> success -> ResponseEntity.ok(toResponse(success.value()));
+            case Result.Failure<Task> failure -> GlobalExceptionHandler.domainError(failure.error());
+        };
     }
 
     /**
@@ -119,18 +217,29 @@ public class TaskController {
         return ResponseEntity.notFound().build();
     }
 
+    /**
+     * Move uma tarefa para antes ou depois de outra tarefa da mesma lista.
+     * Somente a tarefa movida é gravada.
+     *
+     * @param id ID da tarefa a ser movida
+     * @param request Vizinho de referência (beforeId ou afterId)
+     * @return Tarefa com a nova chave de ordenação com status 200 (OK) ou 404 (Not Found)
+     */
+    @PostMapping("/{id}/move")
+    public ResponseEntity<TaskResponse> move(
+            @PathVariable String id,
+            @RequestBody TaskMoveRequest request) {
+        return taskInputGateway.move(id, request.getBeforeId(), request.getAfterId())
+            .map(movedTask -> ResponseEntity.ok(toResponse(movedTask)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Converte um domínio Task para um DTO TaskResponse.
+     * Visível no pacote para ser medido pelos benchmarks JMH.
      */
-    private TaskResponse toResponse(Task task) {
-        return TaskResponse.builder()
-            .id(task.getId())
-            .title(task.getTitle())
-            .description(task.getDescription())
-            .status(task.getStatus())
-            .createdAt(task.getCreatedAt())
-            .updatedAt(task.getUpdatedAt())
-            .build();
+    TaskResponse toResponse(Task task) {
+        return TaskResponse.of(task);
     }
 }
 
@@ -0,0 +1,240 @@
+/*
+*  @(#)TaskGrpcService.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.input.grpc;
+
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.CreateTasksResponse;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.DeleteTaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.DeleteTaskResponse;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.GetTaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.ListTasksRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.MoveTaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.TaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.TaskServiceGrpc;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.UpdateTaskRequest;
+import br.com.jtech.tasklist.application.core.domains.DomainError;
+import br.com.jtech.tasklist.application.core.domains.DomainException;
+import br.com.jtech.tasklist.application.core.domains.Result;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.ports.input.TaskInputGateway;
+import br.com.jtech.tasklist.config.infra.resilience.CircuitOpenException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+* Serviço gRPC de tarefas sobre o mesmo {@link TaskInputGateway} da API REST
+* (métricas, agrupamento de leituras e disjuntor incluídos).
+*
+* Erros de negócio viram status gRPC: validação e regra de negócio em
+* INVALID_ARGUMENT, título duplicado em ALREADY_EXISTS, tarefa inexistente em
+* NOT_FOUND e disjuntor aberto em UNAVAILABLE.
+*
+* @author JTech
+*/
+@Slf4j
+public class TaskGrpcService extends TaskServiceGrpc.TaskServiceImplBase {
+
+    private final TaskInputGateway taskInputGateway;
+    private final Validator validator;
+
+    public TaskGrpcService(TaskInputGateway taskInputGateway, Validator validator) {
+        this.taskInputGateway = taskInputGateway;
+        this.validator = validator;
+    }
+
+    @Override
+    public void createTask(TaskRequest request, StreamObserver<TaskResponse> responseObserver) {
+        unary(responseObserver, () -> TaskMessages.toResponse(create(request)));
+    }
+
+    @Override
+    public void getTask(GetTaskRequest request, StreamObserver<TaskResponse> responseObserver) {
+        unary(responseObserver, () -> taskInputGateway.findById(request.getId())
+            .map(TaskMessages::toResponse)
+            .orElseThrow(() -> notFound(request.getId())));
+    }
+
+    @Override
+    public void updateTask(UpdateTaskRequest request, StreamObserver<TaskResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            Task task = Task.of(validated(request.getTask()));
+            return switch (taskInputGateway.tryUpdate(request.getId(), task)) {
+                case Result.Success<Task> success -> TaskMessages.toResponse(success.value());
+                case Result.Failure<Task> failure -> throw statusOf(failure.error()).asRuntimeException();
+            };
+        });
+    }
+
+    @Override
+    public void deleteTask(DeleteTaskRequest request, StreamObserver<DeleteTaskResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            if (!taskInputGateway.delete(request.getId())) {
+                throw notFound(request.getId());
+            }
+            return DeleteTaskResponse.getDefaultInstance();
+        });
+    }
+
+    @Override
+    public void moveTask(MoveTaskRequest request, StreamObserver<TaskResponse> responseObserver) {
+        unary(responseObserver, () -> taskInputGateway.move(request.getId(),
+                request.hasBeforeId() ? request.getBeforeId() : null,
+                request.hasAfterId() ? request.getAfterId() : null)
+            .map(TaskMessages::toResponse)
+            .orElseThrow(() -> notFound(request.getId())));
+    }
+
+    /**
+     * Envia as tarefas apenas enquanto o transporte aceita mais mensagens
+     * ({@code isReady}); quando o buffer do cliente enche, o envio é retomado pelo
+     * handler de prontidão, em vez de acumular respostas na memória do servidor.
+     */
+    @Override
+    public void listTasks(ListTasksRequest request, StreamObserver<TaskResponse> responseObserver) {
+        ServerCallStreamObserver<TaskResponse> call = (ServerCallStreamObserver<TaskResponse>) responseObserver;
+        Iterator<Task> tasks;
+        try {
+            tasks = taskInputGateway.findAll().iterator();
+        } catch (RuntimeException e) {
+            call.onError(statusOf(e).asRuntimeException());
+            return;
+        }
+        boolean[] completed = new boolean[1];
+        // O handler e este método rodam no executor serializado da chamada, nunca em paralelo
+        Runnable drain = () -> {
+            while (!completed[0] && call.isReady() && tasks.hasNext()) {
+                call.onNext(TaskMessages.toResponse(tasks.next()));
+            }
+            if (!completed[0] && !tasks.hasNext()) {
+                completed[0] = true;
+                call.onCompleted();
+            }
+        };
+        call.setOnCancelHandler(() -> {
+            completed[0] = true;
+            log.debug("::: gRPC ListTasks cancelado pelo cliente");
+        });
+        call.setOnReadyHandler(drain);
+        drain.run();
+    }
+
+    /**
+     * Cada mensagem é criada assim que chega; a próxima só é pedida ao cliente
+     * depois disso (controle de fluxo automático do gRPC), de modo que o cliente
+     * não consegue enviar mais rápido que o banco grava.
+     */
+    @Override
+    public StreamObserver<TaskRequest> createTasks(StreamObserver<CreateTasksResponse> responseObserver) {
+        return new StreamObserver<>() {
+
+            private final CreateTasksResponse.Builder result = CreateTasksResponse.newBuilder();
+            private int index;
+
+            @Override
+            public void onNext(TaskRequest request) {
+                int position = index++;
+                try {
+                    result.addIds(create(request).getId());
+                } catch (RuntimeException e) {
+                    Status status = statusOf(e);
+                    result.addFailures(CreateTasksResponse.Failure.newBuilder()
+                        .setIndex(position)
+                        .setCode(status.getCode().name())
+                        .setMessage(status.getDescription() != null ? status.getDescription() : ""));
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("::: gRPC CreateTasks interrompido pelo cliente após {} mensagens: {}", index, t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onNext(result.build());
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    private Task create(TaskRequest request) {
+        return switch (taskInputGateway.tryCreate(Task.of(validated(request)))) {
+            case Result.Success<Task> success -> success.value();
+            case Result.Failure<Task> failure -> throw statusOf(failure.error()).asRuntimeException();
+        };
+    }
+
+    /**
+     * Aplica as mesmas validações do corpo JSON (Bean Validation do TaskRequest).
+     */
+    private br.com.jtech.tasklist.adapters.input.protocols.TaskRequest validated(TaskRequest message) {
+        br.com.jtech.tasklist.adapters.input.protocols.TaskRequest request = TaskMessages.toRequest(message);
+        Set<ConstraintViolation<br.com.jtech.tasklist.adapters.input.protocols.TaskRequest>> violations =
+            validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw Status.INVALID_ARGUMENT
+                .withDescription(violations.stream().map(ConstraintViolation::getMessage).sorted()
+                    .collect(Collectors.joining("; ")))
+                .asRuntimeException();
+        }
+        return request;
+    }
+
+    private static <T> void unary(StreamObserver<T> responseObserver, Supplier<T> call) {
+        T response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(statusOf(e).asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    private static StatusRuntimeException notFound(String id) {
+        return Status.NOT_FOUND.withDescription("Tarefa '" + id + "' não encontrada").asRuntimeException();
+    }
+
+    private static Status statusOf(DomainError error) {
+        Status status = switch (error.kind()) {
+            case DUPLICATE_TITLE -> Status.ALREADY_EXISTS;
+            case NOT_FOUND -> Status.NOT_FOUND;
+            case INVALID_ARGUMENT -> Status.INVALID_ARGUMENT;
+        };
+        return status.withDescription(error.message());
+    }
+
+    private static Status statusOf(RuntimeException e) {
+        return switch (e) {
+            case StatusRuntimeException statusException -> statusException.getStatus();
+            case DomainException domainException -> statusOf(domainException.getError());
+            case IllegalArgumentException illegalArgument -> Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+            case CircuitOpenException circuitOpen -> Status.UNAVAILABLE.withDescription(e.getMessage());
+            default -> {
+                log.error("::: Erro no serviço gRPC de tarefas", e);
+                yield Status.INTERNAL.withDescription("Erro interno no servidor").withCause(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,78 @@
+/*
+*  @(#)TaskMessages.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.input.grpc;
+
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.TaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.TaskResponse;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import com.google.protobuf.Timestamp;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+* Conversão entre as mensagens protobuf e o domínio. Campos opcionais ausentes
+* viram null, como no JSON; datas (sem fuso no domínio) são interpretadas no fuso
+* da JVM.
+*
+* @author JTech
+*/
+final class TaskMessages {
+
+    private TaskMessages() {
+    }
+
+    /**
+     * Converte a mensagem para o DTO da API REST, que carrega as validações.
+     */
+    static br.com.jtech.tasklist.adapters.input.protocols.TaskRequest toRequest(TaskRequest message) {
+        return br.com.jtech.tasklist.adapters.input.protocols.TaskRequest.builder()
+            .title(message.getTitle())
+            .description(message.hasDescription() ? message.getDescription() : null)
+            .status(message.hasStatus() ? message.getStatus() : null)
+            .tasklistId(message.hasTasklistId() ? message.getTasklistId() : null)
+            .build();
+    }
+
+    static TaskResponse toResponse(Task task) {
+        TaskResponse.Builder builder = TaskResponse.newBuilder()
+            .setId(task.getId())
+            .setTitle(task.getTitle())
+            .setStatus(task.getStatus());
+        if (task.getDescription() != null) {
+            builder.setDescription(task.getDescription());
+        }
+        if (task.getCreatedAt() != null) {
+            builder.setCreatedAt(timestamp(task.getCreatedAt()));
+        }
+        if (task.getUpdatedAt() != null) {
+            builder.setUpdatedAt(timestamp(task.getUpdatedAt()));
+        }
+        if (task.getTasklistId() != null) {
+            builder.setTasklistId(task.getTasklistId());
+        }
+        if (task.getRank() != null) {
+            builder.setRank(task.getRank());
+        }
+        return builder.build();
+    }
+
+    private static Timestamp timestamp(LocalDateTime dateTime) {
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return Timestamp.newBuilder()
+            .setSeconds(instant.getEpochSecond())
+            .setNanos(instant.getNano())
+            .build();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+*  @(#)TaskMoveRequest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+* DTO para mover uma tarefa dentro da lista (arrastar e soltar).
+* Exatamente um dos campos deve ser informado.
+*
+* @author JTech
+*/
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskMoveRequest {
+
+    /**
+     * ID da tarefa que ficará logo depois da tarefa movida.
+     */
+    private String beforeId;
+
+    /**
+     * ID da tarefa que ficará logo antes da tarefa movida.
+     */
+    private String afterId;
+}
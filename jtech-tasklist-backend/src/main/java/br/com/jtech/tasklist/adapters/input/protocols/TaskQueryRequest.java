@@ -0,0 +1,81 @@
+/*
+*  @(#)TaskQueryRequest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.TaskSort;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+* Parâmetros de consulta de GET /tasks (filtros, ordenação e limite).
+* Sem nenhum deles, a listagem continua devolvendo todas as tarefas.
+*
+* @author JTech
+*/
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskQueryRequest {
+
+    @Parameter(description = "Status exato", example = "pendente")
+    private String status;
+
+    @Parameter(description = "Criadas a partir de (inclusive), ISO-8601", example = "2025-01-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @Parameter(description = "Criadas antes de (exclusive), ISO-8601")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    @Parameter(description = "Atualizadas a partir de (inclusive), ISO-8601")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedFrom;
+
+    @Parameter(description = "Atualizadas antes de (exclusive), ISO-8601")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedTo;
+
+    @Parameter(description = "Início do título (diferencia maiúsculas de minúsculas)", example = "Relat")
+    private String titlePrefix;
+
+    @Parameter(description = "Ordenação (padrão -createdAt). Valores aceitos: " + TaskSort.NAMES, example = "-createdAt")
+    private String sort;
+
+    @Parameter(description = "Máximo de tarefas (1 a " + TaskQuery.MAX_LIMIT + ", padrão " + TaskQuery.DEFAULT_LIMIT + ")")
+    private Integer limit;
+
+    /**
+     * Indica se algum parâmetro da consulta foi informado.
+     */
+    public boolean hasCriteria() {
+        return status != null || createdFrom != null || createdTo != null || updatedFrom != null
+            || updatedTo != null || titlePrefix != null || sort != null || limit != null;
+    }
+
+    /**
+     * Converte para a consulta do domínio, validando ordenação, limite e intervalos.
+     */
+    public TaskQuery toQuery() {
+        return new TaskQuery(status, createdFrom, createdTo, updatedFrom, updatedTo, titlePrefix,
+            TaskSort.parse(sort), limit != null ? limit : TaskQuery.DEFAULT_LIMIT);
+    }
+}
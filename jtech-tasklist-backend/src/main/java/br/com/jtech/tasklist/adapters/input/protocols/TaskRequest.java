@@ -48,5 +48,11 @@ public class TaskRequest {
      * Valores aceitos: "pendente", "concluída", "em_andamento", etc.
      */
     private String status;
+
+    /**
+     * ID da lista à qual a tarefa pertence - opcional.
+     * Quando informado, a tarefa é anexada ao final da lista.
+     */
+    private String tasklistId;
 }
 
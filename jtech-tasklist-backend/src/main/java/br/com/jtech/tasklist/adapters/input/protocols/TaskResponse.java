@@ -12,12 +12,17 @@
 */
 package br.com.jtech.tasklist.adapters.input.protocols;
 
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskField;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
 * DTO (Data Transfer Object) para retornar dados de tarefas na resposta da API.
@@ -36,5 +41,44 @@ public class TaskResponse {
     private String status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private String tasklistId;
+    private String rank;
+
+    /**
+     * Converte um domínio Task para o DTO de resposta.
+     */
+    public static TaskResponse of(Task task) {
+        return TaskResponse.builder()
+            .id(task.getId())
+            .title(task.getTitle())
+            .description(task.getDescription())
+            .status(task.getStatus())
+            .createdAt(task.getCreatedAt())
+            .updatedAt(task.getUpdatedAt())
+            .tasklistId(task.getTasklistId())
+            .rank(task.getRank())
+            .build();
+    }
+
+    /**
+     * Resposta parcial ({@code ?fields=}): apenas os campos pedidos, na ordem do DTO.
+     * Campos pedidos e nulos continuam presentes, como na resposta completa.
+     */
+    public static Map<String, Object> of(Task task, Set<TaskField> fields) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        for (TaskField field : fields) {
+            response.put(field.fieldName(), switch (field) {
+                case ID -> task.getId();
+                case TITLE -> task.getTitle();
+                case DESCRIPTION -> task.getDescription();
+                case STATUS -> task.getStatus();
+                case CREATED_AT -> task.getCreatedAt();
+                case UPDATED_AT -> task.getUpdatedAt();
+                case TASKLIST_ID -> task.getTasklistId();
+                case RANK -> task.getRank();
+            });
+        }
+        return response;
+    }
 }
 
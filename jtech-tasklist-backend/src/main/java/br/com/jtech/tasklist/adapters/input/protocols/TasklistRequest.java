@@ -13,6 +13,8 @@
 package br.com.jtech.tasklist.adapters.input.protocols;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -34,5 +36,18 @@ import java.util.List;
 public class TasklistRequest implements Serializable {
     private String id;
 
+    @Size(max = 255, message = "O nome da lista não pode ter mais de 255 caracteres")
+    private String name;
+
+    /**
+     * Tarefas da lista, na ordem em que devem ser exibidas.
+     */
+    @Valid
+    private List<TaskRequest> tasks;
+
+    /**
+     * Sublistas, criadas na mesma transação que a lista pai.
+     */
+    @Valid
     private List<TasklistRequest> requests;
 }
\ No newline at end of file
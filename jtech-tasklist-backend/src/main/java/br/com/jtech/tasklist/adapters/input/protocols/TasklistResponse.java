@@ -38,11 +38,20 @@ import java.util.List;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class TasklistResponse implements Serializable {
     private String id;
+    private String name;
+    private List<TaskResponse> tasks;
     List<TasklistResponse> responses;
 
     public static TasklistResponse of(Tasklist tasklist) {
         return TasklistResponse.builder()
                 .id(tasklist.getId())
+                .name(tasklist.getName())
+                .tasks(tasklist.getTasks() != null
+                        ? tasklist.getTasks().stream().map(TaskResponse::of).toList()
+                        : null)
+                .responses(tasklist.getChildren() != null
+                        ? tasklist.getChildren().stream().map(TasklistResponse::of).toList()
+                        : null)
                 .build();
     }
 
@@ -12,26 +12,88 @@
 */
 package br.com.jtech.tasklist.adapters.output;
 
+import br.com.jtech.tasklist.application.core.domains.Task;
 import br.com.jtech.tasklist.application.core.domains.Tasklist;
 import br.com.jtech.tasklist.application.ports.output.CreateTasklistOutputGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
-* class TasklistAdapter 
-* 
-* user angelo.vicente  
+* Adapter de criação de listas. As listas são gravadas com inserts em lote via JDBC
+* e as tarefas pelo {@link TaskOutputGateway} ativo ({@link TaskOutputGateway#saveAll}),
+* para que fiquem no mesmo armazenamento que o CRUD de tarefas (banco, memória, log
+* ou shards); os IDs chegam preenchidos pelo caso de uso.
+*
+* Com o {@link TaskAdapter} (JPA), listas e tarefas são gravadas em uma única
+* transação. Nos demais armazenamentos as tarefas são gravadas depois das listas e
+* fora da transação do banco principal: uma falha no meio pode deixar a lista com
+* parte das tarefas.
+*
+* @author JTech
 */
 @Component
 @RequiredArgsConstructor
 public class CreateTasklistAdapter implements CreateTasklistOutputGateway {
 
-    // private final TasklistRepository repository;
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_TASKLIST =
+        "INSERT INTO tasklists (id, name, parent_id, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskOutputGateway taskOutputGateway;
 
     @Override
+    @Transactional
     public Tasklist create(Tasklist tasklist) {
-       // return this.repository.save(tasklist);
-          return tasklist;
+        List<Tasklist> tasklists = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        flatten(tasklist, tasklists, tasks);
+
+        LocalDateTime now = LocalDateTime.now();
+        // Listas primeiro (em pré-ordem, pais antes dos filhos) por causa da FK tasks.tasklist_id
+        jdbcTemplate.batchUpdate(INSERT_TASKLIST, tasklists, BATCH_SIZE, (ps, list) -> {
+            ps.setObject(1, UUID.fromString(list.getId()));
+            ps.setString(2, list.getName());
+            ps.setObject(3, list.getParentId() != null ? UUID.fromString(list.getParentId()) : null);
+            ps.setObject(4, now);
+        });
+        if (!tasks.isEmpty()) {
+            Map<String, Task> saved = taskOutputGateway.saveAll(tasks).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+            tasklists.stream()
+                .filter(list -> list.getTasks() != null)
+                .forEach(list -> list.setTasks(list.getTasks().stream().map(task -> saved.get(task.getId())).toList()));
+        }
+        return tasklist;
+    }
+
+    @Override
+    public Set<String> findExistingTaskTitles(Collection<String> normalizedTitles) {
+        return taskOutputGateway.findExistingTitles(normalizedTitles);
+    }
+
+    private static void flatten(Tasklist tasklist, List<Tasklist> tasklists, List<Task> tasks) {
+        tasklists.add(tasklist);
+        if (tasklist.getTasks() != null) {
+            tasks.addAll(tasklist.getTasks());
+        }
+        if (tasklist.getChildren() != null) {
+            tasklist.getChildren().forEach(child -> flatten(child, tasklists, tasks));
+        }
     }
 
-}
\ No newline at end of file
+}
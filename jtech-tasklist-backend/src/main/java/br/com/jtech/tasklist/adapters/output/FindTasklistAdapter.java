@@ -0,0 +1,53 @@
+/*
+*  @(#)FindTasklistAdapter.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output;
+
+import br.com.jtech.tasklist.adapters.output.repositories.TasklistRepository;
+import br.com.jtech.tasklist.application.core.domains.Ids;
+import br.com.jtech.tasklist.application.core.domains.Tasklist;
+import br.com.jtech.tasklist.application.ports.output.FindTasklistOutputGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+* Adapter de consulta de listas. A lista vem do banco principal e suas tarefas do
+* {@link TaskOutputGateway} ativo, em uma única consulta ordenada pela chave de
+* ordenação, para que o resultado seja o mesmo do CRUD de tarefas em qualquer
+* armazenamento (banco, memória, log ou shards).
+*
+* @author JTech
+*/
+@Component
+@RequiredArgsConstructor
+public class FindTasklistAdapter implements FindTasklistOutputGateway {
+
+    private final TasklistRepository repository;
+    private final TaskOutputGateway taskOutputGateway;
+
+    @Override
+    public Optional<Tasklist> findById(String id) {
+        UUID uuid = Ids.parseUuid(id);
+        if (uuid == null) {
+            return Optional.empty();
+        }
+        return repository.findById(uuid).map(entity -> {
+            Tasklist tasklist = Tasklist.of(entity);
+            tasklist.setTasks(taskOutputGateway.findByTasklistId(tasklist.getId()));
+            return tasklist;
+        });
+    }
+}
@@ -12,36 +12,117 @@
 */
 package br.com.jtech.tasklist.adapters.output;
 
+import br.com.jtech.tasklist.adapters.output.compression.DescriptionCompressor;
+import br.com.jtech.tasklist.adapters.output.outbox.TaskEventOutbox;
+import br.com.jtech.tasklist.adapters.output.query.TaskCounter;
+import br.com.jtech.tasklist.adapters.output.query.TaskQueryPlanner;
 import br.com.jtech.tasklist.adapters.output.repositories.TaskRepository;
+import br.com.jtech.tasklist.adapters.output.repositories.TasklistRepository;
 import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
+import br.com.jtech.tasklist.application.core.domains.Ids;
+import br.com.jtech.tasklist.application.core.domains.LexoRank;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskCount;
+import br.com.jtech.tasklist.application.core.domains.TaskField;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
 import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static br.com.jtech.tasklist.application.core.domains.Task.of;
 
 /**
 * Adapter que implementa a interface de saída (Output Gateway).
 * Responsável por converter entre o domínio e a entidade JPA.
+* Cada escrita grava o evento correspondente no outbox na mesma transação.
+* Leituras parciais selecionam apenas as colunas pedidas, via JDBC, sem carregar
+* a entidade (e a descrição, um TEXT) quando ela não foi pedida. Consultas filtradas
+* seguem o plano do {@link TaskQueryPlanner}, e seus totais o {@link TaskCounter}.
+* Anexações ao final de uma lista bloqueiam a linha da lista, para que inserções
+* concorrentes não leiam a mesma última chave e gravem chaves repetidas.
+* As tarefas de uma lista recém-criada ({@link #saveAll}) são gravadas com inserts
+* em lote via JDBC, na transação de quem chama.
 *
 * @author JTech
 */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class TaskAdapter implements TaskOutputGateway {
 
+    private static final int BATCH_SIZE = 500;
+    private static final int IN_CLAUSE_SIZE = 1_000;
+
+    private static final String INSERT_TASK =
+        "INSERT INTO tasks (id, title, description, status, tasklist_id, sort_rank, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final TaskRepository taskRepository;
+    private final TasklistRepository tasklistRepository;
+    private final TaskRankRebalancer rankRebalancer;
+    private final DataVersion dataVersion;
+    private final TaskEventOutbox eventOutbox;
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskQueryPlanner queryPlanner;
+    private final TaskCounter taskCounter;
+    private final DescriptionCompressor descriptionCompressor;
 
     @Override
+    @Transactional
     public Task save(Task task) {
         TaskEntity entity = task.toEntity();
+        // Tarefas criadas em uma lista sem chave definida são anexadas ao final
+        if (entity.getTasklistId() != null && entity.getRank() == null) {
+            tasklistRepository.findForUpdateById(entity.getTasklistId());
+            String lastRank = taskRepository.findMaxRankByTasklistId(entity.getTasklistId());
+            entity.setRank(LexoRank.after(lastRank));
+        }
         TaskEntity savedEntity = taskRepository.save(entity);
-        return of(savedEntity);
+        dataVersion.bump();
+        scheduleRebalanceIfNeeded(savedEntity.getTasklistId(), savedEntity.getRank());
+        Task saved = of(savedEntity);
+        eventOutbox.record(TaskEventOutbox.CREATED, saved);
+        return saved;
+    }
+
+    /**
+     * Com PostgreSQL, o parâmetro reWriteBatchedInserts=true na URL faz o driver agrupar
+     * cada lote em um único INSERT multi-valores.
+     */
+    @Override
+    @Transactional
+    public List<Task> saveAll(List<Task> tasks) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_TASK, tasks, BATCH_SIZE, (ps, task) -> {
+            ps.setObject(1, UUID.fromString(task.getId()));
+            ps.setString(2, task.getTitle());
+            ps.setString(3, descriptionCompressor.encode(task.getDescription()));
+            ps.setString(4, task.getStatus());
+            ps.setObject(5, UUID.fromString(task.getTasklistId()));
+            ps.setString(6, task.getRank());
+            ps.setObject(7, now);
+            ps.setObject(8, now);
+        });
+        List<Task> saved = tasks.stream().map(task -> task.toBuilder().createdAt(now).updatedAt(now).build()).toList();
+        dataVersion.bump();
+        eventOutbox.recordAll(TaskEventOutbox.CREATED, saved);
+        return saved;
     }
 
     @Override
@@ -52,30 +133,72 @@ public class TaskAdapter implements TaskOutputGateway {
 
     @Override
     public Optional<Task> findById(String id) {
-        try {
-            UUID uuid = UUID.fromString(id);
-            Optional<TaskEntity> entity = taskRepository.findById(uuid);
-            return entity.map(Task::of);
-        } catch (IllegalArgumentException e) {
+        UUID uuid = Ids.parseUuid(id);
+        if (uuid == null) {
+            return Optional.empty();
+        }
+        Optional<TaskEntity> entity = taskRepository.findById(uuid);
+        return entity.map(Task::of);
+    }
+
+    @Override
+    public List<Task> findAll(Set<TaskField> fields) {
+        if (fields.equals(TaskField.ALL)) {
+            return findAll();
+        }
+        return jdbcTemplate.query("SELECT " + columns(fields) + " FROM tasks", (rs, rowNum) -> toTask(rs, fields));
+    }
+
+    @Override
+    public Optional<Task> findById(String id, Set<TaskField> fields) {
+        if (fields.equals(TaskField.ALL)) {
+            return findById(id);
+        }
+        UUID uuid = Ids.parseUuid(id);
+        if (uuid == null) {
             return Optional.empty();
         }
+        return jdbcTemplate.query("SELECT " + columns(fields) + " FROM tasks WHERE id = ?",
+                (rs, rowNum) -> toTask(rs, fields), uuid)
+            .stream()
+            .findFirst();
+    }
+
+    @Override
+    public List<Task> findAll(TaskQuery query, Set<TaskField> fields) {
+        TaskQueryPlanner.Plan plan = queryPlanner.plan(query);
+        log.debug("::: Consulta de tarefas {} via {}", query, plan.index() != null ? plan.index() : "varredura completa");
+        return jdbcTemplate.query("SELECT " + columns(fields) + " FROM tasks" + plan.clauses(),
+            (rs, rowNum) -> toTask(rs, fields), plan.parameters());
     }
 
     @Override
+    public TaskCount count(TaskQuery query, boolean exact) {
+        return taskCounter.count(queryPlanner.plan(query), exact);
+    }
+
+    @Override
+    @Transactional
     public Task update(Task task) {
         TaskEntity entity = task.toEntity();
         TaskEntity updatedEntity = taskRepository.save(entity);
-        return of(updatedEntity);
+        dataVersion.bump();
+        Task updated = of(updatedEntity);
+        eventOutbox.record(TaskEventOutbox.UPDATED, updated);
+        return updated;
     }
 
     @Override
+    @Transactional
     public void deleteById(String id) {
-        try {
-            UUID uuid = UUID.fromString(id);
-            taskRepository.deleteById(uuid);
-        } catch (IllegalArgumentException e) {
+        UUID uuid = Ids.parseUuid(id);
+        if (uuid == null) {
             // ID inválido, não faz nada
+            return;
         }
+        taskRepository.deleteById(uuid);
+        dataVersion.bump();
+        eventOutbox.recordDeleted(id);
     }
 
     @Override
@@ -83,5 +206,96 @@ public class TaskAdapter implements TaskOutputGateway {
         Optional<TaskEntity> entity = taskRepository.findByTitleIgnoreCase(title);
         return entity.map(Task::of);
     }
+
+    @Override
+    public Set<String> findExistingTitles(Collection<String> normalizedTitles) {
+        Set<String> existing = new HashSet<>();
+        List<String> titles = new ArrayList<>(normalizedTitles);
+        for (int start = 0; start < titles.size(); start += IN_CLAUSE_SIZE) {
+            List<String> chunk = titles.subList(start, Math.min(start + IN_CLAUSE_SIZE, titles.size()));
+            existing.addAll(taskRepository.findExistingTitles(chunk));
+        }
+        return existing;
+    }
+
+    @Override
+    public List<Task> findByTasklistId(String tasklistId) {
+        return Task.of(taskRepository.findByTasklistIdOrderByRank(UUID.fromString(tasklistId)));
+    }
+
+    @Override
+    public Optional<String> findNextRank(String tasklistId, String rank, String excludedId) {
+        return Optional.ofNullable(
+            taskRepository.findNextRank(UUID.fromString(tasklistId), rank, UUID.fromString(excludedId))
+        );
+    }
+
+    @Override
+    public Optional<String> findPreviousRank(String tasklistId, String rank, String excludedId) {
+        return Optional.ofNullable(
+            taskRepository.findPreviousRank(UUID.fromString(tasklistId), rank, UUID.fromString(excludedId))
+        );
+    }
+
+    @Override
+    @Transactional
+    public Optional<Task> updateRank(String id, String rank) {
+        UUID uuid = UUID.fromString(id);
+        if (taskRepository.updateRank(uuid, rank, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        dataVersion.bump();
+        Optional<TaskEntity> entity = taskRepository.findById(uuid);
+        entity.ifPresent(updated -> scheduleRebalanceIfNeeded(updated.getTasklistId(), rank));
+        Optional<Task> moved = entity.map(Task::of);
+        moved.ifPresent(task -> eventOutbox.record(TaskEventOutbox.MOVED, task));
+        return moved;
+    }
+
+    /**
+     * Colunas da projeção; os nomes vêm do enum, nunca da requisição.
+     */
+    private static String columns(Set<TaskField> fields) {
+        return fields.stream().map(TaskAdapter::column).collect(Collectors.joining(", "));
+    }
+
+    private static String column(TaskField field) {
+        return switch (field) {
+            case ID -> "id";
+            case TITLE -> "title";
+            case DESCRIPTION -> "description";
+            case STATUS -> "status";
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            case TASKLIST_ID -> "tasklist_id";
+            case RANK -> "sort_rank";
+        };
+    }
+
+    private static Task toTask(ResultSet rs, Set<TaskField> fields) throws SQLException {
+        Task task = new Task();
+        for (TaskField field : fields) {
+            switch (field) {
+                case ID -> task.setId(rs.getObject("id", UUID.class).toString());
+                case TITLE -> task.setTitle(rs.getString("title"));
+                case DESCRIPTION -> task.setDescription(DescriptionCompressor.decode(rs.getString("description")));
+                case STATUS -> task.setStatus(rs.getString("status"));
+                case CREATED_AT -> task.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+                case UPDATED_AT -> task.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+                case TASKLIST_ID -> {
+                    UUID tasklistId = rs.getObject("tasklist_id", UUID.class);
+                    task.setTasklistId(tasklistId != null ? tasklistId.toString() : null);
+                }
+                case RANK -> task.setRank(rs.getString("sort_rank"));
+            }
+        }
+        return task;
+    }
+
+    private void scheduleRebalanceIfNeeded(UUID tasklistId, String rank) {
+        if (tasklistId != null && LexoRank.needsRebalance(rank)) {
+            rankRebalancer.schedule(tasklistId);
+        }
+    }
 }
 
@@ -0,0 +1,125 @@
+/*
+*  @(#)TaskRankRebalancer.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output;
+
+import br.com.jtech.tasklist.adapters.output.repositories.TaskRepository;
+import br.com.jtech.tasklist.adapters.output.repositories.TasklistRepository;
+import br.com.jtech.tasklist.application.core.domains.LexoRank;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+* Rebalanceador das chaves de ordenação. Quando uma chave ultrapassa
+* {@link LexoRank#MAX_LENGTH} a lista é enfileirada e, em segundo plano, todas as
+* suas tarefas recebem chaves de largura fixa igualmente espaçadas, preservando a ordem.
+*
+* Na inicialização também são enfileiradas as listas com tarefas ainda sem chave.
+*
+* O rebalanceamento começa bloqueando a linha da lista (SELECT ... FOR UPDATE),
+* a mesma trava das anexações ao final ({@link TaskAdapter#save}): uma anexação
+* concorrente espera o commit e lê a última chave já regravada, em vez de calcular
+* a sua sobre a chave antiga e ficar fora de ordem ou repetida.
+* Um movimento concorrente ao rebalanceamento da mesma lista pode ser calculado
+* sobre as chaves antigas; nesse caso a tarefa fica em posição próxima da pedida
+* e o próximo movimento corrige.
+*
+* @author JTech
+*/
+@Slf4j
+@Component
+public class TaskRankRebalancer {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String UPDATE_RANK = "UPDATE tasks SET sort_rank = ? WHERE id = ?";
+
+    private final TaskRepository taskRepository;
+    private final TasklistRepository tasklistRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DataVersion dataVersion;
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    public TaskRankRebalancer(TaskRepository taskRepository,
+                              TasklistRepository tasklistRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              DataVersion dataVersion) {
+        this.taskRepository = taskRepository;
+        this.tasklistRepository = tasklistRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dataVersion = dataVersion;
+    }
+
+    /**
+     * Enfileira a lista para rebalanceamento. Chamadas repetidas antes da próxima
+     * execução resultam em um único rebalanceamento.
+     */
+    public void schedule(UUID tasklistId) {
+        pending.add(tasklistId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleUnranked() {
+        taskRepository.findTasklistIdsWithUnrankedTasks().forEach(this::schedule);
+    }
+
+    @Scheduled(fixedDelayString = "${task-rank.rebalance-interval-ms:5000}")
+    public void rebalancePending() {
+        for (UUID tasklistId : new ArrayList<>(pending)) {
+            pending.remove(tasklistId);
+            try {
+                rebalance(tasklistId);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao rebalancear a lista {}: {}", tasklistId, e.getMessage());
+                pending.add(tasklistId);
+            }
+        }
+    }
+
+    /**
+     * Regrava as chaves de todas as tarefas da lista em uma única transação, com a
+     * linha da lista bloqueada.
+     */
+    public void rebalance(UUID tasklistId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            tasklistRepository.findForUpdateById(tasklistId);
+            List<UUID> ids = taskRepository.findIdsByTasklistIdOrderByRank(tasklistId);
+            List<String> ranks = LexoRank.spread(ids.size());
+            List<Object[]> rows = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                rows.add(new Object[] { ranks.get(i), ids.get(i) });
+            }
+            jdbcTemplate.batchUpdate(UPDATE_RANK, rows, BATCH_SIZE,
+                (ps, row) -> {
+                    ps.setString(1, (String) row[0]);
+                    ps.setObject(2, row[1]);
+                });
+            dataVersion.bump();
+            log.debug("Lista {} rebalanceada ({} tarefas)", tasklistId, ids.size());
+        });
+    }
+}
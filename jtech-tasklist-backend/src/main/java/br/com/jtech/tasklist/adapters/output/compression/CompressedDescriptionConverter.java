@@ -0,0 +1,43 @@
+/*
+*  @(#)CompressedDescriptionConverter.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.compression;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+* Conversor JPA de TaskEntity.description: comprime na gravação conforme o
+* {@link DescriptionCompressor} e descomprime na leitura. Instanciado pelo
+* Hibernate através do contêiner de beans do Spring, que injeta o compressor.
+*
+* @author JTech
+*/
+@Converter
+public class CompressedDescriptionConverter implements AttributeConverter<String, String> {
+
+    private final DescriptionCompressor compressor;
+
+    public CompressedDescriptionConverter(DescriptionCompressor compressor) {
+        this.compressor = compressor;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String description) {
+        return compressor.encode(description);
+    }
+
+    @Override
+    public String convertToEntityAttribute(String stored) {
+        return DescriptionCompressor.decode(stored);
+    }
+}
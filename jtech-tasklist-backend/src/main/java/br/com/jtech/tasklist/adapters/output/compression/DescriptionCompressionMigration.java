@@ -0,0 +1,151 @@
+/*
+*  @(#)DescriptionCompressionMigration.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.compression;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+* Comprime, em lotes, as descrições já gravadas antes da compressão existir.
+*
+* Percorre a tabela tasks pela chave primária (cada linha é visitada uma vez por
+* execução) e grava cada lote em uma transação própria. A atualização só acontece
+* se updated_at não mudou desde a leitura; linhas alteradas no meio do caminho já
+* foram gravadas pelo conversor. O conteúdo lógico não muda, então nem eventos
+* nem a versão dos dados são afetados.
+*
+* @author JTech
+*/
+@Slf4j
+public class DescriptionCompressionMigration {
+
+    private static final String CANDIDATES = "description IS NOT NULL AND LENGTH(description) >= ? "
+        + "AND description NOT LIKE ?";
+    private static final String SELECT_FIRST_BATCH =
+        "SELECT id, description, updated_at FROM tasks WHERE " + CANDIDATES + " ORDER BY id LIMIT ?";
+    private static final String SELECT_NEXT_BATCH =
+        "SELECT id, description, updated_at FROM tasks WHERE id > ? AND " + CANDIDATES + " ORDER BY id LIMIT ?";
+    private static final String UPDATE =
+        "UPDATE tasks SET description = ? WHERE id = ? AND updated_at IS NOT DISTINCT FROM ?";
+
+    private record Row(UUID id, String description, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * Resultado de uma execução.
+     */
+    public record Summary(long rows, long originalBytes, long storedBytes, long elapsedMs) {
+
+        public long savedBytes() {
+            return originalBytes - storedBytes;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DescriptionCompressor compressor;
+    private final int batchSize;
+
+    public DescriptionCompressionMigration(JdbcTemplate jdbcTemplate,
+                                           PlatformTransactionManager transactionManager,
+                                           DescriptionCompressor compressor,
+                                           int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.compressor = compressor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Inicia a migração em segundo plano, sem atrasar a inicialização.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInBackground() {
+        Thread.ofVirtual().name("description-compression").start(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                log.error("::: Falha na compressão das descrições existentes", e);
+            }
+        });
+    }
+
+    public Summary run() {
+        long start = System.nanoTime();
+        // Nenhum texto com menos caracteres que isso chega ao limite em bytes (até 3 bytes por caractere)
+        int minLength = Math.max(1, (compressor.getThresholdBytes() + 2) / 3);
+        String notCompressed = TextCompression.MARKER + "%";
+        long rows = 0;
+        long originalBytes = 0;
+        long storedBytes = 0;
+        UUID lastId = null;
+        while (true) {
+            List<Row> batch = lastId == null
+                ? jdbcTemplate.query(SELECT_FIRST_BATCH, (rs, rowNum) -> toRow(rs), minLength, notCompressed, batchSize)
+                : jdbcTemplate.query(SELECT_NEXT_BATCH, (rs, rowNum) -> toRow(rs), lastId, minLength, notCompressed,
+                    batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).id();
+
+            List<Object[]> updates = new ArrayList<>();
+            for (Row row : batch) {
+                String encoded = compressor.encode(row.description());
+                if (TextCompression.isCompressed(encoded)) {
+                    updates.add(new Object[] {encoded, row.id(), row.updatedAt()});
+                    originalBytes += row.description().getBytes(StandardCharsets.UTF_8).length;
+                    storedBytes += encoded.length();
+                }
+            }
+            if (!updates.isEmpty()) {
+                int[] updated = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(UPDATE, updates));
+                rows += countUpdated(updated);
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        Summary summary = new Summary(rows, originalBytes, storedBytes, (System.nanoTime() - start) / 1_000_000L);
+        log.info("::: Compressão das descrições existentes: {} linhas, {} -> {} bytes ({} economizados) em {} ms",
+            summary.rows(), summary.originalBytes(), summary.storedBytes(), summary.savedBytes(), summary.elapsedMs());
+        return summary;
+    }
+
+    private static Row toRow(ResultSet rs) throws SQLException {
+        return new Row(rs.getObject("id", UUID.class), rs.getString("description"),
+            rs.getObject("updated_at", LocalDateTime.class));
+    }
+
+    private static long countUpdated(int[] updated) {
+        long count = 0;
+        for (int rows : updated) {
+            // Alguns drivers devolvem SUCCESS_NO_INFO (-2) em lotes
+            count += rows == Statement.SUCCESS_NO_INFO ? 1 : rows;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+*  @(#)DescriptionCompressor.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.compression;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+* Decide como a descrição de uma tarefa é gravada: textos a partir de
+* {@code thresholdBytes} (em UTF-8) são comprimidos com {@link TextCompression},
+* desde que o resultado fique menor que o original.
+*
+* Registra os bytes antes e depois (tasklist.description.compression.bytes) e o
+* tempo de compressão, para acompanhar o espaço economizado.
+*
+* @author JTech
+*/
+public class DescriptionCompressor {
+
+    private final boolean enabled;
+    private final int thresholdBytes;
+    private final Counter originalBytes;
+    private final Counter storedBytes;
+    private final Timer encodeTimer;
+
+    public DescriptionCompressor(boolean enabled, int thresholdBytes, MeterRegistry registry) {
+        this.enabled = enabled;
+        this.thresholdBytes = thresholdBytes;
+        this.originalBytes = Counter.builder("tasklist.description.compression.bytes")
+            .tag("stage", "original")
+            .description("Bytes das descrições comprimidas antes da compressão")
+            .baseUnit("bytes")
+            .register(registry);
+        this.storedBytes = Counter.builder("tasklist.description.compression.bytes")
+            .tag("stage", "stored")
+            .description("Bytes das descrições comprimidas como gravados no banco")
+            .baseUnit("bytes")
+            .register(registry);
+        this.encodeTimer = Timer.builder("tasklist.description.compression.time")
+            .tag("operation", "encode")
+            .description("Tempo de compressão das descrições")
+            .register(registry);
+    }
+
+    public int getThresholdBytes() {
+        return thresholdBytes;
+    }
+
+    /**
+     * Valor a gravar na coluna. Textos que por acaso começam com o marcador são
+     * sempre comprimidos, para que a leitura não os confunda com conteúdo comprimido.
+     */
+    public String encode(String description) {
+        if (description == null) {
+            return null;
+        }
+        boolean ambiguous = description.startsWith(TextCompression.MARKER);
+        // Cada caractere ocupa no máximo 3 bytes em UTF-8 (pares substitutos, 4 bytes em 2 caracteres)
+        if (!ambiguous && (!enabled || (long) description.length() * 3 < thresholdBytes)) {
+            return description;
+        }
+        int length = description.getBytes(StandardCharsets.UTF_8).length;
+        if (!ambiguous && length < thresholdBytes) {
+            return description;
+        }
+        long start = System.nanoTime();
+        String compressed = TextCompression.compress(description);
+        encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!ambiguous && compressed.length() >= length) {
+            return description;
+        }
+        originalBytes.increment(length);
+        storedBytes.increment(compressed.length());
+        return compressed;
+    }
+
+    public static String decode(String stored) {
+        return TextCompression.decompress(stored);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+*  @(#)TextCompression.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.compression;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+* Formato comprimido de textos gravados em colunas TEXT:
+* {@code MARKER + Base64(tamanho original em bytes (int) + bloco LZ4)}.
+*
+* O marcador começa com um caractere de controle (U+0001), que não aparece em
+* descrições digitadas; textos sem o marcador são lidos como estão, de modo que
+* linhas antigas e comprimidas convivem na mesma coluna.
+*
+* @author JTech
+*/
+public final class TextCompression {
+
+    public static final String MARKER = "\u0001lz4:";
+
+    private static final int HEADER_BYTES = Integer.BYTES;
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    // Implementação Java pura, que valida os limites do bloco lido do banco
+    private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.safeInstance().safeDecompressor();
+
+    private TextCompression() {
+    }
+
+    public static boolean isCompressed(String value) {
+        return value != null && value.startsWith(MARKER);
+    }
+
+    /**
+     * Comprime o texto, independentemente do tamanho.
+     */
+    public static String compress(String value) {
+        byte[] original = value.getBytes(StandardCharsets.UTF_8);
+        byte[] block = COMPRESSOR.compress(original);
+        ByteBuffer payload = ByteBuffer.allocate(HEADER_BYTES + block.length)
+            .putInt(original.length)
+            .put(block);
+        return MARKER + Base64.getEncoder().encodeToString(payload.array());
+    }
+
+    /**
+     * Devolve o texto original; valores sem o marcador (ou nulos) são devolvidos como estão.
+     *
+     * @throws IllegalStateException se o conteúdo comprimido estiver corrompido
+     */
+    public static String decompress(String stored) {
+        if (!isCompressed(stored)) {
+            return stored;
+        }
+        byte[] payload = Base64.getDecoder().decode(stored.substring(MARKER.length()));
+        if (payload.length < HEADER_BYTES) {
+            throw new IllegalStateException("Texto comprimido sem cabeçalho");
+        }
+        int length = ByteBuffer.wrap(payload).getInt();
+        byte[] original = DECOMPRESSOR.decompress(payload, HEADER_BYTES, payload.length - HEADER_BYTES, length);
+        if (original.length != length) {
+            throw new IllegalStateException("Texto comprimido corrompido: " + original.length + " de " + length + " bytes");
+        }
+        return new String(original, StandardCharsets.UTF_8);
+    }
+}
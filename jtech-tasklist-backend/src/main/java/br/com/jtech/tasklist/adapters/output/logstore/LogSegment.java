@@ -0,0 +1,181 @@
+/*
+*  @(#)LogSegment.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.logstore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+* Segmento do log: um arquivo de tamanho fixo mapeado em memória, escrito apenas no
+* final. As escritas são serializadas por quem usa o segmento; as leituras são por
+* posição absoluta e podem ocorrer em paralelo com elas.
+*
+* O corpo e o CRC de cada registro são gravados antes do tamanho, de modo que um
+* registro só é considerado na recuperação depois de completo.
+*
+* @author JTech
+*/
+final class LogSegment {
+
+    /**
+     * Visita cada registro válido durante a varredura do segmento.
+     */
+    interface RecordVisitor {
+        void visit(int offset, int size, ByteBuffer body);
+    }
+
+    private final long id;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final AtomicLong liveBytes = new AtomicLong();
+    private int position;
+
+    private LogSegment(long id, Path path, FileChannel channel, int capacity) throws IOException {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.capacity = capacity;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    /**
+     * Abre o segmento existente ou cria um novo com {@code capacity} bytes.
+     */
+    static LogSegment open(Path path, long id, int capacity) {
+        try {
+            FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long existing = channel.size();
+            return new LogSegment(id, path, channel, existing > 0 ? (int) existing : capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir o segmento " + path, e);
+        }
+    }
+
+    /**
+     * Grava o registro no final do segmento.
+     *
+     * @return posição do registro, ou -1 se não couber
+     */
+    int append(ByteBuffer body) {
+        int size = TaskRecords.HEADER_BYTES + body.remaining();
+        // Mantém espaço para o tamanho zero que marca o fim dos dados
+        if (position + size + Integer.BYTES > capacity) {
+            return -1;
+        }
+        int offset = position;
+        buffer.put(offset + TaskRecords.HEADER_BYTES, body.duplicate(), body.position(), body.remaining());
+        buffer.putInt(offset + Integer.BYTES, TaskRecords.checksum(body));
+        buffer.putInt(offset, body.remaining());
+        position = offset + size;
+        return offset;
+    }
+
+    /**
+     * Corpo do registro na posição informada (cópia).
+     */
+    ByteBuffer read(int offset) {
+        byte[] body = new byte[buffer.getInt(offset)];
+        buffer.get(offset + TaskRecords.HEADER_BYTES, body);
+        return ByteBuffer.wrap(body);
+    }
+
+    /**
+     * Percorre os registros a partir de {@code from}, verificando o CRC, e posiciona
+     * a escrita logo após o último registro válido.
+     *
+     * @return true se a varredura parou em um registro incompleto ou corrompido
+     */
+    boolean recover(int from, RecordVisitor visitor) {
+        int offset = from;
+        while (offset + TaskRecords.HEADER_BYTES <= capacity) {
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                position = offset;
+                return false;
+            }
+            int size = TaskRecords.HEADER_BYTES + length;
+            if (length < 0 || offset + size > capacity) {
+                return truncate(offset);
+            }
+            ByteBuffer body = read(offset);
+            if (TaskRecords.checksum(body) != buffer.getInt(offset + Integer.BYTES)) {
+                return truncate(offset);
+            }
+            visitor.visit(offset, size, body);
+            offset += size;
+        }
+        position = offset;
+        return false;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao fechar o segmento " + path, e);
+        }
+    }
+
+    /**
+     * Remove o arquivo. O mapeamento continua válido para leituras em andamento.
+     */
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao remover o segmento " + path, e);
+        }
+    }
+
+    long getId() {
+        return id;
+    }
+
+    int getPosition() {
+        return position;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    AtomicLong liveBytes() {
+        return liveBytes;
+    }
+
+    /**
+     * Descarta o que há a partir de {@code offset} (escrita interrompida).
+     */
+    private boolean truncate(int offset) {
+        position = offset;
+        for (int i = offset; i < capacity; i++) {
+            buffer.put(i, (byte) 0);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,596 @@
+/*
+*  @(#)LogStoreTaskAdapter.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.logstore;
+
+import br.com.jtech.tasklist.adapters.output.memory.TaskIndexes;
+import br.com.jtech.tasklist.adapters.output.outbox.TaskEventOutbox;
+import br.com.jtech.tasklist.application.core.domains.Ids;
+import br.com.jtech.tasklist.application.core.domains.LexoRank;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+* Implementação do {@link TaskOutputGateway} sobre um log de registros append-only
+* em arquivos mapeados em memória (perfil {@code logstore}), para instalações de um
+* único nó sem PostgreSQL.
+*
+* - Cada escrita acrescenta um registro com CRC32C ({@link TaskRecords}) ao segmento
+*   ativo; ao encher, um novo segmento é criado.
+* - Um índice em memória guarda, por ID, a posição do registro mais recente e as
+*   chaves dos índices secundários ({@link TaskIndexes}); leituras vão direto à posição.
+* - fsync: a cada escrita ({@code fsync-every-write}) ou em lote, a cada
+*   {@code fsync-batch-size} registros e no intervalo {@code fsync-interval-ms}.
+*   Em lote, uma queda do sistema operacional pode perder as escritas desse intervalo.
+* - Snapshots periódicos do índice permitem reconstruí-lo na inicialização lendo
+*   apenas o final do log.
+* - A compactação regrava no segmento ativo os registros vivos dos segmentos com
+*   pouco conteúdo útil e remove o arquivo antigo.
+*
+* Escritas são serializadas por uma trava; leituras não bloqueiam.
+*
+* @author JTech
+*/
+@Slf4j
+@Component
+@Primary
+@Profile("logstore")
+public class LogStoreTaskAdapter implements TaskOutputGateway {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_FILE = "index.snapshot";
+    private static final int SNAPSHOT_MAGIC = 0x544C5331;
+
+    /**
+     * Posição do registro mais recente de uma tarefa e suas chaves (tarefa sem descrição).
+     */
+    private record Slot(LogSegment segment, int offset, int size, Task keys) {
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean fsyncEveryWrite;
+    private final int fsyncBatchSize;
+    private final double compactionThreshold;
+    private final DataVersion dataVersion;
+    private final TaskEventOutbox eventOutbox;
+
+    private final ConcurrentHashMap<UUID, Slot> slots = new ConcurrentHashMap<>();
+    private final TaskIndexes indexes = new TaskIndexes();
+    private final ConcurrentSkipListMap<Long, LogSegment> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Object maintenanceLock = new Object();
+    private volatile LogSegment active;
+    private int unforced;
+
+    public LogStoreTaskAdapter(@Value("${log-store.directory:./data/tasks}") Path directory,
+                               @Value("${log-store.segment-size:64MB}") DataSize segmentSize,
+                               @Value("${log-store.fsync-every-write:false}") boolean fsyncEveryWrite,
+                               @Value("${log-store.fsync-batch-size:256}") int fsyncBatchSize,
+                               @Value("${log-store.compaction-threshold:0.5}") double compactionThreshold,
+                               DataVersion dataVersion,
+                               TaskEventOutbox eventOutbox) {
+        this.directory = directory;
+        this.segmentSize = Math.toIntExact(segmentSize.toBytes());
+        this.fsyncEveryWrite = fsyncEveryWrite;
+        this.fsyncBatchSize = fsyncBatchSize;
+        this.compactionThreshold = compactionThreshold;
+        this.dataVersion = dataVersion;
+        this.eventOutbox = eventOutbox;
+        recover();
+    }
+
+    @Override
+    public Task save(Task task) {
+        UUID id = task.getId() != null && !task.getId().isEmpty() ? UUID.fromString(task.getId()) : UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        Task saved = task.toBuilder().id(id.toString()).createdAt(now).updatedAt(now).build();
+        writeLock.lock();
+        try {
+            // Tarefas criadas em uma lista sem chave definida são anexadas ao final
+            if (saved.getTasklistId() != null && saved.getRank() == null) {
+                saved.setRank(LexoRank.after(indexes.maxRank(UUID.fromString(saved.getTasklistId())).orElse(null)));
+            }
+            put(saved);
+        } finally {
+            writeLock.unlock();
+        }
+        rebalanceIfNeeded(saved);
+        eventOutbox.record(TaskEventOutbox.CREATED, saved);
+        return saved;
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return resolve(indexes.byCreation(this::keys)).toList();
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        UUID uuid = Ids.parseUuid(id);
+        if (uuid == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(slots.get(uuid)).map(this::read);
+    }
+
+    @Override
+    public Task update(Task task) {
+        UUID id = UUID.fromString(task.getId());
+        LocalDateTime now = LocalDateTime.now();
+        Task updated;
+        writeLock.lock();
+        try {
+            Slot current = slots.get(id);
+            updated = task.toBuilder()
+                .createdAt(current != null ? current.keys().getCreatedAt() : now)
+                .updatedAt(now)
+                .build();
+            put(updated);
+        } finally {
+            writeLock.unlock();
+        }
+        eventOutbox.record(TaskEventOutbox.UPDATED, updated);
+        return updated;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        UUID uuid = Ids.parseUuid(id);
+        if (uuid == null) {
+            // ID inválido, não faz nada
+            return;
+        }
+        boolean deleted;
+        writeLock.lock();
+        try {
+            deleted = remove(uuid);
+        } finally {
+            writeLock.unlock();
+        }
+        if (deleted) {
+            eventOutbox.recordDeleted(id);
+        }
+    }
+
+    @Override
+    public Optional<Task> findByTitleIgnoreCase(String title) {
+        return resolve(indexes.byTitle(title, this::keys)).findFirst();
+    }
+
+    @Override
+    public List<Task> findByTasklistId(String tasklistId) {
+        return resolve(indexes.byRank(UUID.fromString(tasklistId))).toList();
+    }
+
+    @Override
+    public Optional<String> findNextRank(String tasklistId, String rank, String excludedId) {
+        return indexes.nextRank(UUID.fromString(tasklistId), rank, UUID.fromString(excludedId));
+    }
+
+    @Override
+    public Optional<String> findPreviousRank(String tasklistId, String rank, String excludedId) {
+        return indexes.previousRank(UUID.fromString(tasklistId), rank, UUID.fromString(excludedId));
+    }
+
+    @Override
+    public Optional<Task> updateRank(String id, String rank) {
+        UUID uuid = UUID.fromString(id);
+        Task moved;
+        writeLock.lock();
+        try {
+            Slot current = slots.get(uuid);
+            if (current == null) {
+                return Optional.empty();
+            }
+            moved = read(current).toBuilder().rank(rank).updatedAt(LocalDateTime.now()).build();
+            put(moved);
+        } finally {
+            writeLock.unlock();
+        }
+        rebalanceIfNeeded(moved);
+        eventOutbox.record(TaskEventOutbox.MOVED, moved);
+        return Optional.of(moved);
+    }
+
+    /**
+     * Força a gravação em disco das escritas ainda não sincronizadas.
+     */
+    @Scheduled(fixedDelayString = "${log-store.fsync-interval-ms:200}")
+    public void flush() {
+        writeLock.lock();
+        try {
+            if (unforced > 0) {
+                active.force();
+                unforced = 0;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Grava o índice em disco. Na inicialização, apenas os registros posteriores a
+     * ele são relidos.
+     */
+    @Scheduled(fixedDelayString = "${log-store.snapshot-interval-ms:60000}",
+        initialDelayString = "${log-store.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        synchronized (maintenanceLock) {
+            List<Map.Entry<UUID, Slot>> entries;
+            LogSegment segment;
+            int position;
+            writeLock.lock();
+            try {
+                // O índice e a posição do log são capturados juntos, com as escritas bloqueadas
+                segment = active;
+                position = segment.getPosition();
+                segment.force();
+                unforced = 0;
+                entries = new ArrayList<>(slots.entrySet());
+            } finally {
+                writeLock.unlock();
+            }
+            writeSnapshot(segment.getId(), position, entries);
+            log.debug("::: Log de tarefas: snapshot com {} tarefas até {}:{}", entries.size(), segment.getId(), position);
+        }
+    }
+
+    /**
+     * Compacta os segmentos fechados cuja fração de registros vivos ficou abaixo de
+     * {@code compaction-threshold}.
+     */
+    @Scheduled(fixedDelayString = "${log-store.compaction-interval-ms:30000}")
+    public void compact() {
+        synchronized (maintenanceLock) {
+            List<LogSegment> candidates = segments.values().stream()
+                .filter(segment -> segment != active)
+                .filter(segment -> segment.liveBytes().get() < compactionThreshold * segment.getCapacity())
+                .toList();
+            if (candidates.isEmpty()) {
+                return;
+            }
+            long copied = 0;
+            for (LogSegment segment : candidates) {
+                copied += copyForward(segment);
+            }
+            // O novo snapshot não aponta mais para os segmentos compactados
+            snapshot();
+            for (LogSegment segment : candidates) {
+                segments.remove(segment.getId());
+                segment.delete();
+            }
+            log.info("::: Log de tarefas: {} segmentos compactados ({} registros regravados)",
+                candidates.size(), copied);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        snapshot();
+        segments.values().forEach(LogSegment::close);
+    }
+
+    /**
+     * Regrava as chaves de ordenação da lista com espaçamento uniforme, preservando a ordem.
+     */
+    void rebalance(UUID tasklistId) {
+        writeLock.lock();
+        try {
+            List<UUID> ids = indexes.byRank(tasklistId).toList();
+            List<String> ranks = LexoRank.spread(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                Slot slot = slots.get(ids.get(i));
+                if (slot != null && tasklistId.toString().equals(slot.keys().getTasklistId())) {
+                    put(read(slot).toBuilder().rank(ranks.get(i)).build());
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void put(Task task) {
+        UUID id = UUID.fromString(task.getId());
+        Slot slot = append(TaskRecords.put(task), keysOf(task));
+        slot.segment().liveBytes().addAndGet(slot.size());
+        Slot previous = slots.put(id, slot);
+        release(previous);
+        indexes.reindex(id, previous != null ? previous.keys() : null, slot.keys());
+        dataVersion.bump();
+    }
+
+    private boolean remove(UUID id) {
+        if (!slots.containsKey(id)) {
+            return false;
+        }
+        append(TaskRecords.delete(id), null);
+        Slot previous = slots.remove(id);
+        release(previous);
+        indexes.reindex(id, previous.keys(), null);
+        dataVersion.bump();
+        return true;
+    }
+
+    private Slot append(ByteBuffer body, Task keys) {
+        int size = TaskRecords.HEADER_BYTES + body.remaining();
+        if (size + Integer.BYTES > segmentSize) {
+            throw new IllegalArgumentException(
+                String.format("Tarefa com %d bytes excede o tamanho do segmento do log (%d bytes)", size, segmentSize));
+        }
+        int offset = active.append(body);
+        if (offset < 0) {
+            roll();
+            offset = active.append(body);
+        }
+        if (fsyncEveryWrite) {
+            active.force();
+        } else if (++unforced >= fsyncBatchSize) {
+            active.force();
+            unforced = 0;
+        }
+        return new Slot(active, offset, size, keys);
+    }
+
+    private void roll() {
+        active.force();
+        unforced = 0;
+        long next = active.getId() + 1;
+        LogSegment segment = LogSegment.open(segmentPath(next), next, segmentSize);
+        segments.put(next, segment);
+        active = segment;
+    }
+
+    private static void release(Slot slot) {
+        if (slot != null) {
+            slot.segment().liveBytes().addAndGet(-slot.size());
+        }
+    }
+
+    /**
+     * Copia para o segmento ativo os registros do segmento que ainda são os mais recentes.
+     * Exclusões são mantidas apenas enquanto houver segmentos mais antigos com a tarefa.
+     */
+    private long copyForward(LogSegment segment) {
+        boolean olderExists = segments.firstKey() < segment.getId();
+        long[] copied = new long[1];
+        segment.recover(0, (offset, size, body) -> {
+            TaskRecords.Decoded record = TaskRecords.decode(body.duplicate());
+            writeLock.lock();
+            try {
+                if (record.type() == TaskRecords.PUT) {
+                    Slot slot = slots.get(record.id());
+                    if (slot != null && slot.segment() == segment && slot.offset() == offset) {
+                        Slot moved = append(body, slot.keys());
+                        moved.segment().liveBytes().addAndGet(moved.size());
+                        slots.put(record.id(), moved);
+                        release(slot);
+                        copied[0]++;
+                    }
+                } else if (olderExists && !slots.containsKey(record.id())) {
+                    append(body, null);
+                    copied[0]++;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        });
+        return copied[0];
+    }
+
+    private void recover() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                        name.length() - SEGMENT_SUFFIX.length())))
+                    .forEach(id -> segments.put(id, LogSegment.open(segmentPath(id), id, segmentSize)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir o log de tarefas em " + directory, e);
+        }
+        if (segments.isEmpty()) {
+            segments.put(1L, LogSegment.open(segmentPath(1), 1, segmentSize));
+        }
+
+        long[] resumeAt = readSnapshot();
+        int replayed = 0;
+        for (LogSegment segment : segments.values()) {
+            if (segment.getId() < resumeAt[0]) {
+                continue;
+            }
+            int from = segment.getId() == resumeAt[0] ? (int) resumeAt[1] : 0;
+            int[] count = new int[1];
+            boolean truncated = segment.recover(from, (offset, size, body) -> {
+                replay(segment, offset, size, body);
+                count[0]++;
+            });
+            if (truncated) {
+                log.warn("::: Log de tarefas: registro incompleto descartado em {}:{}",
+                    segment.getId(), segment.getPosition());
+            }
+            replayed += count[0];
+        }
+        slots.values().forEach(slot -> slot.segment().liveBytes().addAndGet(slot.size()));
+        active = segments.lastEntry().getValue();
+        log.info("::: Log de tarefas: {} tarefas em {} segmentos ({} registros relidos após o snapshot)",
+            slots.size(), segments.size(), replayed);
+    }
+
+    private void replay(LogSegment segment, int offset, int size, ByteBuffer body) {
+        TaskRecords.Decoded record = TaskRecords.decode(body);
+        Slot previous;
+        Task keys = null;
+        if (record.type() == TaskRecords.PUT) {
+            keys = keysOf(record.task());
+            previous = slots.put(record.id(), new Slot(segment, offset, size, keys));
+        } else {
+            previous = slots.remove(record.id());
+        }
+        indexes.reindex(record.id(), previous != null ? previous.keys() : null, keys);
+    }
+
+    /**
+     * Carrega o snapshot, se existir e for íntegro.
+     *
+     * @return {segmento, posição} a partir de onde o log deve ser relido
+     */
+    private long[] readSnapshot() {
+        Path path = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(path)) {
+            return new long[] { 0, 0 };
+        }
+        List<Slot> loaded = new ArrayList<>();
+        long segmentId;
+        int position;
+        try {
+            ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(path));
+            CRC32C crc = new CRC32C();
+            crc.update(data.slice(0, data.limit() - Integer.BYTES));
+            if (data.getInt() != SNAPSHOT_MAGIC || (int) crc.getValue() != data.getInt(data.limit() - Integer.BYTES)) {
+                log.warn("::: Log de tarefas: snapshot inválido, relendo o log completo");
+                return new long[] { 0, 0 };
+            }
+            segmentId = data.getLong();
+            position = data.getInt();
+            int count = data.getInt();
+            for (int i = 0; i < count; i++) {
+                LogSegment segment = segments.get(data.getLong());
+                int offset = data.getInt();
+                int size = data.getInt();
+                int keysLength = data.getInt();
+                ByteBuffer keys = data.slice(data.position(), keysLength);
+                data.position(data.position() + keysLength);
+                if (segment == null) {
+                    log.warn("::: Log de tarefas: snapshot aponta para um segmento removido, relendo o log completo");
+                    return new long[] { 0, 0 };
+                }
+                loaded.add(new Slot(segment, offset, size, TaskRecords.decode(keys).task()));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("::: Log de tarefas: falha ao ler o snapshot ({}), relendo o log completo", e.toString());
+            return new long[] { 0, 0 };
+        }
+        for (Slot slot : loaded) {
+            UUID id = UUID.fromString(slot.keys().getId());
+            slots.put(id, slot);
+            indexes.reindex(id, null, slot.keys());
+        }
+        return new long[] { segmentId, position };
+    }
+
+    private void writeSnapshot(long segmentId, int position, List<Map.Entry<UUID, Slot>> entries) {
+        List<ByteBuffer> keys = new ArrayList<>(entries.size());
+        int size = 3 * Integer.BYTES + Long.BYTES;
+        for (Map.Entry<UUID, Slot> entry : entries) {
+            ByteBuffer body = TaskRecords.put(entry.getValue().keys());
+            keys.add(body);
+            size += Long.BYTES + 3 * Integer.BYTES + body.remaining();
+        }
+        ByteBuffer data = ByteBuffer.allocate(size + Integer.BYTES)
+            .putInt(SNAPSHOT_MAGIC)
+            .putLong(segmentId)
+            .putInt(position)
+            .putInt(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            Slot slot = entries.get(i).getValue();
+            data.putLong(slot.segment().getId())
+                .putInt(slot.offset())
+                .putInt(slot.size())
+                .putInt(keys.get(i).remaining())
+                .put(keys.get(i));
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(data.duplicate().flip());
+        data.putInt((int) crc.getValue()).flip();
+
+        Path target = directory.resolve(SNAPSHOT_FILE);
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o snapshot do log de tarefas", e);
+        }
+        try {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o snapshot do log de tarefas", e);
+        }
+    }
+
+    private Task read(Slot slot) {
+        return TaskRecords.decode(slot.segment().read(slot.offset())).task();
+    }
+
+    private Task keys(UUID id) {
+        Slot slot = slots.get(id);
+        return slot != null ? slot.keys() : null;
+    }
+
+    private Stream<Task> resolve(Stream<UUID> ids) {
+        return ids.map(slots::get).filter(Objects::nonNull).map(this::read);
+    }
+
+    private void rebalanceIfNeeded(Task task) {
+        if (task.getTasklistId() != null && LexoRank.needsRebalance(task.getRank())) {
+            rebalance(UUID.fromString(task.getTasklistId()));
+        }
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Chaves mantidas em memória: a tarefa sem a descrição.
+     */
+    private static Task keysOf(Task task) {
+        return task.toBuilder().description(null).build();
+    }
+}
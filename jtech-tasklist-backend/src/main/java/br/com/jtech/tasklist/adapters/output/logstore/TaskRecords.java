@@ -0,0 +1,139 @@
+/*
+*  @(#)TaskRecords.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.logstore;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+* Formato binário dos registros do log de tarefas.
+*
+* Registro: [int tamanho do corpo][int CRC32C do corpo][corpo]. Tamanho zero marca o
+* fim dos dados do segmento.
+* Corpo: [byte tipo][long, long id] e, para {@link #PUT}: título, descrição, status,
+* lista e chave de ordenação (int tamanho em bytes UTF-8, -1 para nulo) seguidos de
+* created_at e updated_at (long segundos UTC + int nanos; Long.MIN_VALUE para nulo).
+*
+* @author JTech
+*/
+final class TaskRecords {
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+    static final int HEADER_BYTES = 8;
+
+    private static final int NULL_LENGTH = -1;
+    private static final int TIMESTAMP_BYTES = Long.BYTES + Integer.BYTES;
+
+    record Decoded(byte type, UUID id, Task task) {
+    }
+
+    private TaskRecords() {
+    }
+
+    static ByteBuffer put(Task task) {
+        byte[][] strings = {
+            utf8(task.getTitle()),
+            utf8(task.getDescription()),
+            utf8(task.getStatus()),
+            utf8(task.getTasklistId()),
+            utf8(task.getRank())
+        };
+        int size = 1 + 2 * Long.BYTES + 2 * TIMESTAMP_BYTES;
+        for (byte[] string : strings) {
+            size += Integer.BYTES + (string != null ? string.length : 0);
+        }
+        UUID id = UUID.fromString(task.getId());
+        ByteBuffer body = ByteBuffer.allocate(size)
+            .put(PUT)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits());
+        for (byte[] string : strings) {
+            if (string == null) {
+                body.putInt(NULL_LENGTH);
+            } else {
+                body.putInt(string.length).put(string);
+            }
+        }
+        putTimestamp(body, task.getCreatedAt());
+        putTimestamp(body, task.getUpdatedAt());
+        return body.flip();
+    }
+
+    static ByteBuffer delete(UUID id) {
+        return ByteBuffer.allocate(1 + 2 * Long.BYTES)
+            .put(DELETE)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .flip();
+    }
+
+    static Decoded decode(ByteBuffer body) {
+        byte type = body.get();
+        UUID id = new UUID(body.getLong(), body.getLong());
+        if (type == DELETE) {
+            return new Decoded(type, id, null);
+        }
+        Task task = Task.builder()
+            .id(id.toString())
+            .title(getString(body))
+            .description(getString(body))
+            .status(getString(body))
+            .tasklistId(getString(body))
+            .rank(getString(body))
+            .createdAt(getTimestamp(body))
+            .updatedAt(getTimestamp(body))
+            .build();
+        return new Decoded(type, id, task);
+    }
+
+    static int checksum(ByteBuffer body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static String getString(ByteBuffer body) {
+        int length = body.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putTimestamp(ByteBuffer body, LocalDateTime value) {
+        if (value == null) {
+            body.putLong(Long.MIN_VALUE).putInt(0);
+        } else {
+            body.putLong(value.toEpochSecond(ZoneOffset.UTC)).putInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime getTimestamp(ByteBuffer body) {
+        long seconds = body.getLong();
+        int nanos = body.getInt();
+        return seconds == Long.MIN_VALUE ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,278 @@
+/*
+*  @(#)InMemoryTaskAdapter.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.memory;
+
+import br.com.jtech.tasklist.adapters.output.outbox.TaskEventOutbox;
+import br.com.jtech.tasklist.application.core.domains.Ids;
+import br.com.jtech.tasklist.application.core.domains.LexoRank;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskCount;
+import br.com.jtech.tasklist.application.core.domains.TaskField;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+* Implementação em memória do {@link TaskOutputGateway} (perfil {@code memory}),
+* para nós de borda sem banco de tarefas e para testes.
+*
+* - As tarefas ficam em um {@link ConcurrentHashMap} por UUID; leituras não bloqueiam.
+* - Cada escrita é atômica por tarefa ({@code compute}), incluindo a atualização dos
+*   índices secundários em {@link TaskIndexes}: título normalizado, status,
+*   created_at e (lista, chave de ordenação).
+* - Anexar ao final de uma lista (ler a maior chave e gravar) e rebalancear são
+*   serializados por lista, com um lock escolhido pelo hash do ID da lista.
+* - Buscas por título, status, intervalo de criação e vizinhos na ordenação custam
+*   O(log n) até o primeiro resultado; consultas com filtro de status ou de criação
+*   partem do índice correspondente em vez da leitura completa.
+*
+* Os dados não sobrevivem a um restart. Listas de tarefas continuam no DataSource
+* configurado.
+*
+* @author JTech
+*/
+@Component
+@Primary
+@Profile("memory")
+public class InMemoryTaskAdapter implements TaskOutputGateway {
+
+    private static final int RANK_LOCKS = 64;
+
+    private final ConcurrentHashMap<UUID, Task> tasks = new ConcurrentHashMap<>();
+    private final TaskIndexes indexes = new TaskIndexes();
+    private final ReentrantLock[] rankLocks = new ReentrantLock[RANK_LOCKS];
+
+    private final DataVersion dataVersion;
+    private final TaskEventOutbox eventOutbox;
+
+    public InMemoryTaskAdapter(DataVersion dataVersion, TaskEventOutbox eventOutbox) {
+        this.dataVersion = dataVersion;
+        this.eventOutbox = eventOutbox;
+        for (int i = 0; i < RANK_LOCKS; i++) {
+            rankLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Task save(Task task) {
+        UUID id = task.getId() != null && !task.getId().isEmpty() ? UUID.fromString(task.getId()) : UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        Task toSave = task.toBuilder().id(id.toString()).createdAt(now).updatedAt(now).build();
+        if (toSave.getTasklistId() == null) {
+            Task saved = write(id, current -> toSave);
+            eventOutbox.record(TaskEventOutbox.CREATED, saved);
+            return saved;
+        }
+        UUID tasklistId = UUID.fromString(toSave.getTasklistId());
+        ReentrantLock lock = rankLock(tasklistId);
+        Task saved;
+        lock.lock();
+        try {
+            // Tarefas criadas em uma lista sem chave definida são anexadas ao final
+            if (toSave.getRank() == null) {
+                toSave.setRank(LexoRank.after(indexes.maxRank(tasklistId).orElse(null)));
+            }
+            saved = write(id, current -> toSave);
+            rebalanceIfNeeded(saved);
+        } finally {
+            lock.unlock();
+        }
+        eventOutbox.record(TaskEventOutbox.CREATED, saved);
+        return saved;
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return resolve(indexes.byCreation(tasks::get)).toList();
+    }
+
+    /**
+     * Parte do índice de status ou de created_at quando a consulta filtra por eles;
+     * os demais filtros, a ordenação e o limite são aplicados sobre os candidatos.
+     */
+    @Override
+    public List<Task> findAll(TaskQuery query, Set<TaskField> fields) {
+        return query.apply(candidates(query));
+    }
+
+    @Override
+    public TaskCount count(TaskQuery query, boolean exact) {
+        return TaskCount.exact(query.count(candidates(query)));
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        UUID uuid = Ids.parseUuid(id);
+        if (uuid == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(tasks.get(uuid)).map(Task::copy);
+    }
+
+    @Override
+    public Task update(Task task) {
+        LocalDateTime now = LocalDateTime.now();
+        Task updated = write(UUID.fromString(task.getId()), current -> task.toBuilder()
+            .createdAt(current != null ? current.getCreatedAt() : now)
+            .updatedAt(now)
+            .build());
+        eventOutbox.record(TaskEventOutbox.UPDATED, updated);
+        return updated;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        UUID uuid = Ids.parseUuid(id);
+        if (uuid == null) {
+            // ID inválido, não faz nada
+            return;
+        }
+        if (tasks.containsKey(uuid)) {
+            write(uuid, current -> null);
+            eventOutbox.recordDeleted(id);
+        }
+    }
+
+    @Override
+    public Optional<Task> findByTitleIgnoreCase(String title) {
+        return resolve(indexes.byTitle(title, tasks::get)).findFirst();
+    }
+
+    @Override
+    public List<Task> findByTasklistId(String tasklistId) {
+        return resolve(indexes.byRank(UUID.fromString(tasklistId))).toList();
+    }
+
+    @Override
+    public Optional<String> findNextRank(String tasklistId, String rank, String excludedId) {
+        return indexes.nextRank(UUID.fromString(tasklistId), rank, UUID.fromString(excludedId));
+    }
+
+    @Override
+    public Optional<String> findPreviousRank(String tasklistId, String rank, String excludedId) {
+        return indexes.previousRank(UUID.fromString(tasklistId), rank, UUID.fromString(excludedId));
+    }
+
+    @Override
+    public Optional<Task> updateRank(String id, String rank) {
+        UUID uuid = UUID.fromString(id);
+        if (!tasks.containsKey(uuid)) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Task moved = write(uuid, current -> current == null ? null
+            : current.toBuilder().rank(rank).updatedAt(now).build());
+        if (moved == null) {
+            return Optional.empty();
+        }
+        if (moved.getTasklistId() != null) {
+            ReentrantLock lock = rankLock(UUID.fromString(moved.getTasklistId()));
+            lock.lock();
+            try {
+                rebalanceIfNeeded(moved);
+            } finally {
+                lock.unlock();
+            }
+        }
+        eventOutbox.record(TaskEventOutbox.MOVED, moved);
+        return Optional.of(moved);
+    }
+
+    /**
+     * Tarefas com o status informado, em ordem de ID.
+     */
+    public List<Task> findByStatus(String status) {
+        return resolve(indexes.byStatus(status, tasks::get)).toList();
+    }
+
+    /**
+     * Tarefas criadas em [from, to), em ordem de criação.
+     */
+    public List<Task> findCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return resolve(indexes.createdBetween(from, to, tasks::get)).toList();
+    }
+
+    /**
+     * Regrava as chaves de ordenação da lista com espaçamento uniforme, preservando a ordem.
+     * Deve ser chamado com o lock da lista, para não intercalar com um append.
+     */
+    void rebalance(UUID tasklistId) {
+        List<UUID> ids = indexes.byRank(tasklistId).toList();
+        List<String> ranks = LexoRank.spread(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            String rank = ranks.get(i);
+            write(ids.get(i), current -> current == null || !tasklistId.toString().equals(current.getTasklistId())
+                ? current
+                : current.toBuilder().rank(rank).build());
+        }
+    }
+
+    /**
+     * Aplica a alteração de forma atômica para o ID (retornar null remove a tarefa)
+     * e atualiza os índices. Retorna uma cópia do valor gravado.
+     */
+    private Task write(UUID id, UnaryOperator<Task> change) {
+        Task stored = tasks.compute(id, (key, current) -> {
+            Task next = change.apply(current);
+            next = next != null ? next.copy() : null;
+            indexes.reindex(key, current, next);
+            return next;
+        });
+        dataVersion.bump();
+        return stored != null ? stored.copy() : null;
+    }
+
+    private void rebalanceIfNeeded(Task task) {
+        if (task.getTasklistId() != null && LexoRank.needsRebalance(task.getRank())) {
+            rebalance(UUID.fromString(task.getTasklistId()));
+        }
+    }
+
+    private ReentrantLock rankLock(UUID tasklistId) {
+        return rankLocks[Math.floorMod(tasklistId.hashCode(), RANK_LOCKS)];
+    }
+
+    /**
+     * Tarefas que podem atender à consulta: as do status pedido, as criadas no
+     * intervalo ou, sem nenhum dos dois filtros, todas.
+     */
+    private List<Task> candidates(TaskQuery query) {
+        if (query.status() != null) {
+            return resolve(indexes.byStatus(query.status(), tasks::get)).toList();
+        }
+        if (query.hasCreatedRange()) {
+            LocalDateTime from = query.createdFrom() != null ? query.createdFrom() : LocalDateTime.MIN;
+            LocalDateTime to = query.createdTo() != null ? query.createdTo() : LocalDateTime.MAX;
+            return resolve(indexes.createdBetween(from, to, tasks::get)).toList();
+        }
+        return findAll();
+    }
+
+    private Stream<Task> resolve(Stream<UUID> ids) {
+        return ids.map(tasks::get).filter(Objects::nonNull).map(Task::copy);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+*  @(#)OrderedIndex.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.memory;
+
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+* Índice secundário ordenado (chave, id) sobre um {@link ConcurrentSkipListSet},
+* usado por {@link TaskIndexes}. Leituras não bloqueiam e percorrem uma visão
+* fracamente consistente; por isso quem lê deve conferir a chave no valor atual.
+*
+* @author JTech
+*/
+final class OrderedIndex<K> {
+
+    static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    static final UUID MAX_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    record Entry<K>(K key, UUID id) {
+    }
+
+    private final ConcurrentSkipListSet<Entry<K>> entries;
+
+    OrderedIndex(Comparator<? super K> keyOrder) {
+        this.entries = new ConcurrentSkipListSet<>(
+            Comparator.comparing((Entry<K> entry) -> entry.key(), keyOrder).thenComparing(Entry::id));
+    }
+
+    /**
+     * Troca a entrada da tarefa quando a chave muda. A nova entrada é incluída antes
+     * da remoção da antiga, para que uma varredura concorrente não perca a tarefa.
+     */
+    void move(K previous, K current, UUID id) {
+        if (previous != null && previous.equals(current)) {
+            return;
+        }
+        if (current != null) {
+            entries.add(new Entry<>(current, id));
+        }
+        if (previous != null) {
+            entries.remove(new Entry<>(previous, id));
+        }
+    }
+
+    /**
+     * Entradas com exatamente a chave informada, em O(log n) até a primeira.
+     */
+    Stream<Entry<K>> equalTo(K key) {
+        return entries.subSet(new Entry<>(key, MIN_ID), true, new Entry<>(key, MAX_ID), true).stream();
+    }
+
+    /**
+     * Entradas com chave em [from, to), em ordem crescente de chave.
+     */
+    Stream<Entry<K>> range(K from, K to) {
+        return entries.subSet(new Entry<>(from, MIN_ID), true, new Entry<>(to, MIN_ID), false).stream();
+    }
+
+    Stream<Entry<K>> ascending() {
+        return entries.stream();
+    }
+
+    /**
+     * Entradas com chave estritamente maior que {@code key}, em ordem crescente.
+     */
+    NavigableSet<Entry<K>> after(K key) {
+        return entries.tailSet(new Entry<>(key, MAX_ID), false);
+    }
+
+    /**
+     * Entradas com chave estritamente menor que {@code key}, em ordem decrescente.
+     */
+    NavigableSet<Entry<K>> before(K key) {
+        return entries.headSet(new Entry<>(key, MIN_ID), false).descendingSet();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+*  @(#)TaskIndexes.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.memory;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+* Índices secundários das tarefas em memória: título normalizado, status,
+* created_at e (lista, chave de ordenação), cada um em um {@link OrderedIndex}.
+*
+* Quem escreve chama {@link #reindex} com o valor anterior e o novo da tarefa,
+* serializado por ID. As buscas recebem o acesso ao valor atual ({@code lookup})
+* e descartam as entradas cuja chave não confere mais com ele.
+*
+* @author JTech
+*/
+public final class TaskIndexes {
+
+    private record RankKey(UUID tasklistId, String rank) {
+    }
+
+    /**
+     * Ordena por lista e chave; a chave nula (não indexada) serve de limite superior da lista.
+     */
+    private static final Comparator<RankKey> RANK_ORDER = Comparator.comparing(RankKey::tasklistId)
+        .thenComparing(RankKey::rank, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final OrderedIndex<String> byTitle = new OrderedIndex<>(Comparator.naturalOrder());
+    private final OrderedIndex<String> byStatus = new OrderedIndex<>(Comparator.naturalOrder());
+    private final OrderedIndex<LocalDateTime> byCreatedAt = new OrderedIndex<>(Comparator.naturalOrder());
+    private final OrderedIndex<RankKey> byRank = new OrderedIndex<>(RANK_ORDER);
+
+    /**
+     * Atualiza os índices da tarefa {@code id}; {@code previous} ou {@code current}
+     * nulos indicam inclusão ou remoção.
+     */
+    public void reindex(UUID id, Task previous, Task current) {
+        reindex(byTitle, TaskIndexes::normalizedTitle, id, previous, current);
+        reindex(byStatus, Task::getStatus, id, previous, current);
+        reindex(byCreatedAt, Task::getCreatedAt, id, previous, current);
+        reindex(byRank, TaskIndexes::rankKey, id, previous, current);
+    }
+
+    /**
+     * IDs com o título informado, comparado como LOWER(TRIM(title)).
+     */
+    public Stream<UUID> byTitle(String title, Function<UUID, Task> lookup) {
+        return valid(byTitle.equalTo(normalize(title)), TaskIndexes::normalizedTitle, lookup);
+    }
+
+    /**
+     * IDs com o status informado, em ordem de ID.
+     */
+    public Stream<UUID> byStatus(String status, Function<UUID, Task> lookup) {
+        return valid(byStatus.equalTo(status), Task::getStatus, lookup);
+    }
+
+    /**
+     * Todos os IDs, em ordem de criação.
+     */
+    public Stream<UUID> byCreation(Function<UUID, Task> lookup) {
+        return valid(byCreatedAt.ascending(), Task::getCreatedAt, lookup);
+    }
+
+    /**
+     * IDs criados em [from, to), em ordem de criação.
+     */
+    public Stream<UUID> createdBetween(LocalDateTime from, LocalDateTime to, Function<UUID, Task> lookup) {
+        return valid(byCreatedAt.range(from, to), Task::getCreatedAt, lookup);
+    }
+
+    /**
+     * IDs das tarefas da lista, na ordem das chaves.
+     */
+    public Stream<UUID> byRank(UUID tasklistId) {
+        return byRank.after(new RankKey(tasklistId, "")).stream()
+            .takeWhile(entry -> entry.key().tasklistId().equals(tasklistId))
+            .map(OrderedIndex.Entry::id);
+    }
+
+    public Optional<String> maxRank(UUID tasklistId) {
+        return ranks(byRank.before(new RankKey(tasklistId, null)).stream(), tasklistId, null);
+    }
+
+    public Optional<String> nextRank(UUID tasklistId, String rank, UUID excludedId) {
+        return ranks(byRank.after(new RankKey(tasklistId, rank)).stream(), tasklistId, excludedId);
+    }
+
+    public Optional<String> previousRank(UUID tasklistId, String rank, UUID excludedId) {
+        return ranks(byRank.before(new RankKey(tasklistId, rank)).stream(), tasklistId, excludedId);
+    }
+
+    /**
+     * Mesma normalização da consulta JPA: LOWER(TRIM(title)).
+     */
+    public static String normalize(String title) {
+        return title != null ? title.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static Optional<String> ranks(Stream<OrderedIndex.Entry<RankKey>> entries, UUID tasklistId,
+                                          UUID excludedId) {
+        return entries
+            .takeWhile(entry -> entry.key().tasklistId().equals(tasklistId))
+            .filter(entry -> !entry.id().equals(excludedId))
+            .map(entry -> entry.key().rank())
+            .findFirst();
+    }
+
+    private static <K> Stream<UUID> valid(Stream<OrderedIndex.Entry<K>> entries, Function<Task, K> extractor,
+                                          Function<UUID, Task> lookup) {
+        return entries
+            .filter(entry -> {
+                Task task = lookup.apply(entry.id());
+                return task != null && Objects.equals(extractor.apply(task), entry.key());
+            })
+            .map(OrderedIndex.Entry::id);
+    }
+
+    private static <K> void reindex(OrderedIndex<K> index, Function<Task, K> extractor,
+                                    UUID id, Task previous, Task current) {
+        index.move(previous != null ? extractor.apply(previous) : null,
+            current != null ? extractor.apply(current) : null, id);
+    }
+
+    private static String normalizedTitle(Task task) {
+        return normalize(task.getTitle());
+    }
+
+    private static RankKey rankKey(Task task) {
+        return task.getTasklistId() != null && task.getRank() != null
+            ? new RankKey(UUID.fromString(task.getTasklistId()), task.getRank())
+            : null;
+    }
+}
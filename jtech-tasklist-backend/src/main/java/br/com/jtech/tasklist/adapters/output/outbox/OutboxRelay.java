@@ -0,0 +1,213 @@
+/*
+*  @(#)OutboxRelay.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.outbox;
+
+import br.com.jtech.tasklist.adapters.output.repositories.OutboxEventRepository;
+import br.com.jtech.tasklist.adapters.output.repositories.entities.OutboxEventEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+* Relay do outbox: lê os eventos pendentes e os entrega aos webhooks.
+*
+* A cada ciclo, uma transação curta bloqueia até {@code claimSize} eventos vencidos
+* com FOR UPDATE SKIP LOCKED e adia a próxima tentativa deles pelo prazo de
+* {@code lease}; assim várias instâncias dividem o trabalho sem entregas duplicadas
+* e sem manter a transação aberta durante o HTTP. Os eventos são agrupados por
+* assinante em lotes de {@code batchSize}, enviados em paralelo (respeitando o
+* limite por endpoint do {@link WebhookDispatcher}).
+*
+* Falhas voltam para PENDING com backoff exponencial com jitter; após
+* {@code maxAttempts} tentativas o evento vai para DEAD (dead letter) e permanece
+* na tabela. A entrega é pelo menos uma vez e sem ordem garantida entre lotes:
+* receptores devem usar o id e o occurredAt do evento.
+*
+* Métricas: tasklist.outbox.deliveries{subscriber, result=delivered|retry|dead}.
+*
+* @author JTech
+*/
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final WebhookDispatcher dispatcher;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, WebhookSubscriber> subscribers;
+    private final int claimSize;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public OutboxRelay(OutboxEventRepository repository,
+                       PlatformTransactionManager transactionManager,
+                       WebhookDispatcher dispatcher,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.subscribers:}") String subscribers,
+                       @Value("${outbox.claim-size:500}") int claimSize,
+                       @Value("${outbox.batch-size:50}") int batchSize,
+                       @Value("${outbox.lease:60s}") Duration lease,
+                       @Value("${outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.initial-backoff:1s}") Duration initialBackoff,
+                       @Value("${outbox.max-backoff:10m}") Duration maxBackoff,
+                       @Value("${outbox.retention:7d}") Duration retention) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dispatcher = dispatcher;
+        this.meterRegistry = meterRegistry;
+        this.subscribers = WebhookSubscriber.parse(subscribers).stream()
+            .collect(Collectors.toMap(WebhookSubscriber::name, Function.identity()));
+        this.claimSize = claimSize;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void relay() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        List<OutboxEventEntity> claimed;
+        do {
+            claimed = claim();
+            dispatch(claimed);
+        } while (claimed.size() == claimSize);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval-ms:3600000}")
+    public void deleteDelivered() {
+        int deleted = repository.deleteDeliveredBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.debug("{} eventos do outbox entregues removidos", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Atraso até a próxima tentativa: exponencial a partir de {@code initial},
+     * limitado a {@code max}, com jitter entre metade e o valor cheio.
+     */
+    static Duration backoff(int attempts, Duration initial, Duration max) {
+        long exponential = initial.toMillis() << Math.min(Math.max(attempts - 1, 0), 30);
+        long capped = Math.min(exponential, max.toMillis());
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    private List<OutboxEventEntity> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<UUID> ids = repository.lockDueIds(now, claimSize);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            repository.lease(ids, now.plus(lease));
+            return repository.findAllById(ids);
+        });
+    }
+
+    private void dispatch(List<OutboxEventEntity> events) {
+        Map<String, List<OutboxEventEntity>> bySubscriber = events.stream()
+            .sorted(Comparator.comparing(OutboxEventEntity::getCreatedAt))
+            .collect(Collectors.groupingBy(OutboxEventEntity::getSubscriber, LinkedHashMap::new, Collectors.toList()));
+
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+        bySubscriber.forEach((name, subscriberEvents) -> {
+            WebhookSubscriber subscriber = subscribers.get(name);
+            for (int start = 0; start < subscriberEvents.size(); start += batchSize) {
+                List<OutboxEventEntity> batch =
+                    subscriberEvents.subList(start, Math.min(start + batchSize, subscriberEvents.size()));
+                deliveries.add(CompletableFuture.runAsync(() -> deliver(name, subscriber, batch), executor));
+            }
+        });
+        CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void deliver(String name, WebhookSubscriber subscriber, List<OutboxEventEntity> batch) {
+        try {
+            WebhookDispatcher.Delivery delivery = subscriber != null
+                ? dispatcher.send(subscriber, batch.stream().map(OutboxEventEntity::getPayload).toList())
+                : WebhookDispatcher.Delivery.failed("Assinante '" + name + "' não está mais configurado");
+            if (delivery.delivered()) {
+                repository.markDelivered(batch.stream().map(OutboxEventEntity::getId).toList(), LocalDateTime.now());
+                count(name, "delivered", batch.size());
+                return;
+            }
+            recordFailure(name, batch, subscriber == null, delivery.error());
+        } catch (RuntimeException e) {
+            // O prazo (lease) expira e o lote volta a ser reivindicado no próximo ciclo
+            log.warn("Falha ao registrar a entrega do outbox para '{}': {}", name, e.getMessage());
+        }
+    }
+
+    private void recordFailure(String name, List<OutboxEventEntity> batch, boolean permanent, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        LocalDateTime now = LocalDateTime.now();
+        int dead = 0;
+        for (OutboxEventEntity event : batch) {
+            int attempts = event.getAttempts() + 1;
+            if (permanent || attempts >= maxAttempts) {
+                repository.recordFailure(event.getId(), OutboxEventEntity.DEAD, attempts, now, lastError);
+                dead++;
+            } else {
+                LocalDateTime next = now.plus(backoff(attempts, initialBackoff, maxBackoff));
+                repository.recordFailure(event.getId(), OutboxEventEntity.PENDING, attempts, next, lastError);
+            }
+        }
+        count(name, "retry", batch.size() - dead);
+        count(name, "dead", dead);
+        log.warn("Entrega de {} eventos para '{}' falhou ({} em dead letter): {}", batch.size(), name, dead, lastError);
+    }
+
+    private void count(String subscriber, String result, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("tasklist.outbox.deliveries", "subscriber", subscriber, "result", result)
+                .increment(amount);
+        }
+    }
+}
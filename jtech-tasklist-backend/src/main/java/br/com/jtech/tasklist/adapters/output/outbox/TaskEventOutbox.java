@@ -0,0 +1,132 @@
+/*
+*  @(#)TaskEventOutbox.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.outbox;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.config.infra.utils.Jsons;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+* Grava os eventos de alteração de tarefas no outbox, uma linha por assinante.
+* Deve ser chamado dentro da transação da escrita da tarefa: o evento só existe
+* se a escrita for confirmada, e nenhuma escrita confirmada fica sem evento.
+* Sem assinantes configurados, nada é gravado.
+*
+* @author JTech
+*/
+@Component
+public class TaskEventOutbox {
+
+    public static final String CREATED = "task.created";
+    public static final String UPDATED = "task.updated";
+    public static final String DELETED = "task.deleted";
+    public static final String MOVED = "task.moved";
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_EVENT =
+        "INSERT INTO outbox_events (id, subscriber, event_type, aggregate_id, payload, status, attempts, "
+            + "next_attempt_at, created_at) VALUES (?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+
+    /**
+     * Corpo de cada evento. O {@code id} é o mesmo para todos os assinantes e
+     * permite ao receptor descartar entregas repetidas.
+     */
+    public record TaskChangeEvent(String id, String type, String taskId, LocalDateTime occurredAt, Task task) {
+    }
+
+    /**
+     * Linha do outbox: o evento já serializado, endereçado a um assinante.
+     */
+    public record Row(UUID id, String subscriber, TaskChangeEvent event, String payload) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<String> subscribers;
+
+    public TaskEventOutbox(JdbcTemplate jdbcTemplate, @Value("${outbox.subscribers:}") String subscribers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.subscribers = WebhookSubscriber.parse(subscribers).stream().map(WebhookSubscriber::name).toList();
+    }
+
+    public void record(String type, Task task) {
+        recordAll(type, List.of(task));
+    }
+
+    public void recordDeleted(String taskId) {
+        insert(deletedRows(taskId));
+    }
+
+    public void recordAll(String type, List<Task> tasks) {
+        insert(rows(type, tasks));
+    }
+
+    /**
+     * Monta as linhas dos eventos sem gravá-las, para adapters que escrevem o outbox
+     * pela própria conexão (ex.: R2DBC). Sem assinantes, a lista é vazia.
+     */
+    public List<Row> rows(String type, List<Task> tasks) {
+        if (subscribers.isEmpty() || tasks.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskChangeEvent> events = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            events.add(event(type, task.getId(), task, now));
+        }
+        return rows(events);
+    }
+
+    public List<Row> deletedRows(String taskId) {
+        if (subscribers.isEmpty()) {
+            return List.of();
+        }
+        return rows(List.of(event(DELETED, taskId, null, LocalDateTime.now())));
+    }
+
+    private static TaskChangeEvent event(String type, String taskId, Task task, LocalDateTime now) {
+        return new TaskChangeEvent(UUID.randomUUID().toString(), type, taskId, now, task);
+    }
+
+    private List<Row> rows(List<TaskChangeEvent> events) {
+        List<Row> rows = new ArrayList<>(events.size() * subscribers.size());
+        for (TaskChangeEvent event : events) {
+            String payload = Jsons.toJsonString(event);
+            for (String subscriber : subscribers) {
+                rows.add(new Row(UUID.randomUUID(), subscriber, event, payload));
+            }
+        }
+        return rows;
+    }
+
+    private void insert(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setObject(1, row.id());
+            ps.setString(2, row.subscriber());
+            ps.setString(3, row.event().type());
+            ps.setObject(4, UUID.fromString(row.event().taskId()));
+            ps.setString(5, row.payload());
+            ps.setObject(6, row.event().occurredAt());
+            ps.setObject(7, row.event().occurredAt());
+        });
+    }
+}
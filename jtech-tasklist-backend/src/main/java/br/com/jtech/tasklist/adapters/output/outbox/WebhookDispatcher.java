@@ -0,0 +1,104 @@
+/*
+*  @(#)WebhookDispatcher.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+* Envia lotes de eventos aos webhooks: um POST com o array JSON dos eventos.
+* Cada assinante tem um limite próprio de requisições simultâneas, para que um
+* endpoint lento não seja sobrecarregado nem ocupe todas as entregas.
+*
+* Qualquer resposta 2xx confirma o lote inteiro; demais status, timeouts e erros
+* de conexão são devolvidos como falha para nova tentativa.
+*
+* @author JTech
+*/
+@Component
+public class WebhookDispatcher {
+
+    public static final String BATCH_SIZE_HEADER = "X-Webhook-Batch-Size";
+
+    /**
+     * Resultado da entrega de um lote. {@code error} é nulo quando entregue.
+     */
+    public record Delivery(boolean delivered, String error) {
+
+        static final Delivery OK = new Delivery(true, null);
+
+        static Delivery failed(String error) {
+            return new Delivery(false, error);
+        }
+    }
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final int maxConcurrencyPerEndpoint;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    public WebhookDispatcher(@Value("${outbox.connect-timeout:2s}") Duration connectTimeout,
+                             @Value("${outbox.request-timeout:5s}") Duration requestTimeout,
+                             @Value("${outbox.max-concurrency-per-endpoint:4}") int maxConcurrencyPerEndpoint) {
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(connectTimeout)
+            .build();
+        this.requestTimeout = requestTimeout;
+        this.maxConcurrencyPerEndpoint = maxConcurrencyPerEndpoint;
+    }
+
+    /**
+     * Envia o lote, aguardando uma vaga do assinante se o limite estiver ocupado.
+     *
+     * @param payloads Eventos já serializados em JSON
+     */
+    public Delivery send(WebhookSubscriber subscriber, List<String> payloads) {
+        Semaphore semaphore = permits.computeIfAbsent(subscriber.name(), name -> new Semaphore(maxConcurrencyPerEndpoint));
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Delivery.failed("Entrega interrompida");
+        }
+        try {
+            HttpRequest request = HttpRequest.newBuilder(subscriber.url())
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header(BATCH_SIZE_HEADER, Integer.toString(payloads.size()))
+                .POST(HttpRequest.BodyPublishers.ofString("[" + String.join(",", payloads) + "]"))
+                .build();
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300 ? Delivery.OK : Delivery.failed("HTTP " + status);
+        } catch (IOException e) {
+            return Delivery.failed(e.getMessage() != null
+                ? e.getClass().getSimpleName() + ": " + e.getMessage()
+                : e.getClass().getSimpleName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Delivery.failed("Entrega interrompida");
+        } finally {
+            semaphore.release();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+*  @(#)WebhookSubscriber.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.outbox;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+* Assinante dos eventos de tarefas: nome (gravado em cada linha do outbox) e URL
+* que recebe os lotes via POST.
+*
+* @author JTech
+*/
+public record WebhookSubscriber(String name, URI url) {
+
+    /**
+     * Lê a lista no formato {@code nome=url,nome2=url2}. Valor vazio = nenhum assinante.
+     *
+     * @throws IllegalArgumentException se alguma entrada não estiver no formato
+     */
+    public static List<WebhookSubscriber> parse(String value) {
+        List<WebhookSubscriber> subscribers = new ArrayList<>();
+        if (value == null || value.isBlank()) {
+            return subscribers;
+        }
+        for (String raw : value.split(",")) {
+            String entry = raw.trim();
+            int separator = entry.indexOf('=');
+            if (separator <= 0 || separator == entry.length() - 1) {
+                throw new IllegalArgumentException("Assinante de webhook inválido (use nome=url): '" + entry + "'");
+            }
+            subscribers.add(new WebhookSubscriber(
+                entry.substring(0, separator).trim(),
+                URI.create(entry.substring(separator + 1).trim())));
+        }
+        return subscribers;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+*  @(#)TaskCounter.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.query;
+
+import br.com.jtech.tasklist.application.core.domains.TaskCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+* Total das consultas filtradas de tarefas (X-Total-Count) sem um COUNT(*) sobre
+* a tabela inteira.
+*
+* As linhas são contadas até {@code exactThreshold + 1}: até o limiar o total é
+* exato e o custo é limitado. Acima dele, no PostgreSQL, o total é a estimativa do
+* planejador ({@code EXPLAIN}, a partir das estatísticas de pg_class/pg_stats), que
+* acompanha o ANALYZE/autovacuum; em outros bancos a contagem segue exata. Pedir a
+* contagem exata ({@code exact = true}) sempre executa o COUNT(*) completo.
+*
+* @author JTech
+*/
+@Slf4j
+@Component
+public class TaskCounter {
+
+    /**
+     * Linhas estimadas do nó raiz, o primeiro "Plan Rows" de EXPLAIN (FORMAT JSON).
+     */
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\"\\s*:\\s*([0-9.eE+]+)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long exactThreshold;
+    private volatile Boolean postgres;
+
+    public TaskCounter(JdbcTemplate jdbcTemplate,
+                       @Value("${task-query.exact-count-threshold:1000}") long exactThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exactThreshold = exactThreshold;
+    }
+
+    /**
+     * Conta as linhas que atendem aos filtros do plano, ignorando ordenação e limite.
+     *
+     * @param plan Plano da consulta
+     * @param exact true para contar todas as linhas, mesmo acima do limiar
+     * @return Total exato ou estimado
+     */
+    public TaskCount count(TaskQueryPlanner.Plan plan, boolean exact) {
+        if (exact || !isPostgres()) {
+            return TaskCount.exact(queryForLong("SELECT COUNT(*) FROM tasks" + plan.where(), plan.whereParameters()));
+        }
+        Object[] parameters = Arrays.copyOf(plan.whereParameters(), plan.whereParameters().length + 1);
+        parameters[plan.whereParameters().length] = exactThreshold + 1;
+        long counted = queryForLong("SELECT COUNT(*) FROM (SELECT 1 FROM tasks" + plan.where() + " LIMIT ?) t",
+            parameters);
+        if (counted <= exactThreshold) {
+            return TaskCount.exact(counted);
+        }
+        String explain = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) SELECT 1 FROM tasks" + plan.where(),
+            String.class, plan.whereParameters());
+        // As linhas já contadas são um piso seguro para estatísticas desatualizadas
+        return TaskCount.estimated(Math.max(counted, planRows(explain)));
+    }
+
+    /**
+     * Extrai a estimativa de linhas do nó raiz do plano (0 se ausente).
+     */
+    static long planRows(String explainJson) {
+        Matcher matcher = explainJson != null ? PLAN_ROWS.matcher(explainJson) : null;
+        return matcher != null && matcher.find() ? (long) Double.parseDouble(matcher.group(1)) : 0;
+    }
+
+    private long queryForLong(String sql, Object[] parameters) {
+        Long value = jdbcTemplate.queryForObject(sql, Long.class, parameters);
+        return value != null ? value : 0;
+    }
+
+    private boolean isPostgres() {
+        Boolean detected = postgres;
+        if (detected == null) {
+            try {
+                detected = "PostgreSQL".equals(JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName));
+            } catch (MetaDataAccessException e) {
+                log.warn("::: Banco não identificado, X-Total-Count será sempre exato: {}", e.getMessage());
+                detected = false;
+            }
+            postgres = detected;
+        }
+        return detected;
+    }
+}
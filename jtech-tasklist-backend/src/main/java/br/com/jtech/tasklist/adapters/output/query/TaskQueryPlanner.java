@@ -0,0 +1,209 @@
+/*
+*  @(#)TaskQueryPlanner.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.query;
+
+import br.com.jtech.tasklist.application.core.domains.DomainError;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+* Planejador das consultas filtradas de tarefas na tabela tasks: escolhe o índice
+* que atende à combinação de filtros e ordenação e gera o SQL correspondente.
+*
+* Combinações com índice (a ordenação percorre o índice e o LIMIT encerra a leitura):
+* - sort=createdAt|-createdAt com status e/ou createdFrom/createdTo
+*   ({@value #STATUS_CREATED_AT} ou {@value #CREATED_AT});
+* - sort=updatedAt|-updatedAt com status e/ou updatedFrom/updatedTo
+*   ({@value #STATUS_UPDATED_AT} ou {@value #UPDATED_AT});
+* - sort=title com titlePrefix ({@value #TITLE}; no PostgreSQL, {@value #TITLE_COLLATED}).
+*
+* As demais combinações exigiriam ler a tabela inteira: são executadas enquanto a
+* tabela tiver até {@code maxScanRows} linhas e recusadas (400) acima disso.
+*
+* Os índices são declarados em TaskEntity. No PostgreSQL, com collation diferente
+* de "C", o índice comum em title não atende a {@code LIKE 'prefixo%'} nem à
+* ordenação com a mesma collation; lá o filtro e a ordenação usam
+* {@code title COLLATE "C"} (ordem por código de caractere, como no H2), atendidos por
+* {@value #TITLE_COLLATED}, criado na inicialização a partir de db/query/postgresql.sql.
+* Se ele não puder ser criado, a combinação passa a ser tratada como sem índice.
+*
+* @author JTech
+*/
+@Slf4j
+@Component
+public class TaskQueryPlanner {
+
+    public static final String STATUS_CREATED_AT = "idx_tasks_status_created_at";
+    public static final String CREATED_AT = "idx_tasks_created_at_id";
+    public static final String STATUS_UPDATED_AT = "idx_tasks_status_updated_at";
+    public static final String UPDATED_AT = "idx_tasks_updated_at_id";
+    public static final String TITLE = "idx_tasks_title_id";
+    public static final String TITLE_COLLATED = "idx_tasks_title_c_id";
+
+    static final String SUPPORTED = "sort=createdAt|-createdAt com status/createdFrom/createdTo; "
+        + "sort=updatedAt|-updatedAt com status/updatedFrom/updatedTo; sort=title com titlePrefix";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxScanRows;
+    private volatile String titleExpression = "title";
+    private volatile String titleIndex = TITLE;
+
+    public TaskQueryPlanner(JdbcTemplate jdbcTemplate,
+                            @Value("${task-query.max-scan-rows:10000}") long maxScanRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxScanRows = maxScanRows;
+    }
+
+    /**
+     * SQL planejado: {@code index} é o índice que atende à consulta (null =
+     * varredura completa); {@code where} (vazio sem filtros) e {@code orderBy}
+     * vêm logo após {@code FROM tasks}.
+     */
+    public record Plan(String index, String where, Object[] whereParameters, String orderBy, int limit) {
+
+        /**
+         * Filtros, ordenação e LIMIT, para a listagem.
+         */
+        public String clauses() {
+            return where + orderBy + " LIMIT ?";
+        }
+
+        /**
+         * Parâmetros de {@link #clauses()}.
+         */
+        public Object[] parameters() {
+            Object[] parameters = Arrays.copyOf(whereParameters, whereParameters.length + 1);
+            parameters[whereParameters.length] = limit;
+            return parameters;
+        }
+    }
+
+    /**
+     * Planeja a consulta.
+     *
+     * @param query Consulta validada
+     * @return SQL e parâmetros a executar
+     * @throws br.com.jtech.tasklist.application.core.domains.DomainException se a
+     *         combinação não tiver índice e a tabela passar de {@code maxScanRows} linhas
+     */
+    public Plan plan(TaskQuery query) {
+        String index = indexFor(query, titleIndex);
+        if (index == null && exceedsScanLimit()) {
+            throw DomainError.invalidArgument("A combinação de filtros e ordenação exige ler todas as tarefas "
+                + "(mais de " + maxScanRows + "). Combinações suportadas: " + SUPPORTED).toException();
+        }
+        List<String> conditions = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+        if (query.status() != null) {
+            conditions.add("status = ?");
+            parameters.add(query.status());
+        }
+        range("created_at", query.createdFrom(), query.createdTo(), conditions, parameters);
+        range("updated_at", query.updatedFrom(), query.updatedTo(), conditions, parameters);
+        if (query.titlePrefix() != null) {
+            conditions.add(titleExpression + " LIKE ? ESCAPE '\\'");
+            parameters.add(escapeLike(query.titlePrefix()) + "%");
+        }
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        String direction = query.sort().descending() ? " DESC" : " ASC";
+        String orderBy = " ORDER BY " + sortColumn(query, titleExpression) + direction + ", id" + direction;
+        return new Plan(index, where, parameters.toArray(), orderBy, query.limit());
+    }
+
+    /**
+     * Índice que atende à combinação, ou null se nenhum atende.
+     *
+     * @param titleIndex Índice de sort=title com titlePrefix no banco atual (null = nenhum)
+     */
+    static String indexFor(TaskQuery query, String titleIndex) {
+        boolean byStatus = query.status() != null;
+        boolean byTitle = query.titlePrefix() != null;
+        return switch (query.sort()) {
+            case CREATED_AT_ASC, CREATED_AT_DESC -> query.hasUpdatedRange() || byTitle ? null
+                : byStatus ? STATUS_CREATED_AT : CREATED_AT;
+            case UPDATED_AT_ASC, UPDATED_AT_DESC -> query.hasCreatedRange() || byTitle ? null
+                : byStatus ? STATUS_UPDATED_AT : UPDATED_AT;
+            case TITLE_ASC -> byStatus || query.hasCreatedRange() || query.hasUpdatedRange() ? null : titleIndex;
+        };
+    }
+
+    /**
+     * Cria os índices que dependem do banco. Só o PostgreSQL precisa de um, sobre
+     * {@code (title COLLATE "C", id)}, que passa a ser a expressão de title nas consultas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createDatabaseSpecificIndexes() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                DatabaseMetaData::getDatabaseProductName);
+            if (!"PostgreSQL".equals(product)) {
+                return;
+            }
+            titleExpression = "title COLLATE \"C\"";
+            titleIndex = null;
+            new ResourceDatabasePopulator(new ClassPathResource("db/query/postgresql.sql"))
+                .execute(jdbcTemplate.getDataSource());
+            titleIndex = TITLE_COLLATED;
+            log.info("::: Índice {} disponível para filtros por prefixo do título", TITLE_COLLATED);
+        } catch (Exception e) {
+            log.warn("::: Não foi possível criar o índice {}; sort=title com titlePrefix fica sem índice: {}",
+                TITLE_COLLATED, e.getMessage());
+        }
+    }
+
+    /**
+     * Conta no máximo {@code maxScanRows + 1} linhas, de modo que a verificação
+     * custa o mesmo em qualquer tamanho de tabela.
+     */
+    private boolean exceedsScanLimit() {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM tasks LIMIT ?) t",
+            Long.class, maxScanRows + 1);
+        return rows != null && rows > maxScanRows;
+    }
+
+    private static String sortColumn(TaskQuery query, String titleExpression) {
+        return switch (query.sort()) {
+            case CREATED_AT_ASC, CREATED_AT_DESC -> "created_at";
+            case UPDATED_AT_ASC, UPDATED_AT_DESC -> "updated_at";
+            case TITLE_ASC -> titleExpression;
+        };
+    }
+
+    private static void range(String column, Object from, Object to, List<String> conditions, List<Object> parameters) {
+        if (from != null) {
+            conditions.add(column + " >= ?");
+            parameters.add(from);
+        }
+        if (to != null) {
+            conditions.add(column + " < ?");
+            parameters.add(to);
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
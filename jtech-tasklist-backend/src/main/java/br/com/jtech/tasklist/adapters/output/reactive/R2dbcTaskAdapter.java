@@ -0,0 +1,268 @@
+/*
+*  @(#)R2dbcTaskAdapter.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.reactive;
+
+import br.com.jtech.tasklist.adapters.output.TaskRankRebalancer;
+import br.com.jtech.tasklist.adapters.output.compression.DescriptionCompressor;
+import br.com.jtech.tasklist.adapters.output.outbox.TaskEventOutbox;
+import br.com.jtech.tasklist.application.core.domains.Ids;
+import br.com.jtech.tasklist.application.core.domains.LexoRank;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.ports.output.ReactiveTaskOutputGateway;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+* Adapter R2DBC da porta reativa, sobre a mesma tabela tasks do {@link
+* br.com.jtech.tasklist.adapters.output.TaskAdapter} (o esquema continua sendo
+* mantido pelo Hibernate na inicialização).
+*
+* Cada escrita grava o evento no outbox na mesma transação R2DBC. Anexações ao
+* final de uma lista bloqueiam a linha da lista (SELECT ... FOR UPDATE) antes de ler
+* a última chave, na mesma transação, como no TaskAdapter. A versão dos
+* dados é incrementada após o commit, e listas cujas chaves de ordenação passaram
+* do limite são enfileiradas no {@link TaskRankRebalancer}, que roda em segundo
+* plano pelo JDBC. Descrições longas são gravadas no mesmo formato comprimido do
+* conversor JPA.
+*
+* @author JTech
+*/
+@Component
+@Profile("reactive")
+public class R2dbcTaskAdapter implements ReactiveTaskOutputGateway {
+
+    private static final String COLUMNS =
+        "id, title, description, status, tasklist_id, sort_rank, created_at, updated_at";
+    private static final String INSERT =
+        "INSERT INTO tasks (" + COLUMNS + ") "
+            + "VALUES (:id, :title, :description, :status, :tasklistId, :rank, :createdAt, :updatedAt)";
+    private static final String UPDATE =
+        "UPDATE tasks SET title = :title, description = :description, status = :status, "
+            + "tasklist_id = :tasklistId, sort_rank = :rank, updated_at = :updatedAt WHERE id = :id";
+    private static final String SELECT_ALL = "SELECT " + COLUMNS + " FROM tasks";
+    private static final String SELECT_BY_ID = SELECT_ALL + " WHERE id = :id";
+    private static final String SELECT_BY_TITLE =
+        SELECT_ALL + " WHERE LOWER(TRIM(title)) = LOWER(TRIM(:title)) LIMIT 1";
+    private static final String LOCK_TASKLIST = "SELECT id FROM tasklists WHERE id = :tasklistId FOR UPDATE";
+    private static final String SELECT_MAX_RANK = "SELECT MAX(sort_rank) FROM tasks WHERE tasklist_id = :tasklistId";
+    private static final String SELECT_NEXT_RANK =
+        "SELECT MIN(sort_rank) FROM tasks WHERE tasklist_id = :tasklistId AND sort_rank > :rank AND id <> :excludedId";
+    private static final String SELECT_PREVIOUS_RANK =
+        "SELECT MAX(sort_rank) FROM tasks WHERE tasklist_id = :tasklistId AND sort_rank < :rank AND id <> :excludedId";
+    private static final String UPDATE_RANK =
+        "UPDATE tasks SET sort_rank = :rank, updated_at = :updatedAt WHERE id = :id";
+    private static final String DELETE = "DELETE FROM tasks WHERE id = :id";
+    private static final String INSERT_EVENT =
+        "INSERT INTO outbox_events (id, subscriber, event_type, aggregate_id, payload, status, attempts, "
+            + "next_attempt_at, created_at) "
+            + "VALUES (:id, :subscriber, :eventType, :aggregateId, :payload, 'PENDING', 0, :occurredAt, :occurredAt)";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final TaskRankRebalancer rankRebalancer;
+    private final DataVersion dataVersion;
+    private final TaskEventOutbox eventOutbox;
+    private final DescriptionCompressor descriptionCompressor;
+
+    public R2dbcTaskAdapter(DatabaseClient databaseClient,
+                            TransactionalOperator transactionalOperator,
+                            TaskRankRebalancer rankRebalancer,
+                            DataVersion dataVersion,
+                            TaskEventOutbox eventOutbox,
+                            DescriptionCompressor descriptionCompressor) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.rankRebalancer = rankRebalancer;
+        this.dataVersion = dataVersion;
+        this.eventOutbox = eventOutbox;
+        this.descriptionCompressor = descriptionCompressor;
+    }
+
+    @Override
+    public Mono<Task> save(Task task) {
+        LocalDateTime now = now();
+        UUID tasklistId = uuidOrNull(task.getTasklistId());
+        // Tarefas criadas em uma lista sem chave definida são anexadas ao final
+        Mono<Optional<String>> rank = tasklistId == null || task.getRank() != null
+            ? Mono.just(Optional.ofNullable(task.getRank()))
+            : databaseClient.sql(LOCK_TASKLIST).bind("tasklistId", tasklistId).fetch().all()
+                .then(selectRank(SELECT_MAX_RANK, tasklistId, null, null))
+                .map(last -> Optional.of(LexoRank.after(last.orElse(null))));
+
+        return rank
+            .map(assigned -> task.toBuilder()
+                .id(task.getId() != null && !task.getId().isEmpty() ? task.getId() : UUID.randomUUID().toString())
+                .rank(assigned.orElse(null))
+                .createdAt(now)
+                .updatedAt(now)
+                .build())
+            .flatMap(saved -> bindTask(databaseClient.sql(INSERT), saved).bind("createdAt", now).then()
+                .then(recordEvents(eventOutbox.rows(TaskEventOutbox.CREATED, List.of(saved))))
+                .thenReturn(saved))
+            .as(transactionalOperator::transactional)
+            .doOnNext(this::afterWrite);
+    }
+
+    @Override
+    public Flux<Task> findAll() {
+        return databaseClient.sql(SELECT_ALL).map(R2dbcTaskAdapter::toTask).all();
+    }
+
+    @Override
+    public Mono<Task> findById(String id) {
+        UUID uuid = Ids.parseUuid(id);
+        if (uuid == null) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(SELECT_BY_ID).bind("id", uuid).map(R2dbcTaskAdapter::toTask).one();
+    }
+
+    @Override
+    public Mono<Task> update(Task task) {
+        Task updated = task.toBuilder().updatedAt(now()).build();
+        return bindTask(databaseClient.sql(UPDATE), updated).fetch().rowsUpdated()
+            .filter(rows -> rows > 0)
+            .flatMap(rows -> recordEvents(eventOutbox.rows(TaskEventOutbox.UPDATED, List.of(updated))).thenReturn(updated))
+            .as(transactionalOperator::transactional)
+            .doOnNext(written -> dataVersion.bump());
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        UUID uuid = Ids.parseUuid(id);
+        if (uuid == null) {
+            // ID inválido, não faz nada
+            return Mono.empty();
+        }
+        return databaseClient.sql(DELETE).bind("id", uuid).fetch().rowsUpdated()
+            .filter(rows -> rows > 0)
+            .flatMap(rows -> recordEvents(eventOutbox.deletedRows(id)).thenReturn(rows))
+            .as(transactionalOperator::transactional)
+            .doOnNext(rows -> dataVersion.bump())
+            .then();
+    }
+
+    @Override
+    public Mono<Task> findByTitleIgnoreCase(String title) {
+        return databaseClient.sql(SELECT_BY_TITLE).bind("title", title).map(R2dbcTaskAdapter::toTask).one();
+    }
+
+    @Override
+    public Mono<String> findNextRank(String tasklistId, String rank, String excludedId) {
+        return selectRank(SELECT_NEXT_RANK, UUID.fromString(tasklistId), rank, UUID.fromString(excludedId))
+            .mapNotNull(next -> next.orElse(null));
+    }
+
+    @Override
+    public Mono<String> findPreviousRank(String tasklistId, String rank, String excludedId) {
+        return selectRank(SELECT_PREVIOUS_RANK, UUID.fromString(tasklistId), rank, UUID.fromString(excludedId))
+            .mapNotNull(previous -> previous.orElse(null));
+    }
+
+    @Override
+    public Mono<Task> updateRank(String id, String rank) {
+        UUID uuid = UUID.fromString(id);
+        return databaseClient.sql(UPDATE_RANK)
+            .bind("rank", rank)
+            .bind("updatedAt", now())
+            .bind("id", uuid)
+            .fetch().rowsUpdated()
+            .filter(rows -> rows > 0)
+            .flatMap(rows -> findById(id))
+            .flatMap(moved -> recordEvents(eventOutbox.rows(TaskEventOutbox.MOVED, List.of(moved))).thenReturn(moved))
+            .as(transactionalOperator::transactional)
+            .doOnNext(this::afterWrite);
+    }
+
+    /**
+     * Executa um MIN/MAX de sort_rank. A agregação sempre devolve uma linha, com
+     * valor nulo quando nada atende ao filtro.
+     */
+    private Mono<Optional<String>> selectRank(String sql, UUID tasklistId, String rank, UUID excludedId) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql).bind("tasklistId", tasklistId);
+        if (rank != null) {
+            spec = spec.bind("rank", rank).bind("excludedId", excludedId);
+        }
+        return spec.map(row -> Optional.ofNullable(row.get(0, String.class))).one();
+    }
+
+    private Mono<Void> recordEvents(List<TaskEventOutbox.Row> rows) {
+        return Flux.fromIterable(rows)
+            .concatMap(row -> databaseClient.sql(INSERT_EVENT)
+                .bind("id", row.id())
+                .bind("subscriber", row.subscriber())
+                .bind("eventType", row.event().type())
+                .bind("aggregateId", UUID.fromString(row.event().taskId()))
+                .bind("payload", row.payload())
+                .bind("occurredAt", row.event().occurredAt())
+                .then())
+            .then();
+    }
+
+    private void afterWrite(Task task) {
+        dataVersion.bump();
+        if (task.getTasklistId() != null && LexoRank.needsRebalance(task.getRank())) {
+            rankRebalancer.schedule(UUID.fromString(task.getTasklistId()));
+        }
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindTask(DatabaseClient.GenericExecuteSpec spec, Task task) {
+        spec = spec.bind("id", UUID.fromString(task.getId()))
+            .bind("title", task.getTitle())
+            .bind("status", task.getStatus())
+            .bind("updatedAt", task.getUpdatedAt());
+        spec = bindNullable(spec, "description", descriptionCompressor.encode(task.getDescription()), String.class);
+        spec = bindNullable(spec, "tasklistId", uuidOrNull(task.getTasklistId()), UUID.class);
+        return bindNullable(spec, "rank", task.getRank(), String.class);
+    }
+
+    private static <T> DatabaseClient.GenericExecuteSpec bindNullable(
+            DatabaseClient.GenericExecuteSpec spec, String name, T value, Class<T> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+
+    private static Task toTask(Readable row) {
+        UUID tasklistId = row.get("tasklist_id", UUID.class);
+        return Task.builder()
+            .id(row.get("id", UUID.class).toString())
+            .title(row.get("title", String.class))
+            .description(DescriptionCompressor.decode(row.get("description", String.class)))
+            .status(row.get("status", String.class))
+            .tasklistId(tasklistId != null ? tasklistId.toString() : null)
+            .rank(row.get("sort_rank", String.class))
+            .createdAt(row.get("created_at", LocalDateTime.class))
+            .updatedAt(row.get("updated_at", LocalDateTime.class))
+            .build();
+    }
+
+    private static UUID uuidOrNull(String id) {
+        return id != null && !id.isEmpty() ? UUID.fromString(id) : null;
+    }
+
+    private static LocalDateTime now() {
+        // Mesma precisão do timestamp do banco, para que a resposta da escrita e as leituras coincidam
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+*  @(#)IdempotencyKeyRepository.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+* Interface Repository das chaves de idempotência.
+* As escritas são comandos diretos para que a reivindicação de uma chave seja
+* atômica entre instâncias (violação de chave primária = já reivindicada).
+*
+* @author JTech
+*/
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    /**
+     * Reivindica a chave para esta execução.
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException se a chave já existir
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, request_hash, created_at, expires_at) "
+        + "VALUES (:key, :requestHash, :createdAt, :expiresAt)", nativeQuery = true)
+    int claim(@Param("key") String key,
+              @Param("requestHash") String requestHash,
+              @Param("createdAt") LocalDateTime createdAt,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Grava a resposta da execução e estende a validade da chave.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyKeyEntity k SET k.responseStatus = :status, k.contentType = :contentType, "
+        + "k.responseBody = :body, k.expiresAt = :expiresAt WHERE k.key = :key")
+    int complete(@Param("key") String key,
+                 @Param("status") int status,
+                 @Param("contentType") String contentType,
+                 @Param("body") String body,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Libera uma chave cuja execução falhou, permitindo que um retry execute novamente.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.key = :key AND k.responseStatus IS NULL")
+    int release(@Param("key") String key);
+
+    /**
+     * Remove a chave informada se estiver expirada.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.key = :key AND k.expiresAt < :now")
+    int deleteIfExpired(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    /**
+     * Remove todas as chaves expiradas.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,79 @@
+/*
+*  @(#)OutboxEventRepository.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+* Interface Repository do outbox de eventos de tarefas.
+*
+* @author JTech
+*/
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, UUID> {
+
+    /**
+     * Bloqueia os eventos pendentes já vencidos, pulando os bloqueados por outra
+     * instância. Deve ser chamado dentro da transação que estende o prazo ({@link #lease}).
+     */
+    @Query(value = "SELECT id FROM outbox_events WHERE status = 'PENDING' AND next_attempt_at <= :now "
+        + "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<UUID> lockDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Adia a próxima tentativa dos eventos reivindicados, para que nenhuma outra
+     * instância os envie enquanto a entrega está em andamento.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.nextAttemptAt = :leaseUntil WHERE e.id IN :ids")
+    int lease(@Param("ids") Collection<UUID> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.status = 'DELIVERED', e.attempts = e.attempts + 1, "
+        + "e.deliveredAt = :now, e.lastError = null WHERE e.id IN :ids")
+    int markDelivered(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Registra uma tentativa que falhou: nova tentativa em {@code nextAttemptAt}
+     * ou, com {@code status} DEAD, encerra o evento.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.status = :status, e.attempts = :attempts, "
+        + "e.nextAttemptAt = :nextAttemptAt, e.lastError = :error WHERE e.id = :id")
+    int recordFailure(@Param("id") UUID id,
+                      @Param("status") String status,
+                      @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+
+    /**
+     * Remove os eventos entregues antes do corte.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.status = 'DELIVERED' AND e.deliveredAt < :cutoff")
+    int deleteDeliveredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
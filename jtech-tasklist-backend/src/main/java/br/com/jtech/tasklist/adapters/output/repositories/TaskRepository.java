@@ -14,10 +14,15 @@ package br.com.jtech.tasklist.adapters.output.repositories;
 
 import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -40,5 +45,76 @@ public interface TaskRepository extends JpaRepository<TaskEntity, UUID> {
      */
     @Query(value = "SELECT * FROM tasks WHERE LOWER(TRIM(title)) = LOWER(TRIM(:title)) LIMIT 1", nativeQuery = true)
     Optional<TaskEntity> findByTitleIgnoreCase(@Param("title") String title);
+
+    /**
+     * Retorna a maior chave de ordenação de uma lista, usada para anexar novas tarefas ao final.
+     *
+     * @param tasklistId ID da lista
+     * @return Maior chave ou null se a lista não possuir tarefas
+     */
+    @Query("SELECT MAX(t.rank) FROM TaskEntity t WHERE t.tasklistId = :tasklistId")
+    String findMaxRankByTasklistId(@Param("tasklistId") UUID tasklistId);
+
+    /**
+     * Retorna a menor chave maior que {@code rank} na lista, ignorando a tarefa informada.
+     * Resolvida com uma busca no índice (tasklist_id, sort_rank).
+     */
+    @Query("SELECT MIN(t.rank) FROM TaskEntity t "
+        + "WHERE t.tasklistId = :tasklistId AND t.rank > :rank AND t.id <> :excludedId")
+    String findNextRank(@Param("tasklistId") UUID tasklistId,
+                        @Param("rank") String rank,
+                        @Param("excludedId") UUID excludedId);
+
+    /**
+     * Retorna a maior chave menor que {@code rank} na lista, ignorando a tarefa informada.
+     */
+    @Query("SELECT MAX(t.rank) FROM TaskEntity t "
+        + "WHERE t.tasklistId = :tasklistId AND t.rank < :rank AND t.id <> :excludedId")
+    String findPreviousRank(@Param("tasklistId") UUID tasklistId,
+                            @Param("rank") String rank,
+                            @Param("excludedId") UUID excludedId);
+
+    /**
+     * Atualiza somente a chave de ordenação de uma tarefa.
+     *
+     * @return Quantidade de linhas atualizadas
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TaskEntity t SET t.rank = :rank, t.updatedAt = :updatedAt WHERE t.id = :id")
+    int updateRank(@Param("id") UUID id,
+                   @Param("rank") String rank,
+                   @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Retorna os IDs das tarefas de uma lista na ordem atual; tarefas sem chave
+     * (anteriores à ordenação fracionária) vão para o final, por data de criação.
+     */
+    @Query("SELECT t.id FROM TaskEntity t WHERE t.tasklistId = :tasklistId "
+        + "ORDER BY t.rank ASC NULLS LAST, t.createdAt ASC")
+    List<UUID> findIdsByTasklistIdOrderByRank(@Param("tasklistId") UUID tasklistId);
+
+    /**
+     * Retorna as tarefas de uma lista na ordem da lista, com as sem chave ao final.
+     * Resolvida pelo índice (tasklist_id, sort_rank).
+     */
+    @Query("SELECT t FROM TaskEntity t WHERE t.tasklistId = :tasklistId "
+        + "ORDER BY t.rank ASC NULLS LAST, t.createdAt ASC")
+    List<TaskEntity> findByTasklistIdOrderByRank(@Param("tasklistId") UUID tasklistId);
+
+    /**
+     * Retorna as listas que possuem tarefas sem chave de ordenação.
+     */
+    @Query("SELECT DISTINCT t.tasklistId FROM TaskEntity t WHERE t.tasklistId IS NOT NULL AND t.rank IS NULL")
+    List<UUID> findTasklistIdsWithUnrankedTasks();
+
+    /**
+     * Retorna os títulos normalizados (LOWER/TRIM) já existentes dentre os informados.
+     *
+     * @param titles Títulos normalizados
+     * @return Títulos que já pertencem a alguma tarefa
+     */
+    @Query(value = "SELECT LOWER(TRIM(title)) FROM tasks WHERE LOWER(TRIM(title)) IN (:titles)", nativeQuery = true)
+    List<String> findExistingTitles(@Param("titles") Collection<String> titles);
 }
 
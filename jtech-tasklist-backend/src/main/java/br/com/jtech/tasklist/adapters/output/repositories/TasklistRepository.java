@@ -12,10 +12,15 @@
 */
 package br.com.jtech.tasklist.adapters.output.repositories;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import br.com.jtech.tasklist.adapters.output.repositories.entities.TasklistEntity;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -25,5 +30,15 @@ import java.util.UUID;
 */
 @Repository
 public interface TasklistRepository extends JpaRepository<TasklistEntity, UUID> {
-    
+
+    /**
+     * Busca a lista bloqueando sua linha até o fim da transação (SELECT ... FOR UPDATE),
+     * para serializar as escritas que calculam chaves de ordenação a partir das existentes.
+     *
+     * @param id ID da lista
+     * @return Optional contendo a lista bloqueada, se existir
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TasklistEntity t WHERE t.id = :id")
+    Optional<TasklistEntity> findForUpdateById(@Param("id") UUID id);
 }
\ No newline at end of file
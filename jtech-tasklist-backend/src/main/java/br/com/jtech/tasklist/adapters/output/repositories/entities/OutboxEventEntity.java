@@ -0,0 +1,80 @@
+/*
+*  @(#)OutboxEventEntity.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.repositories.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+* Entidade JPA do outbox transacional: uma linha por evento de tarefa e assinante
+* de webhook, gravada na mesma transação da escrita da tarefa.
+*
+* Ciclo de vida: PENDING (aguardando envio ou nova tentativa em next_attempt_at),
+* DELIVERED ou DEAD (tentativas esgotadas; fica na tabela para análise).
+*
+* @author JTech
+*/
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "OutboxEventEntity")
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class OutboxEventEntity {
+
+    public static final String PENDING = "PENDING";
+    public static final String DELIVERED = "DELIVERED";
+    public static final String DEAD = "DEAD";
+
+    @Id
+    private UUID id;
+
+    @Column(name = "subscriber", length = 100, nullable = false)
+    private String subscriber;
+
+    @Column(name = "event_type", length = 50, nullable = false)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    /**
+     * Evento serializado em JSON, enviado como está no corpo do webhook.
+     */
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(name = "status", length = 16, nullable = false)
+    private String status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+}
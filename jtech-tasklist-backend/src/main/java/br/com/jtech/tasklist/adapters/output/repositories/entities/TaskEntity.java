@@ -12,6 +12,7 @@
 */
 package br.com.jtech.tasklist.adapters.output.repositories.entities;
 
+import br.com.jtech.tasklist.adapters.output.compression.CompressedDescriptionConverter;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
@@ -22,6 +23,8 @@ import java.util.UUID;
 /**
 * Entidade JPA que representa uma Tarefa no banco de dados.
 * Esta classe mapeia a tabela "tasks" no PostgreSQL.
+* O índice (tasklist_id, sort_rank) atende a leitura ordenada das tarefas de uma lista;
+* os demais atendem às combinações da consulta filtrada (ver TaskQueryPlanner).
 *
 * @author JTech
 */
@@ -31,7 +34,14 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name = "TaskEntity")
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_tasklist_rank", columnList = "tasklist_id, sort_rank"),
+    @Index(name = "idx_tasks_status_created_at", columnList = "status, created_at, id"),
+    @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_tasks_status_updated_at", columnList = "status, updated_at, id"),
+    @Index(name = "idx_tasks_updated_at_id", columnList = "updated_at, id"),
+    @Index(name = "idx_tasks_title_id", columnList = "title, id")
+})
 public class TaskEntity {
 
     @Id
@@ -43,7 +53,11 @@ public class TaskEntity {
     @Column(name = "title", nullable = false, length = 255)
     private String title;
 
+    /**
+     * Descrições longas são gravadas comprimidas (ver CompressedDescriptionConverter).
+     */
     @Column(name = "description", columnDefinition = "TEXT")
+    @Convert(converter = CompressedDescriptionConverter.class)
     private String description;
 
     @Column(name = "status", nullable = false, length = 50)
@@ -55,6 +69,23 @@ public class TaskEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Chave estrangeira da lista. A escrita é feita por este campo; a associação
+     * abaixo é somente leitura e existe para o mapeamento de TasklistEntity.tasks.
+     */
+    @Column(name = "tasklist_id")
+    private UUID tasklistId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tasklist_id", insertable = false, updatable = false)
+    private TasklistEntity tasklist;
+
+    /**
+     * Chave de ordenação fracionária dentro da lista (ver LexoRank).
+     */
+    @Column(name = "sort_rank", length = 64)
+    private String rank;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
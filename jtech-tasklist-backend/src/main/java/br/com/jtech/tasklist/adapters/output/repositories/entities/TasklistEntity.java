@@ -12,12 +12,12 @@
 */
 package br.com.jtech.tasklist.adapters.output.repositories.entities;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -31,13 +31,36 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name = "TasklistEntity")
+@Table(name = "tasklists")
 public class TasklistEntity {
 
     @Id
     @GeneratedValue(generator = "uuid2")
     @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
-    //Others parameters...
+    @Column(name = "name", length = 255)
+    private String name;
 
-}
\ No newline at end of file
+    @Column(name = "parent_id")
+    private UUID parentId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Tarefas da lista, ordenadas pela chave de ordenação. O lado dono da relação é
+     * TaskEntity.tasklist. A consulta de listas lê as tarefas pelo TaskOutputGateway
+     * (FindTasklistAdapter), não por esta coleção.
+     */
+    @OneToMany(mappedBy = "tasklist", fetch = FetchType.LAZY)
+    @OrderBy("rank ASC")
+    private List<TaskEntity> tasks;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+*  @(#)ConsistentHashRing.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+* Anel de hash consistente imutável. Cada shard ocupa {@code virtualNodes} pontos
+* do anel e uma chave pertence ao primeiro ponto no sentido horário a partir do
+* seu hash. Ao incluir um shard, apenas ~1/N das chaves mudam de dono, vindas de
+* todos os shards existentes.
+*
+* @author JTech
+*/
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring;
+    private final List<String> shards;
+    private final int virtualNodes;
+
+    public ConsistentHashRing(List<String> shards, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("O anel precisa de ao menos um shard");
+        }
+        TreeMap<Long, String> points = new TreeMap<>();
+        for (String shard : shards) {
+            for (int i = 0; i < virtualNodes; i++) {
+                points.put(hash(shard + "#" + i), shard);
+            }
+        }
+        this.ring = Collections.unmodifiableNavigableMap(points);
+        this.shards = List.copyOf(shards);
+        this.virtualNodes = virtualNodes;
+    }
+
+    /**
+     * Shard dono da chave.
+     */
+    public String shardFor(String key) {
+        Map.Entry<Long, String> owner = ring.ceilingEntry(hash(key));
+        return owner != null ? owner.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Novo anel com o shard incluído; este permanece inalterado.
+     */
+    public ConsistentHashRing withShard(String shard) {
+        if (shards.contains(shard)) {
+            throw new IllegalArgumentException("Shard '" + shard + "' já faz parte do anel");
+        }
+        List<String> extended = new ArrayList<>(shards);
+        extended.add(shard);
+        return new ConsistentHashRing(extended, virtualNodes);
+    }
+
+    public List<String> getShards() {
+        return shards;
+    }
+
+    /**
+     * Primeiros 8 bytes do MD5: distribuição uniforme e estável entre versões da JVM.
+     */
+    static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 indisponível", e);
+        }
+    }
+}
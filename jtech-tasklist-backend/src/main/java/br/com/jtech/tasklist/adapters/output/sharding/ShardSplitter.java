@@ -0,0 +1,152 @@
+/*
+*  @(#)ShardSplitter.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.sharding;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+/**
+* Inclusão online de um shard no anel (split), sem parar leituras nem escritas.
+*
+* 1. Cópia: varre cada shard atual por cursor e copia para o novo shard as
+*    tarefas cuja chave passa a pertencer a ele. Leituras e escritas seguem no
+*    anel antigo; o novo shard fica fora do anel e não é consultado.
+* 2. Alcance: com as escritas bloqueadas, copia de novo o que mudou desde o
+*    início da cópia, remove do novo shard as tarefas excluídas (ou movidas) no
+*    meio tempo e troca o anel. Só esta fase bloqueia escritas, e ela é
+*    proporcional ao que mudou durante a cópia.
+* 3. Limpeza: remove dos shards de origem as cópias que deixaram de ser deles.
+*    Até lá elas já são ignoradas pelo {@link ShardedTaskAdapter}.
+*
+* A troca do anel vale apenas para esta instância.
+*
+* @author JTech
+*/
+@Slf4j
+public class ShardSplitter {
+
+    public record SplitResult(
+        String shard,
+        List<String> ring,
+        long copied,
+        long caughtUp,
+        long discarded,
+        long cleanedUp) {
+    }
+
+    private final ShardedTaskAdapter adapter;
+
+    public ShardSplitter(ShardedTaskAdapter adapter) {
+        this.adapter = adapter;
+    }
+
+    /**
+     * Inclui {@code newShard} (já configurado, fora do anel) no anel.
+     *
+     * @throws IllegalArgumentException se o shard não estiver configurado ou já estiver no anel
+     */
+    public synchronized SplitResult split(String newShard) {
+        TaskShard target = adapter.shard(newShard);
+        ConsistentHashRing current = adapter.getRing();
+        ConsistentHashRing next = current.withShard(newShard);
+        log.info("::: Split: incluindo o shard '{}' no anel {}", newShard, current.getShards());
+
+        Set<UUID> removals = adapter.startTrackingRemovals();
+        try {
+            LocalDateTime copyStart = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+            // 1. Cópia online
+            long copied = 0;
+            for (String name : current.getShards()) {
+                copied += forEachPage(adapter.shard(name), page -> {
+                    List<Task> moving = moving(page, next, newShard);
+                    target.upsertAll(moving);
+                    return moving.size();
+                });
+            }
+            log.info("::: Split: {} tarefas copiadas para '{}'", copied, newShard);
+
+            // 2. Alcance e troca do anel, com escritas bloqueadas
+            long[] phase = new long[2];
+            adapter.exclusively(() -> {
+                for (String name : current.getShards()) {
+                    List<Task> moving = moving(adapter.shard(name).findUpdatedSince(copyStart), next, newShard);
+                    target.upsertAll(moving);
+                    phase[0] += moving.size();
+                }
+                Set<UUID> gone = new HashSet<>(target.findExistingIds(removals));
+                for (String name : current.getShards()) {
+                    gone.removeAll(adapter.shard(name).findExistingIds(gone));
+                }
+                target.deleteAll(gone);
+                phase[1] = gone.size();
+                adapter.switchRing(next);
+            });
+            log.info("::: Split: anel atualizado para {}", next.getShards());
+
+            // 3. Limpeza das origens
+            long cleanedUp = 0;
+            for (String name : current.getShards()) {
+                TaskShard source = adapter.shard(name);
+                cleanedUp += forEachPage(source, page -> {
+                    List<UUID> ids = moving(page, next, newShard).stream()
+                        .map(task -> UUID.fromString(task.getId()))
+                        .toList();
+                    source.deleteAll(ids);
+                    return ids.size();
+                });
+            }
+            return new SplitResult(newShard, next.getShards(), copied, phase[0], phase[1], cleanedUp);
+        } finally {
+            adapter.stopTrackingRemovals();
+        }
+    }
+
+    private static List<Task> moving(List<Task> tasks, ConsistentHashRing next, String newShard) {
+        List<Task> moving = new ArrayList<>();
+        for (Task task : tasks) {
+            if (next.shardFor(ShardedTaskAdapter.shardKey(task)).equals(newShard)) {
+                moving.add(task);
+            }
+        }
+        return moving;
+    }
+
+    /**
+     * Percorre o shard por cursor (created_at, id); remoções durante a varredura não afetam o cursor.
+     */
+    private static long forEachPage(TaskShard shard, ToIntFunction<List<Task>> action) {
+        long total = 0;
+        Task after = null;
+        while (true) {
+            List<Task> page = shard.scan(after, ShardedTaskAdapter.SCAN_PAGE_SIZE);
+            if (page.isEmpty()) {
+                return total;
+            }
+            total += action.applyAsInt(page);
+            if (page.size() < ShardedTaskAdapter.SCAN_PAGE_SIZE) {
+                return total;
+            }
+            after = page.get(page.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,429 @@
+/*
+*  @(#)ShardedTaskAdapter.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.sharding;
+
+import br.com.jtech.tasklist.application.core.domains.Ids;
+import br.com.jtech.tasklist.application.core.domains.LexoRank;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+* Implementação do {@link TaskOutputGateway} distribuída entre vários bancos (shards).
+*
+* A chave de shard é a lista da tarefa (ou o próprio ID, para tarefas sem lista),
+* distribuída por {@link ConsistentHashRing}; assim a ordenação de uma lista
+* (findNextRank/findPreviousRank) sempre consulta um único shard.
+*
+* - findAll: scatter-gather em paralelo, com as páginas de cada shard já em ordem
+*   de cursor (created_at, id) intercaladas por merge.
+* - findById e demais buscas por ID: primeiro o shard conhecido (cache de
+*   localização), senão consulta paralela a todos.
+* - Linhas encontradas em um shard que não é o dono pelo anel atual (cópias
+*   remanescentes de um split) são ignoradas.
+* - saveAll: as tarefas de uma lista nova vão em lote para o shard dono, em uma
+*   transação por shard; não há atomicidade com as listas, que ficam no banco principal.
+*
+* Escritas seguram a trava de roteamento em modo compartilhado; o
+* {@link ShardSplitter} a toma em modo exclusivo apenas para a troca do anel.
+* Anexações ao final de uma lista e rebalanceamentos de suas chaves são
+* serializados por lista no shard dono ({@link TaskShard#append}).
+*
+* @author JTech
+*/
+public class ShardedTaskAdapter implements TaskOutputGateway, AutoCloseable {
+
+    static final Comparator<Task> CURSOR_ORDER =
+        Comparator.comparing(Task::getCreatedAt).thenComparing(Task::getId);
+
+    static final int SCAN_PAGE_SIZE = 1_000;
+    private static final int MAX_LOCATIONS = 100_000;
+
+    private record Located(TaskShard shard, Task task) {
+    }
+
+    private final Map<String, TaskShard> shards;
+    private final DataVersion dataVersion;
+    private final ReentrantReadWriteLock routingLock = new ReentrantReadWriteLock();
+    private final Map<String, String> locations;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile ConsistentHashRing ring;
+    private volatile Set<UUID> trackedRemovals;
+
+    /**
+     * @param shards Todos os shards configurados, inclusive os ainda fora do anel
+     * @param active Shards que formam o anel
+     */
+    public ShardedTaskAdapter(Map<String, TaskShard> shards, List<String> active, int virtualNodes,
+                              DataVersion dataVersion) {
+        for (String name : active) {
+            if (!shards.containsKey(name)) {
+                throw new IllegalArgumentException("Shard ativo '" + name + "' não está configurado");
+            }
+        }
+        this.shards = Collections.unmodifiableMap(new LinkedHashMap<>(shards));
+        this.ring = new ConsistentHashRing(active, virtualNodes);
+        this.dataVersion = dataVersion;
+        this.locations = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > MAX_LOCATIONS;
+            }
+        });
+    }
+
+    @Override
+    public Task save(Task task) {
+        LocalDateTime now = now();
+        Task toSave = task.toBuilder()
+            .id(task.getId() != null && !task.getId().isEmpty() ? task.getId() : UUID.randomUUID().toString())
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+        return writing(() -> {
+            TaskShard shard = owner(toSave);
+            // Tarefas criadas em uma lista sem chave definida são anexadas ao final
+            if (toSave.getTasklistId() != null && toSave.getRank() == null) {
+                shard.append(toSave);
+            } else {
+                shard.insert(toSave);
+            }
+            locations.put(toSave.getId(), shard.getName());
+            rebalanceIfNeeded(shard, toSave);
+            return toSave.copy();
+        });
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        LocalDateTime now = now();
+        List<Task> toSave = tasks.stream().map(task -> task.toBuilder().createdAt(now).updatedAt(now).build()).toList();
+        return writing(() -> {
+            Map<TaskShard, List<Task>> byShard = toSave.stream()
+                .collect(Collectors.groupingBy(this::owner, LinkedHashMap::new, Collectors.toList()));
+            byShard.forEach((shard, owned) -> {
+                shard.insertAll(owned);
+                owned.forEach(task -> locations.put(task.getId(), shard.getName()));
+            });
+            return toSave.stream().map(Task::copy).toList();
+        });
+    }
+
+    @Override
+    public List<Task> findAll() {
+        ConsistentHashRing current = ring;
+        return mergeByCursor(scatter(current, shard -> owned(current, shard, scanAll(shard))));
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        UUID uuid = Ids.parseUuid(id);
+        if (uuid == null) {
+            return Optional.empty();
+        }
+        return locate(uuid).map(Located::task);
+    }
+
+    @Override
+    public Task update(Task task) {
+        UUID id = UUID.fromString(task.getId());
+        return writing(() -> {
+            Optional<Located> current = locate(id);
+            LocalDateTime now = now();
+            Task updated = task.toBuilder()
+                .createdAt(current.map(located -> located.task().getCreatedAt()).orElse(now))
+                .updatedAt(now)
+                .build();
+            TaskShard target = owner(updated);
+            if (current.isEmpty()) {
+                target.insert(updated);
+            } else if (current.get().shard() == target) {
+                target.update(updated);
+            } else {
+                // A tarefa mudou de lista e de shard: grava no novo dono antes de remover do antigo
+                target.insert(updated);
+                current.get().shard().delete(id);
+                trackRemoval(id);
+            }
+            locations.put(updated.getId(), target.getName());
+            return updated.copy();
+        });
+    }
+
+    @Override
+    public void deleteById(String id) {
+        UUID uuid = Ids.parseUuid(id);
+        if (uuid == null) {
+            // ID inválido, não faz nada
+            return;
+        }
+        writing(() -> {
+            locate(uuid).ifPresent(located -> located.shard().delete(uuid));
+            locations.remove(id);
+            trackRemoval(uuid);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Task> findByTitleIgnoreCase(String title) {
+        ConsistentHashRing current = ring;
+        return scatter(current, shard -> owned(current, shard, shard.findByTitleIgnoreCase(title))).stream()
+            .flatMap(List::stream)
+            .findFirst();
+    }
+
+    @Override
+    public Set<String> findExistingTitles(Collection<String> normalizedTitles) {
+        ConsistentHashRing current = ring;
+        return scatter(current, shard -> owned(current, shard, shard.findByNormalizedTitles(normalizedTitles))).stream()
+            .flatMap(List::stream)
+            .map(task -> task.getTitle().trim().toLowerCase(Locale.ROOT))
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<Task> findByTasklistId(String tasklistId) {
+        return shards.get(ring.shardFor(tasklistId)).findByTasklistId(UUID.fromString(tasklistId));
+    }
+
+    @Override
+    public Optional<String> findNextRank(String tasklistId, String rank, String excludedId) {
+        return Optional.ofNullable(shards.get(ring.shardFor(tasklistId))
+            .findNextRank(UUID.fromString(tasklistId), rank, UUID.fromString(excludedId)));
+    }
+
+    @Override
+    public Optional<String> findPreviousRank(String tasklistId, String rank, String excludedId) {
+        return Optional.ofNullable(shards.get(ring.shardFor(tasklistId))
+            .findPreviousRank(UUID.fromString(tasklistId), rank, UUID.fromString(excludedId)));
+    }
+
+    @Override
+    public Optional<Task> updateRank(String id, String rank) {
+        UUID uuid = UUID.fromString(id);
+        return writing(() -> locate(uuid).map(located -> {
+            LocalDateTime now = now();
+            if (located.shard().updateRank(uuid, rank, now) == 0) {
+                return null;
+            }
+            Task moved = located.task().toBuilder().rank(rank).updatedAt(now).build();
+            rebalanceIfNeeded(located.shard(), moved);
+            return moved;
+        }));
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.shutdown();
+        for (TaskShard shard : shards.values()) {
+            shard.close();
+        }
+    }
+
+    /**
+     * Chave de shard: a lista da tarefa ou, sem lista, o próprio ID.
+     */
+    static String shardKey(Task task) {
+        return task.getTasklistId() != null ? task.getTasklistId() : task.getId();
+    }
+
+    /**
+     * Intercala listas já ordenadas por (created_at, id) mantendo a ordem de cursor.
+     */
+    static List<Task> mergeByCursor(List<List<Task>> sorted) {
+        int total = sorted.stream().mapToInt(List::size).sum();
+        List<Task> merged = new ArrayList<>(total);
+        PriorityQueue<int[]> heads = new PriorityQueue<>(
+            Comparator.comparing((int[] head) -> sorted.get(head[0]).get(head[1]), CURSOR_ORDER));
+        for (int i = 0; i < sorted.size(); i++) {
+            if (!sorted.get(i).isEmpty()) {
+                heads.add(new int[] { i, 0 });
+            }
+        }
+        while (!heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<Task> source = sorted.get(head[0]);
+            merged.add(source.get(head[1]));
+            if (head[1] + 1 < source.size()) {
+                heads.add(new int[] { head[0], head[1] + 1 });
+            }
+        }
+        return merged;
+    }
+
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    TaskShard shard(String name) {
+        TaskShard shard = shards.get(name);
+        if (shard == null) {
+            throw new IllegalArgumentException("Shard '" + name + "' não está configurado");
+        }
+        return shard;
+    }
+
+    public Map<String, TaskShard> getShards() {
+        return shards;
+    }
+
+    /**
+     * Executa a ação com as escritas bloqueadas.
+     */
+    void exclusively(Runnable action) {
+        routingLock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            routingLock.writeLock().unlock();
+        }
+    }
+
+    void switchRing(ConsistentHashRing next) {
+        ring = next;
+        locations.clear();
+        dataVersion.bump();
+    }
+
+    /**
+     * Passa a registrar os IDs removidos (ou movidos de shard) até {@link #stopTrackingRemovals()}.
+     */
+    Set<UUID> startTrackingRemovals() {
+        Set<UUID> removals = ConcurrentHashMap.newKeySet();
+        trackedRemovals = removals;
+        return removals;
+    }
+
+    void stopTrackingRemovals() {
+        trackedRemovals = null;
+    }
+
+    static List<Task> scanAll(TaskShard shard) {
+        List<Task> all = new ArrayList<>();
+        List<Task> page = shard.scan(null, SCAN_PAGE_SIZE);
+        while (!page.isEmpty()) {
+            all.addAll(page);
+            if (page.size() < SCAN_PAGE_SIZE) {
+                break;
+            }
+            page = shard.scan(page.get(page.size() - 1), SCAN_PAGE_SIZE);
+        }
+        return all;
+    }
+
+    private Optional<Located> locate(UUID id) {
+        ConsistentHashRing current = ring;
+        String cached = locations.get(id.toString());
+        if (cached != null && current.getShards().contains(cached)) {
+            TaskShard shard = shards.get(cached);
+            Optional<Task> task = shard.findById(id).filter(found -> owns(current, shard, found));
+            if (task.isPresent()) {
+                return Optional.of(new Located(shard, task.get()));
+            }
+        }
+        Optional<Located> found = scatter(current, shard -> shard.findById(id)
+                .filter(task -> owns(current, shard, task))
+                .map(task -> List.of(new Located(shard, task)))
+                .orElse(List.of()))
+            .stream()
+            .flatMap(List::stream)
+            .findFirst();
+        found.ifPresent(located -> locations.put(id.toString(), located.shard().getName()));
+        return found;
+    }
+
+    private TaskShard owner(Task task) {
+        return shards.get(ring.shardFor(shardKey(task)));
+    }
+
+    private static boolean owns(ConsistentHashRing ring, TaskShard shard, Task task) {
+        return ring.shardFor(shardKey(task)).equals(shard.getName());
+    }
+
+    private static List<Task> owned(ConsistentHashRing ring, TaskShard shard, List<Task> tasks) {
+        return tasks.stream().filter(task -> owns(ring, shard, task)).toList();
+    }
+
+    private <T> List<T> scatter(ConsistentHashRing current, Function<TaskShard, T> query) {
+        List<String> names = current.getShards();
+        if (names.size() == 1) {
+            return List.of(query.apply(shards.get(names.get(0))));
+        }
+        List<CompletableFuture<T>> futures = names.stream()
+            .map(name -> CompletableFuture.supplyAsync(() -> query.apply(shards.get(name)), executor))
+            .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private <T> T writing(Supplier<T> operation) {
+        routingLock.readLock().lock();
+        try {
+            T result = operation.get();
+            dataVersion.bump();
+            return result;
+        } finally {
+            routingLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Chaves longas demais (movimentos repetidos no mesmo ponto) não cabem em
+     * sort_rank: a lista é rebalanceada no shard dono.
+     */
+    private static void rebalanceIfNeeded(TaskShard shard, Task task) {
+        if (task.getTasklistId() != null && LexoRank.needsRebalance(task.getRank())) {
+            shard.rebalance(UUID.fromString(task.getTasklistId()), now());
+        }
+    }
+
+    private void trackRemoval(UUID id) {
+        Set<UUID> removals = trackedRemovals;
+        if (removals != null) {
+            removals.add(id);
+        }
+    }
+
+    private static LocalDateTime now() {
+        // Mesma precisão do PostgreSQL, para que o cursor (created_at, id) seja estável
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
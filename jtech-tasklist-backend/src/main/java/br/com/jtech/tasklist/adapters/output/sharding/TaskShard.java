@@ -0,0 +1,316 @@
+/*
+*  @(#)TaskShard.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.sharding;
+
+import br.com.jtech.tasklist.adapters.output.compression.DescriptionCompressor;
+import br.com.jtech.tasklist.application.core.domains.LexoRank;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+* Acesso JDBC à tabela tasks de um shard. Cada shard é um banco independente com
+* o mesmo esquema ({@code db/sharding/tasks.sql}), sem a FK para tasklists, que
+* continuam no banco principal.
+*
+* @author JTech
+*/
+public class TaskShard {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int IN_CLAUSE_SIZE = 1_000;
+    private static final String COLUMNS =
+        "id, title, description, status, tasklist_id, sort_rank, created_at, updated_at";
+    private static final String INSERT =
+        "INSERT INTO tasks (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE =
+        "UPDATE tasks SET title = ?, description = ?, status = ?, tasklist_id = ?, sort_rank = ?, updated_at = ? "
+            + "WHERE id = ?";
+    private static final String DELETE = "DELETE FROM tasks WHERE id = ?";
+
+    private static final RowMapper<Task> ROW_MAPPER = (rs, rowNum) -> {
+        UUID tasklistId = rs.getObject("tasklist_id", UUID.class);
+        return Task.builder()
+            .id(rs.getObject("id", UUID.class).toString())
+            .title(rs.getString("title"))
+            .description(DescriptionCompressor.decode(rs.getString("description")))
+            .status(rs.getString("status"))
+            .tasklistId(tasklistId != null ? tasklistId.toString() : null)
+            .rank(rs.getString("sort_rank"))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+    };
+
+    private final String name;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DescriptionCompressor descriptionCompressor;
+
+    public TaskShard(String name, DataSource dataSource, DescriptionCompressor descriptionCompressor) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.descriptionCompressor = descriptionCompressor;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    /**
+     * Cria a tabela e os índices, se ainda não existirem.
+     */
+    public void initSchema() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/sharding/tasks.sql")).execute(dataSource);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Fecha o pool de conexões do shard, quando ele for fechável (Hikari).
+     */
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    public void insert(Task task) {
+        jdbcTemplate.update(INSERT, ps -> bindInsert(ps, task));
+    }
+
+    /**
+     * Anexa a tarefa ao final da lista: a maior chave é lida e a tarefa inserida na
+     * mesma transação, com a linha da lista em tasklist_locks bloqueada, para que
+     * anexações concorrentes (de qualquer instância) não gravem a mesma chave.
+     */
+    public void append(Task task) {
+        UUID tasklistId = UUID.fromString(task.getTasklistId());
+        ensureLockRow(tasklistId);
+        transactionTemplate.executeWithoutResult(status -> {
+            lockTasklist(tasklistId);
+            task.setRank(LexoRank.after(findMaxRank(tasklistId)));
+            insert(task);
+        });
+    }
+
+    /**
+     * Regrava as chaves da lista com espaçamento uniforme, preservando a ordem, com a
+     * lista bloqueada como nas anexações. updated_at também muda, para que a fase de
+     * alcance de um split em andamento copie as novas chaves.
+     */
+    public void rebalance(UUID tasklistId, LocalDateTime updatedAt) {
+        ensureLockRow(tasklistId);
+        transactionTemplate.executeWithoutResult(status -> {
+            lockTasklist(tasklistId);
+            List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM tasks WHERE tasklist_id = ? ORDER BY sort_rank NULLS LAST, created_at",
+                UUID.class, tasklistId);
+            List<String> ranks = LexoRank.spread(ids.size());
+            List<Object[]> updates = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                updates.add(new Object[] { ranks.get(i), updatedAt, ids.get(i) });
+            }
+            jdbcTemplate.batchUpdate("UPDATE tasks SET sort_rank = ?, updated_at = ? WHERE id = ?", updates);
+        });
+    }
+
+    /**
+     * Insere as tarefas em lote, em uma transação.
+     */
+    public void insertAll(List<Task> tasks) {
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(INSERT, tasks, BATCH_SIZE, this::bindInsert));
+    }
+
+    /**
+     * Grava as tarefas substituindo as existentes com o mesmo ID, em uma transação.
+     */
+    public void upsertAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            deleteAll(tasks.stream().map(task -> UUID.fromString(task.getId())).toList());
+            jdbcTemplate.batchUpdate(INSERT, tasks, BATCH_SIZE, this::bindInsert);
+        });
+    }
+
+    public int update(Task task) {
+        return jdbcTemplate.update(UPDATE, ps -> {
+            ps.setString(1, task.getTitle());
+            ps.setString(2, descriptionCompressor.encode(task.getDescription()));
+            ps.setString(3, task.getStatus());
+            ps.setObject(4, task.getTasklistId() != null ? UUID.fromString(task.getTasklistId()) : null);
+            ps.setString(5, task.getRank());
+            ps.setObject(6, task.getUpdatedAt());
+            ps.setObject(7, UUID.fromString(task.getId()));
+        });
+    }
+
+    public int updateRank(UUID id, String rank, LocalDateTime updatedAt) {
+        return jdbcTemplate.update("UPDATE tasks SET sort_rank = ?, updated_at = ? WHERE id = ?", rank, updatedAt, id);
+    }
+
+    public int delete(UUID id) {
+        return jdbcTemplate.update(DELETE, id);
+    }
+
+    public void deleteAll(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE, ids, BATCH_SIZE, (ps, id) -> ps.setObject(1, id));
+    }
+
+    public Optional<Task> findById(UUID id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM tasks WHERE id = ?", ROW_MAPPER, id)
+            .stream().findFirst();
+    }
+
+    public List<Task> findByTitleIgnoreCase(String title) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM tasks WHERE LOWER(title) = LOWER(?)", ROW_MAPPER, title);
+    }
+
+    /**
+     * Tarefas cujo título normalizado (LOWER/TRIM) está entre os informados.
+     */
+    public List<Task> findByNormalizedTitles(Collection<String> normalizedTitles) {
+        List<Task> found = new ArrayList<>();
+        List<String> titles = new ArrayList<>(normalizedTitles);
+        for (int start = 0; start < titles.size(); start += IN_CLAUSE_SIZE) {
+            List<String> chunk = titles.subList(start, Math.min(start + IN_CLAUSE_SIZE, titles.size()));
+            found.addAll(namedJdbcTemplate.query("SELECT " + COLUMNS + " FROM tasks WHERE LOWER(TRIM(title)) IN (:titles)",
+                new MapSqlParameterSource("titles", chunk), ROW_MAPPER));
+        }
+        return found;
+    }
+
+    /**
+     * Tarefas da lista na ordem das chaves, com as sem chave ao final.
+     */
+    public List<Task> findByTasklistId(UUID tasklistId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM tasks WHERE tasklist_id = ? "
+            + "ORDER BY sort_rank NULLS LAST, created_at", ROW_MAPPER, tasklistId);
+    }
+
+    /**
+     * IDs, dentre os informados, que existem neste shard.
+     */
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+            "SELECT id FROM tasks WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids), UUID.class));
+    }
+
+    /**
+     * Página em ordem de cursor (created_at, id), a partir da última tarefa da página
+     * anterior ({@code after}) ou do início quando nulo.
+     */
+    public List<Task> scan(Task after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query("SELECT " + COLUMNS + " FROM tasks ORDER BY created_at, id LIMIT ?",
+                ROW_MAPPER, limit);
+        }
+        UUID afterId = UUID.fromString(after.getId());
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM tasks "
+                + "WHERE created_at > ? OR (created_at = ? AND id > ?) ORDER BY created_at, id LIMIT ?",
+            ROW_MAPPER, after.getCreatedAt(), after.getCreatedAt(), afterId, limit);
+    }
+
+    public List<Task> findUpdatedSince(LocalDateTime since) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM tasks WHERE updated_at >= ?", ROW_MAPPER, since);
+    }
+
+    public String findMaxRank(UUID tasklistId) {
+        return jdbcTemplate.queryForObject("SELECT MAX(sort_rank) FROM tasks WHERE tasklist_id = ?",
+            String.class, tasklistId);
+    }
+
+    public String findNextRank(UUID tasklistId, String rank, UUID excludedId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT MIN(sort_rank) FROM tasks WHERE tasklist_id = ? AND sort_rank > ? AND id <> ?",
+            String.class, tasklistId, rank, excludedId);
+    }
+
+    public String findPreviousRank(UUID tasklistId, String rank, UUID excludedId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT MAX(sort_rank) FROM tasks WHERE tasklist_id = ? AND sort_rank < ? AND id <> ?",
+            String.class, tasklistId, rank, excludedId);
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Cria a linha da lista em tasklist_locks, se ainda não existir. Roda fora da
+     * transação de quem bloqueia: no PostgreSQL, a chave duplicada de uma criação
+     * concorrente abortaria a transação.
+     */
+    private void ensureLockRow(UUID tasklistId) {
+        if (!jdbcTemplate.queryForList("SELECT tasklist_id FROM tasklist_locks WHERE tasklist_id = ?",
+                UUID.class, tasklistId).isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO tasklist_locks (tasklist_id) VALUES (?)", tasklistId);
+        } catch (DuplicateKeyException e) {
+            // Criada por uma anexação concorrente
+        }
+    }
+
+    /**
+     * Bloqueia a linha da lista até o fim da transação corrente.
+     */
+    private void lockTasklist(UUID tasklistId) {
+        jdbcTemplate.queryForList("SELECT tasklist_id FROM tasklist_locks WHERE tasklist_id = ? FOR UPDATE",
+            UUID.class, tasklistId);
+    }
+
+    private void bindInsert(PreparedStatement ps, Task task) throws SQLException {
+        ps.setObject(1, UUID.fromString(task.getId()));
+        ps.setString(2, task.getTitle());
+        ps.setString(3, descriptionCompressor.encode(task.getDescription()));
+        ps.setString(4, task.getStatus());
+        ps.setObject(5, task.getTasklistId() != null ? UUID.fromString(task.getTasklistId()) : null);
+        ps.setString(6, task.getRank());
+        ps.setObject(7, task.getCreatedAt());
+        ps.setObject(8, task.getUpdatedAt());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+*  @(#)DomainError.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.domains;
+
+/**
+* Resultado de negócio esperado (título duplicado, tarefa inexistente, argumento
+* inválido), devolvido pelo canal tipado {@link Result} em vez de exceção.
+*
+* @author JTech
+*/
+public record DomainError(Kind kind, String message) {
+
+    public enum Kind {
+        DUPLICATE_TITLE,
+        NOT_FOUND,
+        INVALID_ARGUMENT
+    }
+
+    public static final DomainError NOT_FOUND = new DomainError(Kind.NOT_FOUND, "Tarefa não encontrada");
+
+    public static DomainError duplicateTitle(String title) {
+        return new DomainError(Kind.DUPLICATE_TITLE,
+            "Já existe uma tarefa com o título '" + title + "' (ignorando maiúsculas/minúsculas)");
+    }
+
+    public static DomainError duplicateTitleOnUpdate(String title) {
+        return new DomainError(Kind.DUPLICATE_TITLE,
+            "Já existe outra tarefa com o título '" + title + "' (ignorando maiúsculas/minúsculas)");
+    }
+
+    public static DomainError invalidArgument(String message) {
+        return new DomainError(Kind.INVALID_ARGUMENT, message);
+    }
+
+    /**
+     * Exceção sem pilha correspondente, para os pontos em que lançar é inevitável.
+     */
+    public DomainException toException() {
+        return new DomainException(this);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+*  @(#)DomainException.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.domains;
+
+/**
+* Exceção de negócio sem pilha (stack trace) nem supressões. Representa uma
+* situação esperada, então a captura da pilha seria apenas custo; para mensagens
+* fixas, instâncias pré-alocadas podem ser reutilizadas com segurança.
+*
+* @author JTech
+*/
+public class DomainException extends RuntimeException {
+
+    private final transient DomainError error;
+
+    public DomainException(DomainError error) {
+        super(error.message(), null, false, false);
+        this.error = error;
+    }
+
+    public DomainException(String message) {
+        this(DomainError.invalidArgument(message));
+    }
+
+    public DomainError getError() {
+        return error;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+*  @(#)Ids.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.util.UUID;
+
+/**
+* Validação de IDs sem exceções. {@code UUID.fromString} lança
+* IllegalArgumentException para entradas inválidas, e a captura da pilha domina
+* o custo quando há muitas requisições com IDs aleatórios.
+*
+* Aceita apenas a forma canônica (8-4-4-4-12 dígitos hexadecimais), que é a
+* forma gerada pela aplicação.
+*
+* @author JTech
+*/
+public final class Ids {
+
+    private static final int LENGTH = 36;
+
+    private Ids() {
+    }
+
+    /**
+     * Converte o ID para UUID.
+     *
+     * @return UUID ou null se o ID não estiver na forma canônica
+     */
+    public static UUID parseUuid(String id) {
+        if (id == null || id.length() != LENGTH
+                || id.charAt(8) != '-' || id.charAt(13) != '-' || id.charAt(18) != '-' || id.charAt(23) != '-') {
+            return null;
+        }
+        long most = 0;
+        long least = 0;
+        int digits = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            char c = id.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            int value = Character.digit(c, 16);
+            if (value < 0) {
+                return null;
+            }
+            if (digits < 16) {
+                most = (most << 4) | value;
+            } else {
+                least = (least << 4) | value;
+            }
+            digits++;
+        }
+        return digits == 32 ? new UUID(most, least) : null;
+    }
+
+    public static boolean isValid(String id) {
+        return parseUuid(id) != null;
+    }
+}
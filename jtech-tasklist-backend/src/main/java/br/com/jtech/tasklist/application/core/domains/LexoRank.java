@@ -0,0 +1,169 @@
+/*
+*  @(#)LexoRank.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+* Chaves de ordenação fracionárias (estilo LexoRank) em base 36 (0-9a-z).
+* A ordem das tarefas é a ordem lexicográfica das chaves, então mover uma tarefa
+* exige apenas uma chave nova entre as vizinhas, sem reescrever as demais linhas.
+*
+* Chaves geradas por {@link #after}, {@link #before} e {@link #spread} têm largura
+* fixa ({@link #WIDTH}); {@link #between} cresce um dígito a cada ~5 inserções no
+* mesmo ponto. Chaves acima de {@link #MAX_LENGTH} indicam que a lista deve ser
+* rebalanceada.
+*
+* @author JTech
+*/
+public final class LexoRank {
+
+    public static final int WIDTH = 8;
+    public static final int MAX_LENGTH = 16;
+
+    private static final int BASE = 36;
+    private static final long SPACE = pow(BASE, WIDTH);
+    private static final long STEP = pow(BASE, WIDTH / 2);
+
+    private LexoRank() {
+    }
+
+    /**
+     * Chave inicial, no meio do espaço, para a primeira tarefa de uma lista.
+     */
+    public static String initial() {
+        return format(SPACE / 2);
+    }
+
+    /**
+     * Chave para anexar depois de {@code lower} (fim da lista).
+     */
+    public static String after(String lower) {
+        if (lower == null) {
+            return initial();
+        }
+        long next = prefix(lower) + STEP;
+        return next < SPACE ? format(next) : between(lower, null);
+    }
+
+    /**
+     * Chave para inserir antes de {@code upper} (início da lista).
+     */
+    public static String before(String upper) {
+        if (upper == null) {
+            return initial();
+        }
+        long previous = prefix(upper) - STEP;
+        return previous > 0 ? format(previous) : between(null, upper);
+    }
+
+    /**
+     * Chave estritamente entre {@code lower} e {@code upper}. Qualquer um dos dois
+     * pode ser null, representando o início ou o fim da lista.
+     *
+     * Chaves que representam a mesma posição ({@code upper} igual a {@code lower},
+     * ou igual a ele seguido apenas de zeros, como as repetidas por anexações antigas
+     * concorrentes) não têm chave entre si: a chave gerada fica logo depois das duas.
+     *
+     * @throws IllegalArgumentException se {@code lower} for maior que {@code upper}
+     */
+    public static String between(String lower, String upper) {
+        String lo = lower != null ? lower : "";
+        String hi = upper;
+        if (hi != null && lo.compareTo(hi) > 0) {
+            throw new IllegalArgumentException(
+                String.format("Chave de ordenação inválida: '%s' deve ser menor que '%s'", lo, hi)
+            );
+        }
+
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; ; i++) {
+            if (hi != null && i == hi.length()) {
+                // upper = lower seguido apenas de zeros: mesma posição, segue sem limite superior
+                hi = null;
+            }
+            int l = i < lo.length() ? digit(lo.charAt(i)) : 0;
+            int h = hi != null && i < hi.length() ? digit(hi.charAt(i)) : BASE;
+            if (l == h) {
+                key.append(lo.length() > i ? lo.charAt(i) : '0');
+                continue;
+            }
+            int mid = (l + h) / 2;
+            if (mid > l) {
+                // O último dígito nunca é '0', então nenhuma chave gerada é prefixo de outra
+                return key.append(Character.forDigit(mid, BASE)).toString();
+            }
+            // Dígitos adjacentes: mantém o de baixo e segue sem limite superior
+            key.append(Character.forDigit(l, BASE));
+            hi = null;
+        }
+    }
+
+    /**
+     * Indica se a chave ficou longa demais e a lista deve ser rebalanceada.
+     */
+    public static boolean needsRebalance(String key) {
+        return key != null && key.length() > MAX_LENGTH;
+    }
+
+    /**
+     * Gera {@code count} chaves de largura fixa, igualmente espaçadas e centralizadas,
+     * usadas na criação em lote e no rebalanceamento.
+     */
+    public static List<String> spread(int count) {
+        List<String> keys = new ArrayList<>(count);
+        if (count == 0) {
+            return keys;
+        }
+        long step = Math.min(STEP, SPACE / (count + 2L));
+        long start = Math.max(step, SPACE / 2 - (count / 2L) * step);
+        for (int i = 0; i < count; i++) {
+            keys.add(format(start + i * step));
+        }
+        return keys;
+    }
+
+    private static long prefix(String key) {
+        String head = key.length() > WIDTH ? key.substring(0, WIDTH) : key;
+        return Long.parseLong(pad(head, true), BASE);
+    }
+
+    private static String format(long value) {
+        return pad(Long.toString(value, BASE), false);
+    }
+
+    private static String pad(String value, boolean right) {
+        if (value.length() >= WIDTH) {
+            return value;
+        }
+        String zeros = "0".repeat(WIDTH - value.length());
+        return right ? value + zeros : zeros + value;
+    }
+
+    private static int digit(char c) {
+        int digit = Character.digit(c, BASE);
+        if (digit < 0 || Character.isUpperCase(c)) {
+            throw new IllegalArgumentException(String.format("Caractere inválido na chave de ordenação: '%s'", c));
+        }
+        return digit;
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
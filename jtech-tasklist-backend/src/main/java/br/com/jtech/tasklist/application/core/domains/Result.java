@@ -0,0 +1,50 @@
+/*
+*  @(#)Result.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.domains;
+
+/**
+* Canal tipado para resultados de casos de uso: sucesso com valor ou falha de
+* negócio esperada ({@link DomainError}), sem exceções no caminho comum de erro.
+*
+* @author JTech
+*/
+public sealed interface Result<T> permits Result.Success, Result.Failure {
+
+    record Success<T>(T value) implements Result<T> {
+    }
+
+    record Failure<T>(DomainError error) implements Result<T> {
+    }
+
+    static <T> Result<T> ok(T value) {
+        return new Success<>(value);
+    }
+
+    static <T> Result<T> fail(DomainError error) {
+        return new Failure<>(error);
+    }
+
+    default boolean isSuccess() {
+        return this instanceof Success<T>;
+    }
+
+    /**
+     * Retorna o valor ou lança a exceção (sem pilha) da falha.
+     */
+    default T orElseThrow() {
+        if (this instanceof Success<T> success) {
+            return success.value();
+        }
+        throw ((Failure<T>) this).error().toException();
+    }
+}
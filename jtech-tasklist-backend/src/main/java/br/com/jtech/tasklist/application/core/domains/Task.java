@@ -28,7 +28,7 @@ import java.util.UUID;
 */
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
@@ -40,6 +40,8 @@ public class Task {
     private String status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private String tasklistId;
+    private String rank;
 
     /**
      * Converte uma lista de entidades JPA para uma lista de domínios.
@@ -59,6 +61,8 @@ public class Task {
             .status(entity.getStatus())
             .createdAt(entity.getCreatedAt())
             .updatedAt(entity.getUpdatedAt())
+            .tasklistId(entity.getTasklistId() != null ? entity.getTasklistId().toString() : null)
+            .rank(entity.getRank())
             .build();
     }
 
@@ -69,15 +73,26 @@ public class Task {
         TaskEntity.TaskEntityBuilder builder = TaskEntity.builder()
             .title(this.title)
             .description(this.description)
-            .status(this.status);
+            .status(this.status)
+            .rank(this.rank);
 
         if (this.id != null && !this.id.isEmpty()) {
             builder.id(UUID.fromString(this.id));
         }
+        if (this.tasklistId != null && !this.tasklistId.isEmpty()) {
+            builder.tasklistId(UUID.fromString(this.tasklistId));
+        }
 
         return builder.build();
     }
 
+    /**
+     * Cria uma cópia independente da tarefa (todos os campos são imutáveis).
+     */
+    public Task copy() {
+        return toBuilder().build();
+    }
+
     /**
      * Converte um Request DTO para o domínio.
      */
@@ -86,6 +101,7 @@ public class Task {
             .title(request.getTitle())
             .description(request.getDescription())
             .status(request.getStatus() != null ? request.getStatus() : "pendente")
+            .tasklistId(request.getTasklistId())
             .build();
     }
 }
@@ -0,0 +1,30 @@
+/*
+*  @(#)TaskCount.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.domains;
+
+/**
+* Total de tarefas de uma consulta, sem o limite. Acima de certo tamanho o total
+* pode ser estimado ({@code exact = false}) em vez de contado linha a linha.
+*
+* @author JTech
+*/
+public record TaskCount(long value, boolean exact) {
+
+    public static TaskCount exact(long value) {
+        return new TaskCount(value, true);
+    }
+
+    public static TaskCount estimated(long value) {
+        return new TaskCount(value, false);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+*  @(#)TaskField.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+* Campos de uma tarefa que podem ser pedidos em leituras parciais
+* ({@code ?fields=id,title,status}). Os nomes são os mesmos do JSON.
+*
+* @author JTech
+*/
+public enum TaskField {
+
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    TASKLIST_ID("tasklistId"),
+    RANK("rank");
+
+    public static final Set<TaskField> ALL = Collections.unmodifiableSet(EnumSet.allOf(TaskField.class));
+
+    /**
+     * Nomes aceitos, na ordem do JSON. Constante literal para poder ser usada em
+     * anotações da documentação OpenAPI.
+     */
+    public static final String NAMES = "id,title,description,status,createdAt,updatedAt,tasklistId,rank";
+
+    private final String fieldName;
+
+    TaskField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Converte a lista separada por vírgulas nos campos correspondentes.
+     *
+     * @param fields Nomes dos campos (null ou vazio = todos)
+     * @return Campos pedidos
+     * @throws DomainException se algum nome não corresponder a um campo
+     */
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<TaskField> parsed = EnumSet.noneOf(TaskField.class);
+        Set<String> unknown = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            TaskField field = byName(trimmed);
+            if (field == null) {
+                unknown.add(trimmed);
+            } else {
+                parsed.add(field);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw DomainError.invalidArgument("Campo(s) desconhecido(s) em fields: " + String.join(", ", unknown)
+                + ". Campos válidos: " + NAMES).toException();
+        }
+        return parsed.isEmpty() || parsed.size() == ALL.size() ? ALL : Collections.unmodifiableSet(parsed);
+    }
+
+    private static TaskField byName(String name) {
+        for (TaskField field : values()) {
+            if (field.fieldName.equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+*  @(#)TaskQuery.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+* Consulta de tarefas com filtros tipados, ordenação e limite. Filtros nulos não
+* restringem; intervalos incluem o início e excluem o fim ({@code [from, to)}) e o
+* prefixo do título diferencia maiúsculas de minúsculas.
+*
+* @author JTech
+*/
+public record TaskQuery(
+        String status,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        LocalDateTime updatedFrom,
+        LocalDateTime updatedTo,
+        String titlePrefix,
+        TaskSort sort,
+        int limit) {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    /**
+     * @throws DomainException se o limite estiver fora de 1..{@value #MAX_LIMIT}
+     *         ou algum intervalo terminar antes de começar
+     */
+    public TaskQuery {
+        status = status == null || status.isBlank() ? null : status.trim();
+        titlePrefix = titlePrefix == null || titlePrefix.isEmpty() ? null : titlePrefix;
+        sort = sort != null ? sort : TaskSort.DEFAULT;
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw DomainError.invalidArgument("limit deve estar entre 1 e " + MAX_LIMIT).toException();
+        }
+        checkRange("createdFrom", createdFrom, "createdTo", createdTo);
+        checkRange("updatedFrom", updatedFrom, "updatedTo", updatedTo);
+    }
+
+    public boolean hasCreatedRange() {
+        return createdFrom != null || createdTo != null;
+    }
+
+    public boolean hasUpdatedRange() {
+        return updatedFrom != null || updatedTo != null;
+    }
+
+    /**
+     * Indica se a tarefa atende a todos os filtros.
+     */
+    public boolean matches(Task task) {
+        return (status == null || status.equals(task.getStatus()))
+            && within(task.getCreatedAt(), createdFrom, createdTo)
+            && within(task.getUpdatedAt(), updatedFrom, updatedTo)
+            && (titlePrefix == null || task.getTitle() != null && task.getTitle().startsWith(titlePrefix));
+    }
+
+    /**
+     * Filtra, ordena e limita em memória, para adapters sem índices próprios.
+     */
+    public List<Task> apply(Collection<Task> tasks) {
+        return tasks.stream()
+            .filter(this::matches)
+            .sorted(sort.comparator())
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * Quantas tarefas atendem aos filtros, sem o limite.
+     */
+    public long count(Collection<Task> tasks) {
+        return tasks.stream().filter(this::matches).count();
+    }
+
+    private static boolean within(LocalDateTime value, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return true;
+        }
+        return value != null && (from == null || !value.isBefore(from)) && (to == null || value.isBefore(to));
+    }
+
+    private static void checkRange(String fromName, LocalDateTime from, String toName, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw DomainError.invalidArgument(fromName + " deve ser anterior a " + toName).toException();
+        }
+    }
+}
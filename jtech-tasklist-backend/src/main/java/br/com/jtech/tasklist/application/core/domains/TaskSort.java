@@ -0,0 +1,94 @@
+/*
+*  @(#)TaskSort.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+* Ordenações aceitas na consulta de tarefas ({@code ?sort=-createdAt}). Somente estas
+* existem: cada uma tem índice no banco. Empates são desfeitos pelo ID, na mesma direção.
+*
+* @author JTech
+*/
+public enum TaskSort {
+
+    CREATED_AT_ASC("createdAt", false),
+    CREATED_AT_DESC("-createdAt", true),
+    UPDATED_AT_ASC("updatedAt", false),
+    UPDATED_AT_DESC("-updatedAt", true),
+    TITLE_ASC("title", false);
+
+    public static final TaskSort DEFAULT = CREATED_AT_DESC;
+
+    /**
+     * Valores aceitos. Constante literal para poder ser usada em anotações da
+     * documentação OpenAPI.
+     */
+    public static final String NAMES = "createdAt,-createdAt,updatedAt,-updatedAt,title";
+
+    private final String parameter;
+    private final boolean descending;
+
+    TaskSort(String parameter, boolean descending) {
+        this.parameter = parameter;
+        this.descending = descending;
+    }
+
+    public String parameter() {
+        return parameter;
+    }
+
+    public boolean descending() {
+        return descending;
+    }
+
+    /**
+     * Ordem equivalente à do banco, para adapters que ordenam em memória.
+     * Valores nulos ficam no fim da ordem crescente, como no PostgreSQL.
+     */
+    public Comparator<Task> comparator() {
+        Comparator<Task> ascending = switch (this) {
+            case CREATED_AT_ASC, CREATED_AT_DESC -> byNullable(Task::getCreatedAt);
+            case UPDATED_AT_ASC, UPDATED_AT_DESC -> byNullable(Task::getUpdatedAt);
+            case TITLE_ASC -> byNullable(Task::getTitle);
+        };
+        Comparator<Task> withTieBreaker = ascending.thenComparing(Task::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+        return descending ? withTieBreaker.reversed() : withTieBreaker;
+    }
+
+    /**
+     * Converte o parâmetro da requisição na ordenação correspondente.
+     *
+     * @param sort Ordenação pedida (null ou vazio = {@link #DEFAULT})
+     * @return Ordenação
+     * @throws DomainException se a ordenação não estiver na lista aceita
+     */
+    public static TaskSort parse(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return DEFAULT;
+        }
+        String trimmed = sort.trim();
+        for (TaskSort value : values()) {
+            if (value.parameter.equals(trimmed)) {
+                return value;
+            }
+        }
+        throw DomainError.invalidArgument("Ordenação não suportada: " + trimmed + ". Valores aceitos: " + NAMES)
+            .toException();
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<Task> byNullable(Function<Task, T> key) {
+        return Comparator.comparing(key, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+}
@@ -18,6 +18,7 @@ import lombok.*;
 
 import java.util.UUID;
 import java.util.List;
+import java.util.stream.Collectors;
 
 
 /**
@@ -34,26 +35,51 @@ import java.util.List;
 public class Tasklist {
 
     private String id;
+    private String name;
+    private String parentId;
+    private List<Task> tasks;
+    private List<Tasklist> children;
 
     public static List<Tasklist> of(List<TasklistEntity> entities) {
         return entities.stream().map(Tasklist::of).toList();
      }
 
     public TasklistEntity toEntity() {
-        return TasklistEntity.builder()
-            .id(UUID.fromString(getId()))
-            .build();
+        TasklistEntity.TasklistEntityBuilder builder = TasklistEntity.builder()
+            .name(getName());
+        if (getId() != null && !getId().isEmpty()) {
+            builder.id(UUID.fromString(getId()));
+        }
+        if (getParentId() != null && !getParentId().isEmpty()) {
+            builder.parentId(UUID.fromString(getParentId()));
+        }
+        return builder.build();
      }
 
+    /**
+     * Converte a entidade sem tocar na coleção de tarefas (que pode não estar carregada).
+     */
     public static Tasklist of(TasklistEntity entity) {
         return Tasklist.builder()
             .id(entity.getId().toString())
+            .name(entity.getName())
+            .parentId(entity.getParentId() != null ? entity.getParentId().toString() : null)
             .build();
      }
 
+    /**
+     * Converte a requisição para o domínio, incluindo tarefas e sublistas.
+     */
     public static Tasklist of(TasklistRequest request) {
         return Tasklist.builder()
             .id(request.getId())
+            .name(request.getName())
+            .tasks(request.getTasks() != null
+                ? request.getTasks().stream().map(Task::of).collect(Collectors.toList())
+                : null)
+            .children(request.getRequests() != null
+                ? request.getRequests().stream().map(Tasklist::of).collect(Collectors.toList())
+                : null)
             .build();
      }
- }
\ No newline at end of file
+ }
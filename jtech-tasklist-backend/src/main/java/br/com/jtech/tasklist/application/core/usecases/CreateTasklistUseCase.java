@@ -13,10 +13,19 @@
 package br.com.jtech.tasklist.application.core.usecases;
 
 
+import br.com.jtech.tasklist.application.core.domains.LexoRank;
+import br.com.jtech.tasklist.application.core.domains.Task;
 import br.com.jtech.tasklist.application.core.domains.Tasklist;
 import br.com.jtech.tasklist.application.ports.input.CreateTasklistInputGateway;
 import br.com.jtech.tasklist.application.ports.output.CreateTasklistOutputGateway;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
 /**
 * class TasklistUseCase  
 * 
@@ -30,7 +39,71 @@ public class CreateTasklistUseCase implements CreateTasklistInputGateway {
         this.createTasklistOutputGateway = createTasklistOutputGateway;
      }
 
+    /**
+     * Cria a lista com suas tarefas e sublistas. Os IDs são gerados aqui, antes da
+     * persistência, para que a árvore inteira seja gravada em lote sem ida ao banco por linha.
+     */
     public Tasklist create(Tasklist tasklist) {
+        List<Task> tasks = new ArrayList<>();
+        prepare(tasklist, null, tasks);
+        validateUniqueTitles(tasks);
         return createTasklistOutputGateway.create(tasklist);
      }
- }
\ No newline at end of file
+
+    private void prepare(Tasklist tasklist, String parentId, List<Task> tasks) {
+        tasklist.setId(newId(tasklist.getId()));
+        tasklist.setParentId(parentId);
+
+        if (tasklist.getTasks() != null) {
+            List<String> ranks = LexoRank.spread(tasklist.getTasks().size());
+            int index = 0;
+            for (Task task : tasklist.getTasks()) {
+                task.setId(newId(task.getId()));
+                task.setTasklistId(tasklist.getId());
+                task.setRank(ranks.get(index++));
+                if (task.getStatus() == null || task.getStatus().isEmpty()) {
+                    task.setStatus("pendente");
+                }
+                tasks.add(task);
+            }
+        }
+        if (tasklist.getChildren() != null) {
+            for (Tasklist child : tasklist.getChildren()) {
+                prepare(child, tasklist.getId(), tasks);
+            }
+        }
+     }
+
+    /**
+     * Aplica a mesma regra do cadastro individual (título único, ignorando maiúsculas/minúsculas),
+     * tanto dentro da requisição quanto contra as tarefas existentes, com uma única consulta.
+     */
+    private void validateUniqueTitles(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        Set<String> titles = new LinkedHashSet<>();
+        for (Task task : tasks) {
+            if (task.getTitle() == null || task.getTitle().trim().isEmpty()) {
+                throw new IllegalArgumentException("O título da tarefa é obrigatório");
+            }
+            String trimmedTitle = task.getTitle().trim();
+            if (!titles.add(trimmedTitle.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException(
+                    String.format("A tarefa '%s' aparece mais de uma vez na requisição (ignorando maiúsculas/minúsculas)", trimmedTitle)
+                );
+            }
+        }
+
+        Set<String> existing = createTasklistOutputGateway.findExistingTaskTitles(titles);
+        if (!existing.isEmpty()) {
+            throw new IllegalArgumentException(
+                String.format("Já existem tarefas com os títulos %s (ignorando maiúsculas/minúsculas)", existing)
+            );
+        }
+     }
+
+    private static String newId(String id) {
+        return (id != null && !id.isEmpty()) ? UUID.fromString(id).toString() : UUID.randomUUID().toString();
+     }
+ }
@@ -0,0 +1,38 @@
+/*
+*  @(#)FindTasklistUseCase.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.Tasklist;
+import br.com.jtech.tasklist.application.ports.input.FindTasklistInputGateway;
+import br.com.jtech.tasklist.application.ports.output.FindTasklistOutputGateway;
+
+import java.util.Optional;
+
+/**
+* Caso de uso de consulta de uma lista de tarefas.
+*
+* @author JTech
+*/
+public class FindTasklistUseCase implements FindTasklistInputGateway {
+
+    private final FindTasklistOutputGateway findTasklistOutputGateway;
+
+    public FindTasklistUseCase(FindTasklistOutputGateway findTasklistOutputGateway) {
+        this.findTasklistOutputGateway = findTasklistOutputGateway;
+    }
+
+    @Override
+    public Optional<Tasklist> findById(String id) {
+        return findTasklistOutputGateway.findById(id);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+*  @(#)ReactiveTaskUseCase.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.DomainError;
+import br.com.jtech.tasklist.application.core.domains.DomainException;
+import br.com.jtech.tasklist.application.core.domains.Ids;
+import br.com.jtech.tasklist.application.core.domains.LexoRank;
+import br.com.jtech.tasklist.application.core.domains.Result;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.ports.input.ReactiveTaskInputGateway;
+import br.com.jtech.tasklist.application.ports.output.ReactiveTaskOutputGateway;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static br.com.jtech.tasklist.application.core.usecases.TaskUseCase.DIFFERENT_TASKLIST;
+import static br.com.jtech.tasklist.application.core.usecases.TaskUseCase.NEIGHBOR_REQUIRED;
+import static br.com.jtech.tasklist.application.core.usecases.TaskUseCase.RANK_NOT_INITIALIZED;
+import static br.com.jtech.tasklist.application.core.usecases.TaskUseCase.SELF_NEIGHBOR;
+
+/**
+* Casos de uso de tarefas sobre a porta reativa. Mesmas regras do {@link TaskUseCase},
+* compostas como operadores do Reactor: nenhuma etapa bloqueia a thread, e cada
+* consulta só é disparada quando a anterior responde.
+*
+* @author JTech
+*/
+public class ReactiveTaskUseCase implements ReactiveTaskInputGateway {
+
+    private final ReactiveTaskOutputGateway taskOutputGateway;
+
+    public ReactiveTaskUseCase(ReactiveTaskOutputGateway taskOutputGateway) {
+        this.taskOutputGateway = taskOutputGateway;
+    }
+
+    @Override
+    public Mono<Task> create(Task task) {
+        return tryCreate(task).map(Result::orElseThrow);
+    }
+
+    @Override
+    public Mono<Result<Task>> tryCreate(Task task) {
+        // Garante que o status padrão seja "pendente" se não informado
+        if (task.getStatus() == null || task.getStatus().isEmpty()) {
+            task.setStatus("pendente");
+        }
+        Mono<Result<Task>> save = Mono.defer(() -> taskOutputGateway.save(task).map(Result::ok));
+
+        // Valida se já existe uma tarefa com o mesmo título (case-insensitive)
+        if (task.getTitle() == null || task.getTitle().trim().isEmpty()) {
+            return save;
+        }
+        String trimmedTitle = task.getTitle().trim();
+        return taskOutputGateway.findByTitleIgnoreCase(trimmedTitle)
+            .map(existing -> Result.<Task>fail(DomainError.duplicateTitle(trimmedTitle)))
+            .switchIfEmpty(save);
+    }
+
+    @Override
+    public Flux<Task> findAll() {
+        return taskOutputGateway.findAll();
+    }
+
+    @Override
+    public Mono<Task> findById(String id) {
+        // IDs fora do formato não chegam ao banco
+        if (!Ids.isValid(id)) {
+            return Mono.empty();
+        }
+        return taskOutputGateway.findById(id);
+    }
+
+    @Override
+    public Mono<Task> update(String id, Task task) {
+        return tryUpdate(id, task).flatMap(result -> {
+            if (result instanceof Result.Failure<Task> failure && failure.error().kind() == DomainError.Kind.NOT_FOUND) {
+                return Mono.empty();
+            }
+            return Mono.just(result.orElseThrow());
+        });
+    }
+
+    @Override
+    public Mono<Result<Task>> tryUpdate(String id, Task task) {
+        return findById(id)
+            .flatMap(existingTask -> applyUpdate(id, existingTask, task))
+            .defaultIfEmpty(Result.fail(DomainError.NOT_FOUND));
+    }
+
+    /**
+     * Atualiza apenas os campos fornecidos. Se a tarefa for excluída entre a leitura
+     * e a gravação, o resultado é vazio (e vira "não encontrada").
+     */
+    private Mono<Result<Task>> applyUpdate(String id, Task taskToUpdate, Task task) {
+        boolean hasTitle = task.getTitle() != null && !task.getTitle().isEmpty();
+        // Valida se já existe outra tarefa com o mesmo título (case-insensitive),
+        // ignorando a própria tarefa que está sendo atualizada
+        Mono<Boolean> titleTaken = hasTitle
+            ? taskOutputGateway.findByTitleIgnoreCase(task.getTitle())
+                .map(sameTitle -> !sameTitle.getId().equals(id))
+                .defaultIfEmpty(false)
+            : Mono.just(false);
+
+        return titleTaken.flatMap(taken -> {
+            if (taken) {
+                return Mono.just(Result.<Task>fail(DomainError.duplicateTitleOnUpdate(task.getTitle())));
+            }
+            if (hasTitle) {
+                taskToUpdate.setTitle(task.getTitle());
+            }
+            if (task.getDescription() != null) {
+                taskToUpdate.setDescription(task.getDescription());
+            }
+            if (task.getStatus() != null && !task.getStatus().isEmpty()) {
+                taskToUpdate.setStatus(task.getStatus());
+            }
+            return taskOutputGateway.update(taskToUpdate).map(Result::ok);
+        });
+    }
+
+    @Override
+    public Mono<Boolean> delete(String id) {
+        return findById(id)
+            .flatMap(task -> taskOutputGateway.deleteById(id).thenReturn(true))
+            .defaultIfEmpty(false);
+    }
+
+    /**
+     * Calcula uma chave entre o vizinho informado e o seguinte (ou anterior) na lista,
+     * de modo que apenas a tarefa movida seja gravada.
+     */
+    @Override
+    public Mono<Task> move(String id, String beforeId, String afterId) {
+        boolean hasBefore = beforeId != null && !beforeId.isBlank();
+        boolean hasAfter = afterId != null && !afterId.isBlank();
+        if (hasBefore == hasAfter) {
+            return Mono.error(NEIGHBOR_REQUIRED);
+        }
+        String neighborId = hasBefore ? beforeId : afterId;
+
+        return findById(id).flatMap(task -> {
+            if (neighborId.equals(id)) {
+                return Mono.error(SELF_NEIGHBOR);
+            }
+            return findById(neighborId)
+                .switchIfEmpty(Mono.error(() -> new DomainException("Tarefa vizinha '" + neighborId + "' não encontrada")))
+                .flatMap(neighbor -> {
+                    if (task.getTasklistId() == null || !task.getTasklistId().equals(neighbor.getTasklistId())) {
+                        return Mono.error(DIFFERENT_TASKLIST);
+                    }
+                    if (neighbor.getRank() == null) {
+                        return Mono.error(RANK_NOT_INITIALIZED);
+                    }
+                    Mono<String> rank = hasAfter
+                        ? taskOutputGateway.findNextRank(task.getTasklistId(), neighbor.getRank(), id)
+                            .map(upper -> LexoRank.between(neighbor.getRank(), upper))
+                            .defaultIfEmpty(LexoRank.after(neighbor.getRank()))
+                        : taskOutputGateway.findPreviousRank(task.getTasklistId(), neighbor.getRank(), id)
+                            .map(lower -> LexoRank.between(lower, neighbor.getRank()))
+                            .defaultIfEmpty(LexoRank.before(neighbor.getRank()));
+                    return rank.flatMap(newRank -> taskOutputGateway.updateRank(id, newRank));
+                });
+        });
+    }
+}
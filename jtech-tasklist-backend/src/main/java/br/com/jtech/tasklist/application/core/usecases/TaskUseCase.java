@@ -12,13 +12,21 @@
 */
 package br.com.jtech.tasklist.application.core.usecases;
 
+import br.com.jtech.tasklist.application.core.domains.DomainError;
+import br.com.jtech.tasklist.application.core.domains.DomainException;
+import br.com.jtech.tasklist.application.core.domains.Ids;
+import br.com.jtech.tasklist.application.core.domains.LexoRank;
+import br.com.jtech.tasklist.application.core.domains.Result;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskCount;
+import br.com.jtech.tasklist.application.core.domains.TaskField;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
 import br.com.jtech.tasklist.application.ports.input.TaskInputGateway;
 import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 
 /**
 * Classe que implementa os casos de uso (regras de negócio) da aplicação.
@@ -28,6 +36,16 @@ import java.util.UUID;
 */
 public class TaskUseCase implements TaskInputGateway {
 
+    // Erros de mensagem fixa: pré-alocados e sem pilha (compartilhados com o ReactiveTaskUseCase)
+    static final DomainException NEIGHBOR_REQUIRED =
+        new DomainException("Informe exatamente um vizinho: beforeId ou afterId");
+    static final DomainException SELF_NEIGHBOR =
+        new DomainException("A tarefa não pode ser movida em relação a ela mesma");
+    static final DomainException DIFFERENT_TASKLIST =
+        new DomainException("As tarefas devem pertencer à mesma lista");
+    static final DomainException RANK_NOT_INITIALIZED =
+        new DomainException("A ordenação da lista ainda está sendo inicializada; tente novamente");
+
     private final TaskOutputGateway taskOutputGateway;
 
     public TaskUseCase(TaskOutputGateway taskOutputGateway) {
@@ -36,6 +54,11 @@ public class TaskUseCase implements TaskInputGateway {
 
     @Override
     public Task create(Task task) {
+        return tryCreate(task).orElseThrow();
+    }
+
+    @Override
+    public Result<Task> tryCreate(Task task) {
         // Garante que o status padrão seja "pendente" se não informado
         if (task.getStatus() == null || task.getStatus().isEmpty()) {
             task.setStatus("pendente");
@@ -46,13 +69,11 @@ public class TaskUseCase implements TaskInputGateway {
             String trimmedTitle = task.getTitle().trim();
             Optional<Task> existingTask = taskOutputGateway.findByTitleIgnoreCase(trimmedTitle);
             if (existingTask.isPresent()) {
-                throw new IllegalArgumentException(
-                    String.format("Já existe uma tarefa com o título '%s' (ignorando maiúsculas/minúsculas)", trimmedTitle)
-                );
+                return Result.fail(DomainError.duplicateTitle(trimmedTitle));
             }
         }
 
-        return taskOutputGateway.save(task);
+        return Result.ok(taskOutputGateway.save(task));
     }
 
     @Override
@@ -62,15 +83,51 @@ public class TaskUseCase implements TaskInputGateway {
 
     @Override
     public Optional<Task> findById(String id) {
+        // IDs fora do formato não chegam ao banco
+        if (!Ids.isValid(id)) {
+            return Optional.empty();
+        }
         return taskOutputGateway.findById(id);
     }
 
+    @Override
+    public List<Task> findAll(Set<TaskField> fields) {
+        return taskOutputGateway.findAll(fields);
+    }
+
+    @Override
+    public Optional<Task> findById(String id, Set<TaskField> fields) {
+        if (!Ids.isValid(id)) {
+            return Optional.empty();
+        }
+        return taskOutputGateway.findById(id, fields);
+    }
+
+    @Override
+    public List<Task> findAll(TaskQuery query, Set<TaskField> fields) {
+        return taskOutputGateway.findAll(query, fields);
+    }
+
+    @Override
+    public TaskCount count(TaskQuery query, boolean exact) {
+        return taskOutputGateway.count(query, exact);
+    }
+
     @Override
     public Optional<Task> update(String id, Task task) {
-        Optional<Task> existingTask = taskOutputGateway.findById(id);
+        Result<Task> result = tryUpdate(id, task);
+        if (result instanceof Result.Failure<Task> failure && failure.error().kind() == DomainError.Kind.NOT_FOUND) {
+            return Optional.empty();
+        }
+        return Optional.of(result.orElseThrow());
+    }
+
+    @Override
+    public Result<Task> tryUpdate(String id, Task task) {
+        Optional<Task> existingTask = findById(id);
 
         if (existingTask.isEmpty()) {
-            return Optional.empty();
+            return Result.fail(DomainError.NOT_FOUND);
         }
 
         Task taskToUpdate = existingTask.get();
@@ -81,9 +138,7 @@ public class TaskUseCase implements TaskInputGateway {
             // Ignora a própria tarefa que está sendo atualizada
             Optional<Task> taskWithSameTitle = taskOutputGateway.findByTitleIgnoreCase(task.getTitle());
             if (taskWithSameTitle.isPresent() && !taskWithSameTitle.get().getId().equals(id)) {
-                throw new IllegalArgumentException(
-                    String.format("Já existe outra tarefa com o título '%s' (ignorando maiúsculas/minúsculas)", task.getTitle())
-                );
+                return Result.fail(DomainError.duplicateTitleOnUpdate(task.getTitle()));
             }
             taskToUpdate.setTitle(task.getTitle());
         }
@@ -95,12 +150,12 @@ public class TaskUseCase implements TaskInputGateway {
         }
 
         Task updatedTask = taskOutputGateway.update(taskToUpdate);
-        return Optional.of(updatedTask);
+        return Result.ok(updatedTask);
     }
 
     @Override
     public boolean delete(String id) {
-        Optional<Task> task = taskOutputGateway.findById(id);
+        Optional<Task> task = findById(id);
 
         if (task.isEmpty()) {
             return false;
@@ -109,5 +164,48 @@ public class TaskUseCase implements TaskInputGateway {
         taskOutputGateway.deleteById(id);
         return true;
     }
+
+    /**
+     * Calcula uma chave entre o vizinho informado e o seguinte (ou anterior) na lista,
+     * de modo que apenas a tarefa movida seja gravada.
+     */
+    @Override
+    public Optional<Task> move(String id, String beforeId, String afterId) {
+        boolean hasBefore = beforeId != null && !beforeId.isBlank();
+        boolean hasAfter = afterId != null && !afterId.isBlank();
+        if (hasBefore == hasAfter) {
+            throw NEIGHBOR_REQUIRED;
+        }
+
+        Optional<Task> existingTask = findById(id);
+        if (existingTask.isEmpty()) {
+            return Optional.empty();
+        }
+        Task task = existingTask.get();
+
+        String neighborId = hasBefore ? beforeId : afterId;
+        if (neighborId.equals(id)) {
+            throw SELF_NEIGHBOR;
+        }
+        Task neighbor = findById(neighborId)
+            .orElseThrow(() -> new DomainException("Tarefa vizinha '" + neighborId + "' não encontrada"));
+        if (task.getTasklistId() == null || !task.getTasklistId().equals(neighbor.getTasklistId())) {
+            throw DIFFERENT_TASKLIST;
+        }
+        if (neighbor.getRank() == null) {
+            throw RANK_NOT_INITIALIZED;
+        }
+
+        String rank;
+        if (hasAfter) {
+            String upper = taskOutputGateway.findNextRank(task.getTasklistId(), neighbor.getRank(), id).orElse(null);
+            rank = upper == null ? LexoRank.after(neighbor.getRank()) : LexoRank.between(neighbor.getRank(), upper);
+        } else {
+            String lower = taskOutputGateway.findPreviousRank(task.getTasklistId(), neighbor.getRank(), id).orElse(null);
+            rank = lower == null ? LexoRank.before(neighbor.getRank()) : LexoRank.between(lower, neighbor.getRank());
+        }
+
+        return taskOutputGateway.updateRank(id, rank);
+    }
 }
 
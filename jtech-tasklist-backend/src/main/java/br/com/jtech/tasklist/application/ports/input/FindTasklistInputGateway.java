@@ -0,0 +1,33 @@
+/*
+*  @(#)FindTasklistInputGateway.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.ports.input;
+
+import br.com.jtech.tasklist.application.core.domains.Tasklist;
+
+import java.util.Optional;
+
+/**
+* Interface do caso de uso de consulta de uma lista de tarefas.
+*
+* @author JTech
+*/
+public interface FindTasklistInputGateway {
+
+    /**
+     * Busca uma lista com suas tarefas ordenadas pela posição.
+     *
+     * @param id ID da lista
+     * @return Lista encontrada ou Optional vazio se não encontrada
+     */
+    Optional<Tasklist> findById(String id);
+}
@@ -0,0 +1,97 @@
+/*
+*  @(#)ReactiveTaskInputGateway.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.ports.input;
+
+import br.com.jtech.tasklist.application.core.domains.Result;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+* Variante não bloqueante dos casos de uso de {@link TaskInputGateway}, usada pela
+* pilha reativa (WebFlux + R2DBC). As regras são as mesmas; "não encontrada" é um
+* {@link Mono} vazio no lugar do Optional vazio.
+*
+* @author JTech
+*/
+public interface ReactiveTaskInputGateway {
+
+    /**
+     * Cria uma nova tarefa.
+     *
+     * @param task Tarefa a ser criada
+     * @return Tarefa criada com ID gerado
+     */
+    Mono<Task> create(Task task);
+
+    /**
+     * Cria uma nova tarefa, devolvendo falhas de negócio como {@link Result.Failure}.
+     *
+     * @param task Tarefa a ser criada
+     * @return Tarefa criada ou o erro de negócio
+     */
+    Mono<Result<Task>> tryCreate(Task task);
+
+    /**
+     * Busca todas as tarefas.
+     *
+     * @return Tarefas, emitidas à medida que são lidas do banco
+     */
+    Flux<Task> findAll();
+
+    /**
+     * Busca uma tarefa por ID.
+     *
+     * @param id ID da tarefa
+     * @return Tarefa encontrada ou vazio se não encontrada
+     */
+    Mono<Task> findById(String id);
+
+    /**
+     * Atualiza uma tarefa existente.
+     *
+     * @param id ID da tarefa a ser atualizada
+     * @param task Dados atualizados da tarefa
+     * @return Tarefa atualizada ou vazio se não encontrada
+     */
+    Mono<Task> update(String id, Task task);
+
+    /**
+     * Atualiza uma tarefa existente, devolvendo falhas de negócio (tarefa inexistente,
+     * título duplicado) como {@link Result.Failure}.
+     *
+     * @param id ID da tarefa a ser atualizada
+     * @param task Dados atualizados da tarefa
+     * @return Tarefa atualizada ou o erro de negócio
+     */
+    Mono<Result<Task>> tryUpdate(String id, Task task);
+
+    /**
+     * Deleta uma tarefa por ID.
+     *
+     * @param id ID da tarefa a ser deletada
+     * @return true se a tarefa foi deletada, false se não foi encontrada
+     */
+    Mono<Boolean> delete(String id);
+
+    /**
+     * Move uma tarefa para antes ou depois de outra tarefa da mesma lista.
+     * Exatamente um dos vizinhos deve ser informado.
+     *
+     * @param id ID da tarefa a ser movida
+     * @param beforeId ID da tarefa que ficará logo depois da movida
+     * @param afterId ID da tarefa que ficará logo antes da movida
+     * @return Tarefa com a nova chave de ordenação ou vazio se não encontrada
+     */
+    Mono<Task> move(String id, String beforeId, String afterId);
+}
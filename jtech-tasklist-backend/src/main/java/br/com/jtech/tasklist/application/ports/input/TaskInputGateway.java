@@ -12,10 +12,15 @@
 */
 package br.com.jtech.tasklist.application.ports.input;
 
+import br.com.jtech.tasklist.application.core.domains.Result;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskCount;
+import br.com.jtech.tasklist.application.core.domains.TaskField;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
 * Interface que define os casos de uso (use cases) da aplicação.
@@ -33,6 +38,15 @@ public interface TaskInputGateway {
      */
     Task create(Task task);
 
+    /**
+     * Cria uma nova tarefa, devolvendo falhas de negócio (ex.: título duplicado)
+     * como {@link Result.Failure} em vez de exceção.
+     *
+     * @param task Tarefa a ser criada
+     * @return Tarefa criada ou o erro de negócio
+     */
+    Result<Task> tryCreate(Task task);
+
     /**
      * Busca todas as tarefas.
      *
@@ -48,6 +62,44 @@ public interface TaskInputGateway {
      */
     Optional<Task> findById(String id);
 
+    /**
+     * Busca todas as tarefas lendo apenas os campos informados; os demais ficam nulos.
+     *
+     * @param fields Campos a preencher
+     * @return Lista de todas as tarefas
+     */
+    List<Task> findAll(Set<TaskField> fields);
+
+    /**
+     * Busca uma tarefa por ID lendo apenas os campos informados; os demais ficam nulos.
+     *
+     * @param id ID da tarefa
+     * @param fields Campos a preencher
+     * @return Tarefa encontrada ou Optional vazio se não encontrada
+     */
+    Optional<Task> findById(String id, Set<TaskField> fields);
+
+    /**
+     * Busca as tarefas que atendem à consulta, lendo apenas os campos informados.
+     * Combinações que exigiriam varredura completa de uma tabela grande são recusadas
+     * como argumento inválido.
+     *
+     * @param query Filtros, ordenação e limite
+     * @param fields Campos a preencher
+     * @return Tarefas encontradas, na ordem pedida
+     */
+    List<Task> findAll(TaskQuery query, Set<TaskField> fields);
+
+    /**
+     * Conta as tarefas que atendem aos filtros da consulta, ignorando o limite.
+     * Acima de um limiar o total pode ser estimado, a menos que {@code exact} seja true.
+     *
+     * @param query Filtros da consulta
+     * @param exact true para exigir a contagem exata
+     * @return Total exato ou estimado
+     */
+    TaskCount count(TaskQuery query, boolean exact);
+
     /**
      * Atualiza uma tarefa existente.
      *
@@ -57,6 +109,16 @@ public interface TaskInputGateway {
      */
     Optional<Task> update(String id, Task task);
 
+    /**
+     * Atualiza uma tarefa existente, devolvendo falhas de negócio (tarefa inexistente,
+     * título duplicado) como {@link Result.Failure} em vez de exceção.
+     *
+     * @param id ID da tarefa a ser atualizada
+     * @param task Dados atualizados da tarefa
+     * @return Tarefa atualizada ou o erro de negócio
+     */
+    Result<Task> tryUpdate(String id, Task task);
+
     /**
      * Deleta uma tarefa por ID.
      *
@@ -64,5 +126,16 @@ public interface TaskInputGateway {
      * @return true se a tarefa foi deletada, false se não foi encontrada
      */
     boolean delete(String id);
+
+    /**
+     * Move uma tarefa para antes ou depois de outra tarefa da mesma lista.
+     * Exatamente um dos vizinhos deve ser informado.
+     *
+     * @param id ID da tarefa a ser movida
+     * @param beforeId ID da tarefa que ficará logo depois da movida
+     * @param afterId ID da tarefa que ficará logo antes da movida
+     * @return Tarefa com a nova chave de ordenação ou Optional vazio se não encontrada
+     */
+    Optional<Task> move(String id, String beforeId, String afterId);
 }
 
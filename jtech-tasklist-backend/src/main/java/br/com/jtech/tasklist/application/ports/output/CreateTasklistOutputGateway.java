@@ -14,11 +14,25 @@ package br.com.jtech.tasklist.application.ports.output;
 
 import br.com.jtech.tasklist.application.core.domains.Tasklist;
 
+import java.util.Collection;
+import java.util.Set;
+
 /**
 * class TasklistOutputGateway 
 * 
 * user angelo.vicente 
 */
 public interface CreateTasklistOutputGateway {
+
+    /**
+     * Persiste a árvore de listas e tarefas em uma única transação.
+     * Os IDs já devem estar preenchidos.
+     */
     Tasklist create(Tasklist tasklist);
+
+    /**
+     * Retorna, dentre os títulos informados (já normalizados em minúsculas e sem espaços
+     * nas extremidades), aqueles que já pertencem a alguma tarefa.
+     */
+    Set<String> findExistingTaskTitles(Collection<String> normalizedTitles);
 }
\ No newline at end of file
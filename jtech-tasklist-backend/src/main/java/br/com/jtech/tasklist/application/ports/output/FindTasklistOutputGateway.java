@@ -0,0 +1,33 @@
+/*
+*  @(#)FindTasklistOutputGateway.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.ports.output;
+
+import br.com.jtech.tasklist.application.core.domains.Tasklist;
+
+import java.util.Optional;
+
+/**
+* Interface de persistência para a consulta de uma lista de tarefas.
+*
+* @author JTech
+*/
+public interface FindTasklistOutputGateway {
+
+    /**
+     * Busca uma lista com suas tarefas em uma única consulta.
+     *
+     * @param id ID da lista
+     * @return Lista encontrada ou Optional vazio se não encontrada
+     */
+    Optional<Tasklist> findById(String id);
+}
@@ -0,0 +1,102 @@
+/*
+*  @(#)ReactiveTaskOutputGateway.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.ports.output;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+* Variante não bloqueante de {@link TaskOutputGateway}. Nenhum método pode bloquear
+* a thread que o assina: as implementações usam drivers reativos (R2DBC).
+*
+* @author JTech
+*/
+public interface ReactiveTaskOutputGateway {
+
+    /**
+     * Salva uma nova tarefa.
+     *
+     * @param task Tarefa a ser salva
+     * @return Tarefa salva com ID gerado
+     */
+    Mono<Task> save(Task task);
+
+    /**
+     * Busca todas as tarefas.
+     *
+     * @return Tarefas, emitidas à medida que são lidas
+     */
+    Flux<Task> findAll();
+
+    /**
+     * Busca uma tarefa por ID.
+     *
+     * @param id ID da tarefa
+     * @return Tarefa encontrada ou vazio se não encontrada
+     */
+    Mono<Task> findById(String id);
+
+    /**
+     * Atualiza uma tarefa existente.
+     *
+     * @param task Tarefa atualizada
+     * @return Tarefa atualizada ou vazio se ela não existir mais
+     */
+    Mono<Task> update(Task task);
+
+    /**
+     * Deleta uma tarefa por ID.
+     *
+     * @param id ID da tarefa a ser deletada
+     * @return Conclusão da exclusão
+     */
+    Mono<Void> deleteById(String id);
+
+    /**
+     * Busca uma tarefa por título ignorando maiúsculas/minúsculas.
+     *
+     * @param title Título da tarefa (case-insensitive)
+     * @return Tarefa encontrada ou vazio se não encontrada
+     */
+    Mono<Task> findByTitleIgnoreCase(String title);
+
+    /**
+     * Busca a menor chave de ordenação maior que {@code rank} na lista.
+     *
+     * @param tasklistId ID da lista
+     * @param rank Chave de referência
+     * @param excludedId ID da tarefa ignorada na busca (a que está sendo movida)
+     * @return Chave seguinte ou vazio se {@code rank} for a última
+     */
+    Mono<String> findNextRank(String tasklistId, String rank, String excludedId);
+
+    /**
+     * Busca a maior chave de ordenação menor que {@code rank} na lista.
+     *
+     * @param tasklistId ID da lista
+     * @param rank Chave de referência
+     * @param excludedId ID da tarefa ignorada na busca (a que está sendo movida)
+     * @return Chave anterior ou vazio se {@code rank} for a primeira
+     */
+    Mono<String> findPreviousRank(String tasklistId, String rank, String excludedId);
+
+    /**
+     * Atualiza apenas a chave de ordenação de uma tarefa.
+     *
+     * @param id ID da tarefa
+     * @param rank Nova chave de ordenação
+     * @return Tarefa atualizada ou vazio se não encontrada
+     */
+    Mono<Task> updateRank(String id, String rank);
+}
@@ -13,9 +13,16 @@
 package br.com.jtech.tasklist.application.ports.output;
 
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskCount;
+import br.com.jtech.tasklist.application.core.domains.TaskField;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
 * Interface que define as operações de persistência (repositório).
@@ -33,6 +40,18 @@ public interface TaskOutputGateway {
      */
     Task save(Task task);
 
+    /**
+     * Salva as tarefas de uma lista recém-criada, com ID, lista e chave de ordenação
+     * já atribuídos. Adapters com banco relacional gravam em lote na transação de
+     * quem chama; os demais gravam uma a uma.
+     *
+     * @param tasks Tarefas a serem salvas
+     * @return Tarefas salvas, na mesma ordem
+     */
+    default List<Task> saveAll(List<Task> tasks) {
+        return tasks.stream().map(this::save).toList();
+    }
+
     /**
      * Busca todas as tarefas.
      *
@@ -48,6 +67,53 @@ public interface TaskOutputGateway {
      */
     Optional<Task> findById(String id);
 
+    /**
+     * Busca todas as tarefas com ao menos os campos informados. Adapters que leem
+     * a linha inteira de qualquer forma (memória, log) devolvem a tarefa completa.
+     *
+     * @param fields Campos que precisam ser lidos
+     * @return Lista de todas as tarefas
+     */
+    default List<Task> findAll(Set<TaskField> fields) {
+        return findAll();
+    }
+
+    /**
+     * Busca uma tarefa por ID com ao menos os campos informados.
+     *
+     * @param id ID da tarefa
+     * @param fields Campos que precisam ser lidos
+     * @return Tarefa encontrada ou Optional vazio se não encontrada
+     */
+    default Optional<Task> findById(String id, Set<TaskField> fields) {
+        return findById(id);
+    }
+
+    /**
+     * Busca as tarefas que atendem à consulta, já ordenadas e limitadas, com ao menos
+     * os campos informados. Adapters sem índices para a consulta filtram e ordenam
+     * em memória sobre a leitura completa.
+     *
+     * @param query Filtros, ordenação e limite
+     * @param fields Campos que precisam ser lidos
+     * @return Tarefas encontradas, na ordem pedida
+     */
+    default List<Task> findAll(TaskQuery query, Set<TaskField> fields) {
+        return query.apply(findAll());
+    }
+
+    /**
+     * Conta as tarefas que atendem aos filtros da consulta, ignorando o limite.
+     * Adapters sem estatísticas do banco contam em memória, sempre de forma exata.
+     *
+     * @param query Filtros da consulta
+     * @param exact true para exigir a contagem exata mesmo em tabelas grandes
+     * @return Total exato ou estimado
+     */
+    default TaskCount count(TaskQuery query, boolean exact) {
+        return TaskCount.exact(query.count(findAll()));
+    }
+
     /**
      * Atualiza uma tarefa existente.
      *
@@ -70,5 +136,61 @@ public interface TaskOutputGateway {
      * @return Tarefa encontrada ou Optional vazio se não encontrada
      */
     Optional<Task> findByTitleIgnoreCase(String title);
+
+    /**
+     * Busca, dentre os títulos normalizados (LOWER/TRIM) informados, os que já pertencem
+     * a alguma tarefa.
+     *
+     * @param normalizedTitles Títulos normalizados
+     * @return Títulos já existentes, normalizados
+     */
+    default Set<String> findExistingTitles(Collection<String> normalizedTitles) {
+        return normalizedTitles.stream()
+            .filter(title -> findByTitleIgnoreCase(title).isPresent())
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Busca as tarefas de uma lista na ordem da lista; tarefas sem chave de ordenação
+     * vão para o final.
+     *
+     * @param tasklistId ID da lista
+     * @return Tarefas da lista, ordenadas pela chave de ordenação
+     */
+    default List<Task> findByTasklistId(String tasklistId) {
+        return findAll().stream()
+            .filter(task -> tasklistId.equals(task.getTasklistId()))
+            .sorted(Comparator.comparing(Task::getRank, Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+    }
+
+    /**
+     * Busca a menor chave de ordenação maior que {@code rank} na lista.
+     *
+     * @param tasklistId ID da lista
+     * @param rank Chave de referência
+     * @param excludedId ID da tarefa ignorada na busca (a que está sendo movida)
+     * @return Chave seguinte ou Optional vazio se {@code rank} for a última
+     */
+    Optional<String> findNextRank(String tasklistId, String rank, String excludedId);
+
+    /**
+     * Busca a maior chave de ordenação menor que {@code rank} na lista.
+     *
+     * @param tasklistId ID da lista
+     * @param rank Chave de referência
+     * @param excludedId ID da tarefa ignorada na busca (a que está sendo movida)
+     * @return Chave anterior ou Optional vazio se {@code rank} for a primeira
+     */
+    Optional<String> findPreviousRank(String tasklistId, String rank, String excludedId);
+
+    /**
+     * Atualiza apenas a chave de ordenação de uma tarefa.
+     *
+     * @param id ID da tarefa
+     * @param rank Nova chave de ordenação
+     * @return Tarefa atualizada ou Optional vazio se não encontrada
+     */
+    Optional<Task> updateRank(String id, String rank);
 }
 
@@ -0,0 +1,27 @@
+/*
+*  @(#)SchedulingConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas (@Scheduled), como o rebalanceamento
+ * das chaves de ordenação das tarefas.
+ *
+ * @author JTech
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
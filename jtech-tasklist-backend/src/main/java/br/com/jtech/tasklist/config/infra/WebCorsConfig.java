@@ -88,6 +88,7 @@ public class WebCorsConfig {
             "Authorization",
             "Content-Type",
             "X-Total-Count",
+            "X-Total-Count-Type",
             "Location"
         ));
 
@@ -0,0 +1,106 @@
+/*
+*  @(#)ResponseCache.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+* Cache de respostas já serializadas, com a variante gzip pré-calculada.
+* Cada entrada guarda a versão dos dados em que foi gerada ({@link DataVersion});
+* entradas de versões anteriores são tratadas como ausentes e substituídas.
+*
+* A versão é local à instância. Com várias instâncias, escritas feitas em outra
+* não invalidam este cache; nesse caso configure {@code maxAge} para limitar o
+* tempo em que uma listagem desatualizada pode ser servida.
+*
+* @author JTech
+*/
+public class ResponseCache {
+
+    private final Map<String, Entry> entries;
+    private final int maxEntryBytes;
+    private final long maxAgeNanos;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseCache(int maxEntries, int maxEntryBytes, Duration maxAge, MeterRegistry registry) {
+        this.maxEntryBytes = maxEntryBytes;
+        this.maxAgeNanos = maxAge.isZero() ? Long.MAX_VALUE : maxAge.toNanos();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.hits = Counter.builder("tasklist.response.cache").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("tasklist.response.cache").tag("result", "miss").register(registry);
+    }
+
+    /**
+     * Resposta serializada ({@code identity}) e comprimida ({@code gzip}), com os
+     * cabeçalhos que precisam ser repetidos quando ela é servida do cache.
+     */
+    public record Entry(long version, long createdAtNanos, String contentType, Map<String, List<String>> headers,
+                        byte[] identity, byte[] gzip) {
+    }
+
+    /**
+     * Retorna a entrada da chave se tiver sido gerada na versão informada e não tiver expirado.
+     */
+    public Entry get(String key, long version) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version() == version
+                && System.nanoTime() - entry.createdAtNanos() < maxAgeNanos) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Guarda a resposta e retorna a entrada com a variante gzip, ou null se a
+     * resposta for grande demais para o cache.
+     */
+    public Entry put(String key, long version, String contentType, Map<String, List<String>> headers,
+                     byte[] body) {
+        if (body.length > maxEntryBytes) {
+            return null;
+        }
+        Entry entry = new Entry(version, System.nanoTime(), contentType, Map.copyOf(headers), body, gzip(body));
+        // Não substitui uma entrada de versão mais nova gerada por uma requisição concorrente
+        entries.merge(key, entry, (current, candidate) -> current.version() > candidate.version() ? current : candidate);
+        return entry;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
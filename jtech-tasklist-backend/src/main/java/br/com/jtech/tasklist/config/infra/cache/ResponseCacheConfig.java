@@ -0,0 +1,53 @@
+/*
+*  @(#)ResponseCacheConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+* Configuração do cache de respostas pré-serializadas das listagens (habilitado por padrão).
+*
+* @author JTech
+*/
+@Configuration
+@ConditionalOnProperty(prefix = "response-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseCache responseCache(
+            MeterRegistry meterRegistry,
+            @Value("${response-cache.max-entries:256}") int maxEntries,
+            @Value("${response-cache.max-entry-bytes:4194304}") int maxEntryBytes,
+            @Value("${response-cache.max-age:0s}") Duration maxAge) {
+        return new ResponseCache(maxEntries, maxEntryBytes, maxAge, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            ResponseCache responseCache,
+            DataVersion dataVersion,
+            @Value("${response-cache.paths:/tasks}") Set<String> paths) {
+        FilterRegistrationBean<ResponseCacheFilter> registration =
+            new FilterRegistrationBean<>(new ResponseCacheFilter(responseCache, dataVersion, paths));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
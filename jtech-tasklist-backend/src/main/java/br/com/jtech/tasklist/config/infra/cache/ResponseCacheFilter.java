@@ -0,0 +1,142 @@
+/*
+*  @(#)ResponseCacheFilter.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+* Filtro que serve as listagens a partir do {@link ResponseCache}.
+*
+* Enquanto a versão dos dados não muda, o GET de um caminho configurado é
+* respondido com os bytes já serializados (gzip quando o cliente aceita), sem
+* passar pelo controller. Na ausência, a resposta do controller é capturada,
+* guardada na versão lida antes da execução e enviada já comprimida. Os cabeçalhos
+* definidos pelo controller (ex.: o total da listagem) são guardados junto e
+* repetidos nos acertos, pois valem enquanto a versão dos dados não muda; ficam de
+* fora apenas os de {@link #UNREPLAYED_HEADERS}, que descrevem o corpo enviado, são
+* definidos pelo próprio filtro ou são próprios de cada requisição.
+*
+* @author JTech
+*/
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_HEADER = "X-Response-Cache";
+
+    static final Set<String> UNREPLAYED_HEADERS = Set.of("content-type", "content-length", "content-encoding",
+        "transfer-encoding", "connection", "date", "set-cookie", "vary", "x-response-cache");
+
+    private final ResponseCache cache;
+    private final DataVersion dataVersion;
+    private final Set<String> paths;
+
+    public ResponseCacheFilter(ResponseCache cache, DataVersion dataVersion, Set<String> paths) {
+        this.cache = cache;
+        this.dataVersion = dataVersion;
+        this.paths = paths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !paths.contains(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getQueryString() != null
+            ? path(request) + "?" + request.getQueryString()
+            : path(request);
+        boolean acceptsGzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        // A versão é lida antes da consulta: uma escrita concorrente invalida o que for guardado
+        long version = dataVersion.current();
+        ResponseCache.Entry cached = cache.get(key, version);
+        if (cached != null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(cached.contentType());
+            cached.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            write(response, cached, acceptsGzip, "HIT");
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        // Leituras servidas pela cópia de contingência (Warning) não são guardadas
+        ResponseCache.Entry entry = wrapper.getStatus() == HttpServletResponse.SC_OK
+                && !wrapper.containsHeader(HttpHeaders.WARNING)
+            ? cache.put(key, version, wrapper.getContentType(), replayedHeaders(wrapper), wrapper.getContentAsByteArray())
+            : null;
+        if (entry == null) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        write(response, entry, acceptsGzip, "MISS");
+    }
+
+    private static Map<String, List<String>> replayedHeaders(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!UNREPLAYED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.putIfAbsent(name, List.copyOf(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private static void write(HttpServletResponse response, ResponseCache.Entry entry, boolean gzip, String result)
+            throws IOException {
+        byte[] body = gzip ? entry.gzip() : entry.identity();
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(CACHE_HEADER, result);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Verifica se o Accept-Encoding inclui gzip sem q=0.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (coding.equalsIgnoreCase("gzip") || coding.equals("*")) {
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+*  @(#)CoalescingTaskOutputGateway.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.coalescing;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskCount;
+import br.com.jtech.tasklist.application.core.domains.TaskField;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+* Decorator do {@link TaskOutputGateway} que agrupa leituras idênticas simultâneas
+* (findById por ID e findAll) em uma única consulta. As escritas passam direto.
+* Leituras parciais só são agrupadas com outras que pedem os mesmos campos, e
+* consultas filtradas (e suas contagens) com outras de mesma consulta e campos.
+*
+* @author JTech
+*/
+public class CoalescingTaskOutputGateway implements TaskOutputGateway {
+
+    private static final String ALL = "all";
+
+    private final TaskOutputGateway delegate;
+    private final SingleFlight<String, Optional<Task>> findById;
+    private final SingleFlight<String, List<Task>> findAll;
+    private final SingleFlight<String, TaskCount> count;
+
+    public CoalescingTaskOutputGateway(TaskOutputGateway delegate, Duration maxWait, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.findById = new SingleFlight<>("findById", maxWait, task -> task.map(Task::copy), registry);
+        this.findAll = new SingleFlight<>("findAll", maxWait, tasks -> tasks.stream().map(Task::copy).toList(), registry);
+        this.count = new SingleFlight<>("count", maxWait, total -> total, registry);
+    }
+
+    @Override
+    public Task save(Task task) {
+        return delegate.save(task);
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        return delegate.saveAll(tasks);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return findAll.execute(ALL, delegate::findAll);
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return findById.execute(id, () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Task> findAll(Set<TaskField> fields) {
+        if (fields.equals(TaskField.ALL)) {
+            return findAll();
+        }
+        return findAll.execute(fields.toString(), () -> delegate.findAll(fields));
+    }
+
+    @Override
+    public Optional<Task> findById(String id, Set<TaskField> fields) {
+        if (fields.equals(TaskField.ALL)) {
+            return findById(id);
+        }
+        return findById.execute(id + fields, () -> delegate.findById(id, fields));
+    }
+
+    @Override
+    public List<Task> findAll(TaskQuery query, Set<TaskField> fields) {
+        return findAll.execute(query + " " + fields, () -> delegate.findAll(query, fields));
+    }
+
+    @Override
+    public TaskCount count(TaskQuery query, boolean exact) {
+        return count.execute(query + " exact=" + exact, () -> delegate.count(query, exact));
+    }
+
+    @Override
+    public Task update(Task task) {
+        return delegate.update(task);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public Optional<Task> findByTitleIgnoreCase(String title) {
+        return delegate.findByTitleIgnoreCase(title);
+    }
+
+    @Override
+    public Set<String> findExistingTitles(Collection<String> normalizedTitles) {
+        return delegate.findExistingTitles(normalizedTitles);
+    }
+
+    @Override
+    public List<Task> findByTasklistId(String tasklistId) {
+        return delegate.findByTasklistId(tasklistId);
+    }
+
+    @Override
+    public Optional<String> findNextRank(String tasklistId, String rank, String excludedId) {
+        return delegate.findNextRank(tasklistId, rank, excludedId);
+    }
+
+    @Override
+    public Optional<String> findPreviousRank(String tasklistId, String rank, String excludedId) {
+        return delegate.findPreviousRank(tasklistId, rank, excludedId);
+    }
+
+    @Override
+    public Optional<Task> updateRank(String id, String rank) {
+        return delegate.updateRank(id, rank);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+*  @(#)SingleFlight.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+* Agrupamento de chamadas idênticas simultâneas (single-flight): a primeira
+* chamada de uma chave executa a consulta e as concorrentes aguardam o mesmo
+* resultado, em vez de repetir a ida ao banco.
+*
+* Nada é guardado depois da conclusão: a chave é removida antes de o resultado
+* ser publicado, então uma chamada posterior sempre executa uma consulta nova.
+* A espera é limitada; ao estourar o tempo, a chamada executa a própria consulta.
+*
+* Cada chamador recebe uma cópia do resultado ({@code copier}), já que os objetos
+* de domínio são mutáveis.
+*
+* Métricas: tasklist.singleflight.calls{operation, role=leader|follower|timeout},
+* as chamadas aguardando agora (tasklist.singleflight.waiting{operation}) e a razão
+* de agrupamento tasklist.singleflight.coalescing.ratio{operation}. Só conta como
+* follower quem recebeu o resultado da consulta em andamento; quem desiste por tempo
+* conta apenas como timeout e entra na razão como uma consulta a mais.
+*
+* @author JTech
+*/
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+    private final UnaryOperator<V> copier;
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder followers = new LongAdder();
+    private final Counter timeouts;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public SingleFlight(String operation, Duration maxWait, UnaryOperator<V> copier, MeterRegistry registry) {
+        this.maxWait = maxWait;
+        this.copier = copier;
+        FunctionCounter.builder("tasklist.singleflight.calls", leaders, LongAdder::sum)
+            .tag("operation", operation)
+            .tag("role", "leader")
+            .description("Chamadas que executaram a consulta")
+            .register(registry);
+        FunctionCounter.builder("tasklist.singleflight.calls", followers, LongAdder::sum)
+            .tag("operation", operation)
+            .tag("role", "follower")
+            .description("Chamadas atendidas pelo resultado de uma consulta em andamento")
+            .register(registry);
+        this.timeouts = Counter.builder("tasklist.singleflight.calls")
+            .tag("operation", operation)
+            .tag("role", "timeout")
+            .description("Chamadas que desistiram de esperar e executaram a própria consulta")
+            .register(registry);
+        Gauge.builder("tasklist.singleflight.waiting", waiting, AtomicInteger::get)
+            .tag("operation", operation)
+            .description("Chamadas aguardando uma consulta em andamento")
+            .register(registry);
+        Gauge.builder("tasklist.singleflight.coalescing.ratio", this, SingleFlight::coalescingRatio)
+            .tag("operation", operation)
+            .description("Fração das chamadas atendidas sem nova consulta")
+            .register(registry);
+    }
+
+    /**
+     * Executa {@code loader} ou aguarda a execução em andamento para a mesma chave.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = calls.putIfAbsent(key, call);
+        if (running == null) {
+            return lead(key, call, loader);
+        }
+
+        V result;
+        try {
+            result = await(running);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            // A falha da consulta em andamento também atende a chamada
+            followers.increment();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando consulta em andamento", e);
+        }
+        followers.increment();
+        return copier.apply(result);
+    }
+
+    private V await(CompletableFuture<V> running) throws TimeoutException, ExecutionException, InterruptedException {
+        waiting.incrementAndGet();
+        try {
+            return running.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private V lead(K key, CompletableFuture<V> call, Supplier<V> loader) {
+        leaders.increment();
+        V result = null;
+        Throwable failure = null;
+        try {
+            result = loader.get();
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            // Remove antes de publicar: chamadas que chegarem depois fazem uma consulta nova.
+            // Qualquer falha (inclusive Error) é publicada, para não deixar a chave presa.
+            calls.remove(key, call);
+            if (failure != null) {
+                call.completeExceptionally(failure);
+            } else {
+                publish(call, result);
+            }
+        }
+    }
+
+    private void publish(CompletableFuture<V> call, V result) {
+        try {
+            call.complete(copier.apply(result));
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+        }
+    }
+
+    private double coalescingRatio() {
+        double total = leaders.sum() + followers.sum() + timeouts.count();
+        return total == 0 ? 0 : followers.sum() / total;
+    }
+}
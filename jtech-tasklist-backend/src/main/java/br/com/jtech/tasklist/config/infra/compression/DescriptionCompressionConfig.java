@@ -0,0 +1,53 @@
+/*
+*  @(#)DescriptionCompressionConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.compression;
+
+import br.com.jtech.tasklist.adapters.output.compression.DescriptionCompressionMigration;
+import br.com.jtech.tasklist.adapters.output.compression.DescriptionCompressor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+/**
+* Configuração da compressão das descrições de tarefas no banco. Leituras sempre
+* reconhecem o formato comprimido; {@code description-compression.enabled=false}
+* apenas deixa de comprimir novas gravações.
+*
+* @author JTech
+*/
+@Configuration
+public class DescriptionCompressionConfig {
+
+    @Bean
+    public DescriptionCompressor descriptionCompressor(
+            @Value("${description-compression.enabled:true}") boolean enabled,
+            @Value("${description-compression.threshold:8KB}") DataSize threshold,
+            MeterRegistry meterRegistry) {
+        return new DescriptionCompressor(enabled, (int) threshold.toBytes(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "description-compression.migration", name = "enabled", havingValue = "true")
+    public DescriptionCompressionMigration descriptionCompressionMigration(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            DescriptionCompressor descriptionCompressor,
+            @Value("${description-compression.migration.batch-size:200}") int batchSize) {
+        return new DescriptionCompressionMigration(jdbcTemplate, transactionManager, descriptionCompressor, batchSize);
+    }
+}
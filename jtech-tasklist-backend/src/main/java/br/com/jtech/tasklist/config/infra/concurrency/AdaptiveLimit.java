@@ -0,0 +1,93 @@
+/*
+*  @(#)AdaptiveLimit.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.concurrency;
+
+/**
+* Limite de concorrência adaptativo no estilo TCP Vegas.
+*
+* A menor latência observada é a referência sem fila; a fila estimada é
+* {@code limit * (1 - minRtt / rtt)}. Fila pequena aumenta o limite em 1, fila
+* grande reduz em 1 e falhas (5xx/exceções) reduzem multiplicativamente (AIMD).
+* A cada {@value #PROBE_INTERVAL} amostras o limite cai à metade e a referência é
+* medida de novo, acompanhando mudanças de base (por exemplo, um banco mais lento);
+* o limite volta a crescer uma unidade por amostra.
+*
+* @author JTech
+*/
+public class AdaptiveLimit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int PROBE_INTERVAL = 1_000;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private volatile int limit;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int samplesUntilProbe = PROBE_INTERVAL;
+
+    public AdaptiveLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(String.format(
+                "Limites inválidos: inicial=%d, mínimo=%d, máximo=%d", initialLimit, minLimit, maxLimit));
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Menor latência observada desde a última renovação, em milissegundos.
+     */
+    public synchronized double getMinRttMs() {
+        return minRttNanos == Long.MAX_VALUE ? 0 : minRttNanos / 1_000_000.0;
+    }
+
+    /**
+     * Registra uma requisição concluída.
+     *
+     * @param rttNanos Duração da requisição
+     * @param inFlight Requisições em andamento quando esta começou
+     * @param dropped  true se a requisição falhou por sobrecarga (5xx ou exceção)
+     */
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, (int) (limit * BACKOFF_RATIO));
+            return;
+        }
+        if (--samplesUntilProbe <= 0) {
+            // Sondagem: reduz a concorrência à metade e mede a referência de novo, sem fila
+            samplesUntilProbe = PROBE_INTERVAL;
+            minRttNanos = Long.MAX_VALUE;
+            limit = Math.max(minLimit, limit / 2);
+            return;
+        }
+        minRttNanos = Math.min(minRttNanos, Math.max(1, rttNanos));
+
+        // Sem demanda suficiente o limite não cresce (evita limite inflado em baixa carga)
+        if (inFlight * 2 < limit) {
+            return;
+        }
+        double queue = limit * (1.0 - (double) minRttNanos / Math.max(rttNanos, 1));
+        double log = Math.max(1.0, Math.log10(limit));
+        if (queue <= 3 * log) {
+            limit = Math.min(maxLimit, limit + 1);
+        } else if (queue >= 6 * log) {
+            limit = Math.max(minLimit, limit - 1);
+        }
+    }
+}
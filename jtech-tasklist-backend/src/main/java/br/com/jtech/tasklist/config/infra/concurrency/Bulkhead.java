@@ -0,0 +1,106 @@
+/*
+*  @(#)Bulkhead.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+* Compartimento com limite de concorrência próprio. Leituras, escritas e
+* operações em lote têm bulkheads separados, para que uma classe sobrecarregada
+* não consuma toda a capacidade das demais.
+*
+* A aquisição nunca bloqueia: acima do limite a requisição é rejeitada na hora.
+*
+* @author JTech
+*/
+public class Bulkhead {
+
+    private final String name;
+    private final AdaptiveLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+
+    public Bulkhead(String name, AdaptiveLimit limit, MeterRegistry registry) {
+        this.name = name;
+        this.limit = limit;
+        Gauge.builder("tasklist.concurrency.limit", limit, AdaptiveLimit::getLimit)
+            .tag("bulkhead", name)
+            .description("Limite de concorrência adaptativo atual")
+            .register(registry);
+        Gauge.builder("tasklist.concurrency.inflight", inFlight, AtomicInteger::get)
+            .tag("bulkhead", name)
+            .description("Requisições em andamento")
+            .register(registry);
+        this.rejected = Counter.builder("tasklist.concurrency.rejected")
+            .tag("bulkhead", name)
+            .description("Requisições rejeitadas por excesso de concorrência")
+            .register(registry);
+    }
+
+    /**
+     * Tenta ocupar uma vaga.
+     *
+     * @return Quantidade em andamento após a aquisição, ou -1 se rejeitada
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.getLimit()) {
+                rejected.increment();
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga e alimenta o limite com a latência observada.
+     */
+    public void release(long rttNanos, int inFlightAtStart, boolean dropped) {
+        inFlight.decrementAndGet();
+        limit.onSample(rttNanos, inFlightAtStart, dropped);
+    }
+
+    /**
+     * Libera a vaga sem alimentar o limite (respostas que não medem a capacidade).
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public double getMinRttMs() {
+        return limit.getMinRttMs();
+    }
+
+    public long getRejected() {
+        return (long) rejected.count();
+    }
+}
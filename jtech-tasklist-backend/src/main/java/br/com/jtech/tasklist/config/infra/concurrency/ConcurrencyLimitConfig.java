@@ -0,0 +1,89 @@
+/*
+*  @(#)ConcurrencyLimitConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+* Configuração do limite de concorrência adaptativo (desabilitado por padrão;
+* habilite com concurrency-limit.enabled=true).
+* Cada bulkhead lê concurrency-limit.{read|write|bulk}.{initial|min|max}.
+*
+* @author JTech
+*/
+@Configuration
+@ConditionalOnProperty(prefix = "concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    public ConcurrencyLimitConfig(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public Bulkhead readBulkhead() {
+        return bulkhead("read", 50, 10, 150);
+    }
+
+    @Bean
+    public Bulkhead writeBulkhead() {
+        return bulkhead("write", 20, 4, 80);
+    }
+
+    @Bean
+    public Bulkhead bulkBulkhead() {
+        return bulkhead("bulk", 2, 1, 8);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ObjectMapper objectMapper,
+            @Value("${concurrency-limit.bulk-paths:/api/v1/tasklists}") Set<String> bulkPaths,
+            @Value("${concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+            new ConcurrencyLimitFilter(readBulkhead(), writeBulkhead(), bulkBulkhead(), bulkPaths,
+                retryAfterSeconds, objectMapper));
+        registration.addUrlPatterns("/*");
+        // Antes dos demais filtros: requisições descartadas não devem consumir trabalho algum
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public ConcurrencyLimitHealthIndicator concurrencyLimitHealthIndicator() {
+        return new ConcurrencyLimitHealthIndicator(List.of(readBulkhead(), writeBulkhead(), bulkBulkhead()));
+    }
+
+    private Bulkhead bulkhead(String name, int initial, int min, int max) {
+        String prefix = "concurrency-limit." + name + ".";
+        AdaptiveLimit limit = new AdaptiveLimit(
+            environment.getProperty(prefix + "initial", Integer.class, initial),
+            environment.getProperty(prefix + "min", Integer.class, min),
+            environment.getProperty(prefix + "max", Integer.class, max));
+        return new Bulkhead(name, limit, meterRegistry);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+*  @(#)ConcurrencyLimitFilter.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.concurrency;
+
+import br.com.jtech.tasklist.config.infra.exceptions.ApiError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+* Filtro de limite de concorrência e descarte de carga.
+*
+* Cada requisição ocupa uma vaga do bulkhead da sua classe (leitura, escrita ou
+* lote). Sem vaga, a resposta é imediata, sem ocupar uma thread do Tomcat
+* esperando o banco:
+* - 503 com Retry-After para leituras e escritas (serviço sobrecarregado)
+* - 429 com Retry-After para operações em lote (cota da classe esgotada)
+*
+* Actuator, documentação e preflights de CORS não são limitados. Respostas 4xx
+* liberam a vaga sem alimentar o limite: erros do cliente (validação, 404) são
+* rápidos e não dizem nada sobre a capacidade do servidor.
+*
+* @author JTech
+*/
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> EXCLUDED_PREFIXES = Set.of("/actuator", "/doc");
+
+    private final Bulkhead reads;
+    private final Bulkhead writes;
+    private final Bulkhead bulk;
+    private final Set<String> bulkPaths;
+    private final int retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(Bulkhead reads, Bulkhead writes, Bulkhead bulk, Set<String> bulkPaths,
+                                  int retryAfterSeconds, ObjectMapper objectMapper) {
+        this.reads = reads;
+        this.writes = writes;
+        this.bulk = bulk;
+        this.bulkPaths = bulkPaths;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if ("OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        String path = path(request);
+        return EXCLUDED_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Bulkhead bulkhead = classify(request);
+        int inFlight = bulkhead.tryAcquire();
+        if (inFlight < 0) {
+            reject(response, bulkhead);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            int status = response.getStatus();
+            if (completed && status >= 400 && status < 500) {
+                bulkhead.release();
+            } else {
+                bulkhead.release(System.nanoTime() - start, inFlight, !completed || status >= 500);
+            }
+        }
+    }
+
+    private Bulkhead classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return reads;
+        }
+        return bulkPaths.contains(path(request)) ? bulk : writes;
+    }
+
+    private void reject(HttpServletResponse response, Bulkhead bulkhead) throws IOException {
+        HttpStatus status = bulkhead == bulk ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE;
+        ApiError error = new ApiError(status);
+        error.setMessage("Servidor sobrecarregado. Tente novamente em instantes.");
+        error.setDebugMessage(String.format("Limite de concorrência atingido no bulkhead '%s' (%d)",
+            bulkhead.getName(), bulkhead.getLimit()));
+        response.setStatus(status.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,50 @@
+/*
+*  @(#)ConcurrencyLimitHealthIndicator.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.concurrency;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+* Expõe o estado dos bulkheads em /actuator/health. O status permanece UP
+* durante o descarte de carga: a instância está saudável e se protegendo, e
+* retirá-la do balanceador só moveria a carga para as demais.
+*
+* @author JTech
+*/
+public class ConcurrencyLimitHealthIndicator implements HealthIndicator {
+
+    private final List<Bulkhead> bulkheads;
+
+    public ConcurrencyLimitHealthIndicator(List<Bulkhead> bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.up();
+        for (Bulkhead bulkhead : bulkheads) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("limit", bulkhead.getLimit());
+            details.put("inFlight", bulkhead.getInFlight());
+            details.put("minRttMs", bulkhead.getMinRttMs());
+            details.put("rejected", bulkhead.getRejected());
+            builder.withDetail(bulkhead.getName(), details);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+*  @(#)ConcurrencyLimitInterceptor.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.grpc;
+
+import br.com.jtech.tasklist.config.infra.concurrency.Bulkhead;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+* Limite de concorrência das chamadas gRPC, com os mesmos bulkheads do
+* ConcurrencyLimitFilter: o servidor gRPC não passa pelos filtros servlet, e sem
+* este interceptor cada chamada chegaria ao banco sem limite algum.
+*
+* GetTask e ListTasks usam o bulkhead de leitura, CreateTasks (stream do cliente)
+* o de lote e as demais o de escrita. Sem vaga, a chamada é encerrada na hora com
+* UNAVAILABLE (leitura/escrita) ou RESOURCE_EXHAUSTED (lote).
+*
+* Como no filtro, erros do cliente liberam a vaga sem alimentar o limite. Chamadas
+* em stream também não o alimentam: a duração depende do ritmo do cliente, não da
+* capacidade do servidor.
+*
+* @author JTech
+*/
+public class ConcurrencyLimitInterceptor implements ServerInterceptor {
+
+    private static final Set<Status.Code> CLIENT_ERRORS = EnumSet.of(
+        Status.Code.CANCELLED, Status.Code.INVALID_ARGUMENT, Status.Code.NOT_FOUND, Status.Code.ALREADY_EXISTS,
+        Status.Code.FAILED_PRECONDITION, Status.Code.OUT_OF_RANGE, Status.Code.PERMISSION_DENIED,
+        Status.Code.UNAUTHENTICATED);
+
+    private final Bulkhead reads;
+    private final Bulkhead writes;
+    private final Bulkhead bulk;
+
+    public ConcurrencyLimitInterceptor(Bulkhead reads, Bulkhead writes, Bulkhead bulk) {
+        this.reads = reads;
+        this.writes = writes;
+        this.bulk = bulk;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        MethodDescriptor<ReqT, RespT> method = call.getMethodDescriptor();
+        Bulkhead bulkhead = classify(method);
+        int inFlight = bulkhead.tryAcquire();
+        if (inFlight < 0) {
+            Status status = bulkhead == bulk ? Status.RESOURCE_EXHAUSTED : Status.UNAVAILABLE;
+            call.close(status.withDescription(String.format(
+                "Servidor sobrecarregado: limite de concorrência atingido no bulkhead '%s' (%d)",
+                bulkhead.getName(), bulkhead.getLimit())), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        Permit permit = new Permit(bulkhead, inFlight, method.getType() == MethodDescriptor.MethodType.UNARY);
+        ServerCall<ReqT, RespT> tracked = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                permit.release(status);
+                super.close(status, trailers);
+            }
+        };
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(tracked, headers);
+        } catch (RuntimeException e) {
+            permit.release(Status.fromThrowable(e));
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onCancel() {
+                // Cancelada pelo cliente ou por prazo: a chamada pode não passar por close()
+                permit.release(Status.CANCELLED);
+                super.onCancel();
+            }
+        };
+    }
+
+    private Bulkhead classify(MethodDescriptor<?, ?> method) {
+        if (method.getType().clientSendsOneMessage()) {
+            String name = method.getBareMethodName();
+            return name != null && (name.startsWith("Get") || name.startsWith("List")) ? reads : writes;
+        }
+        return bulk;
+    }
+
+    /**
+     * Vaga ocupada por uma chamada, liberada uma única vez (close ou cancelamento).
+     */
+    private static final class Permit {
+
+        private final Bulkhead bulkhead;
+        private final int inFlight;
+        private final boolean sampled;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Bulkhead bulkhead, int inFlight, boolean sampled) {
+            this.bulkhead = bulkhead;
+            this.inFlight = inFlight;
+            this.sampled = sampled;
+        }
+
+        void release(Status status) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            if (!sampled || CLIENT_ERRORS.contains(status.getCode())) {
+                bulkhead.release();
+            } else {
+                bulkhead.release(System.nanoTime() - start, inFlight, !status.isOk());
+            }
+        }
+    }
+}
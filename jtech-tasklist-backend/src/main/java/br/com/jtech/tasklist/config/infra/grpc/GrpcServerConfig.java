@@ -0,0 +1,70 @@
+/*
+*  @(#)GrpcServerConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.grpc;
+
+import br.com.jtech.tasklist.adapters.input.grpc.TaskGrpcService;
+import br.com.jtech.tasklist.application.ports.input.TaskInputGateway;
+import br.com.jtech.tasklist.config.infra.concurrency.Bulkhead;
+import io.grpc.ServerInterceptor;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+* Configuração do servidor gRPC (desabilitado por padrão; habilite com
+* grpc.enabled=true), que roda no mesmo processo da API REST, em porta própria.
+*
+* O servidor não usa TLS e não passa pelos filtros servlet (idempotência, cache de
+* respostas): exponha a porta apenas na rede interna. Com concurrency-limit.enabled,
+* as chamadas dividem os bulkheads da API REST. Leituras servidas pela última cópia
+* conhecida são marcadas nos metadados da resposta ({@link StaleResponseInterceptor}).
+*
+* @author JTech
+*/
+@Configuration
+@ConditionalOnProperty(prefix = "grpc", name = "enabled", havingValue = "true")
+public class GrpcServerConfig {
+
+    @Bean
+    public TaskGrpcService taskGrpcService(TaskInputGateway taskInputGateway, Validator validator) {
+        return new TaskGrpcService(taskInputGateway, validator);
+    }
+
+    @Bean
+    public GrpcServerLifecycle grpcServerLifecycle(
+            TaskGrpcService taskGrpcService,
+            @Qualifier("readBulkhead") ObjectProvider<Bulkhead> readBulkhead,
+            @Qualifier("writeBulkhead") ObjectProvider<Bulkhead> writeBulkhead,
+            @Qualifier("bulkBulkhead") ObjectProvider<Bulkhead> bulkBulkhead,
+            @Value("${grpc.port:9090}") int port,
+            @Value("${grpc.max-inbound-message-size:4MB}") DataSize maxInboundMessageSize,
+            @Value("${grpc.shutdown-grace-period:10s}") Duration shutdownGracePeriod) {
+        List<ServerInterceptor> interceptors = new ArrayList<>();
+        interceptors.add(new StaleResponseInterceptor());
+        Bulkhead reads = readBulkhead.getIfAvailable();
+        if (reads != null) {
+            interceptors.add(new ConcurrencyLimitInterceptor(reads, writeBulkhead.getObject(), bulkBulkhead.getObject()));
+        }
+        return new GrpcServerLifecycle(taskGrpcService, interceptors, port, maxInboundMessageSize,
+            shutdownGracePeriod);
+    }
+}
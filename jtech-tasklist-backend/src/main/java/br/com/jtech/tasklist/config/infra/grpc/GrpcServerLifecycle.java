@@ -0,0 +1,117 @@
+/*
+*  @(#)GrpcServerLifecycle.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+* Ciclo de vida do servidor gRPC (HTTP/2 sobre Netty), iniciado junto com o
+* contexto do Spring e encerrado antes dele.
+*
+* Cada chamada roda em uma thread virtual: os casos de uso são bloqueantes (JDBC),
+* e o event loop do Netty fica livre para ler e escrever quadros HTTP/2. No
+* encerramento, chamadas em andamento têm o período de carência para terminar
+* antes de serem canceladas.
+*
+* @author JTech
+*/
+@Slf4j
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final BindableService service;
+    private final List<ServerInterceptor> interceptors;
+    private final int port;
+    private final DataSize maxInboundMessageSize;
+    private final Duration shutdownGracePeriod;
+
+    private volatile Server server;
+    private volatile ExecutorService executor;
+
+    public GrpcServerLifecycle(BindableService service, List<ServerInterceptor> interceptors, int port,
+                               DataSize maxInboundMessageSize, Duration shutdownGracePeriod) {
+        this.service = service;
+        this.interceptors = interceptors;
+        this.port = port;
+        this.maxInboundMessageSize = maxInboundMessageSize;
+        this.shutdownGracePeriod = shutdownGracePeriod;
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("grpc-", 0).factory());
+        Server built = Grpc.newServerBuilderForPort(port, InsecureServerCredentials.create())
+            .addService(ServerInterceptors.intercept(service, interceptors))
+            .executor(executor)
+            .maxInboundMessageSize((int) maxInboundMessageSize.toBytes())
+            .build();
+        try {
+            built.start();
+        } catch (IOException e) {
+            executor.shutdownNow();
+            throw new UncheckedIOException("Não foi possível iniciar o servidor gRPC na porta " + port, e);
+        }
+        server = built;
+        log.info("::: Servidor gRPC iniciado na porta {}", built.getPort());
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(shutdownGracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("::: Chamadas gRPC canceladas após {} de carência", shutdownGracePeriod);
+                running.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdown();
+            server = null;
+            log.info("::: Servidor gRPC encerrado");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Porta efetivamente em uso (útil com grpc.port=0).
+     */
+    public int getPort() {
+        Server running = server;
+        return running != null ? running.getPort() : -1;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+*  @(#)StaleResponseInterceptor.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.grpc;
+
+import br.com.jtech.tasklist.config.infra.resilience.StaleResponse;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+* Equivalente gRPC da marcação de resposta desatualizada da API REST: quando uma
+* leitura é servida pela última cópia conhecida (disjuntor aberto ou banco fora),
+* a resposta leva {@code warning} e {@code x-data-staleness} (idade em segundos)
+* nos headers ou, se eles já tiverem sido enviados, nos trailers.
+*
+* Os callbacks da chamada rodam em {@link StaleResponse#track}, de modo que a
+* marca feita pelo CircuitBreakerTaskOutputGateway chega até aqui. A marca cobre
+* as leituras feitas na thread do callback; as continuadas em outra thread (ex.:
+* um seguidor do agrupamento de leituras) não a carregam.
+*
+* @author JTech
+*/
+public class StaleResponseInterceptor implements ServerInterceptor {
+
+    public static final Metadata.Key<String> WARNING =
+        Metadata.Key.of("warning", Metadata.ASCII_STRING_MARSHALLER);
+    public static final Metadata.Key<String> STALENESS =
+        Metadata.Key.of("x-data-staleness", Metadata.ASCII_STRING_MARSHALLER);
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        StaleResponse.Tracker tracker = new StaleResponse.Tracker();
+        ServerCall<ReqT, RespT> marked = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+
+            private boolean sentInHeaders;
+
+            @Override
+            public void sendHeaders(Metadata responseHeaders) {
+                sentInHeaders = mark(responseHeaders);
+                super.sendHeaders(responseHeaders);
+            }
+
+            @Override
+            public void close(Status status, Metadata trailers) {
+                if (!sentInHeaders) {
+                    mark(trailers);
+                }
+                super.close(status, trailers);
+            }
+
+            private boolean mark(Metadata metadata) {
+                if (!tracker.isStale()) {
+                    return false;
+                }
+                metadata.put(WARNING, StaleResponse.WARNING);
+                metadata.put(STALENESS, Long.toString(tracker.getAgeSeconds()));
+                return true;
+            }
+        };
+        // Os handlers gerados chamam o serviço em onHalfClose (ou onMessage, em streams do cliente)
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(marked, headers)) {
+            @Override
+            public void onMessage(ReqT message) {
+                StaleResponse.track(tracker, () -> super.onMessage(message));
+            }
+
+            @Override
+            public void onHalfClose() {
+                StaleResponse.track(tracker, super::onHalfClose);
+            }
+
+            @Override
+            public void onReady() {
+                StaleResponse.track(tracker, super::onReady);
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+/*
+*  @(#)IdempotencyConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import br.com.jtech.tasklist.adapters.output.repositories.IdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+* Configuração do suporte ao header Idempotency-Key (habilitado por padrão).
+* O filtro só atua em POSTs dos caminhos configurados que enviem o header.
+*
+* @author JTech
+*/
+@Configuration
+@ConditionalOnProperty(prefix = "idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(
+            IdempotencyKeyRepository repository,
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.in-flight-timeout:60s}") Duration inFlightTimeout,
+            @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout,
+            @Value("${idempotency.max-cached-entries:10000}") int maxCachedEntries) {
+        return new IdempotencyStore(repository, ttl, inFlightTimeout, waitTimeout, maxCachedEntries);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.paths:/tasks}") Set<String> paths) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+            new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyStore, paths, objectMapper));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
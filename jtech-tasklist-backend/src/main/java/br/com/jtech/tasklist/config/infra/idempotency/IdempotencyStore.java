@@ -0,0 +1,233 @@
+/*
+*  @(#)IdempotencyStore.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import br.com.jtech.tasklist.adapters.output.repositories.IdempotencyKeyRepository;
+import br.com.jtech.tasklist.adapters.output.repositories.entities.IdempotencyKeyEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+* Armazenamento das respostas idempotentes em dois níveis: um LRU em memória
+* (replays na mesma instância sem ida ao banco) e a tabela idempotency_keys,
+* compartilhada entre instâncias.
+*
+* Duplicatas concorrentes na mesma instância aguardam o CompletableFuture da
+* primeira execução; entre instâncias, a reivindicação é o INSERT da chave e as
+* demais consultam a tabela até o resultado ser gravado ou o tempo de espera acabar.
+*
+* @author JTech
+*/
+@Slf4j
+public class IdempotencyStore {
+
+    private static final long POLL_INTERVAL_MS = 50L;
+
+    private final IdempotencyKeyRepository repository;
+    private final Duration ttl;
+    private final Duration inFlightTimeout;
+    private final Duration waitTimeout;
+    private final Map<String, StoredResponse> cache;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(IdempotencyKeyRepository repository,
+                            Duration ttl,
+                            Duration inFlightTimeout,
+                            Duration waitTimeout,
+                            int maxCachedEntries) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.inFlightTimeout = inFlightTimeout;
+        this.waitTimeout = waitTimeout;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > maxCachedEntries;
+            }
+        });
+    }
+
+    /**
+     * Resposta gravada para uma chave.
+     */
+    public record StoredResponse(String requestHash, int status, String contentType, String body,
+                                 LocalDateTime expiresAt) {
+    }
+
+    /**
+     * Resultado da tentativa de iniciar uma execução.
+     */
+    public record Decision(Type type, StoredResponse response) {
+
+        public enum Type {
+            /** Chave reivindicada: a requisição deve ser executada. */
+            PROCEED,
+            /** Resposta já gravada para a mesma requisição. */
+            REPLAY,
+            /** Chave já usada com outro corpo ou caminho. */
+            MISMATCH,
+            /** Outra execução com a mesma chave não terminou dentro do tempo de espera. */
+            IN_PROGRESS
+        }
+
+        static Decision of(Type type) {
+            return new Decision(type, null);
+        }
+    }
+
+    /**
+     * Decide o que fazer com uma requisição, aguardando uma execução em andamento
+     * com a mesma chave quando houver.
+     */
+    public Decision begin(String key, String requestHash) throws InterruptedException {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            StoredResponse cached = cached(key);
+            if (cached != null) {
+                return replay(cached, requestHash);
+            }
+
+            CompletableFuture<StoredResponse> claim = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, claim);
+            if (running != null) {
+                // Duplicata concorrente nesta instância: aguarda o resultado da primeira
+                try {
+                    StoredResponse result = running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (result != null) {
+                        return replay(result, requestHash);
+                    }
+                    continue; // a primeira execução falhou ou não decidiu: tenta novamente
+                } catch (TimeoutException e) {
+                    return Decision.of(Decision.Type.IN_PROGRESS);
+                } catch (ExecutionException e) {
+                    continue;
+                }
+            }
+
+            Decision decision;
+            try {
+                decision = claimInDatabase(key, requestHash, deadline);
+            } catch (RuntimeException | InterruptedException e) {
+                finish(key, claim, null);
+                throw e;
+            }
+            if (decision.type() != Decision.Type.PROCEED) {
+                finish(key, claim, decision.response());
+            }
+            return decision;
+        }
+    }
+
+    /**
+     * Grava a resposta da execução e libera as duplicatas que aguardavam.
+     */
+    public void complete(String key, String requestHash, int status, String contentType, String body) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        StoredResponse stored = new StoredResponse(requestHash, status, contentType, body, expiresAt);
+        try {
+            repository.complete(key, status, contentType, body, expiresAt);
+            cache.put(key, stored);
+        } finally {
+            finish(key, inFlight.get(key), stored);
+        }
+    }
+
+    /**
+     * Libera a chave após uma falha, permitindo que um retry execute novamente.
+     */
+    public void release(String key) {
+        try {
+            repository.release(key);
+        } finally {
+            finish(key, inFlight.get(key), null);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:600000}")
+    public void deleteExpired() {
+        int deleted = repository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("{} chaves de idempotência expiradas removidas", deleted);
+        }
+    }
+
+    private Decision claimInDatabase(String key, String requestHash, long deadline) throws InterruptedException {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<IdempotencyKeyEntity> existing = repository.findById(key);
+            if (existing.isPresent()) {
+                IdempotencyKeyEntity entity = existing.get();
+                if (entity.getExpiresAt().isBefore(now)) {
+                    repository.deleteIfExpired(key, now);
+                    continue;
+                }
+                if (entity.getResponseStatus() != null) {
+                    StoredResponse stored = new StoredResponse(entity.getRequestHash(), entity.getResponseStatus(),
+                        entity.getContentType(), entity.getResponseBody(), entity.getExpiresAt());
+                    cache.put(key, stored);
+                    return replay(stored, requestHash);
+                }
+                if (!entity.getRequestHash().equals(requestHash)) {
+                    return Decision.of(Decision.Type.MISMATCH);
+                }
+                // Em andamento em outra instância
+                if (System.nanoTime() >= deadline) {
+                    return Decision.of(Decision.Type.IN_PROGRESS);
+                }
+                Thread.sleep(POLL_INTERVAL_MS);
+                continue;
+            }
+            try {
+                repository.claim(key, requestHash, now, now.plus(inFlightTimeout));
+                return Decision.of(Decision.Type.PROCEED);
+            } catch (DataIntegrityViolationException e) {
+                // Outra instância reivindicou a chave entre a consulta e o INSERT
+            }
+        }
+    }
+
+    private StoredResponse cached(String key) {
+        StoredResponse stored = cache.get(key);
+        if (stored != null && stored.expiresAt().isBefore(LocalDateTime.now())) {
+            cache.remove(key);
+            return null;
+        }
+        return stored;
+    }
+
+    private void finish(String key, CompletableFuture<StoredResponse> claim, StoredResponse result) {
+        if (claim != null) {
+            inFlight.remove(key, claim);
+            claim.complete(result);
+        }
+    }
+
+    private static Decision replay(StoredResponse stored, String requestHash) {
+        return new Decision(stored.requestHash().equals(requestHash)
+            ? Decision.Type.REPLAY
+            : Decision.Type.MISMATCH, stored);
+    }
+}
@@ -13,6 +13,7 @@
 
 package br.com.jtech.tasklist.config.infra.listeners;
 
+import br.com.jtech.tasklist.config.infra.startup.StartupAnalysis;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -33,6 +34,9 @@ public class ReadyEventListener {
     @Value("${application.environment:LOCAL}")
     private String environment;
 
+    @Value("${startup.analysis.summary-size:10}")
+    private int summarySize;
+
     /**
      * The method executed after Spring Boot is ready to be used.
      *
@@ -42,6 +46,19 @@ public class ReadyEventListener {
     public void start(ApplicationReadyEvent event) {
         log.info(">>> Connector Ready");
         show();
+        if (StartupAnalysis.isEnabled()) {
+            showStartupSummary(event);
+        }
+    }
+
+    private void showStartupSummary(ApplicationReadyEvent event) {
+        var startup = event.getApplicationContext().getApplicationStartup();
+        log.info("== Startup analysis: {} ms registrados (detalhes em /actuator/startuptimeline)",
+            StartupAnalysis.total(startup).toMillis());
+        StartupAnalysis.slowest(startup, summarySize).forEach(step ->
+            log.info("==   {} ms  {} {}", step.durationMs(), step.name(),
+                step.subject() != null ? step.subject() : ""));
+        log.info("======================================================");
     }
 
     private void show() {
@@ -0,0 +1,145 @@
+/*
+*  @(#)GatewayMetrics.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.metrics;
+
+import br.com.jtech.tasklist.application.core.domains.Result;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+* Métricas Micrometer de um gateway (porta de entrada ou saída): tempo por
+* método com histograma de percentis, erros por tipo de exceção e tamanho
+* dos resultados de listagens.
+*
+* O tempo é separado por outcome: success, error (exceção) e rejected (falha de
+* negócio devolvida como {@link Result.Failure}).
+*
+* As tags possuem cardinalidade limitada: os métodos são fixos e os tipos de
+* exceção distintos são limitados a {@link #MAX_EXCEPTION_TYPES}.
+*
+* @author JTech
+*/
+public class GatewayMetrics {
+
+    static final int MAX_EXCEPTION_TYPES = 20;
+    static final String OTHER_EXCEPTION = "Other";
+
+    private final MeterRegistry registry;
+    private final String gateway;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> errors = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> sizes = new ConcurrentHashMap<>();
+    private final Set<String> exceptionTypes = ConcurrentHashMap.newKeySet();
+
+    public GatewayMetrics(MeterRegistry registry, String gateway) {
+        this.registry = registry;
+        this.gateway = gateway;
+    }
+
+    /**
+     * Executa a chamada medindo o tempo e contabilizando erros.
+     *
+     * @param method Nome do método do gateway
+     * @param call   Chamada a ser medida
+     * @return Resultado da chamada
+     */
+    public <T> T record(String method, Supplier<T> call) {
+        return measure(method, call, result -> false);
+    }
+
+    /**
+     * Executa uma chamada com resultado tipado; falhas de negócio são registradas
+     * com outcome=rejected, separadas dos sucessos e das exceções.
+     */
+    public <T> Result<T> recordResult(String method, Supplier<Result<T>> call) {
+        return measure(method, call, result -> !result.isSuccess());
+    }
+
+    /**
+     * Executa uma chamada sem retorno medindo o tempo e contabilizando erros.
+     */
+    public void record(String method, Runnable call) {
+        record(method, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private <T> T measure(String method, Supplier<T> call, Predicate<T> rejected) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            T result = call.get();
+            if (rejected.test(result)) {
+                outcome = "rejected";
+            }
+            return result;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            errorCounter(method, e).increment();
+            throw e;
+        } finally {
+            timer(method, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Registra a quantidade de itens retornados por uma listagem.
+     */
+    public void recordSize(String method, int size) {
+        sizes.computeIfAbsent(method, m -> DistributionSummary.builder("tasklist.gateway.result.size")
+                .description("Quantidade de itens retornados por listagens")
+                .baseUnit("items")
+                .tag("gateway", gateway)
+                .tag("method", m)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry))
+            .record(size);
+    }
+
+    private Timer timer(String method, String outcome) {
+        return timers.computeIfAbsent(method + ":" + outcome, key -> Timer.builder("tasklist.gateway")
+            .description("Latência das chamadas aos gateways")
+            .tag("gateway", gateway)
+            .tag("method", method)
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(registry));
+    }
+
+    private Counter errorCounter(String method, RuntimeException e) {
+        String exception = e.getClass().getSimpleName();
+        if (!exceptionTypes.contains(exception)) {
+            exception = exceptionTypes.size() < MAX_EXCEPTION_TYPES && exceptionTypes.add(exception)
+                ? exception
+                : OTHER_EXCEPTION;
+        }
+        String type = exception;
+        return errors.computeIfAbsent(method + ":" + type, key -> Counter.builder("tasklist.gateway.errors")
+            .description("Erros nas chamadas aos gateways por tipo de exceção")
+            .tag("gateway", gateway)
+            .tag("method", method)
+            .tag("exception", type)
+            .register(registry));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+*  @(#)MeteredTaskInputGateway.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.metrics;
+
+import br.com.jtech.tasklist.application.core.domains.Result;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskCount;
+import br.com.jtech.tasklist.application.core.domains.TaskField;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.ports.input.TaskInputGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+* Decorator do {@link TaskInputGateway} que registra métricas de cada caso de uso,
+* mantendo o núcleo da aplicação livre de dependências de framework.
+*
+* @author JTech
+*/
+public class MeteredTaskInputGateway implements TaskInputGateway {
+
+    private final TaskInputGateway delegate;
+    private final GatewayMetrics metrics;
+
+    public MeteredTaskInputGateway(TaskInputGateway delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new GatewayMetrics(registry, "input");
+    }
+
+    @Override
+    public Task create(Task task) {
+        return metrics.record("create", () -> delegate.create(task));
+    }
+
+    @Override
+    public Result<Task> tryCreate(Task task) {
+        return metrics.recordResult("create", () -> delegate.tryCreate(task));
+    }
+
+    @Override
+    public List<Task> findAll() {
+        List<Task> tasks = metrics.record("findAll", delegate::findAll);
+        metrics.recordSize("findAll", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return metrics.record("findById", () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Task> findAll(Set<TaskField> fields) {
+        List<Task> tasks = metrics.record("findAll", () -> delegate.findAll(fields));
+        metrics.recordSize("findAll", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public Optional<Task> findById(String id, Set<TaskField> fields) {
+        return metrics.record("findById", () -> delegate.findById(id, fields));
+    }
+
+    @Override
+    public List<Task> findAll(TaskQuery query, Set<TaskField> fields) {
+        List<Task> tasks = metrics.record("query", () -> delegate.findAll(query, fields));
+        metrics.recordSize("query", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public TaskCount count(TaskQuery query, boolean exact) {
+        return metrics.record("count", () -> delegate.count(query, exact));
+    }
+
+    @Override
+    public Optional<Task> update(String id, Task task) {
+        return metrics.record("update", () -> delegate.update(id, task));
+    }
+
+    @Override
+    public Result<Task> tryUpdate(String id, Task task) {
+        return metrics.recordResult("update", () -> delegate.tryUpdate(id, task));
+    }
+
+    @Override
+    public boolean delete(String id) {
+        return metrics.record("delete", () -> delegate.delete(id));
+    }
+
+    @Override
+    public Optional<Task> move(String id, String beforeId, String afterId) {
+        return metrics.record("move", () -> delegate.move(id, beforeId, afterId));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+*  @(#)MeteredTaskOutputGateway.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.metrics;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskCount;
+import br.com.jtech.tasklist.application.core.domains.TaskField;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+* Decorator do {@link TaskOutputGateway} que registra métricas de cada operação
+* de persistência.
+*
+* @author JTech
+*/
+public class MeteredTaskOutputGateway implements TaskOutputGateway {
+
+    private final TaskOutputGateway delegate;
+    private final GatewayMetrics metrics;
+
+    public MeteredTaskOutputGateway(TaskOutputGateway delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new GatewayMetrics(registry, "output");
+    }
+
+    @Override
+    public Task save(Task task) {
+        return metrics.record("save", () -> delegate.save(task));
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<Task> saved = metrics.record("saveAll", () -> delegate.saveAll(tasks));
+        metrics.recordSize("saveAll", saved.size());
+        return saved;
+    }
+
+    @Override
+    public List<Task> findAll() {
+        List<Task> tasks = metrics.record("findAll", delegate::findAll);
+        metrics.recordSize("findAll", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return metrics.record("findById", () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Task> findAll(Set<TaskField> fields) {
+        List<Task> tasks = metrics.record("findAll", () -> delegate.findAll(fields));
+        metrics.recordSize("findAll", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public Optional<Task> findById(String id, Set<TaskField> fields) {
+        return metrics.record("findById", () -> delegate.findById(id, fields));
+    }
+
+    @Override
+    public List<Task> findAll(TaskQuery query, Set<TaskField> fields) {
+        List<Task> tasks = metrics.record("query", () -> delegate.findAll(query, fields));
+        metrics.recordSize("query", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public TaskCount count(TaskQuery query, boolean exact) {
+        return metrics.record("count", () -> delegate.count(query, exact));
+    }
+
+    @Override
+    public Task update(Task task) {
+        return metrics.record("update", () -> delegate.update(task));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        metrics.record("deleteById", () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public Optional<Task> findByTitleIgnoreCase(String title) {
+        return metrics.record("findByTitleIgnoreCase", () -> delegate.findByTitleIgnoreCase(title));
+    }
+
+    @Override
+    public Set<String> findExistingTitles(Collection<String> normalizedTitles) {
+        return metrics.record("findExistingTitles", () -> delegate.findExistingTitles(normalizedTitles));
+    }
+
+    @Override
+    public List<Task> findByTasklistId(String tasklistId) {
+        List<Task> tasks = metrics.record("findByTasklistId", () -> delegate.findByTasklistId(tasklistId));
+        metrics.recordSize("findByTasklistId", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public Optional<String> findNextRank(String tasklistId, String rank, String excludedId) {
+        return metrics.record("findNextRank", () -> delegate.findNextRank(tasklistId, rank, excludedId));
+    }
+
+    @Override
+    public Optional<String> findPreviousRank(String tasklistId, String rank, String excludedId) {
+        return metrics.record("findPreviousRank", () -> delegate.findPreviousRank(tasklistId, rank, excludedId));
+    }
+
+    @Override
+    public Optional<Task> updateRank(String id, String rank) {
+        return metrics.record("updateRank", () -> delegate.updateRank(id, rank));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+*  @(#)R2dbcConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.time.Duration;
+
+/**
+* Conexões R2DBC da pilha reativa (perfil "reactive").
+*
+* A auto-configuração R2DBC do Spring Boot fica desligada (application.yml): ela
+* criaria um ConnectionFactory em todos os perfis e um R2dbcTransactionManager que
+* impediria a criação do JpaTransactionManager. Aqui o pool é criado apenas neste
+* perfil, e o gerenciador de transações reativo não é registrado como bean, de modo
+* que o @Transactional dos adapters JPA continua usando o JDBC.
+*
+* @author JTech
+*/
+@Slf4j
+@Configuration
+@Profile("reactive")
+public class R2dbcConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool r2dbcConnectionPool(
+            @Value("${reactive.r2dbc.url}") String url,
+            @Value("${reactive.r2dbc.username:}") String username,
+            @Value("${reactive.r2dbc.password:}") String password,
+            @Value("${reactive.r2dbc.pool.initial-size:5}") int initialSize,
+            @Value("${reactive.r2dbc.pool.max-size:20}") int maxSize,
+            @Value("${reactive.r2dbc.pool.max-idle-time:30m}") Duration maxIdleTime) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+        log.info("::: R2DBC: pool de {} a {} conexões para {}", initialSize, maxSize, url);
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+            .initialSize(initialSize)
+            .maxSize(maxSize)
+            .maxIdleTime(maxIdleTime)
+            .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionPool r2dbcConnectionPool) {
+        return DatabaseClient.create(r2dbcConnectionPool);
+    }
+
+    @Bean
+    public TransactionalOperator transactionalOperator(ConnectionPool r2dbcConnectionPool) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(r2dbcConnectionPool));
+    }
+}
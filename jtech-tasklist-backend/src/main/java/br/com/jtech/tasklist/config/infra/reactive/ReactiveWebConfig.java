@@ -0,0 +1,38 @@
+/*
+*  @(#)ReactiveWebConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.reactive;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+* Ajustes do WebFlux no perfil "reactive".
+*
+* Os controllers que continuam bloqueantes (listas de tarefas, sobre JPA) devolvem
+* tipos não reativos; o WebFlux os executa em threads virtuais em vez do event loop
+* do Netty, que atende todas as conexões e não pode esperar pelo JDBC.
+*
+* @author JTech
+*/
+@Configuration
+@Profile("reactive")
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        configurer.setExecutor(new VirtualThreadTaskExecutor("blocking-handler-"));
+    }
+}
@@ -0,0 +1,218 @@
+/*
+*  @(#)CircuitBreaker.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+* Disjuntor (circuit breaker) com janela deslizante por contagem.
+*
+* - CLOSED: as chamadas passam e o resultado de cada uma entra na janela. Quando a
+*   janela tem ao menos {@code minimumCalls} chamadas e a taxa de falhas ou de
+*   chamadas lentas atinge o limite, o disjuntor abre.
+* - OPEN: as chamadas são rejeitadas na hora, sem tocar no recurso, até passar
+*   {@code waitInOpen}.
+* - HALF_OPEN: apenas {@code permittedCallsInHalfOpen} chamadas de teste passam; ao
+*   final delas o disjuntor fecha ou volta a abrir, pelos mesmos limites.
+*
+* Cada permissão carrega a geração do estado em que foi concedida; resultados de
+* chamadas autorizadas antes da última transição (por exemplo, iniciadas em CLOSED
+* e concluídas já em HALF_OPEN) são ignorados e não contam como chamadas de teste.
+*
+* Métricas: tasklist.circuitbreaker.state{name, state} (1 no estado atual),
+* tasklist.circuitbreaker.transitions{name, from, to} e
+* tasklist.circuitbreaker.rejected{name}.
+*
+* @author JTech
+*/
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Limites do disjuntor. As taxas vão de 0 a 1.
+     */
+    public record Settings(
+        int windowSize,
+        int minimumCalls,
+        double failureRateThreshold,
+        Duration slowCallDuration,
+        double slowCallRateThreshold,
+        Duration waitInOpen,
+        int permittedCallsInHalfOpen) {
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+    private final MeterRegistry registry;
+    private final Counter rejected;
+
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+    private int next;
+    private int recorded;
+    private int failureCount;
+    private int slowCount;
+
+    private volatile State state = State.CLOSED;
+    private long generation;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+
+    public CircuitBreaker(String name, Settings settings, MeterRegistry registry) {
+        this(name, settings, registry, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, Settings settings, MeterRegistry registry, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.registry = registry;
+        this.nanoClock = nanoClock;
+        int size = Math.max(settings.windowSize(), settings.permittedCallsInHalfOpen());
+        this.failures = new boolean[size];
+        this.slowCalls = new boolean[size];
+        for (State each : State.values()) {
+            Gauge.builder("tasklist.circuitbreaker.state", this, breaker -> breaker.state == each ? 1 : 0)
+                .tag("name", name)
+                .tag("state", each.name().toLowerCase())
+                .description("Estado atual do disjuntor (1 no estado corrente)")
+                .register(registry);
+        }
+        this.rejected = Counter.builder("tasklist.circuitbreaker.rejected")
+            .tag("name", name)
+            .description("Chamadas rejeitadas com o disjuntor aberto")
+            .register(registry);
+    }
+
+    /**
+     * Pede permissão para uma chamada. Com o disjuntor aberto, passa para HALF_OPEN
+     * quando a espera termina; caso contrário a chamada é rejeitada.
+     *
+     * @return Permissão a devolver em {@link #onResult}, ou -1 se a chamada foi rejeitada
+     */
+    public synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < settings.waitInOpen().toNanos()) {
+                rejected.increment();
+                return -1;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= settings.permittedCallsInHalfOpen()) {
+                rejected.increment();
+                return -1;
+            }
+            halfOpenPermits++;
+        }
+        return generation;
+    }
+
+    /**
+     * Registra o resultado de uma chamada autorizada por {@link #tryAcquire()}.
+     *
+     * @param permit Permissão devolvida por {@link #tryAcquire()}
+     */
+    public synchronized void onResult(long permit, long durationNanos, boolean failed) {
+        if (permit != generation) {
+            // Autorizada antes da última transição: não altera a decisão já tomada
+            return;
+        }
+        record(failed, durationNanos >= settings.slowCallDuration().toNanos());
+
+        if (state == State.HALF_OPEN) {
+            if (recorded >= settings.permittedCallsInHalfOpen()) {
+                transitionTo(exceedsThresholds() ? State.OPEN : State.CLOSED);
+            }
+        } else if (recorded >= settings.minimumCalls() && exceedsThresholds()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Segundos até o disjuntor aceitar novas chamadas de teste (para o Retry-After).
+     */
+    public synchronized long secondsUntilRetry() {
+        if (state != State.OPEN) {
+            return 1;
+        }
+        long remaining = settings.waitInOpen().toNanos() - (nanoClock.getAsLong() - openedAtNanos);
+        return Math.max(1, (long) Math.ceil(remaining / 1_000_000_000.0));
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void record(boolean failed, boolean slow) {
+        int window = state == State.HALF_OPEN ? settings.permittedCallsInHalfOpen() : settings.windowSize();
+        if (recorded == window) {
+            // Janela cheia: descarta a chamada mais antiga
+            if (failures[next]) {
+                failureCount--;
+            }
+            if (slowCalls[next]) {
+                slowCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[next] = failed;
+        slowCalls[next] = slow;
+        if (failed) {
+            failureCount++;
+        }
+        if (slow) {
+            slowCount++;
+        }
+        next = (next + 1) % window;
+    }
+
+    private boolean exceedsThresholds() {
+        return failureCount >= settings.failureRateThreshold() * recorded
+            || slowCount >= settings.slowCallRateThreshold() * recorded;
+    }
+
+    private void transitionTo(State target) {
+        State previous = state;
+        state = target;
+        generation++;
+        next = 0;
+        recorded = 0;
+        failureCount = 0;
+        slowCount = 0;
+        halfOpenPermits = 0;
+        if (target == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        }
+        registry.counter("tasklist.circuitbreaker.transitions",
+            "name", name, "from", previous.name().toLowerCase(), "to", target.name().toLowerCase()).increment();
+        log.warn("::: Disjuntor '{}': {} -> {}", name, previous, target);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+*  @(#)CircuitBreakerConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+* Configuração do disjuntor da porta de persistência (habilitado por padrão).
+* O TaskUseCaseConfig envolve o TaskOutputGateway com ele quando o bean existe.
+*
+* @author JTech
+*/
+@Configuration
+@ConditionalOnProperty(prefix = "circuit-breaker", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CircuitBreakerConfig {
+
+    private static final String PREFIX = "circuit-breaker.";
+
+    @Bean
+    public CircuitBreaker taskGatewayCircuitBreaker(Environment environment, MeterRegistry meterRegistry) {
+        CircuitBreaker.Settings settings = new CircuitBreaker.Settings(
+            environment.getProperty(PREFIX + "window-size", Integer.class, 50),
+            environment.getProperty(PREFIX + "minimum-calls", Integer.class, 20),
+            environment.getProperty(PREFIX + "failure-rate-threshold", Double.class, 0.5),
+            environment.getProperty(PREFIX + "slow-call-duration", Duration.class, Duration.ofSeconds(2)),
+            environment.getProperty(PREFIX + "slow-call-rate-threshold", Double.class, 0.8),
+            environment.getProperty(PREFIX + "wait-in-open", Duration.class, Duration.ofSeconds(10)),
+            environment.getProperty(PREFIX + "permitted-calls-in-half-open", Integer.class, 5));
+        return new CircuitBreaker("task-gateway", settings, meterRegistry);
+    }
+}
@@ -0,0 +1,291 @@
+/*
+*  @(#)CircuitBreakerTaskOutputGateway.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.resilience;
+
+import br.com.jtech.tasklist.application.core.domains.DomainException;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskCount;
+import br.com.jtech.tasklist.application.core.domains.TaskField;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+* Decorator do {@link TaskOutputGateway} que passa todas as chamadas pelo
+* {@link CircuitBreaker}.
+*
+* Leituras (findAll e findById) que falham ou são rejeitadas são servidas pela
+* última cópia conhecida, limitada a {@code maxSnapshotEntries} tarefas, e a
+* resposta é marcada como desatualizada ({@link StaleResponse}). Sem cópia, o erro
+* original é propagado. Com o disjuntor aberto, as demais operações (escritas e
+* consultas auxiliares) falham na hora com {@link CircuitOpenException} (503), em
+* vez de esperar o timeout do JDBC.
+*
+* Leituras parciais (apenas alguns campos) não alimentam a cópia, mas são servidas
+* por ela quando falham: a tarefa completa contém os campos pedidos. Consultas
+* filtradas e suas contagens, da mesma forma, são respondidas aplicando a consulta
+* sobre a cópia (a contagem, nesse caso, é marcada como estimada).
+*
+* Erros de negócio (IllegalArgumentException, DomainException) não contam como falha.
+*
+* @author JTech
+*/
+public class CircuitBreakerTaskOutputGateway implements TaskOutputGateway {
+
+    private record Snapshot<T>(T value, long capturedAtNanos) {
+
+        long ageSeconds() {
+            return (System.nanoTime() - capturedAtNanos) / 1_000_000_000L;
+        }
+    }
+
+    private final TaskOutputGateway delegate;
+    private final CircuitBreaker breaker;
+    private final int maxSnapshotEntries;
+    private final Map<String, Snapshot<Task>> byId;
+    private volatile Snapshot<List<Task>> all;
+    private final Counter staleHits;
+    private final Counter staleMisses;
+
+    public CircuitBreakerTaskOutputGateway(TaskOutputGateway delegate, CircuitBreaker breaker,
+                                           int maxSnapshotEntries, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.maxSnapshotEntries = maxSnapshotEntries;
+        this.byId = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Snapshot<Task>> eldest) {
+                return size() > maxSnapshotEntries;
+            }
+        });
+        this.staleHits = Counter.builder("tasklist.circuitbreaker.fallback")
+            .tag("name", breaker.getName())
+            .tag("result", "stale")
+            .description("Leituras servidas pela última cópia conhecida")
+            .register(registry);
+        this.staleMisses = Counter.builder("tasklist.circuitbreaker.fallback")
+            .tag("name", breaker.getName())
+            .tag("result", "miss")
+            .description("Leituras que falharam sem cópia disponível")
+            .register(registry);
+    }
+
+    @Override
+    public Task save(Task task) {
+        Task saved = call(() -> delegate.save(task));
+        remember(saved);
+        return saved;
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<Task> saved = call(() -> delegate.saveAll(tasks));
+        saved.forEach(this::remember);
+        return saved;
+    }
+
+    @Override
+    public List<Task> findAll() {
+        try {
+            List<Task> tasks = call(delegate::findAll);
+            if (tasks.size() <= maxSnapshotEntries) {
+                all = new Snapshot<>(tasks.stream().map(Task::copy).toList(), System.nanoTime());
+            }
+            return tasks;
+        } catch (RuntimeException e) {
+            Snapshot<List<Task>> snapshot = all;
+            if (isBusinessError(e) || snapshot == null) {
+                throw miss(e);
+            }
+            serveStale(snapshot);
+            return snapshot.value().stream().map(Task::copy).toList();
+        }
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        try {
+            Optional<Task> task = call(() -> delegate.findById(id));
+            task.ifPresentOrElse(this::remember, () -> byId.remove(id));
+            return task;
+        } catch (RuntimeException e) {
+            Snapshot<Task> snapshot = byId.get(id);
+            if (isBusinessError(e) || snapshot == null) {
+                throw miss(e);
+            }
+            serveStale(snapshot);
+            return Optional.of(snapshot.value().copy());
+        }
+    }
+
+    @Override
+    public List<Task> findAll(Set<TaskField> fields) {
+        if (fields.equals(TaskField.ALL)) {
+            return findAll();
+        }
+        try {
+            return call(() -> delegate.findAll(fields));
+        } catch (RuntimeException e) {
+            Snapshot<List<Task>> snapshot = all;
+            if (isBusinessError(e) || snapshot == null) {
+                throw miss(e);
+            }
+            serveStale(snapshot);
+            return snapshot.value().stream().map(Task::copy).toList();
+        }
+    }
+
+    @Override
+    public Optional<Task> findById(String id, Set<TaskField> fields) {
+        if (fields.equals(TaskField.ALL)) {
+            return findById(id);
+        }
+        try {
+            return call(() -> delegate.findById(id, fields));
+        } catch (RuntimeException e) {
+            Snapshot<Task> snapshot = byId.get(id);
+            if (isBusinessError(e) || snapshot == null) {
+                throw miss(e);
+            }
+            serveStale(snapshot);
+            return Optional.of(snapshot.value().copy());
+        }
+    }
+
+    @Override
+    public List<Task> findAll(TaskQuery query, Set<TaskField> fields) {
+        try {
+            return call(() -> delegate.findAll(query, fields));
+        } catch (RuntimeException e) {
+            Snapshot<List<Task>> snapshot = all;
+            if (isBusinessError(e) || snapshot == null) {
+                throw miss(e);
+            }
+            serveStale(snapshot);
+            return query.apply(snapshot.value()).stream().map(Task::copy).toList();
+        }
+    }
+
+    @Override
+    public TaskCount count(TaskQuery query, boolean exact) {
+        try {
+            return call(() -> delegate.count(query, exact));
+        } catch (RuntimeException e) {
+            Snapshot<List<Task>> snapshot = all;
+            if (isBusinessError(e) || snapshot == null) {
+                throw miss(e);
+            }
+            serveStale(snapshot);
+            return TaskCount.estimated(query.count(snapshot.value()));
+        }
+    }
+
+    @Override
+    public Task update(Task task) {
+        Task updated = call(() -> delegate.update(task));
+        remember(updated);
+        return updated;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        call(() -> {
+            delegate.deleteById(id);
+            return null;
+        });
+        byId.remove(id);
+    }
+
+    @Override
+    public Optional<Task> findByTitleIgnoreCase(String title) {
+        return call(() -> delegate.findByTitleIgnoreCase(title));
+    }
+
+    @Override
+    public Set<String> findExistingTitles(Collection<String> normalizedTitles) {
+        return call(() -> delegate.findExistingTitles(normalizedTitles));
+    }
+
+    @Override
+    public List<Task> findByTasklistId(String tasklistId) {
+        return call(() -> delegate.findByTasklistId(tasklistId));
+    }
+
+    @Override
+    public Optional<String> findNextRank(String tasklistId, String rank, String excludedId) {
+        return call(() -> delegate.findNextRank(tasklistId, rank, excludedId));
+    }
+
+    @Override
+    public Optional<String> findPreviousRank(String tasklistId, String rank, String excludedId) {
+        return call(() -> delegate.findPreviousRank(tasklistId, rank, excludedId));
+    }
+
+    @Override
+    public Optional<Task> updateRank(String id, String rank) {
+        Optional<Task> task = call(() -> delegate.updateRank(id, rank));
+        task.ifPresent(this::remember);
+        return task;
+    }
+
+    private <T> T call(Supplier<T> operation) {
+        long permit = breaker.tryAcquire();
+        if (permit < 0) {
+            throw new CircuitOpenException(breaker.getName(), breaker.secondsUntilRetry());
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = operation.get();
+            failed = false;
+            return result;
+        } catch (RuntimeException e) {
+            failed = !isBusinessError(e);
+            throw e;
+        } finally {
+            breaker.onResult(permit, System.nanoTime() - start, failed);
+        }
+    }
+
+    private void remember(Task task) {
+        if (task != null && task.getId() != null) {
+            byId.put(task.getId(), new Snapshot<>(task.copy(), System.nanoTime()));
+        }
+    }
+
+    private void serveStale(Snapshot<?> snapshot) {
+        staleHits.increment();
+        StaleResponse.mark(snapshot.ageSeconds());
+    }
+
+    private RuntimeException miss(RuntimeException e) {
+        if (!isBusinessError(e)) {
+            staleMisses.increment();
+        }
+        return e;
+    }
+
+    private static boolean isBusinessError(RuntimeException e) {
+        return e instanceof IllegalArgumentException || e instanceof DomainException;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+*  @(#)CircuitOpenException.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.resilience;
+
+/**
+* Lançada quando o disjuntor rejeita a chamada (ou não há leitura anterior para
+* servir). Sem pilha: é um caminho esperado e frequente enquanto o banco está fora.
+*
+* @author JTech
+*/
+public class CircuitOpenException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public CircuitOpenException(String name, long retryAfterSeconds) {
+        super("Disjuntor '" + name + "' aberto", null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+*  @(#)StaleResponse.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.resilience;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+* Marca a resposta HTTP em andamento como desatualizada quando uma leitura é
+* servida pela última cópia conhecida: Warning 110 (RFC 7234) e a idade dos
+* dados em segundos.
+*
+* Fora do servlet, quem atende a chamada (ex.: o StaleResponseInterceptor do gRPC)
+* a executa em {@link #track} e envia a marca pelo próprio protocolo. Sem servlet e
+* sem acompanhamento (ex.: tarefas agendadas) não faz nada.
+*
+* @author JTech
+*/
+public final class StaleResponse {
+
+    public static final String WARNING = "110 - \"Response is Stale\"";
+    public static final String STALENESS_HEADER = "X-Data-Staleness";
+
+    private static final ThreadLocal<Tracker> TRACKER = new ThreadLocal<>();
+
+    /**
+     * Maior idade dos dados desatualizados servidos durante uma chamada acompanhada.
+     */
+    public static final class Tracker {
+
+        private volatile long ageSeconds = -1;
+
+        public boolean isStale() {
+            return ageSeconds >= 0;
+        }
+
+        public long getAgeSeconds() {
+            return ageSeconds;
+        }
+    }
+
+    private StaleResponse() {
+    }
+
+    public static void mark(long ageSeconds) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            Tracker tracker = TRACKER.get();
+            if (tracker != null) {
+                tracker.ageSeconds = Math.max(tracker.ageSeconds, ageSeconds);
+            }
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            response.setHeader(HttpHeaders.WARNING, WARNING);
+            response.setHeader(STALENESS_HEADER, Long.toString(ageSeconds));
+        }
+    }
+
+    /**
+     * Executa a ação registrando no {@code tracker} as leituras desatualizadas que ela servir.
+     */
+    public static void track(Tracker tracker, Runnable action) {
+        Tracker previous = TRACKER.get();
+        TRACKER.set(tracker);
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                TRACKER.set(previous);
+            } else {
+                TRACKER.remove();
+            }
+        }
+    }
+}
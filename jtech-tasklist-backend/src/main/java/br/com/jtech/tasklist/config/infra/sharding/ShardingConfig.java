@@ -0,0 +1,93 @@
+/*
+*  @(#)ShardingConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.sharding;
+
+import br.com.jtech.tasklist.adapters.output.compression.DescriptionCompressor;
+import br.com.jtech.tasklist.adapters.output.sharding.ShardSplitter;
+import br.com.jtech.tasklist.adapters.output.sharding.ShardedTaskAdapter;
+import br.com.jtech.tasklist.adapters.output.sharding.TaskShard;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+* Configuração do sharding horizontal das tarefas (desabilitado por padrão).
+*
+* Os DataSources dos shards não são registrados como beans, para não substituir o
+* DataSource principal criado pelo Spring Boot (listas de tarefas, outbox,
+* idempotência). O {@link ShardedTaskAdapter} é {@code @Primary} e passa a ser o
+* TaskOutputGateway usado pelo TaskUseCaseConfig.
+*
+* @author JTech
+*/
+@Configuration
+@ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    private static final String PREFIX = "sharding.";
+
+    @Bean
+    @Primary
+    public ShardedTaskAdapter shardedTaskAdapter(Environment environment, DataVersion dataVersion,
+                                                 DescriptionCompressor descriptionCompressor) {
+        String username = environment.getProperty(PREFIX + "username");
+        String password = environment.getProperty(PREFIX + "password");
+        Map<String, TaskShard> shards = new LinkedHashMap<>();
+        for (String entry : split(environment.getRequiredProperty(PREFIX + "datasources"))) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Shard inválido (esperado nome=jdbc-url): " + entry);
+            }
+            String name = entry.substring(0, separator).trim();
+            TaskShard shard = new TaskShard(name, DataSourceBuilder.create()
+                .url(entry.substring(separator + 1).trim())
+                .username(username)
+                .password(password)
+                .build(), descriptionCompressor);
+            shard.initSchema();
+            shards.put(name, shard);
+        }
+        String active = environment.getProperty(PREFIX + "active", "");
+        return new ShardedTaskAdapter(
+            shards,
+            active.isBlank() ? List.copyOf(shards.keySet()) : split(active),
+            environment.getProperty(PREFIX + "virtual-nodes", Integer.class, 160),
+            dataVersion);
+    }
+
+    @Bean
+    public ShardSplitter shardSplitter(ShardedTaskAdapter shardedTaskAdapter) {
+        return new ShardSplitter(shardedTaskAdapter);
+    }
+
+    @Bean
+    public ShardsEndpoint shardsEndpoint(ShardedTaskAdapter shardedTaskAdapter, ShardSplitter shardSplitter) {
+        return new ShardsEndpoint(shardedTaskAdapter, shardSplitter);
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(entry -> !entry.isEmpty())
+            .toList();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+*  @(#)ShardsEndpoint.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.sharding;
+
+import br.com.jtech.tasklist.adapters.output.sharding.ShardSplitter;
+import br.com.jtech.tasklist.adapters.output.sharding.ShardedTaskAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+* Endpoint do Actuator (/actuator/shards): GET lista o anel e a quantidade de
+* tarefas em cada shard configurado; POST {"shard": "nome"} inclui um shard
+* configurado no anel pelo {@link ShardSplitter}.
+*
+* Não é exposto na web por padrão ({@code management.endpoints.web.exposure.exclude});
+* como o POST move dados em produção, habilite-o só em uma porta de gerenciamento interna.
+*
+* @author JTech
+*/
+@Endpoint(id = "shards")
+@RequiredArgsConstructor
+public class ShardsEndpoint {
+
+    private final ShardedTaskAdapter adapter;
+    private final ShardSplitter splitter;
+
+    @ReadOperation
+    public Map<String, Object> shards() {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        adapter.getShards().forEach((name, shard) -> rows.put(name, shard.count()));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("ring", adapter.getRing().getShards());
+        body.put("rows", rows);
+        return body;
+    }
+
+    @WriteOperation
+    public ShardSplitter.SplitResult split(String shard) {
+        return splitter.split(shard);
+    }
+}
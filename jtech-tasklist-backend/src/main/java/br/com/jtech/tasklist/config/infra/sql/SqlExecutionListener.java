@@ -0,0 +1,72 @@
+/*
+*  @(#)SqlExecutionListener.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+
+/**
+* Listener do datasource-proxy que alimenta o {@link SqlStatementRegistry}
+* com a latência de cada comando executado.
+*
+* @author JTech
+*/
+public class SqlExecutionListener implements QueryExecutionListener {
+
+    private final ObjectProvider<SqlStatementRegistry> registryProvider;
+    private final int nPlusOneThreshold;
+    private volatile SqlStatementRegistry registry;
+
+    /**
+     * O registro é resolvido de forma tardia, pois o DataSource é envolvido
+     * por um BeanPostProcessor antes que o MeterRegistry esteja disponível.
+     */
+    public SqlExecutionListener(ObjectProvider<SqlStatementRegistry> registryProvider, int nPlusOneThreshold) {
+        this.registryProvider = registryProvider;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Nada a fazer antes da execução
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementRegistry current = registry();
+        if (current == null) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            String normalizedSql = SqlNormalizer.normalize(queryInfo.getQuery());
+            int parameterCount = queryInfo.getParametersList().isEmpty()
+                ? 0
+                : queryInfo.getParametersList().get(0).size();
+            current.record(normalizedSql, execInfo.getElapsedTime(), parameterCount, execInfo.isSuccess());
+            SqlRequestTrackingFilter.track(normalizedSql, nPlusOneThreshold, current);
+        }
+    }
+
+    private SqlStatementRegistry registry() {
+        SqlStatementRegistry current = registry;
+        if (current == null) {
+            current = registryProvider.getIfAvailable();
+            registry = current;
+        }
+        return current;
+    }
+}
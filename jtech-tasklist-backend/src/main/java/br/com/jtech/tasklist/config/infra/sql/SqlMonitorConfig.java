@@ -0,0 +1,77 @@
+/*
+*  @(#)SqlMonitorConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+* Configuração da instrumentação de SQL. Substitui o show-sql do Hibernate por
+* um proxy do DataSource que mede cada comando, registra os lentos e detecta N+1.
+* Quando desabilitada (padrão), nenhum bean é criado e o DataSource não é envolvido.
+*
+* @author JTech
+*/
+@Configuration
+@ConditionalOnProperty(prefix = "sql-monitor", name = "enabled", havingValue = "true")
+public class SqlMonitorConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlMonitorDataSourcePostProcessor(
+            ObjectProvider<SqlStatementRegistry> registryProvider,
+            @Value("${sql-monitor.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new SqlExecutionListener(registryProvider, nPlusOneThreshold))
+                        .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlStatementRegistry sqlStatementRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${sql-monitor.slow-threshold-ms:200}") long slowThresholdMs,
+            @Value("${sql-monitor.max-statements:200}") int maxStatements) {
+        return new SqlStatementRegistry(meterRegistry, slowThresholdMs, maxStatements);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlRequestTrackingFilter> sqlRequestTrackingFilter() {
+        FilterRegistrationBean<SqlRequestTrackingFilter> registration =
+            new FilterRegistrationBean<>(new SqlRequestTrackingFilter());
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+
+    @Bean
+    public SqlStatsEndpoint sqlStatsEndpoint(SqlStatementRegistry sqlStatementRegistry) {
+        return new SqlStatsEndpoint(sqlStatementRegistry);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+*  @(#)SqlNormalizer.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.sql;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.regex.Pattern;
+
+/**
+* Normaliza comandos SQL para que execuções do mesmo statement com valores
+* diferentes sejam agrupadas sob a mesma chave.
+*
+* @author JTech
+*/
+@UtilityClass
+public class SqlNormalizer {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Substitui literais por '?', colapsa listas IN e espaços em branco.
+     *
+     * @param sql Comando SQL original
+     * @return Comando normalizado
+     */
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+        return normalized.trim().toLowerCase();
+    }
+
+    /**
+     * Gera um identificador curto e estável para o comando normalizado,
+     * usado como tag de métrica no lugar do SQL completo.
+     *
+     * @param normalizedSql Comando já normalizado
+     * @return Identificador hexadecimal de 8 caracteres
+     */
+    public static String fingerprint(String normalizedSql) {
+        return String.format("%08x", normalizedSql.hashCode());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+*  @(#)SqlRequestTrackingFilter.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+* Filtro que delimita o escopo de uma requisição HTTP para a detecção de N+1.
+* Conta quantas vezes cada SELECT normalizado é executado na mesma requisição
+* e sinaliza quando o limite configurado é atingido.
+*
+* @author JTech
+*/
+public class SqlRequestTrackingFilter extends OncePerRequestFilter {
+
+    private static final ThreadLocal<RequestScope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CURRENT.set(new RequestScope(request.getMethod() + " " + request.getRequestURI()));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Contabiliza a execução de um SELECT na requisição corrente.
+     *
+     * @param normalizedSql Comando normalizado
+     * @param threshold     Quantidade de execuções que caracteriza N+1
+     * @param registry      Registro onde a suspeita é reportada
+     */
+    static void track(String normalizedSql, int threshold, SqlStatementRegistry registry) {
+        RequestScope scope = CURRENT.get();
+        if (scope == null || !normalizedSql.startsWith("select")) {
+            return;
+        }
+        int executions = scope.counts.merge(normalizedSql, 1, Integer::sum);
+        // Reporta uma única vez por comando e requisição
+        if (executions == threshold) {
+            registry.recordNPlusOne(normalizedSql, executions, scope.request);
+        }
+    }
+
+    private static final class RequestScope {
+        private final String request;
+        private final Map<String, Integer> counts = new HashMap<>();
+
+        private RequestScope(String request) {
+            this.request = request;
+        }
+    }
+}
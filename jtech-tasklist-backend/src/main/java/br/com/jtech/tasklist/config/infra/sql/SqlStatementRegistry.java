@@ -0,0 +1,175 @@
+/*
+*  @(#)SqlStatementRegistry.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+* Registro das estatísticas de execução por comando SQL normalizado.
+* Cada comando possui um Timer com histograma de percentis, além de
+* contadores de erros e de execuções lentas.
+*
+* @author JTech
+*/
+@Slf4j
+public class SqlStatementRegistry {
+
+    static final String OTHER_STATEMENTS = "other";
+
+    private static final String USE_CASE_PACKAGE = "br.com.jtech.tasklist.application.core.usecases.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdMs;
+    private final int maxStatements;
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+
+    public SqlStatementRegistry(MeterRegistry meterRegistry, long slowThresholdMs, int maxStatements) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdMs = slowThresholdMs;
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * Registra a execução de um comando SQL.
+     *
+     * @param normalizedSql  Comando já normalizado
+     * @param elapsedMs      Tempo de execução em milissegundos
+     * @param parameterCount Quantidade de parâmetros vinculados
+     * @param success        Se a execução terminou sem erro
+     */
+    public void record(String normalizedSql, long elapsedMs, int parameterCount, boolean success) {
+        StatementStats stats = statsFor(normalizedSql);
+        stats.timer.record(elapsedMs, TimeUnit.MILLISECONDS);
+        if (!success) {
+            stats.errors.increment();
+        }
+        if (elapsedMs >= slowThresholdMs) {
+            stats.slow.increment();
+            log.warn("::: SQL lento ({} ms, {} parametros) chamado por {}: {}",
+                elapsedMs, parameterCount, callingUseCase(), normalizedSql);
+        }
+    }
+
+    /**
+     * Registra a suspeita de N+1 para um comando dentro de uma requisição.
+     *
+     * @param normalizedSql Comando repetido
+     * @param executions    Quantidade de execuções na requisição
+     * @param requestUri    URI da requisição
+     */
+    public void recordNPlusOne(String normalizedSql, int executions, String requestUri) {
+        StatementStats stats = statsFor(normalizedSql);
+        stats.nPlusOne.increment();
+        log.warn("::: Possivel N+1 em '{}' ({} execucoes do mesmo comando): {}",
+            requestUri, executions, normalizedSql);
+    }
+
+    /**
+     * Retorna as estatísticas ordenadas pelo tempo total gasto, do maior para o menor.
+     */
+    public List<Map<String, Object>> snapshot() {
+        return statements.values().stream()
+            .sorted(Comparator.comparingDouble((StatementStats s) -> s.timer.totalTime(TimeUnit.MILLISECONDS)).reversed())
+            .map(StatementStats::toMap)
+            .toList();
+    }
+
+    private StatementStats statsFor(String normalizedSql) {
+        StatementStats stats = statements.get(normalizedSql);
+        if (stats != null) {
+            return stats;
+        }
+        // Limita a cardinalidade das tags: comandos excedentes vão para um único balde
+        String key = statements.size() >= maxStatements ? OTHER_STATEMENTS : normalizedSql;
+        return statements.computeIfAbsent(key, this::newStats);
+    }
+
+    private StatementStats newStats(String normalizedSql) {
+        String fingerprint = OTHER_STATEMENTS.equals(normalizedSql)
+            ? OTHER_STATEMENTS
+            : SqlNormalizer.fingerprint(normalizedSql);
+        Timer timer = Timer.builder("tasklist.sql.statement")
+            .description("Latência por comando SQL normalizado")
+            .tag("statement", fingerprint)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        Counter nPlusOne = Counter.builder("tasklist.sql.n_plus_one")
+            .description("Requisições com suspeita de N+1 por comando SQL")
+            .tag("statement", fingerprint)
+            .register(meterRegistry);
+        return new StatementStats(normalizedSql, fingerprint, timer, nPlusOne);
+    }
+
+    /**
+     * Localiza o método de caso de uso que originou o comando. Só é chamado para
+     * comandos lentos, portanto o custo de percorrer a pilha fica fora do caminho comum.
+     */
+    private static String callingUseCase() {
+        return STACK_WALKER.walk(frames -> frames
+            .filter(frame -> frame.getClassName().startsWith(USE_CASE_PACKAGE))
+            .findFirst()
+            .map(frame -> frame.getClassName().substring(USE_CASE_PACKAGE.length()) + "." + frame.getMethodName())
+            .orElse("desconhecido"));
+    }
+
+    private static final class StatementStats {
+        private final String sql;
+        private final String fingerprint;
+        private final Timer timer;
+        private final Counter nPlusOne;
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+
+        private StatementStats(String sql, String fingerprint, Timer timer, Counter nPlusOne) {
+            this.sql = sql;
+            this.fingerprint = fingerprint;
+            this.timer = timer;
+            this.nPlusOne = nPlusOne;
+        }
+
+        private Map<String, Object> toMap() {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<String, Object> percentiles = new LinkedHashMap<>();
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                percentiles.put("p" + Math.round(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS));
+            }
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("statement", fingerprint);
+            map.put("sql", sql);
+            map.put("count", snapshot.count());
+            map.put("totalMs", snapshot.total(TimeUnit.MILLISECONDS));
+            map.put("meanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+            map.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+            map.put("percentilesMs", percentiles);
+            map.put("errors", errors.sum());
+            map.put("slow", slow.sum());
+            map.put("nPlusOne", (long) nPlusOne.count());
+            return map;
+        }
+    }
+}
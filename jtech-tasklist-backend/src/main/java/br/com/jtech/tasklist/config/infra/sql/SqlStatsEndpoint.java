@@ -0,0 +1,38 @@
+/*
+*  @(#)SqlStatsEndpoint.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+* Endpoint do Actuator (/actuator/sqlstats) que lista as estatísticas
+* por comando SQL, ordenadas pelo tempo total consumido.
+*
+* @author JTech
+*/
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+
+    private final SqlStatementRegistry registry;
+
+    @ReadOperation
+    public List<Map<String, Object>> statements() {
+        return registry.snapshot();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+*  @(#)LazyInitializationConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.startup;
+
+import br.com.jtech.tasklist.adapters.input.controllers.CreateTasklistController;
+import br.com.jtech.tasklist.adapters.input.controllers.FindTasklistController;
+import br.com.jtech.tasklist.adapters.input.controllers.TaskController;
+import br.com.jtech.tasklist.application.ports.input.CreateTasklistInputGateway;
+import br.com.jtech.tasklist.application.ports.input.FindTasklistInputGateway;
+import br.com.jtech.tasklist.application.ports.input.TaskInputGateway;
+import br.com.jtech.tasklist.application.ports.output.CreateTasklistOutputGateway;
+import br.com.jtech.tasklist.application.ports.output.FindTasklistOutputGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+* Perfil "lazy": habilita spring.main.lazy-initialization (ver application-lazy.yml),
+* adiando beans não críticos como springdoc e swagger-ui para o primeiro uso.
+* Os endpoints de tarefas e toda a cadeia até o JPA continuam ansiosos, para que
+* a primeira requisição não pague o custo de inicialização.
+*
+* @author JTech
+*/
+@Configuration
+@Profile("lazy")
+public class LazyInitializationConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerTaskEndpoints() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+            TaskController.class,
+            CreateTasklistController.class,
+            FindTasklistController.class,
+            TaskInputGateway.class,
+            TaskOutputGateway.class,
+            CreateTasklistInputGateway.class,
+            CreateTasklistOutputGateway.class,
+            FindTasklistInputGateway.class,
+            FindTasklistOutputGateway.class);
+    }
+}
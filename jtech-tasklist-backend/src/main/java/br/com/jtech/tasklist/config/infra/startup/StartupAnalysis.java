@@ -0,0 +1,110 @@
+/*
+*  @(#)StartupAnalysis.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.startup;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+* Análise dos passos de inicialização registrados pelo {@link BufferingApplicationStartup}.
+*
+* O modo de análise é habilitado pela propriedade de sistema {@code startup.analysis.enabled}
+* ou pela variável de ambiente {@code STARTUP_ANALYSIS_ENABLED}, pois o ApplicationStartup
+* precisa ser definido antes do Environment existir.
+*
+* @author JTech
+*/
+@UtilityClass
+public class StartupAnalysis {
+
+    public static final int BUFFER_CAPACITY = 10_000;
+
+    /**
+     * Passo de inicialização com duração inclusiva (contém os passos filhos).
+     *
+     * @param name        Nome do passo (ex: spring.beans.instantiate)
+     * @param subject     Bean ou classe associada, quando houver
+     * @param startMs     Início relativo ao começo da inicialização
+     * @param durationMs  Duração do passo
+     */
+    public record Step(String name, String subject, long startMs, long durationMs) {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("startup.analysis.enabled")
+            || "true".equalsIgnoreCase(System.getenv("STARTUP_ANALYSIS_ENABLED"));
+    }
+
+    public static ApplicationStartup newApplicationStartup() {
+        return isEnabled() ? new BufferingApplicationStartup(BUFFER_CAPACITY) : ApplicationStartup.DEFAULT;
+    }
+
+    /**
+     * Retorna os passos ordenados pela duração, do mais lento para o mais rápido,
+     * sem esvaziar o buffer (diferente do POST em /actuator/startup).
+     *
+     * @param startup ApplicationStartup da aplicação
+     * @param limit   Quantidade máxima de passos
+     * @return Passos ordenados ou lista vazia se o modo de análise estiver desabilitado
+     */
+    public static List<Step> slowest(ApplicationStartup startup, int limit) {
+        if (!(startup instanceof BufferingApplicationStartup buffering)) {
+            return List.of();
+        }
+        var timeline = buffering.getBufferedTimeline();
+        return timeline.getEvents().stream()
+            .map(event -> toStep(event, timeline.getStartTime().toEpochMilli()))
+            .sorted(Comparator.comparingLong(Step::durationMs).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    private static Step toStep(TimelineEvent event, long timelineStartMs) {
+        return new Step(
+            event.getStartupStep().getName(),
+            subject(event.getStartupStep()),
+            event.getStartTime().toEpochMilli() - timelineStartMs,
+            event.getDuration().toMillis());
+    }
+
+    private static String subject(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey()) || "beanType".equals(tag.getKey()) || "postProcessor".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Duração total registrada, do primeiro ao último passo.
+     */
+    public static Duration total(ApplicationStartup startup) {
+        if (!(startup instanceof BufferingApplicationStartup buffering)) {
+            return Duration.ZERO;
+        }
+        var timeline = buffering.getBufferedTimeline();
+        return timeline.getEvents().stream()
+            .map(TimelineEvent::getEndTime)
+            .max(Comparator.naturalOrder())
+            .map(end -> Duration.between(timeline.getStartTime(), end))
+            .orElse(Duration.ZERO);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+*  @(#)StartupTimelineEndpoint.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.startup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+* Endpoint do Actuator (/actuator/startuptimeline) com os passos de inicialização
+* ordenados do mais lento para o mais rápido. Requer o modo de análise habilitado
+* (STARTUP_ANALYSIS_ENABLED=true).
+*
+* @author JTech
+*/
+@Component
+@Endpoint(id = "startuptimeline")
+@RequiredArgsConstructor
+public class StartupTimelineEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final ConfigurableApplicationContext context;
+
+    @ReadOperation
+    public Map<String, Object> timeline(@Nullable Integer limit) {
+        var startup = context.getApplicationStartup();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("enabled", StartupAnalysis.isEnabled());
+        body.put("totalMs", StartupAnalysis.total(startup).toMillis());
+        body.put("steps", StartupAnalysis.slowest(startup, limit != null ? limit : DEFAULT_LIMIT));
+        return body;
+    }
+}
@@ -11,19 +11,26 @@
  */
 package br.com.jtech.tasklist.config.infra.utils;
 
+import br.com.jtech.tasklist.application.core.domains.DomainError;
+import br.com.jtech.tasklist.application.core.domains.DomainException;
 import br.com.jtech.tasklist.config.infra.exceptions.*;
+import br.com.jtech.tasklist.config.infra.resilience.CircuitOpenException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import java.time.LocalDateTime;
@@ -55,6 +62,37 @@ public class GlobalExceptionHandler {
         return buildResponseEntity(error);
     }
 
+    /**
+     * Trata erros de validação no WebFlux (perfil "reactive"), com a mesma resposta do MVC.
+     *
+     * @param ex Exceção de validação
+     * @return Resposta com erro 400 (Bad Request) e lista de erros de validação
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiError> handleWebExchangeBindException(WebExchangeBindException ex) {
+        ApiError error = new ApiError(HttpStatus.BAD_REQUEST);
+        error.setMessage("Erro de validação nos dados fornecidos");
+        error.setTimestamp(LocalDateTime.now());
+        error.setSubErrors(subErrors(ex));
+        error.setDebugMessage("Um ou mais campos não atendem aos requisitos de validação");
+        return buildResponseEntity(error);
+    }
+
+    /**
+     * Trata entradas inválidas no WebFlux (JSON malformado, parâmetro ausente ou de tipo errado).
+     *
+     * @param ex Exceção lançada
+     * @return Resposta com erro 400 (Bad Request)
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiError> handleServerWebInputException(ServerWebInputException ex) {
+        ApiError error = new ApiError(HttpStatus.BAD_REQUEST);
+        error.setMessage("Erro ao processar a requisição. Verifique o corpo e os parâmetros enviados.");
+        error.setTimestamp(LocalDateTime.now());
+        error.setDebugMessage(ex.getReason() != null ? ex.getReason() : ex.getMessage());
+        return buildResponseEntity(error);
+    }
+
     /**
      * Trata exceções de argumento inválido (ex: duplicatas, regras de negócio).
      *
@@ -72,6 +110,34 @@ public class GlobalExceptionHandler {
         return buildResponseEntity(error);
     }
 
+    /**
+     * Trata erros de negócio lançados sem pilha pelos casos de uso.
+     *
+     * @param ex Exceção lançada
+     * @return Resposta com erro 400 (Bad Request)
+     */
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ApiError> handleDomainException(DomainException ex) {
+        return domainError(ex.getError());
+    }
+
+    /**
+     * Converte um erro de negócio do canal {@code Result} na resposta padrão da API,
+     * sem passar por exceção. Tarefa inexistente vira 404 sem corpo.
+     *
+     * @param domainError Erro de negócio
+     * @return Resposta com erro 404 (Not Found) ou 400 (Bad Request)
+     */
+    public static ResponseEntity<ApiError> domainError(DomainError domainError) {
+        if (domainError.kind() == DomainError.Kind.NOT_FOUND) {
+            return ResponseEntity.notFound().build();
+        }
+        ApiError error = new ApiError(HttpStatus.BAD_REQUEST);
+        error.setMessage(domainError.message());
+        error.setDebugMessage(domainError.message());
+        return new ResponseEntity<>(error, error.getStatus());
+    }
+
     /**
      * Trata erros quando o corpo da requisição não pode ser lido (JSON inválido, etc.).
      *
@@ -217,6 +283,22 @@ public class GlobalExceptionHandler {
         return buildResponseEntity(error);
     }
 
+    /**
+     * Trata chamadas rejeitadas pelo disjuntor do banco de dados.
+     *
+     * @param ex Exceção lançada
+     * @return Resposta com erro 503 (Service Unavailable) e Retry-After
+     */
+    @ExceptionHandler(CircuitOpenException.class)
+    public ResponseEntity<ApiError> handleCircuitOpenException(CircuitOpenException ex) {
+        ApiError error = new ApiError(HttpStatus.SERVICE_UNAVAILABLE);
+        error.setMessage("Serviço temporariamente indisponível. Tente novamente mais tarde.");
+        error.setDebugMessage(ex.getMessage());
+        return ResponseEntity.status(error.getStatus())
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(error);
+    }
+
     /**
      * Trata exceções genéricas não tratadas (deve ser o último handler).
      * Captura qualquer exceção que não foi tratada pelos handlers específicos.
@@ -253,15 +335,15 @@ public class GlobalExceptionHandler {
     /**
      * Converte erros de validação do Spring em lista de ApiSubError.
      *
-     * @param ex Exceção de validação
+     * @param bindingResult Resultado da validação (MVC ou WebFlux)
      * @return Lista de erros de validação formatados
      */
-    private List<ApiSubError> subErrors(MethodArgumentNotValidException ex) {
+    private List<ApiSubError> subErrors(BindingResult bindingResult) {
         List<ApiSubError> errors = new ArrayList<>();
-        for (FieldError fieldError : ex.getBindingResult().getFieldErrors()) {
+        for (FieldError fieldError : bindingResult.getFieldErrors()) {
             String message = translateValidationMessage(fieldError.getDefaultMessage(), fieldError.getField());
             ApiValidationError api = new ApiValidationError(
-                ex.getObjectName(),
+                bindingResult.getObjectName(),
                 fieldError.getField(),
                 fieldError.getRejectedValue(),
                 message
@@ -0,0 +1,33 @@
+/*
+*  @(#)FindTasklistUseCaseConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.usecases;
+
+import br.com.jtech.tasklist.application.core.usecases.FindTasklistUseCase;
+import br.com.jtech.tasklist.application.ports.input.FindTasklistInputGateway;
+import br.com.jtech.tasklist.application.ports.output.FindTasklistOutputGateway;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+* Configuração do caso de uso de consulta de listas de tarefas.
+*
+* @author JTech
+*/
+@Configuration
+public class FindTasklistUseCaseConfig {
+
+    @Bean
+    public FindTasklistInputGateway findTasklistInputGateway(FindTasklistOutputGateway findTasklistOutputGateway) {
+        return new FindTasklistUseCase(findTasklistOutputGateway);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+*  @(#)ReactiveTaskUseCaseConfig.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.usecases;
+
+import br.com.jtech.tasklist.application.core.usecases.ReactiveTaskUseCase;
+import br.com.jtech.tasklist.application.ports.input.ReactiveTaskInputGateway;
+import br.com.jtech.tasklist.application.ports.output.ReactiveTaskOutputGateway;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+* Cria o caso de uso reativo de tarefas (perfil "reactive"). O R2dbcTaskAdapter já
+* é um @Component do mesmo perfil.
+*
+* @author JTech
+*/
+@Configuration
+@Profile("reactive")
+public class ReactiveTaskUseCaseConfig {
+
+    @Bean
+    public ReactiveTaskInputGateway reactiveTaskInputGateway(ReactiveTaskOutputGateway reactiveTaskOutputGateway) {
+        return new ReactiveTaskUseCase(reactiveTaskOutputGateway);
+    }
+}
@@ -15,13 +15,29 @@ package br.com.jtech.tasklist.config.usecases;
 import br.com.jtech.tasklist.application.core.usecases.TaskUseCase;
 import br.com.jtech.tasklist.application.ports.input.TaskInputGateway;
 import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import br.com.jtech.tasklist.config.infra.coalescing.CoalescingTaskOutputGateway;
+import br.com.jtech.tasklist.config.infra.metrics.MeteredTaskInputGateway;
+import br.com.jtech.tasklist.config.infra.metrics.MeteredTaskOutputGateway;
+import br.com.jtech.tasklist.config.infra.resilience.CircuitBreaker;
+import br.com.jtech.tasklist.config.infra.resilience.CircuitBreakerTaskOutputGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
 * Classe de configuração que cria os beans dos casos de uso.
 * Spring Boot usa esta classe para fazer a injeção de dependências.
 * O TaskAdapter já é um @Component, então o Spring cria o bean automaticamente.
+* Os gateways de entrada e saída são envolvidos por decorators de métricas,
+* mantendo o TaskUseCase livre de dependências do Micrometer.
+* Acima das métricas de saída fica o agrupamento de leituras (single-flight), de modo
+* que tasklist.gateway{gateway=output} conte apenas as consultas realmente executadas.
+* No topo fica o disjuntor (quando habilitado): cada chamada agrupada é avaliada e,
+* se servida pela cópia de contingência, marcada na própria resposta.
 *
 * @author JTech
 */
@@ -29,8 +45,22 @@ import org.springframework.context.annotation.Configuration;
 public class TaskUseCaseConfig {
 
     @Bean
-    public TaskInputGateway taskInputGateway(TaskOutputGateway taskOutputGateway) {
-        return new TaskUseCase(taskOutputGateway);
+    public TaskInputGateway taskInputGateway(
+            TaskOutputGateway taskOutputGateway,
+            MeterRegistry meterRegistry,
+            @Value("${single-flight.enabled:true}") boolean singleFlightEnabled,
+            @Value("${single-flight.max-wait:2s}") Duration singleFlightMaxWait,
+            ObjectProvider<CircuitBreaker> circuitBreaker,
+            @Value("${circuit-breaker.snapshot-max-entries:10000}") int snapshotMaxEntries) {
+        TaskOutputGateway output = new MeteredTaskOutputGateway(taskOutputGateway, meterRegistry);
+        if (singleFlightEnabled) {
+            output = new CoalescingTaskOutputGateway(output, singleFlightMaxWait, meterRegistry);
+        }
+        CircuitBreaker breaker = circuitBreaker.getIfAvailable();
+        if (breaker != null) {
+            output = new CircuitBreakerTaskOutputGateway(output, breaker, snapshotMaxEntries, meterRegistry);
+        }
+        return new MeteredTaskInputGateway(new TaskUseCase(output), meterRegistry);
     }
 }
 
@@ -0,0 +1,7 @@
+-- Índices da consulta filtrada de tarefas que só existem no PostgreSQL (os demais
+-- estão em TaskEntity). Executado na inicialização; precisa ser idempotente.
+-- sort=title com titlePrefix: filtro e ordenação usam title COLLATE "C", que o
+-- índice comum em title (collation do banco) não atende
+CREATE INDEX IF NOT EXISTS idx_tasks_title_c_id ON tasks (title COLLATE "C", id);
+-- Substituído pelo índice acima, que também atende à ordenação
+DROP INDEX IF EXISTS idx_tasks_title_pattern;
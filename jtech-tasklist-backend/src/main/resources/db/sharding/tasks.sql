@@ -0,0 +1,22 @@
+-- Esquema de cada shard de tarefas (criado na inicialização, se ausente).
+-- Sem FK para tasklists: as listas continuam no banco principal.
+CREATE TABLE IF NOT EXISTS tasks (
+    id UUID PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status VARCHAR(50) NOT NULL,
+    tasklist_id UUID,
+    sort_rank VARCHAR(64),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP
+);
+-- Ordem de cursor usada no scatter-gather e no split
+CREATE INDEX IF NOT EXISTS idx_tasks_created_at_id ON tasks (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_tasklist_rank ON tasks (tasklist_id, sort_rank);
+-- Fase de alcance (catch-up) do split
+CREATE INDEX IF NOT EXISTS idx_tasks_updated_at ON tasks (updated_at);
+-- Uma linha por lista, bloqueada (FOR UPDATE) por anexações e rebalanceamentos,
+-- para serializá-los por lista entre todas as instâncias
+CREATE TABLE IF NOT EXISTS tasklist_locks (
+    tasklist_id UUID PRIMARY KEY
+);
@@ -0,0 +1,64 @@
+/*
+*  @(#)StartupBudgetTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist;
+
+import br.com.jtech.tasklist.config.infra.startup.StartupAnalysis;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Teste de regressão do tempo de inicialização.
+* Sobe a aplicação completa com o perfil "test" (H2) e falha se o tempo até o
+* contexto pronto ultrapassar o orçamento, listando os passos mais lentos.
+*
+* O orçamento pode ser ajustado com -Dstartup.budget.ms.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Orçamento de Inicialização")
+class StartupBudgetTest {
+
+    private static final long DEFAULT_BUDGET_MS = 20_000L;
+
+    @Test
+    @DisplayName("Deve inicializar a aplicação dentro do orçamento de tempo")
+    void shouldStartWithinBudget() {
+        // Arrange
+        long budgetMs = Long.getLong("startup.budget.ms", DEFAULT_BUDGET_MS);
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(StartupAnalysis.BUFFER_CAPACITY);
+        SpringApplication application = new SpringApplication(StartTasklist.class);
+        application.setApplicationStartup(startup);
+        application.setAdditionalProfiles("test");
+
+        // Act
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = application.run("--server.port=0", "--spring.jpa.show-sql=false")) {
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+            List<StartupAnalysis.Step> slowest = StartupAnalysis.slowest(startup, 10);
+
+            // Assert
+            assertThat(context.isActive()).isTrue();
+            assertThat(slowest).isNotEmpty();
+            assertThat(elapsedMs)
+                .as("Inicialização levou %d ms (orçamento: %d ms). Passos mais lentos: %s", elapsedMs, budgetMs, slowest)
+                .isLessThanOrEqualTo(budgetMs);
+        }
+    }
+}
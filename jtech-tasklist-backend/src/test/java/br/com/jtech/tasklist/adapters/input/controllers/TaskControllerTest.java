@@ -14,7 +14,13 @@ package br.com.jtech.tasklist.adapters.input.controllers;
 
 import br.com.jtech.tasklist.adapters.input.protocols.TaskRequest;
 import br.com.jtech.tasklist.adapters.input.protocols.TaskResponse;
+import br.com.jtech.tasklist.application.core.domains.DomainError;
+import br.com.jtech.tasklist.application.core.domains.Result;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskCount;
+import br.com.jtech.tasklist.application.core.domains.TaskField;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.TaskSort;
 import br.com.jtech.tasklist.application.ports.input.TaskInputGateway;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,8 +34,10 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -84,7 +92,7 @@ class TaskControllerTest {
     @DisplayName("POST /tasks - Deve criar tarefa com sucesso")
     void shouldCreateTaskSuccessfully() throws Exception {
         // Arrange
-        when(taskInputGateway.create(any(Task.class))).thenReturn(task);
+        when(taskInputGateway.tryCreate(any(Task.class))).thenReturn(Result.ok(task));
 
         // Act & Assert
         mockMvc.perform(post("/tasks")
@@ -96,7 +104,7 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.description").value("Descrição da tarefa"))
             .andExpect(jsonPath("$.status").value("pendente"));
 
-        verify(taskInputGateway, times(1)).create(any(Task.class));
+        verify(taskInputGateway, times(1)).tryCreate(any(Task.class));
     }
 
     @Test
@@ -114,7 +122,7 @@ class TaskControllerTest {
                 .content(objectMapper.writeValueAsString(invalidRequest)))
             .andExpect(status().isBadRequest());
 
-        verify(taskInputGateway, never()).create(any(Task.class));
+        verify(taskInputGateway, never()).tryCreate(any(Task.class));
     }
 
     @Test
@@ -139,7 +147,9 @@ class TaskControllerTest {
             .andExpect(jsonPath("$").isArray())
             .andExpect(jsonPath("$").value(org.hamcrest.Matchers.hasSize(2)))
             .andExpect(jsonPath("$[0].id").value(taskId))
-            .andExpect(jsonPath("$[1].title").value("Tarefa 2"));
+            .andExpect(jsonPath("$[1].title").value("Tarefa 2"))
+            .andExpect(header().string(TaskController.TOTAL_COUNT_HEADER, "2"))
+            .andExpect(header().string(TaskController.TOTAL_COUNT_TYPE_HEADER, "exact"));
 
         verify(taskInputGateway, times(1)).findAll();
     }
@@ -174,6 +184,97 @@ class TaskControllerTest {
         verify(taskInputGateway, times(1)).findById(taskId);
     }
 
+    @Test
+    @DisplayName("GET /tasks?fields= - Deve retornar apenas os campos pedidos")
+    void shouldReturnOnlyRequestedFields() throws Exception {
+        // Arrange
+        Set<TaskField> fields = EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.STATUS);
+        Task partial = Task.builder().id(taskId).title("Tarefa de Teste").status("pendente").build();
+        when(taskInputGateway.findAll(fields)).thenReturn(List.of(partial));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("fields", "id,title,status"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(taskId))
+            .andExpect(jsonPath("$[0].title").value("Tarefa de Teste"))
+            .andExpect(jsonPath("$[0].status").value("pendente"))
+            .andExpect(jsonPath("$[0].description").doesNotExist())
+            .andExpect(jsonPath("$[0].createdAt").doesNotExist());
+
+        verify(taskInputGateway, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("GET /tasks/{id}?fields= - Deve retornar 400 quando um campo não existir")
+    void shouldReturn400WhenFieldIsUnknown() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks/{id}", taskId).param("fields", "id,secret"))
+            .andExpect(status().isBadRequest());
+
+        verify(taskInputGateway, never()).findById(eq(taskId), any());
+    }
+
+    @Test
+    @DisplayName("GET /tasks?status=&sort= - Deve repassar filtros, ordenação e limite")
+    void shouldForwardQueryParameters() throws Exception {
+        // Arrange
+        TaskQuery expected = new TaskQuery("pendente", LocalDateTime.of(2025, 1, 1, 0, 0), null, null, null,
+            null, TaskSort.CREATED_AT_ASC, 20);
+        when(taskInputGateway.findAll(expected, TaskField.ALL)).thenReturn(List.of(task));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks")
+                .param("status", "pendente")
+                .param("createdFrom", "2025-01-01T00:00:00")
+                .param("sort", "createdAt")
+                .param("limit", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(taskId))
+            .andExpect(jsonPath("$[0].description").value("Descrição da tarefa"));
+
+        verify(taskInputGateway, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("GET /tasks?limit= - Deve informar o total estimado quando a página estiver cheia")
+    void shouldReturnEstimatedTotalWhenPageIsFull() throws Exception {
+        // Arrange
+        TaskQuery expected = new TaskQuery(null, null, null, null, null, null, TaskSort.DEFAULT, 1);
+        when(taskInputGateway.findAll(expected, TaskField.ALL)).thenReturn(List.of(task));
+        when(taskInputGateway.count(expected, false)).thenReturn(TaskCount.estimated(250_000));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(TaskController.TOTAL_COUNT_HEADER, "250000"))
+            .andExpect(header().string(TaskController.TOTAL_COUNT_TYPE_HEADER, "estimated"));
+    }
+
+    @Test
+    @DisplayName("GET /tasks?exactCount=true - Deve exigir a contagem exata")
+    void shouldForceExactTotal() throws Exception {
+        // Arrange
+        TaskQuery expected = new TaskQuery("pendente", null, null, null, null, null, TaskSort.DEFAULT, 1);
+        when(taskInputGateway.findAll(expected, TaskField.ALL)).thenReturn(List.of(task));
+        when(taskInputGateway.count(expected, true)).thenReturn(TaskCount.exact(249_873));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("status", "pendente").param("limit", "1").param("exactCount", "true"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(TaskController.TOTAL_COUNT_HEADER, "249873"))
+            .andExpect(header().string(TaskController.TOTAL_COUNT_TYPE_HEADER, "exact"));
+    }
+
+    @Test
+    @DisplayName("GET /tasks?sort= - Deve retornar 400 para ordenação fora da lista aceita")
+    void shouldReturn400WhenSortIsNotSupported() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("sort", "description"))
+            .andExpect(status().isBadRequest());
+
+        verify(taskInputGateway, never()).findAll(any(TaskQuery.class), any());
+    }
+
     @Test
     @DisplayName("PUT /tasks/{id} - Deve atualizar tarefa com sucesso")
     void shouldUpdateTaskSuccessfully() throws Exception {
@@ -187,7 +288,7 @@ class TaskControllerTest {
             .updatedAt(LocalDateTime.now())
             .build();
 
-        when(taskInputGateway.update(eq(taskId), any(Task.class))).thenReturn(Optional.of(updatedTask));
+        when(taskInputGateway.tryUpdate(eq(taskId), any(Task.class))).thenReturn(Result.ok(updatedTask));
 
         TaskRequest updateRequest = TaskRequest.builder()
             .title("Tarefa Atualizada")
@@ -204,14 +305,14 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.description").value("Nova Descrição"))
             .andExpect(jsonPath("$.status").value("concluída"));
 
-        verify(taskInputGateway, times(1)).update(eq(taskId), any(Task.class));
+        verify(taskInputGateway, times(1)).tryUpdate(eq(taskId), any(Task.class));
     }
 
     @Test
     @DisplayName("PUT /tasks/{id} - Deve retornar 404 quando tarefa não encontrada")
     void shouldReturn404WhenUpdatingNonExistentTask() throws Exception {
         // Arrange
-        when(taskInputGateway.update(eq(taskId), any(Task.class))).thenReturn(Optional.empty());
+        when(taskInputGateway.tryUpdate(eq(taskId), any(Task.class))).thenReturn(Result.fail(DomainError.NOT_FOUND));
 
         // Act & Assert
         mockMvc.perform(put("/tasks/{id}", taskId)
@@ -219,7 +320,52 @@ class TaskControllerTest {
                 .content(objectMapper.writeValueAsString(taskRequest)))
             .andExpect(status().isNotFound());
 
-        verify(taskInputGateway, times(1)).update(eq(taskId), any(Task.class));
+        verify(taskInputGateway, times(1)).tryUpdate(eq(taskId), any(Task.class));
+    }
+
+    @Test
+    @DisplayName("POST /tasks - Deve retornar 400 quando o título já existe")
+    void shouldReturn400WhenCreatingDuplicateTitle() throws Exception {
+        // Arrange
+        DomainError duplicate = DomainError.duplicateTitle("Tarefa de Teste");
+        when(taskInputGateway.tryCreate(any(Task.class))).thenReturn(Result.fail(duplicate));
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(duplicate.message()));
+    }
+
+    @Test
+    @DisplayName("PUT /tasks/{id} - Deve retornar 400 quando outra tarefa já tem o título")
+    void shouldReturn400WhenUpdatingToDuplicateTitle() throws Exception {
+        // Arrange
+        DomainError duplicate = DomainError.duplicateTitleOnUpdate("Tarefa de Teste");
+        when(taskInputGateway.tryUpdate(eq(taskId), any(Task.class))).thenReturn(Result.fail(duplicate));
+
+        // Act & Assert
+        mockMvc.perform(put("/tasks/{id}", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value(duplicate.message()));
+    }
+
+    @Test
+    @DisplayName("PUT /tasks/{id} - Deve retornar 400 para argumento inválido")
+    void shouldReturn400WhenUpdateIsInvalid() throws Exception {
+        // Arrange
+        when(taskInputGateway.tryUpdate(eq(taskId), any(Task.class)))
+            .thenReturn(Result.fail(DomainError.invalidArgument("Status inválido")));
+
+        // Act & Assert
+        mockMvc.perform(put("/tasks/{id}", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Status inválido"));
     }
 
     @Test
@@ -0,0 +1,164 @@
+/*
+*  @(#)TasklistControllerTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.adapters.input.protocols.TaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.TasklistRequest;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.Tasklist;
+import br.com.jtech.tasklist.application.ports.input.CreateTasklistInputGateway;
+import br.com.jtech.tasklist.application.ports.input.FindTasklistInputGateway;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+* Testes unitários dos controllers de listas de tarefas (criação e consulta).
+*
+* @author JTech
+*/
+@WebMvcTest({CreateTasklistController.class, FindTasklistController.class})
+@DisplayName("Testes dos Controllers de Listas de Tarefas")
+class TasklistControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CreateTasklistInputGateway createTasklistInputGateway;
+
+    @MockBean
+    private FindTasklistInputGateway findTasklistInputGateway;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Deve criar lista com tarefas e sublistas e retornar 201")
+    void shouldCreateTasklistWithTasks() throws Exception {
+        // Arrange
+        TasklistRequest request = TasklistRequest.builder()
+            .name("Projeto")
+            .tasks(List.of(taskRequest("Planejar"), taskRequest("Executar")))
+            .requests(List.of(TasklistRequest.builder().name("Fase 1").build()))
+            .build();
+        when(createTasklistInputGateway.create(any(Tasklist.class))).thenAnswer(invocation -> {
+            Tasklist tasklist = invocation.getArgument(0);
+            tasklist.setId(UUID.randomUUID().toString());
+            return tasklist;
+        });
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/tasklists")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").exists())
+            .andExpect(jsonPath("$.name").value("Projeto"))
+            .andExpect(jsonPath("$.tasks[0].title").value("Planejar"))
+            .andExpect(jsonPath("$.tasks[1].title").value("Executar"))
+            .andExpect(jsonPath("$.responses[0].name").value("Fase 1"));
+
+        ArgumentCaptor<Tasklist> captor = ArgumentCaptor.forClass(Tasklist.class);
+        verify(createTasklistInputGateway).create(captor.capture());
+        assertThat(captor.getValue().getTasks()).extracting(Task::getTitle).containsExactly("Planejar", "Executar");
+        assertThat(captor.getValue().getChildren()).extracting(Tasklist::getName).containsExactly("Fase 1");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 ao criar lista com nome acima de 255 caracteres")
+    void shouldReturnBadRequestWhenNameTooLong() throws Exception {
+        // Arrange
+        TasklistRequest request = TasklistRequest.builder().name("a".repeat(256)).build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/tasklists")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+
+        verify(createTasklistInputGateway, never()).create(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar lista com as tarefas na ordem da posição")
+    void shouldFindTasklistWithTasksInRankOrder() throws Exception {
+        // Arrange
+        String tasklistId = UUID.randomUUID().toString();
+        Tasklist tasklist = Tasklist.builder()
+            .id(tasklistId)
+            .name("Projeto")
+            .tasks(List.of(task(tasklistId, "Planejar", "a"), task(tasklistId, "Executar", "m"),
+                task(tasklistId, "Revisar", "t")))
+            .build();
+        when(findTasklistInputGateway.findById(tasklistId)).thenReturn(Optional.of(tasklist));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasklists/{id}", tasklistId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(tasklistId))
+            .andExpect(jsonPath("$.name").value("Projeto"))
+            .andExpect(jsonPath("$.tasks.length()").value(3))
+            .andExpect(jsonPath("$.tasks[0].title").value("Planejar"))
+            .andExpect(jsonPath("$.tasks[0].rank").value("a"))
+            .andExpect(jsonPath("$.tasks[1].title").value("Executar"))
+            .andExpect(jsonPath("$.tasks[2].title").value("Revisar"))
+            .andExpect(jsonPath("$.tasks[2].tasklistId").value(tasklistId));
+
+        verify(findTasklistInputGateway).findById(tasklistId);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 quando a lista não existir")
+    void shouldReturnNotFoundWhenTasklistDoesNotExist() throws Exception {
+        // Arrange
+        String tasklistId = UUID.randomUUID().toString();
+        when(findTasklistInputGateway.findById(tasklistId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/tasklists/{id}", tasklistId))
+            .andExpect(status().isNotFound());
+
+        verify(findTasklistInputGateway).findById(tasklistId);
+    }
+
+    private static TaskRequest taskRequest(String title) {
+        return TaskRequest.builder().title(title).status("pendente").build();
+    }
+
+    private static Task task(String tasklistId, String title, String rank) {
+        return Task.builder()
+            .id(UUID.randomUUID().toString())
+            .title(title)
+            .status("pendente")
+            .tasklistId(tasklistId)
+            .rank(rank)
+            .build();
+    }
+}
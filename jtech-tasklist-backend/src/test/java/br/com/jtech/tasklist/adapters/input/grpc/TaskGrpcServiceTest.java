@@ -0,0 +1,144 @@
+/*
+*  @(#)TaskGrpcServiceTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.input.grpc;
+
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.CreateTasksResponse;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.GetTaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.ListTasksRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.TaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.TaskServiceGrpc;
+import br.com.jtech.tasklist.adapters.output.memory.InMemoryTaskAdapter;
+import br.com.jtech.tasklist.adapters.output.outbox.TaskEventOutbox;
+import br.com.jtech.tasklist.application.core.usecases.TaskUseCase;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+* Testes do serviço gRPC de tarefas, com servidor e canal em processo sobre o
+* caso de uso com o adapter em memória.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Serviço gRPC de Tarefas")
+class TaskGrpcServiceTest {
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        TaskGrpcService service = new TaskGrpcService(
+            new TaskUseCase(new InMemoryTaskAdapter(new DataVersion(), new TaskEventOutbox(null, ""))),
+            Validation.buildDefaultValidatorFactory().getValidator());
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(service).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Deve criar e buscar uma tarefa e mapear erros de negócio para status gRPC")
+    void shouldCreateAndGetTask() {
+        // Arrange
+        TaskServiceGrpc.TaskServiceBlockingStub stub = TaskServiceGrpc.newBlockingStub(channel);
+
+        // Act
+        TaskResponse created = stub.createTask(TaskRequest.newBuilder().setTitle("Relatório").build());
+        TaskResponse found = stub.getTask(GetTaskRequest.newBuilder().setId(created.getId()).build());
+
+        // Assert
+        assertThat(found.getTitle()).isEqualTo("Relatório");
+        assertThat(found.getStatus()).isEqualTo("pendente");
+        assertThat(found.hasDescription()).isFalse();
+        assertThat(found.hasCreatedAt()).isTrue();
+        assertThatThrownBy(() -> stub.createTask(TaskRequest.newBuilder().setTitle(" relatório ").build()))
+            .isInstanceOfSatisfying(StatusRuntimeException.class,
+                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.ALREADY_EXISTS));
+        assertThatThrownBy(() -> stub.createTask(TaskRequest.newBuilder().setTitle("  ").build()))
+            .isInstanceOfSatisfying(StatusRuntimeException.class,
+                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+        assertThatThrownBy(() -> stub.getTask(GetTaskRequest.newBuilder().setId("inexistente").build()))
+            .isInstanceOfSatisfying(StatusRuntimeException.class,
+                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Deve criar tarefas em lote pelo stream do cliente e listá-las pelo stream do servidor")
+    void shouldBulkCreateAndStreamTasks() throws Exception {
+        // Arrange
+        CompletableFuture<CreateTasksResponse> response = new CompletableFuture<>();
+        StreamObserver<TaskRequest> requests = TaskServiceGrpc.newStub(channel).createTasks(new StreamObserver<>() {
+            @Override
+            public void onNext(CreateTasksResponse value) {
+                response.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                response.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+
+        // Act
+        requests.onNext(TaskRequest.newBuilder().setTitle("Primeira").build());
+        requests.onNext(TaskRequest.newBuilder().setTitle("").build());
+        requests.onNext(TaskRequest.newBuilder().setTitle("Segunda").setDescription("Com descrição").build());
+        requests.onNext(TaskRequest.newBuilder().setTitle("primeira").build());
+        requests.onCompleted();
+        CreateTasksResponse result = response.get(5, TimeUnit.SECONDS);
+
+        List<String> listed = new ArrayList<>();
+        TaskServiceGrpc.newBlockingStub(channel).listTasks(ListTasksRequest.getDefaultInstance())
+            .forEachRemaining(task -> listed.add(task.getTitle()));
+
+        // Assert
+        assertThat(result.getIdsList()).hasSize(2);
+        assertThat(result.getFailuresList())
+            .extracting(CreateTasksResponse.Failure::getIndex, CreateTasksResponse.Failure::getCode)
+            .containsExactly(
+                tuple(1, "INVALID_ARGUMENT"),
+                tuple(3, "ALREADY_EXISTS"));
+        assertThat(listed).containsExactlyInAnyOrder("Primeira", "Segunda");
+    }
+}
@@ -0,0 +1,148 @@
+/*
+*  @(#)CreateTasklistAdapterTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output;
+
+import br.com.jtech.tasklist.application.core.domains.LexoRank;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.Tasklist;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+* Testes da gravação em lote da árvore de listas e tarefas sobre o H2 do perfil "test".
+* As listas usam mais tarefas que o tamanho do lote JDBC (500), para que a gravação
+* passe por mais de um batchUpdate.
+*
+* @author JTech
+*/
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes do Adapter de Criação de Listas")
+class CreateTasklistAdapterTest {
+
+    private static final int TASKS = 600;
+
+    @Autowired
+    private CreateTasklistAdapter createTasklistAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Deve gravar as posições na ordem de entrada")
+    void shouldPersistRanksInInputOrder() {
+        // Arrange
+        Tasklist tasklist = tasklist(TASKS);
+        List<String> inputIds = tasklist.getTasks().stream().map(Task::getId).toList();
+
+        // Act
+        Tasklist created = createTasklistAdapter.create(tasklist);
+
+        // Assert
+        List<String> byRank = jdbcTemplate.queryForList(
+                "SELECT id FROM tasks WHERE tasklist_id = ? ORDER BY sort_rank", UUID.class,
+                UUID.fromString(created.getId()))
+            .stream().map(UUID::toString).toList();
+        assertThat(byRank).containsExactlyElementsOf(inputIds);
+        assertThat(created.getTasks()).extracting(Task::getRank).isSorted().doesNotHaveDuplicates();
+        assertThat(created.getTasks()).allSatisfy(task -> assertThat(task.getCreatedAt()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("Deve desfazer todas as linhas quando um insert falhar no meio do lote")
+    void shouldRollBackEveryRowWhenBatchFailsPartway() {
+        // Arrange
+        Tasklist child = Tasklist.builder().id(UUID.randomUUID().toString()).name("Sublista").build();
+        Tasklist tasklist = tasklist(TASKS);
+        child.setParentId(tasklist.getId());
+        tasklist.setChildren(List.of(child));
+        // Chave primária repetida no segundo lote de tarefas: o primeiro lote e as listas já foram enviados
+        tasklist.getTasks().get(TASKS - 1).setId(tasklist.getTasks().get(0).getId());
+
+        // Act & Assert
+        assertThatThrownBy(() -> createTasklistAdapter.create(tasklist))
+            .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(countTasklists(tasklist.getId(), child.getId())).isZero();
+        assertThat(countTasks(tasklist.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve gravar listas e tarefas na transação de quem chama")
+    void shouldWriteTasklistAndTasksInOneTransaction() {
+        // Arrange
+        Tasklist tasklist = tasklist(TASKS);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Act
+        long visibleInsideTransaction = transactionTemplate.execute(status -> {
+            createTasklistAdapter.create(tasklist);
+            status.setRollbackOnly();
+            return countTasks(tasklist.getId());
+        });
+
+        // Assert
+        assertThat(visibleInsideTransaction).isEqualTo(TASKS);
+        assertThat(countTasklists(tasklist.getId())).isZero();
+        assertThat(countTasks(tasklist.getId())).isZero();
+    }
+
+    /**
+     * Lista com IDs e posições já atribuídos, como chega do caso de uso.
+     */
+    private static Tasklist tasklist(int size) {
+        String tasklistId = UUID.randomUUID().toString();
+        List<String> ranks = LexoRank.spread(size);
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(Task.builder()
+                .id(UUID.randomUUID().toString())
+                .title("Lote " + i + " " + UUID.randomUUID())
+                .status("pendente")
+                .tasklistId(tasklistId)
+                .rank(ranks.get(i))
+                .build());
+        }
+        return Tasklist.builder().id(tasklistId).name("Lote").tasks(tasks).build();
+    }
+
+    private long countTasklists(String... ids) {
+        long count = 0;
+        for (String id : ids) {
+            count += jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasklists WHERE id = ?", Long.class,
+                UUID.fromString(id));
+        }
+        return count;
+    }
+
+    private long countTasks(String tasklistId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE tasklist_id = ?", Long.class,
+            UUID.fromString(tasklistId));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+*  @(#)TaskAdapterTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output;
+
+import br.com.jtech.tasklist.adapters.output.repositories.TasklistRepository;
+import br.com.jtech.tasklist.adapters.output.repositories.entities.TasklistEntity;
+import br.com.jtech.tasklist.application.core.domains.LexoRank;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes do adapter JPA de tarefas sobre o H2 do perfil "test".
+*
+* @author JTech
+*/
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes do Adapter de Tarefas")
+class TaskAdapterTest {
+
+    @Autowired
+    private TaskAdapter taskAdapter;
+
+    @Autowired
+    private TasklistRepository tasklistRepository;
+
+    @Autowired
+    private TaskRankRebalancer rankRebalancer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Deve gerar chaves distintas para anexações concorrentes na mesma lista")
+    void shouldAssignDistinctRanksToConcurrentAppends() throws Exception {
+        // Arrange
+        String tasklistId = tasklistRepository.save(TasklistEntity.builder().name("Concorrente").build())
+            .getId().toString();
+        int writers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<Task>> saved = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                String title = "Anexada " + i + " " + UUID.randomUUID();
+                saved.add(executor.submit(() -> {
+                    start.await();
+                    return taskAdapter.save(Task.builder()
+                        .title(title)
+                        .status("pendente")
+                        .tasklistId(tasklistId)
+                        .build());
+                }));
+            }
+
+            // Act
+            start.countDown();
+            List<String> ranks = new ArrayList<>();
+            for (Future<Task> task : saved) {
+                ranks.add(task.get(30, TimeUnit.SECONDS).getRank());
+            }
+
+            // Assert
+            assertThat(ranks).hasSize(writers).doesNotContainNull().doesNotHaveDuplicates();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve esperar a trava da lista antes de rebalancear as chaves")
+    void shouldWaitForTasklistLockBeforeRebalancing() throws Exception {
+        // Arrange
+        UUID tasklistId = tasklistRepository.save(TasklistEntity.builder().name("Travada").build()).getId();
+        Task task = taskAdapter.save(Task.builder()
+            .title("Rebalanceada " + UUID.randomUUID())
+            .status("pendente")
+            .tasklistId(tasklistId.toString())
+            .build());
+        taskAdapter.updateRank(task.getId(), task.getRank() + "i".repeat(LexoRank.MAX_LENGTH));
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Outra transação (ex.: uma anexação) segura a linha da lista
+            Future<?> holder = executor.submit(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> {
+                    tasklistRepository.findForUpdateById(tasklistId);
+                    locked.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // Act
+            Future<?> rebalance = executor.submit(() -> rankRebalancer.rebalance(tasklistId));
+            Thread.sleep(200);
+            boolean finishedWhileLocked = rebalance.isDone();
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+            rebalance.get(10, TimeUnit.SECONDS);
+
+            // Assert
+            assertThat(finishedWhileLocked).isFalse();
+            assertThat(taskAdapter.findById(task.getId())).get()
+                .extracting(Task::getRank).isEqualTo(LexoRank.spread(1).get(0));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+*  @(#)TasklistAdapterTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output;
+
+import br.com.jtech.tasklist.adapters.output.memory.InMemoryTaskAdapter;
+import br.com.jtech.tasklist.adapters.output.outbox.TaskEventOutbox;
+import br.com.jtech.tasklist.adapters.output.repositories.TasklistRepository;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.Tasklist;
+import br.com.jtech.tasklist.application.core.usecases.CreateTasklistUseCase;
+import br.com.jtech.tasklist.application.ports.input.CreateTasklistInputGateway;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+* Testes da criação e da consulta de listas de tarefas sobre o H2 do perfil "test".
+*
+* @author JTech
+*/
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes dos Adapters de Listas de Tarefas")
+class TasklistAdapterTest {
+
+    @Autowired
+    private CreateTasklistInputGateway createTasklistInputGateway;
+
+    @Autowired
+    private FindTasklistAdapter findTasklistAdapter;
+
+    @Autowired
+    private TasklistRepository tasklistRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve persistir a lista com suas tarefas e sublistas")
+    void shouldPersistTasklistWithTasksAndChildren() {
+        // Arrange
+        Tasklist child = Tasklist.builder().name("Fase 1").tasks(tasks("Detalhar")).build();
+        Tasklist tasklist = Tasklist.builder()
+            .name("Projeto")
+            .tasks(tasks("Planejar", "Executar"))
+            .children(List.of(child))
+            .build();
+
+        // Act
+        Tasklist created = createTasklistInputGateway.create(tasklist);
+
+        // Assert
+        Tasklist found = findTasklistAdapter.findById(created.getId()).orElseThrow();
+        assertThat(found.getName()).isEqualTo("Projeto");
+        assertThat(found.getTasks()).extracting(Task::getTitle)
+            .containsExactly(created.getTasks().get(0).getTitle(), created.getTasks().get(1).getTitle());
+        assertThat(found.getTasks()).allSatisfy(task -> {
+            assertThat(task.getTasklistId()).isEqualTo(created.getId());
+            assertThat(task.getStatus()).isEqualTo("pendente");
+            assertThat(task.getCreatedAt()).isNotNull();
+        });
+
+        Tasklist foundChild = findTasklistAdapter.findById(child.getId()).orElseThrow();
+        assertThat(foundChild.getParentId()).isEqualTo(created.getId());
+        assertThat(foundChild.getTasks()).extracting(Task::getTitle)
+            .containsExactly(child.getTasks().get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("Deve devolver as tarefas ordenadas pela posição, não pela ordem de inserção")
+    void shouldReturnTasksOrderedByRank() {
+        // Arrange
+        Tasklist created = createTasklistInputGateway.create(Tasklist.builder()
+            .name("Ordenada")
+            .tasks(tasks("Primeira", "Segunda", "Terceira"))
+            .build());
+        Task first = created.getTasks().get(0);
+        // Move a primeira tarefa para o fim da lista
+        jdbcTemplate.update("UPDATE tasks SET sort_rank = ? WHERE id = ?", "zzzz", UUID.fromString(first.getId()));
+
+        // Act
+        Tasklist found = findTasklistAdapter.findById(created.getId()).orElseThrow();
+
+        // Assert
+        assertThat(found.getTasks()).extracting(Task::getTitle).containsExactly(
+            created.getTasks().get(1).getTitle(),
+            created.getTasks().get(2).getTitle(),
+            first.getTitle());
+        assertThat(found.getTasks()).extracting(Task::getRank).isSorted();
+    }
+
+    @Test
+    @DisplayName("Deve gravar e ler as tarefas da lista no armazenamento de tarefas ativo")
+    void shouldRouteTasklistTasksThroughTaskOutputGateway() {
+        // Arrange
+        InMemoryTaskAdapter tasks = new InMemoryTaskAdapter(new DataVersion(), new TaskEventOutbox(null, ""));
+        CreateTasklistUseCase createTasklist = new CreateTasklistUseCase(new CreateTasklistAdapter(jdbcTemplate, tasks));
+        FindTasklistAdapter findTasklist = new FindTasklistAdapter(tasklistRepository, tasks);
+        String duplicated = "Duplicada " + UUID.randomUUID();
+        tasks.save(Task.builder().title(duplicated).build());
+
+        // Act
+        Tasklist created = createTasklist.create(Tasklist.builder()
+            .name("Em memória")
+            .tasks(tasks("Primeira", "Segunda"))
+            .build());
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE tasklist_id = ?", Long.class,
+            UUID.fromString(created.getId()))).isZero();
+        assertThat(tasks.findAll()).filteredOn(task -> created.getId().equals(task.getTasklistId())).hasSize(2);
+        assertThat(findTasklist.findById(created.getId()).orElseThrow().getTasks())
+            .extracting(Task::getTitle)
+            .containsExactly(created.getTasks().get(0).getTitle(), created.getTasks().get(1).getTitle());
+        assertThatThrownBy(() -> createTasklist.create(Tasklist.builder()
+                .name("Repetida")
+                .tasks(List.of(Task.builder().title(duplicated.toUpperCase()).build()))
+                .build()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio para lista inexistente ou ID inválido")
+    void shouldReturnEmptyForUnknownTasklist() {
+        // Act & Assert
+        assertThat(findTasklistAdapter.findById(UUID.randomUUID().toString())).isEmpty();
+        assertThat(findTasklistAdapter.findById("nao-e-uuid")).isEmpty();
+    }
+
+    /**
+     * Tarefas com títulos únicos no banco compartilhado pelos testes.
+     */
+    private static List<Task> tasks(String... titles) {
+        List<Task> tasks = new ArrayList<>();
+        for (String title : titles) {
+            tasks.add(Task.builder().title(title + " " + UUID.randomUUID()).build());
+        }
+        return tasks;
+    }
+}
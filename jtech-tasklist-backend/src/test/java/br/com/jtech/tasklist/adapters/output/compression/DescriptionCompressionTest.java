@@ -0,0 +1,99 @@
+/*
+*  @(#)DescriptionCompressionTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.compression;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes da compressão das descrições e da migração das linhas existentes.
+*
+* @author JTech
+*/
+@DisplayName("Testes da Compressão de Descrições")
+class DescriptionCompressionTest {
+
+    private static final String LOG = "2025-01-15 10:30:00 ERROR [worker-7] Falha ao processar a tarefa: timeout\n";
+
+    private DescriptionCompressor compressor;
+
+    @BeforeEach
+    void setUp() {
+        compressor = new DescriptionCompressor(true, 1024, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Deve comprimir apenas descrições acima do limite e restaurá-las na leitura")
+    void shouldCompressAboveThresholdOnly() {
+        // Arrange
+        String small = "Comprar pão";
+        String large = LOG.repeat(200);
+        String ambiguous = TextCompression.MARKER + "digitado pelo usuário";
+
+        // Act
+        String storedLarge = compressor.encode(large);
+
+        // Assert
+        assertThat(compressor.encode(small)).isSameAs(small);
+        assertThat(compressor.encode(null)).isNull();
+        assertThat(storedLarge).startsWith(TextCompression.MARKER).hasSizeLessThan(large.length() / 4);
+        assertThat(DescriptionCompressor.decode(storedLarge)).isEqualTo(large);
+        assertThat(DescriptionCompressor.decode(small)).isSameAs(small);
+        // Textos que começam com o marcador são sempre codificados, para não serem confundidos
+        assertThat(DescriptionCompressor.decode(compressor.encode(ambiguous))).isEqualTo(ambiguous);
+    }
+
+    @Test
+    @DisplayName("Deve comprimir em lotes as descrições já gravadas")
+    void shouldMigrateExistingRowsInBatches() {
+        // Arrange
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:compression-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/sharding/tasks.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        String large = LOG.repeat(100);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 7; i++) {
+            jdbcTemplate.update("INSERT INTO tasks (id, title, description, status, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, 'pendente', ?, ?)",
+                UUID.randomUUID(), "Tarefa " + i, i == 0 ? "Curta" : large, now, now);
+        }
+        DescriptionCompressionMigration migration = new DescriptionCompressionMigration(
+            jdbcTemplate, new DataSourceTransactionManager(dataSource), compressor, 2);
+
+        // Act
+        DescriptionCompressionMigration.Summary first = migration.run();
+        DescriptionCompressionMigration.Summary second = migration.run();
+
+        // Assert
+        assertThat(first.rows()).isEqualTo(6);
+        assertThat(first.savedBytes()).isPositive();
+        assertThat(second.rows()).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT description FROM tasks", String.class))
+            .allSatisfy(stored -> assertThat(DescriptionCompressor.decode(stored)).isIn("Curta", large))
+            .filteredOn(TextCompression::isCompressed)
+            .hasSize(6);
+    }
+}
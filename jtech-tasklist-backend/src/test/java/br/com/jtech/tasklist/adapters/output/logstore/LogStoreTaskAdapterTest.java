@@ -0,0 +1,125 @@
+/*
+*  @(#)LogStoreTaskAdapterTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.logstore;
+
+import br.com.jtech.tasklist.adapters.output.outbox.TaskEventOutbox;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes do log de tarefas em arquivos mapeados: recuperação após reabrir o
+* diretório (com e sem snapshot) e compactação.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Adapter de Tarefas em Log")
+class LogStoreTaskAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve recuperar as tarefas relendo o log sem snapshot")
+    void shouldRecoverByReplayingLog() {
+        // Arrange
+        LogStoreTaskAdapter store = open();
+        Task kept = store.save(task("Mantida"));
+        Task deleted = store.save(task("Excluída"));
+        store.update(kept.toBuilder().title("Renomeada").build());
+        store.deleteById(deleted.getId());
+
+        // Act
+        LogStoreTaskAdapter reopened = open();
+
+        // Assert
+        assertThat(reopened.findAll()).extracting(Task::getTitle).containsExactly("Renomeada");
+        assertThat(reopened.findById(kept.getId())).get()
+            .extracting(Task::getDescription).isEqualTo("Descrição de Mantida");
+        assertThat(reopened.findByTitleIgnoreCase("renomeada")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Deve recuperar pelo snapshot e pelo final do log")
+    void shouldRecoverFromSnapshotAndTail() {
+        // Arrange
+        LogStoreTaskAdapter store = open();
+        store.save(task("Antes"));
+        store.snapshot();
+        store.save(task("Depois"));
+        store.flush();
+
+        // Act
+        LogStoreTaskAdapter reopened = open();
+
+        // Assert
+        assertThat(reopened.findAll()).extracting(Task::getTitle).containsExactlyInAnyOrder("Antes", "Depois");
+    }
+
+    @Test
+    @DisplayName("Deve remover segmentos com registros substituídos sem perder tarefas")
+    void shouldCompactSupersededSegments() throws IOException {
+        // Arrange
+        LogStoreTaskAdapter store = open();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tasks.add(store.save(task("Tarefa " + i)));
+        }
+        for (int round = 0; round < 5; round++) {
+            for (Task task : tasks) {
+                store.update(task.toBuilder().status("rodada " + round).build());
+            }
+        }
+        long segmentsBefore = segmentCount();
+
+        // Act
+        store.compact();
+
+        // Assert
+        assertThat(segmentCount()).isLessThan(segmentsBefore);
+        assertThat(store.findAll()).hasSize(200).allMatch(task -> task.getStatus().equals("rodada 4"));
+        assertThat(open().findAll()).hasSize(200).allMatch(task -> task.getStatus().equals("rodada 4"));
+    }
+
+    private LogStoreTaskAdapter open() {
+        // Segmentos pequenos para exercitar a troca de segmento e a compactação
+        return new LogStoreTaskAdapter(directory, DataSize.ofKilobytes(16), false, 64, 0.5,
+            new DataVersion(), new TaskEventOutbox(null, ""));
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log")).count();
+        }
+    }
+
+    private static Task task(String title) {
+        return Task.builder()
+            .title(title)
+            .description("Descrição de " + title)
+            .status("pendente")
+            .build();
+    }
+}
@@ -0,0 +1,192 @@
+/*
+*  @(#)InMemoryTaskAdapterTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.memory;
+
+import br.com.jtech.tasklist.adapters.output.outbox.TaskEventOutbox;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskField;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.TaskSort;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes do adapter de tarefas em memória.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Adapter de Tarefas em Memória")
+class InMemoryTaskAdapterTest {
+
+    private InMemoryTaskAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        // Sem assinantes o outbox não grava nada, então não precisa de banco
+        adapter = new InMemoryTaskAdapter(new DataVersion(), new TaskEventOutbox(null, ""));
+    }
+
+    @Test
+    @DisplayName("Deve buscar por título ignorando maiúsculas e espaços")
+    void shouldFindByNormalizedTitle() {
+        // Arrange
+        Task saved = adapter.save(task(" Comprar Pão ", "pendente", null));
+
+        // Act & Assert
+        assertThat(adapter.findByTitleIgnoreCase("comprar pão")).get()
+            .extracting(Task::getId).isEqualTo(saved.getId());
+    }
+
+    @Test
+    @DisplayName("Deve manter os índices após atualizar e excluir")
+    void shouldKeepIndexesConsistentOnWrites() {
+        // Arrange
+        Task first = adapter.save(task("Primeira", "pendente", null));
+        Task second = adapter.save(task("Segunda", "pendente", null));
+
+        // Act
+        adapter.update(first.toBuilder().title("Renomeada").status("concluida").build());
+        adapter.deleteById(second.getId());
+
+        // Assert
+        assertThat(adapter.findByTitleIgnoreCase("Primeira")).isEmpty();
+        assertThat(adapter.findByTitleIgnoreCase("renomeada")).isPresent();
+        assertThat(adapter.findByStatus("pendente")).isEmpty();
+        assertThat(adapter.findByStatus("concluida")).extracting(Task::getId).containsExactly(first.getId());
+        assertThat(adapter.findById(first.getId())).get()
+            .extracting(Task::getCreatedAt).isEqualTo(first.getCreatedAt());
+        assertThat(adapter.findAll()).extracting(Task::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    @DisplayName("Deve anexar ao final da lista e encontrar as chaves vizinhas")
+    void shouldRankTasksWithinTasklist() {
+        // Arrange
+        String tasklistId = UUID.randomUUID().toString();
+        Task first = adapter.save(task("A", "pendente", tasklistId));
+        Task second = adapter.save(task("B", "pendente", tasklistId));
+        Task third = adapter.save(task("C", "pendente", tasklistId));
+        adapter.save(task("Outra lista", "pendente", UUID.randomUUID().toString()));
+
+        // Act & Assert
+        assertThat(second.getRank()).isGreaterThan(first.getRank());
+        assertThat(adapter.findNextRank(tasklistId, first.getRank(), first.getId())).contains(second.getRank());
+        assertThat(adapter.findNextRank(tasklistId, first.getRank(), second.getId())).contains(third.getRank());
+        assertThat(adapter.findPreviousRank(tasklistId, first.getRank(), first.getId())).isEmpty();
+        assertThat(adapter.findNextRank(tasklistId, third.getRank(), third.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve suportar escritas concorrentes sem perder tarefas")
+    void shouldHandleConcurrentWrites() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int thread = 0; thread < 8; thread++) {
+            int prefix = thread;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    Task saved = adapter.save(task("T" + prefix + "-" + i, "pendente", null));
+                    adapter.update(saved.toBuilder().status("concluida").build());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(adapter.findAll()).hasSize(4_000);
+        assertThat(adapter.findByStatus("concluida")).hasSize(4_000);
+        assertThat(adapter.findByStatus("pendente")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve atribuir chaves distintas a anexos concorrentes na mesma lista")
+    void shouldSerializeConcurrentAppendsPerTasklist() throws Exception {
+        // Arrange
+        String tasklistId = UUID.randomUUID().toString();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int thread = 0; thread < 8; thread++) {
+            int prefix = thread;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 100; i++) {
+                    adapter.save(task("L" + prefix + "-" + i, "pendente", tasklistId));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        List<Task> ranked = adapter.findByTasklistId(tasklistId);
+        assertThat(ranked).hasSize(800);
+        assertThat(ranked).extracting(Task::getRank).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    @DisplayName("Deve consultar e contar pelos índices de status e de criação")
+    void shouldQueryThroughStatusAndCreationIndexes() {
+        // Arrange
+        Task pending = adapter.save(task("Pendente", "pendente", null));
+        Task done = adapter.save(task("Concluída", "concluida", null));
+        Task other = adapter.save(task("Outra pendente", "pendente", null));
+        TaskQuery byStatus = new TaskQuery("pendente", null, null, null, null, "Outra", TaskSort.DEFAULT, 10);
+        TaskQuery byCreation = new TaskQuery(null, done.getCreatedAt(), null, null, null, null, TaskSort.DEFAULT, 10);
+        TaskQuery before = new TaskQuery(null, null, done.getCreatedAt(), null, null, null, TaskSort.DEFAULT, 10);
+        TaskQuery future = new TaskQuery(null, LocalDateTime.now().plusDays(1), null, null, null, null,
+            TaskSort.DEFAULT, 10);
+
+        // Act & Assert
+        assertThat(adapter.findAll(byStatus, EnumSet.allOf(TaskField.class)))
+            .extracting(Task::getId).containsExactly(other.getId());
+        assertThat(adapter.count(new TaskQuery("pendente", null, null, null, null, null, TaskSort.DEFAULT, 1), true)
+            .value()).isEqualTo(2);
+        assertThat(adapter.findAll(byCreation, EnumSet.allOf(TaskField.class)))
+            .extracting(Task::getId).contains(done.getId(), other.getId());
+        assertThat(adapter.findAll(before, EnumSet.allOf(TaskField.class)))
+            .extracting(Task::getId).doesNotContain(done.getId(), other.getId());
+        assertThat(adapter.count(before, true).value())
+            .isEqualTo(done.getCreatedAt().equals(pending.getCreatedAt()) ? 0 : 1);
+        assertThat(adapter.count(future, true).value()).isZero();
+    }
+
+    private static Task task(String title, String status, String tasklistId) {
+        return Task.builder()
+            .title(title)
+            .status(status)
+            .tasklistId(tasklistId)
+            .build();
+    }
+}
@@ -0,0 +1,270 @@
+/*
+*  @(#)OutboxRelayTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.outbox;
+
+import br.com.jtech.tasklist.adapters.output.TaskAdapter;
+import br.com.jtech.tasklist.adapters.output.repositories.OutboxEventRepository;
+import br.com.jtech.tasklist.adapters.output.repositories.entities.OutboxEventEntity;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+* Testes do relay do outbox sobre o H2 do perfil "test". O relay agendado do
+* contexto é substituído por um mock; cada teste monta o seu, com um dispatcher
+* simulado, e o executa de forma síncrona.
+*
+* @author JTech
+*/
+@SpringBootTest(properties = "outbox.subscribers=" + OutboxRelayTest.SUBSCRIBERS)
+@ActiveProfiles("test")
+@DisplayName("Testes do Relay do Outbox")
+class OutboxRelayTest {
+
+    static final String SUBSCRIBERS = "stub=http://127.0.0.1:9/hooks";
+
+    private static final Duration LEASE = Duration.ofSeconds(60);
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final int MAX_ATTEMPTS = 3;
+
+    @MockBean
+    private OutboxRelay scheduledRelay;
+
+    @Autowired
+    private OutboxEventRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskAdapter taskAdapter;
+
+    private final WebhookDispatcher dispatcher = mock(WebhookDispatcher.class);
+    private TransactionTemplate transactionTemplate;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        relay = new OutboxRelay(repository, transactionManager, dispatcher, new SimpleMeterRegistry(), SUBSCRIBERS,
+            500, 50, LEASE, MAX_ATTEMPTS, INITIAL_BACKOFF, MAX_BACKOFF, Duration.ofDays(7));
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve crescer o backoff exponencialmente, com jitter e limitado ao máximo")
+    void shouldGrowBackoffExponentiallyWithJitterAndCap() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(OutboxRelay.backoff(0, INITIAL_BACKOFF, MAX_BACKOFF)).isBetween(millis(500), millis(1_000));
+            assertThat(OutboxRelay.backoff(1, INITIAL_BACKOFF, MAX_BACKOFF)).isBetween(millis(500), millis(1_000));
+            assertThat(OutboxRelay.backoff(2, INITIAL_BACKOFF, MAX_BACKOFF)).isBetween(millis(1_000), millis(2_000));
+            assertThat(OutboxRelay.backoff(5, INITIAL_BACKOFF, MAX_BACKOFF)).isBetween(millis(8_000), millis(16_000));
+            assertThat(OutboxRelay.backoff(10, INITIAL_BACKOFF, MAX_BACKOFF))
+                .isBetween(MAX_BACKOFF.dividedBy(2), MAX_BACKOFF);
+            // O deslocamento é limitado: tentativas altas não estouram o long
+            assertThat(OutboxRelay.backoff(1_000, INITIAL_BACKOFF, MAX_BACKOFF))
+                .isBetween(MAX_BACKOFF.dividedBy(2), MAX_BACKOFF);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve pular eventos bloqueados por outra instância e arrendar os reivindicados")
+    void shouldSkipLockedEventsAndLeaseClaimedOnes() throws Exception {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        UUID first = insert("stub", 0, now.minusSeconds(30));
+        UUID second = insert("stub", 0, now.minusSeconds(20));
+        UUID third = insert("stub", 0, now.minusSeconds(10));
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService otherInstance = Executors.newSingleThreadExecutor();
+        AtomicReference<LocalDateTime> leasedUntil = new AtomicReference<>();
+        AtomicReference<List<UUID>> claimableDuringDelivery = new AtomicReference<>();
+        when(dispatcher.send(any(), anyList())).thenAnswer(invocation -> {
+            leasedUntil.set(nextAttemptAt(third));
+            claimableDuringDelivery.set(transactionTemplate.execute(
+                status -> repository.lockDueIds(LocalDateTime.now(), 10)));
+            return WebhookDispatcher.Delivery.OK;
+        });
+
+        try {
+            // A outra instância mantém os dois eventos mais antigos bloqueados
+            Future<List<UUID>> heldByOther = otherInstance.submit(() -> transactionTemplate.execute(status -> {
+                List<UUID> ids = jdbcTemplate.queryForList("SELECT id FROM outbox_events WHERE id IN (?, ?) FOR UPDATE",
+                    UUID.class, first, second);
+                locked.countDown();
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return ids;
+            }));
+            assertThat(locked.await(30, TimeUnit.SECONDS)).isTrue();
+
+            // Act
+            relay.relay();
+            release.countDown();
+
+            // Assert
+            assertThat(heldByOther.get(30, TimeUnit.SECONDS)).containsExactlyInAnyOrder(first, second);
+        } finally {
+            release.countDown();
+            otherInstance.shutdownNow();
+        }
+        verify(dispatcher, times(1)).send(any(), eq(List.of(payload(third))));
+        assertThat(leasedUntil.get()).isAfter(now.plus(LEASE).minusSeconds(5));
+        assertThat(claimableDuringDelivery.get()).isEmpty();
+        assertThat(repository.findById(third).orElseThrow().getStatus()).isEqualTo(OutboxEventEntity.DELIVERED);
+        assertThat(repository.findById(first).orElseThrow().getStatus()).isEqualTo(OutboxEventEntity.PENDING);
+        assertThat(repository.findById(second).orElseThrow().getStatus()).isEqualTo(OutboxEventEntity.PENDING);
+    }
+
+    @Test
+    @DisplayName("Deve reagendar com backoff e mover para DEAD após o máximo de tentativas")
+    void shouldRetryWithBackoffAndMoveToDeadAfterMaxAttempts() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        UUID retried = insert("stub", 0, now.minusSeconds(2));
+        UUID exhausted = insert("stub", MAX_ATTEMPTS - 1, now.minusSeconds(1));
+        UUID unknownSubscriber = insert("removido", 0, now.minusSeconds(1));
+        when(dispatcher.send(any(), anyList())).thenReturn(WebhookDispatcher.Delivery.failed("HTTP 503"));
+
+        // Act
+        relay.relay();
+
+        // Assert
+        OutboxEventEntity pending = repository.findById(retried).orElseThrow();
+        assertThat(pending.getStatus()).isEqualTo(OutboxEventEntity.PENDING);
+        assertThat(pending.getAttempts()).isEqualTo(1);
+        assertThat(pending.getLastError()).isEqualTo("HTTP 503");
+        assertThat(pending.getNextAttemptAt()).isBetween(now.plus(millis(500)), LocalDateTime.now().plus(INITIAL_BACKOFF));
+
+        OutboxEventEntity dead = repository.findById(exhausted).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(OutboxEventEntity.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(dead.getLastError()).isEqualTo("HTTP 503");
+
+        // Assinante removido da configuração: dead letter sem novas tentativas
+        OutboxEventEntity orphan = repository.findById(unknownSubscriber).orElseThrow();
+        assertThat(orphan.getStatus()).isEqualTo(OutboxEventEntity.DEAD);
+        assertThat(orphan.getAttempts()).isEqualTo(1);
+
+        // Nenhum deles é reivindicado de novo antes do prazo
+        reset(dispatcher);
+        relay.relay();
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o evento do outbox quando a escrita da tarefa é desfeita")
+    void shouldDropOutboxRowWhenTaskWriteRollsBack() {
+        // Arrange
+        Task task = Task.builder().title("Outbox " + UUID.randomUUID()).status("pendente").build();
+
+        // Act
+        Task saved = transactionTemplate.execute(status -> {
+            Task created = taskAdapter.save(task);
+            assertThat(countEvents(created.getId())).isEqualTo(1);
+            status.setRollbackOnly();
+            return created;
+        });
+
+        // Assert
+        assertThat(countEvents(saved.getId())).isZero();
+        assertThat(taskAdapter.findById(saved.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve gravar o evento pendente junto com a escrita confirmada da tarefa")
+    void shouldRecordPendingEventWithCommittedTaskWrite() {
+        // Act
+        Task saved = taskAdapter.save(Task.builder().title("Outbox " + UUID.randomUUID()).status("pendente").build());
+
+        // Assert
+        assertThat(countEvents(saved.getId())).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT status FROM outbox_events WHERE aggregate_id = ? AND subscriber = 'stub' AND event_type = ?",
+            String.class, UUID.fromString(saved.getId()), TaskEventOutbox.CREATED))
+            .isEqualTo(OutboxEventEntity.PENDING);
+    }
+
+    private UUID insert(String subscriber, int attempts, LocalDateTime nextAttemptAt) {
+        UUID id = UUID.randomUUID();
+        repository.save(OutboxEventEntity.builder()
+            .id(id)
+            .subscriber(subscriber)
+            .eventType(TaskEventOutbox.CREATED)
+            .aggregateId(UUID.randomUUID())
+            .payload(payload(id))
+            .status(OutboxEventEntity.PENDING)
+            .attempts(attempts)
+            .nextAttemptAt(nextAttemptAt)
+            .createdAt(nextAttemptAt)
+            .build());
+        return id;
+    }
+
+    private LocalDateTime nextAttemptAt(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT next_attempt_at FROM outbox_events WHERE id = ?",
+            LocalDateTime.class, id);
+    }
+
+    private long countEvents(String taskId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?", Long.class,
+            UUID.fromString(taskId));
+    }
+
+    private static String payload(UUID id) {
+        return "{\"id\":\"" + id + "\"}";
+    }
+
+    private static Duration millis(long value) {
+        return Duration.ofMillis(value);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+*  @(#)WebhookDispatcherTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.outbox;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes do envio de lotes de webhook contra um servidor HTTP local (stub).
+*
+* @author JTech
+*/
+@DisplayName("Testes do Dispatcher de Webhooks")
+class WebhookDispatcherTest {
+
+    private HttpServer server;
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private WebhookDispatcher dispatcher;
+    private WebhookSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hooks", exchange -> {
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        server.start();
+        dispatcher = new WebhookDispatcher(Duration.ofSeconds(1), Duration.ofSeconds(2), 2);
+        subscriber = new WebhookSubscriber("stub",
+            URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/hooks"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Deve entregar o lote como array JSON")
+    void shouldDeliverBatchAsJsonArray() {
+        // Act
+        WebhookDispatcher.Delivery delivery = dispatcher.send(subscriber, List.of("{\"id\":\"1\"}", "{\"id\":\"2\"}"));
+
+        // Assert
+        assertThat(delivery.delivered()).isTrue();
+        assertThat(bodies).containsExactly("[{\"id\":\"1\"},{\"id\":\"2\"}]");
+    }
+
+    @Test
+    @DisplayName("Deve reportar falha quando o webhook responde com erro")
+    void shouldReportFailureOnErrorStatus() {
+        // Arrange
+        status.set(503);
+
+        // Act
+        WebhookDispatcher.Delivery delivery = dispatcher.send(subscriber, List.of("{\"id\":\"1\"}"));
+
+        // Assert
+        assertThat(delivery.delivered()).isFalse();
+        assertThat(delivery.error()).isEqualTo("HTTP 503");
+    }
+}
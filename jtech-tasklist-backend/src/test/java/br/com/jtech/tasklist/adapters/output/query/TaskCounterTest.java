@@ -0,0 +1,70 @@
+/*
+*  @(#)TaskCounterTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.query;
+
+import br.com.jtech.tasklist.application.core.domains.TaskCount;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.TaskSort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes da contagem das consultas filtradas (X-Total-Count).
+*
+* @author JTech
+*/
+@DisplayName("Testes do Contador de Tarefas")
+class TaskCounterTest {
+
+    @Test
+    @DisplayName("Deve ler a estimativa do nó raiz do EXPLAIN do PostgreSQL")
+    void shouldReadRootPlanRows() {
+        String explain = "[{\"Plan\": {\"Node Type\": \"Aggregate\", \"Plan Rows\": 48213, "
+            + "\"Plans\": [{\"Node Type\": \"Index Only Scan\", \"Plan Rows\": 12}]}}]";
+
+        assertThat(TaskCounter.planRows(explain)).isEqualTo(48_213);
+        assertThat(TaskCounter.planRows("[]")).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve contar de forma exata fora do PostgreSQL, ignorando o limite")
+    void shouldCountExactlyOutsidePostgres() {
+        // Arrange
+        DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:count-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/sharding/tasks.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO tasks (id, title, status, created_at) VALUES (?, ?, ?, ?)",
+                UUID.randomUUID(), "Tarefa " + i, i % 2 == 0 ? "pendente" : "concluida", LocalDateTime.now());
+        }
+        TaskQueryPlanner planner = new TaskQueryPlanner(jdbcTemplate, 10_000);
+        TaskCounter counter = new TaskCounter(jdbcTemplate, 2);
+        TaskQuery query = new TaskQuery("pendente", null, null, null, null, null, TaskSort.DEFAULT, 1);
+
+        // Act
+        TaskCount count = counter.count(planner.plan(query), false);
+
+        // Assert
+        assertThat(count).isEqualTo(TaskCount.exact(3));
+    }
+}
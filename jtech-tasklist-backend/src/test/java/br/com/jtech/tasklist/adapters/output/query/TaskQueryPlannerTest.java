@@ -0,0 +1,124 @@
+/*
+*  @(#)TaskQueryPlannerTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.query;
+
+import br.com.jtech.tasklist.application.core.domains.DomainException;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.TaskSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+* Testes do planejador da consulta filtrada de tarefas, sobre um H2 em memória.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Planejador de Consultas de Tarefas")
+class TaskQueryPlannerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:query-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/sharding/tasks.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        insert("Relatório mensal", "pendente", 3);
+        insert("Reunião", "concluida", 2);
+        insert("Relatório anual", "pendente", 1);
+    }
+
+    @Test
+    @DisplayName("Deve escolher o índice de cada combinação suportada")
+    void shouldPickIndexForSupportedCombinations() {
+        assertThat(indexFor(query("pendente", null, null, TaskSort.CREATED_AT_DESC)))
+            .isEqualTo(TaskQueryPlanner.STATUS_CREATED_AT);
+        assertThat(indexFor(query(null, BASE, null, TaskSort.CREATED_AT_ASC)))
+            .isEqualTo(TaskQueryPlanner.CREATED_AT);
+        assertThat(indexFor(query("pendente", null, null, TaskSort.UPDATED_AT_DESC)))
+            .isEqualTo(TaskQueryPlanner.STATUS_UPDATED_AT);
+        assertThat(indexFor(query(null, null, "Rel", TaskSort.TITLE_ASC)))
+            .isEqualTo(TaskQueryPlanner.TITLE);
+        assertThat(indexFor(query("pendente", null, "Rel", TaskSort.TITLE_ASC))).isNull();
+        // PostgreSQL sem o índice com collation "C": o índice comum não atende ao prefixo
+        assertThat(TaskQueryPlanner.indexFor(query(null, null, "Rel", TaskSort.TITLE_ASC), null)).isNull();
+        assertThat(indexFor(query(null, BASE, null, TaskSort.UPDATED_AT_ASC))).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve filtrar, ordenar e limitar pelo SQL planejado")
+    void shouldRunPlannedQuery() {
+        // Arrange
+        TaskQueryPlanner planner = new TaskQueryPlanner(jdbcTemplate, 10_000);
+
+        // Act
+        List<String> byStatus = titles(planner.plan(new TaskQuery("pendente", null, null, null, null, null,
+            TaskSort.CREATED_AT_ASC, 1)));
+        List<String> byPrefix = titles(planner.plan(query(null, null, "Relat", TaskSort.TITLE_ASC)));
+
+        // Assert
+        assertThat(byStatus).containsExactly("Relatório anual");
+        assertThat(byPrefix).containsExactly("Relatório anual", "Relatório mensal");
+    }
+
+    @Test
+    @DisplayName("Deve recusar combinação sem índice acima do limite de linhas")
+    void shouldRejectFullScanAboveThreshold() {
+        // Arrange
+        TaskQueryPlanner small = new TaskQueryPlanner(jdbcTemplate, 2);
+        TaskQueryPlanner large = new TaskQueryPlanner(jdbcTemplate, 3);
+        TaskQuery withoutIndex = query("pendente", null, "Relat", TaskSort.TITLE_ASC);
+
+        // Act & Assert
+        assertThatThrownBy(() -> small.plan(withoutIndex)).isInstanceOf(DomainException.class);
+        assertThat(small.plan(query("pendente", null, null, TaskSort.CREATED_AT_DESC)).index())
+            .isEqualTo(TaskQueryPlanner.STATUS_CREATED_AT);
+        assertThat(titles(large.plan(withoutIndex))).containsExactly("Relatório anual", "Relatório mensal");
+    }
+
+    /**
+     * Índice escolhido em um banco em que o índice comum em title atende ao prefixo (H2).
+     */
+    private static String indexFor(TaskQuery query) {
+        return TaskQueryPlanner.indexFor(query, TaskQueryPlanner.TITLE);
+    }
+
+    private static TaskQuery query(String status, LocalDateTime createdFrom, String titlePrefix, TaskSort sort) {
+        return new TaskQuery(status, createdFrom, null, null, null, titlePrefix, sort, TaskQuery.DEFAULT_LIMIT);
+    }
+
+    private List<String> titles(TaskQueryPlanner.Plan plan) {
+        return jdbcTemplate.queryForList("SELECT title FROM tasks" + plan.clauses(), String.class, plan.parameters());
+    }
+
+    private void insert(String title, String status, int daysAfterBase) {
+        LocalDateTime createdAt = BASE.plusDays(daysAfterBase);
+        jdbcTemplate.update("INSERT INTO tasks (id, title, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+            UUID.randomUUID(), title, status, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+*  @(#)R2dbcTaskAdapterTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.reactive;
+
+import br.com.jtech.tasklist.adapters.output.TaskRankRebalancer;
+import br.com.jtech.tasklist.adapters.output.compression.DescriptionCompressor;
+import br.com.jtech.tasklist.adapters.output.outbox.TaskEventOutbox;
+import br.com.jtech.tasklist.application.core.domains.DomainError;
+import br.com.jtech.tasklist.application.core.domains.Result;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.usecases.ReactiveTaskUseCase;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes do caso de uso reativo sobre o adapter R2DBC, com um H2 em memória.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Adapter R2DBC de Tarefas")
+class R2dbcTaskAdapterTest {
+
+    private DataVersion dataVersion;
+    private DatabaseClient databaseClient;
+    private ReactiveTaskUseCase useCase;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ConnectionFactory connectionFactory =
+            ConnectionFactories.get("r2dbc:h2:mem:///reactive-" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        databaseClient = DatabaseClient.create(connectionFactory);
+        // Mesmo esquema dos shards: a tabela tasks sem a FK para tasklists
+        String schema = new ClassPathResource("db/sharding/tasks.sql").getContentAsString(StandardCharsets.UTF_8);
+        Arrays.stream(schema.replaceAll("(?m)^--.*$", "").split(";"))
+            .map(String::trim)
+            .filter(statement -> !statement.isEmpty())
+            .forEach(statement -> databaseClient.sql(statement).then().block());
+        // Anexações bloqueiam a linha da lista, que no banco principal é alvo da FK
+        databaseClient.sql("CREATE TABLE tasklists (id UUID PRIMARY KEY, name VARCHAR(255))").then().block();
+
+        dataVersion = new DataVersion();
+        R2dbcTaskAdapter adapter = new R2dbcTaskAdapter(
+            databaseClient,
+            TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+            new TaskRankRebalancer(null, null, null, null, dataVersion),
+            dataVersion,
+            new TaskEventOutbox(null, ""),
+            new DescriptionCompressor(true, 1024, new SimpleMeterRegistry()));
+        useCase = new ReactiveTaskUseCase(adapter);
+    }
+
+    @Test
+    @DisplayName("Deve criar, buscar, atualizar e excluir uma tarefa")
+    void shouldRunCrudWithoutBlockingPort() {
+        // Act
+        Task created = useCase.create(Task.builder().title("Relatório").description("Mensal").build()).block();
+        Result<Task> duplicate = useCase.tryCreate(Task.builder().title("  relatório ").build()).block();
+        Task updated = useCase.update(created.getId(), Task.builder().status("concluida").build()).block();
+
+        // Assert
+        assertThat(created.getStatus()).isEqualTo("pendente");
+        assertThat(duplicate).isInstanceOfSatisfying(Result.Failure.class,
+            failure -> assertThat(failure.error().kind()).isEqualTo(DomainError.Kind.DUPLICATE_TITLE));
+        assertThat(updated.getStatus()).isEqualTo("concluida");
+        assertThat(useCase.findById(created.getId()).block())
+            .extracting(Task::getTitle, Task::getDescription, Task::getStatus, Task::getCreatedAt)
+            .containsExactly("Relatório", "Mensal", "concluida", created.getCreatedAt());
+        assertThat(useCase.delete(created.getId()).block()).isTrue();
+        assertThat(useCase.delete(created.getId()).block()).isFalse();
+        assertThat(useCase.findById(created.getId()).blockOptional()).isEmpty();
+        assertThat(dataVersion.current()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve anexar tarefas ao final da lista e mover pela chave de ordenação")
+    void shouldAppendAndMoveWithinTasklist() {
+        // Arrange
+        String tasklistId = createTasklist();
+        Task first = useCase.create(Task.builder().title("Primeira").tasklistId(tasklistId).build()).block();
+        Task second = useCase.create(Task.builder().title("Segunda").tasklistId(tasklistId).build()).block();
+        Task third = useCase.create(Task.builder().title("Terceira").tasklistId(tasklistId).build()).block();
+
+        // Act
+        Task moved = useCase.move(third.getId(), first.getId(), null).block();
+
+        // Assert
+        assertThat(second.getRank()).isGreaterThan(first.getRank());
+        assertThat(third.getRank()).isGreaterThan(second.getRank());
+        assertThat(moved.getRank()).isLessThan(first.getRank());
+        assertThat(useCase.findAll().collectSortedList((a, b) -> a.getRank().compareTo(b.getRank())).block())
+            .extracting(Task::getTitle)
+            .containsExactly("Terceira", "Primeira", "Segunda");
+    }
+
+    @Test
+    @DisplayName("Deve gerar chaves distintas para anexações concorrentes na mesma lista")
+    void shouldAssignDistinctRanksToConcurrentAppends() {
+        // Arrange
+        String tasklistId = createTasklist();
+        int writers = 8;
+
+        // Act
+        List<String> ranks = Flux.range(0, writers)
+            .flatMap(i -> useCase.create(Task.builder().title("Anexada " + i).tasklistId(tasklistId).build())
+                .subscribeOn(Schedulers.boundedElastic()))
+            .map(Task::getRank)
+            .collectList()
+            .block(Duration.ofSeconds(30));
+
+        // Assert
+        assertThat(ranks).hasSize(writers).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    private String createTasklist() {
+        UUID id = UUID.randomUUID();
+        databaseClient.sql("INSERT INTO tasklists (id, name) VALUES (:id, 'Lista')").bind("id", id).then().block();
+        return id.toString();
+    }
+}
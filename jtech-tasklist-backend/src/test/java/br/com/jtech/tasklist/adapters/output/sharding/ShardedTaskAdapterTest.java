@@ -0,0 +1,191 @@
+/*
+*  @(#)ShardedTaskAdapterTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.adapters.output.sharding;
+
+import br.com.jtech.tasklist.adapters.output.compression.DescriptionCompressor;
+import br.com.jtech.tasklist.application.core.domains.LexoRank;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes do sharding de tarefas com um banco H2 em memória por shard.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Adapter de Tarefas com Sharding")
+class ShardedTaskAdapterTest {
+
+    private Map<String, TaskShard> shards;
+    private ShardedTaskAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        shards = new LinkedHashMap<>();
+        for (String name : List.of("s1", "s2", "s3")) {
+            TaskShard shard = new TaskShard(name, new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""),
+                new DescriptionCompressor(true, 1024, new SimpleMeterRegistry()));
+            shard.initSchema();
+            shards.put(name, shard);
+        }
+        adapter = new ShardedTaskAdapter(shards, List.of("s1", "s2"), 64, new DataVersion());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        adapter.close();
+    }
+
+    @Test
+    @DisplayName("Deve gravar as tarefas de uma lista no shard dono da lista")
+    void shouldRouteTasksByTasklist() {
+        // Arrange
+        String tasklistId = UUID.randomUUID().toString();
+
+        // Act
+        Task first = adapter.save(task("Primeira", tasklistId));
+        Task second = adapter.save(task("Segunda", tasklistId));
+
+        // Assert
+        TaskShard owner = shards.get(adapter.getRing().shardFor(tasklistId));
+        assertThat(owner.count()).isEqualTo(2);
+        assertThat(second.getRank()).isGreaterThan(first.getRank());
+        assertThat(adapter.findById(first.getId())).get()
+            .extracting(Task::getTitle).isEqualTo("Primeira");
+    }
+
+    @Test
+    @DisplayName("Deve listar as tarefas de todos os shards em ordem de criação")
+    void shouldMergeShardsInCursorOrder() {
+        // Arrange
+        List<String> expected = saveMany(40);
+
+        // Act
+        List<Task> all = adapter.findAll();
+
+        // Assert
+        assertThat(shards.get("s1").count()).isPositive();
+        assertThat(shards.get("s2").count()).isPositive();
+        assertThat(all).extracting(Task::getId).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Deve manter todas as tarefas acessíveis após incluir um shard")
+    void shouldKeepTasksReadableAfterSplit() {
+        // Arrange
+        List<String> expected = saveMany(60);
+
+        // Act
+        ShardSplitter.SplitResult result = new ShardSplitter(adapter).split("s3");
+
+        // Assert
+        assertThat(result.ring()).containsExactly("s1", "s2", "s3");
+        assertThat(result.copied()).isPositive().isEqualTo(result.cleanedUp());
+        assertThat(shards.get("s3").count()).isEqualTo(result.copied());
+        assertThat(shards.values().stream().mapToLong(TaskShard::count).sum()).isEqualTo(60);
+        assertThat(adapter.findAll()).extracting(Task::getId).containsExactlyElementsOf(expected);
+        expected.forEach(id -> assertThat(adapter.findById(id)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve gravar chaves distintas em anexações concorrentes de instâncias diferentes")
+    void shouldSerializeConcurrentAppendsPerTasklist() throws Exception {
+        // Arrange
+        String tasklistId = UUID.randomUUID().toString();
+        // Segunda instância da aplicação sobre os mesmos shards
+        ShardedTaskAdapter other = new ShardedTaskAdapter(shards, List.of("s1", "s2"), 64, new DataVersion());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Task>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 40; i++) {
+            ShardedTaskAdapter instance = i % 2 == 0 ? adapter : other;
+            String title = "Concorrente " + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return instance.save(task(title, tasklistId));
+            }));
+        }
+        start.countDown();
+        List<String> ranks = new ArrayList<>();
+        for (Future<Task> future : futures) {
+            ranks.add(future.get(30, TimeUnit.SECONDS).getRank());
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(ranks).doesNotHaveDuplicates();
+        assertThat(adapter.findByTasklistId(tasklistId)).extracting(Task::getRank)
+            .doesNotHaveDuplicates()
+            .isSorted();
+    }
+
+    @Test
+    @DisplayName("Deve rebalancear a lista no shard quando a chave movida fica longa demais")
+    void shouldRebalanceTasklistWhenRankGetsTooLong() {
+        // Arrange
+        String tasklistId = UUID.randomUUID().toString();
+        Task first = adapter.save(task("Primeira", tasklistId));
+        Task second = adapter.save(task("Segunda", tasklistId));
+        Task third = adapter.save(task("Terceira", tasklistId));
+        // Entre a primeira e a segunda, com mais caracteres que o limite
+        String longRank = first.getRank() + "i".repeat(LexoRank.MAX_LENGTH);
+
+        // Act
+        adapter.updateRank(third.getId(), longRank);
+
+        // Assert
+        List<Task> tasks = adapter.findByTasklistId(tasklistId);
+        assertThat(tasks).extracting(Task::getId).containsExactly(first.getId(), third.getId(), second.getId());
+        assertThat(tasks).extracting(Task::getRank)
+            .allSatisfy(rank -> assertThat(rank).hasSize(LexoRank.WIDTH))
+            .isSorted();
+    }
+
+    private List<String> saveMany(int count) {
+        List<Task> saved = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // Tarefas sem lista são distribuídas pelo próprio ID
+            saved.add(adapter.save(task("Tarefa " + i, null)));
+        }
+        return saved.stream().sorted(ShardedTaskAdapter.CURSOR_ORDER).map(Task::getId).toList();
+    }
+
+    private static Task task(String title, String tasklistId) {
+        return Task.builder()
+            .title(title)
+            .status("pendente")
+            .tasklistId(tasklistId)
+            .build();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+*  @(#)DomainExceptionTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.domains;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes da exceção de negócio sem pilha.
+*
+* @author JTech
+*/
+@DisplayName("Testes da Exceção de Domínio")
+class DomainExceptionTest {
+
+    @Test
+    @DisplayName("Deve ser criada sem pilha e sem supressões")
+    void shouldBeStackless() {
+        // Act
+        DomainException exception = DomainError.NOT_FOUND.toException();
+        exception.addSuppressed(new IllegalStateException("ignorada"));
+
+        // Assert
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getSuppressed()).isEmpty();
+        assertThat(exception.getCause()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve carregar o erro de domínio e sua mensagem")
+    void shouldCarryDomainError() {
+        // Act
+        DomainException fromError = DomainError.duplicateTitle("Relatório").toException();
+        DomainException fromMessage = new DomainException("limite inválido");
+
+        // Assert
+        assertThat(fromError.getError().kind()).isEqualTo(DomainError.Kind.DUPLICATE_TITLE);
+        assertThat(fromError.getMessage()).contains("Relatório");
+        assertThat(fromMessage.getError()).isEqualTo(DomainError.invalidArgument("limite inválido"));
+        assertThat(fromMessage.getMessage()).isEqualTo("limite inválido");
+    }
+}
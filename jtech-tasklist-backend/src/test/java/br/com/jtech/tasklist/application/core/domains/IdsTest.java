@@ -0,0 +1,73 @@
+/*
+*  @(#)IdsTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.domains;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes da validação de IDs sem exceções.
+*
+* @author JTech
+*/
+@DisplayName("Testes da Validação de IDs")
+class IdsTest {
+
+    @Test
+    @DisplayName("Deve converter um UUID canônico")
+    void shouldParseCanonicalUuid() {
+        // Arrange
+        UUID expected = UUID.randomUUID();
+
+        // Act & Assert
+        assertThat(Ids.parseUuid(expected.toString())).isEqualTo(expected);
+        assertThat(Ids.isValid(expected.toString())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve aceitar dígitos hexadecimais maiúsculos")
+    void shouldParseUppercaseUuid() {
+        // Arrange
+        UUID expected = UUID.fromString("3f2504e0-4f89-11d3-9a0c-0305e82c3301");
+
+        // Act & Assert
+        assertThat(Ids.parseUuid("3F2504E0-4F89-11D3-9A0C-0305E82C3301")).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {
+        "   ",
+        "3f2504e0-4f89-11d3-9a0c-0305e82c330",
+        "3f2504e0-4f89-11d3-9a0c-0305e82c33011",
+        "3f2504e04f8911d39a0c0305e82c3301",
+        "3f2504e0-4f89-11d3-9a0c_0305e82c3301",
+        "3f2504e-04f89-11d3-9a0c-0305e82c3301",
+        "3f2504e0-4f89-11d3-9a0c-0305e82c330g",
+        "+f2504e0-4f89-11d3-9a0c-0305e82c3301",
+        "                                    "
+    })
+    @DisplayName("Deve devolver null para IDs nulos, vazios ou malformados")
+    void shouldRejectMalformedIds(String id) {
+        // Act & Assert
+        assertThat(Ids.parseUuid(id)).isNull();
+        assertThat(Ids.isValid(id)).isFalse();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+*  @(#)LexoRankTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.application.core.domains;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+* Testes das chaves de ordenação fracionárias.
+*
+* @author JTech
+*/
+@DisplayName("Testes do LexoRank")
+class LexoRankTest {
+
+    @Test
+    @DisplayName("Deve gerar chave estritamente entre as vizinhas")
+    void shouldGenerateKeyBetweenNeighbors() {
+        // Arrange
+        String lower = LexoRank.initial();
+        String upper = LexoRank.after(lower);
+
+        // Act
+        String key = LexoRank.between(lower, upper);
+
+        // Assert
+        assertThat(key).isGreaterThan(lower).isLessThan(upper);
+    }
+
+    @Test
+    @DisplayName("Deve gerar chave logo depois de chaves repetidas")
+    void shouldExtendRepeatedKeys() {
+        // Arrange
+        String repeated = LexoRank.initial();
+
+        // Act
+        String key = LexoRank.between(repeated, repeated);
+
+        // Assert
+        assertThat(key).isGreaterThan(repeated).startsWith(repeated);
+    }
+
+    @Test
+    @DisplayName("Deve tratar chave seguida de zeros como a mesma posição")
+    void shouldExtendKeyFollowedByZeros() {
+        // Act
+        String key = LexoRank.between("i", "i00");
+
+        // Assert
+        assertThat(key).isGreaterThan("i00");
+    }
+
+    @Test
+    @DisplayName("Deve recusar limites invertidos")
+    void shouldRejectInvertedBounds() {
+        // Act & Assert
+        assertThatThrownBy(() -> LexoRank.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -12,6 +12,7 @@
 */
 package br.com.jtech.tasklist.application.core.usecases;
 
+import br.com.jtech.tasklist.application.core.domains.DomainException;
 import br.com.jtech.tasklist.application.core.domains.Task;
 import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +30,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -244,5 +246,43 @@ class TaskUseCaseTest {
         verify(taskOutputGateway, times(1)).findById(taskId);
         verify(taskOutputGateway, never()).deleteById(anyString());
     }
+
+    @Test
+    @DisplayName("Deve mover tarefa gravando apenas a nova chave entre os vizinhos")
+    void shouldMoveTaskBetweenNeighbors() {
+        // Arrange
+        String tasklistId = UUID.randomUUID().toString();
+        String neighborId = UUID.randomUUID().toString();
+        task.setTasklistId(tasklistId);
+        task.setRank("i0000000");
+        Task neighbor = Task.builder().id(neighborId).tasklistId(tasklistId).rank("a0000000").build();
+        when(taskOutputGateway.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskOutputGateway.findById(neighborId)).thenReturn(Optional.of(neighbor));
+        when(taskOutputGateway.findNextRank(tasklistId, "a0000000", taskId)).thenReturn(Optional.of("b0000000"));
+        when(taskOutputGateway.updateRank(eq(taskId), anyString())).thenAnswer(invocation -> {
+            task.setRank(invocation.getArgument(1));
+            return Optional.of(task);
+        });
+
+        // Act
+        Optional<Task> result = taskUseCase.move(taskId, null, neighborId);
+
+        // Assert
+        assertThat(result).isPresent();
+        assertThat(result.get().getRank()).isGreaterThan("a0000000").isLessThan("b0000000");
+        verify(taskOutputGateway, times(1)).updateRank(eq(taskId), anyString());
+        verify(taskOutputGateway, never()).update(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar movimento sem exatamente um vizinho")
+    void shouldRejectMoveWithoutExactlyOneNeighbor() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskUseCase.move(taskId, "a", "b"))
+            .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> taskUseCase.move(taskId, null, null))
+            .isInstanceOf(DomainException.class);
+        verify(taskOutputGateway, never()).updateRank(anyString(), anyString());
+    }
 }
 
@@ -0,0 +1,157 @@
+/*
+*  @(#)ResponseCacheFilterTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes do cache de respostas pré-serializadas.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Cache de Respostas")
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "[{\"id\":\"1\",\"title\":\"Tarefa\"}]";
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private DataVersion dataVersion;
+    private ResponseCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        dataVersion = new DataVersion();
+        ResponseCache cache = new ResponseCache(16, 1024, Duration.ZERO, new SimpleMeterRegistry());
+        filter = new ResponseCacheFilter(cache, dataVersion, Set.of("/tasks"));
+    }
+
+    @Test
+    @DisplayName("Deve servir do cache a segunda leitura, com os cabeçalhos do controller")
+    void shouldServeHitWithControllerHeaders() throws Exception {
+        // Act
+        MockHttpServletResponse miss = get(null);
+        MockHttpServletResponse hit = get(null);
+
+        // Assert
+        assertThat(executions).hasValue(1);
+        assertThat(miss.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+        assertThat(hit.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(hit.getContentAsString()).isEqualTo(BODY);
+        assertThat(hit.getContentType()).startsWith("application/json");
+        assertThat(hit.getHeader("X-Total-Count")).isEqualTo("1");
+        assertThat(hit.getHeaders("Link")).containsExactly("<a>; rel=\"next\"", "<b>; rel=\"last\"");
+    }
+
+    @Test
+    @DisplayName("Deve consultar de novo após uma escrita")
+    void shouldInvalidateOnDataVersionBump() throws Exception {
+        // Arrange
+        get(null);
+        get(null);
+
+        // Act
+        dataVersion.bump();
+        MockHttpServletResponse afterWrite = get(null);
+
+        // Assert
+        assertThat(executions).hasValue(2);
+        assertThat(afterWrite.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+    }
+
+    @Test
+    @DisplayName("Deve enviar gzip somente quando o cliente aceita")
+    void shouldNegotiateGzip() throws Exception {
+        // Act
+        MockHttpServletResponse gzip = get("gzip, deflate");
+        MockHttpServletResponse refused = get("gzip;q=0, identity");
+        MockHttpServletResponse identity = get(null);
+
+        // Assert
+        assertThat(gzip.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(gzip.getContentAsByteArray())).isEqualTo(BODY);
+        assertThat(gzip.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(refused.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getContentAsString()).isEqualTo(BODY);
+        assertThat(ResponseCacheFilter.acceptsGzip("*")).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip("br")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip; q=0.0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve descartar a entrada menos usada ao atingir o limite")
+    void shouldEvictLeastRecentlyUsed() {
+        // Arrange
+        ResponseCache cache = new ResponseCache(2, 1024, Duration.ZERO, new SimpleMeterRegistry());
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        cache.put("a", 0, "application/json", Map.of(), body);
+        cache.put("b", 0, "application/json", Map.of(), body);
+
+        // Act
+        cache.get("a", 0);
+        cache.put("c", 0, "application/json", Map.of(), body);
+
+        // Assert
+        assertThat(cache.get("a", 0)).isNotNull();
+        assertThat(cache.get("b", 0)).isNull();
+        assertThat(cache.get("c", 0)).isNotNull();
+    }
+
+    private MockHttpServletResponse get(String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller());
+        return response;
+    }
+
+    private FilterChain controller() {
+        return (req, res) -> {
+            executions.incrementAndGet();
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType("application/json");
+            response.setHeader("X-Total-Count", "1");
+            response.addHeader("Link", "<a>; rel=\"next\"");
+            response.addHeader("Link", "<b>; rel=\"last\"");
+            response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
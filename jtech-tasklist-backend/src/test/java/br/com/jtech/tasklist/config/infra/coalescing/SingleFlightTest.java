@@ -0,0 +1,215 @@
+/*
+*  @(#)SingleFlightTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.coalescing;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+* Testes do agrupamento de chamadas simultâneas (single-flight).
+*
+* @author JTech
+*/
+@DisplayName("Testes do Single-Flight")
+class SingleFlightTest {
+
+    private static final int CALLERS = 4;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SimpleMeterRegistry registry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve executar uma única consulta para chamadas simultâneas")
+    void shouldShareOneLoad() throws Exception {
+        // Arrange
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), value -> value, registry);
+
+        // Act
+        List<Future<String>> results = callConcurrently(() -> flight.execute("k", blockingLoad(() -> "valor")));
+        awaitWaiting("test", CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(calls("test", "follower")).isEqualTo(CALLERS - 1);
+        assertThat(waiting("test")).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve contar quem desiste por tempo só como timeout, fora dos followers")
+    void shouldNotCountTimedOutCallersAsFollowers() throws Exception {
+        // Arrange
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofMillis(50), value -> value,
+            registry);
+        Future<String> leader = executor.submit(() -> flight.execute("k", blockingLoad(() -> "lider")));
+        while (loads.get() == 0) {
+            Thread.sleep(5);
+        }
+
+        // Act
+        String own = flight.execute("k", () -> "própria");
+        release.countDown();
+
+        // Assert
+        assertThat(own).isEqualTo("própria");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("lider");
+        assertThat(calls("test", "leader")).isEqualTo(1);
+        assertThat(calls("test", "timeout")).isEqualTo(1);
+        assertThat(calls("test", "follower")).isZero();
+        assertThat(registry.get("tasklist.singleflight.coalescing.ratio").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha da consulta a todos que aguardavam e liberar a chave")
+    void shouldPropagateFailureAndClearKey() throws Exception {
+        // Arrange
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), value -> value, registry);
+
+        // Act
+        List<Future<String>> results = callConcurrently(() -> flight.execute("k", blockingLoad(() -> {
+            throw new IllegalStateException("banco fora");
+        })));
+        awaitWaiting("test", CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        }
+        assertThat(flight.execute("k", () -> "nova consulta")).isEqualTo("nova consulta");
+    }
+
+    @Test
+    @DisplayName("Deve liberar a chave também quando a consulta lança um Error")
+    void shouldClearKeyAfterError() {
+        // Arrange
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), value -> value, registry);
+
+        // Act
+        assertThatThrownBy(() -> flight.execute("k", () -> {
+            throw new AssertionError("falha grave");
+        })).isInstanceOf(AssertionError.class);
+        String next = flight.execute("k", () -> "nova consulta");
+
+        // Assert
+        assertThat(next).isEqualTo("nova consulta");
+    }
+
+    @Test
+    @DisplayName("Deve entregar uma cópia independente a cada chamador")
+    void shouldReturnIndependentCopies() throws Exception {
+        // Arrange
+        TaskOutputGateway delegate = mock(TaskOutputGateway.class);
+        Task stored = Task.builder().id("1").title("Original").status("pendente").build();
+        when(delegate.findById("1")).thenAnswer(call -> blockingLoad(() -> Optional.of(stored)).get());
+        CoalescingTaskOutputGateway gateway = new CoalescingTaskOutputGateway(delegate, Duration.ofSeconds(5), registry);
+
+        // Act
+        List<Future<Optional<Task>>> results = callConcurrently(() -> gateway.findById("1"));
+        awaitWaiting("findById", CALLERS - 1);
+        release.countDown();
+        List<Task> tasks = new ArrayList<>();
+        for (Future<Optional<Task>> result : results) {
+            tasks.add(result.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        tasks.get(0).setTitle("Alterada");
+
+        // Assert
+        assertThat(loads).hasValue(1);
+        for (int i = 1; i < CALLERS; i++) {
+            assertThat(tasks.get(i)).isNotSameAs(tasks.get(0));
+        }
+        assertThat(tasks.subList(1, CALLERS)).extracting(Task::getTitle).containsOnly("Original");
+    }
+
+    private <T> Supplier<T> blockingLoad(Supplier<T> load) {
+        return () -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return load.get();
+        };
+    }
+
+    private <T> List<Future<T>> callConcurrently(Supplier<T> call) {
+        List<Future<T>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call::get));
+        }
+        return results;
+    }
+
+    private void awaitWaiting(String operation, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiting(operation) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(waiting(operation)).isEqualTo(expected);
+    }
+
+    private double waiting(String operation) {
+        return registry.get("tasklist.singleflight.waiting").tag("operation", operation).gauge().value();
+    }
+
+    private double calls(String operation, String role) {
+        return registry.get("tasklist.singleflight.calls")
+            .tag("operation", operation)
+            .tag("role", role)
+            .meter()
+            .measure().iterator().next().getValue();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+*  @(#)AdaptiveLimitTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes do limite adaptativo, alimentado com latências e falhas simuladas.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Limite de Concorrência Adaptativo")
+class AdaptiveLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    @DisplayName("Deve crescer uma unidade por amostra sem fila, até o máximo")
+    void shouldGrowWithoutQueue() {
+        // Arrange
+        AdaptiveLimit limit = new AdaptiveLimit(10, 1, 20);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            limit.onSample(FAST, limit.getLimit(), false);
+        }
+        int afterFive = limit.getLimit();
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(FAST, limit.getLimit(), false);
+        }
+
+        // Assert
+        assertThat(afterFive).isEqualTo(15);
+        assertThat(limit.getLimit()).isEqualTo(20);
+        assertThat(limit.getMinRttMs()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("Não deve crescer com pouca demanda")
+    void shouldNotGrowUnderLowDemand() {
+        // Arrange
+        AdaptiveLimit limit = new AdaptiveLimit(10, 1, 20);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(FAST, 2, false);
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir quando a latência sobe acima da referência")
+    void shouldShrinkWhenLatencyBuildsQueue() {
+        // Arrange
+        AdaptiveLimit limit = new AdaptiveLimit(20, 1, 20);
+        limit.onSample(FAST, 20, false);
+
+        // Act
+        limit.onSample(SLOW, 20, false);
+        int afterOne = limit.getLimit();
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(SLOW, 20, false);
+        }
+
+        // Assert: fila estimada = limite * 0,9; estabiliza quando fica abaixo de 6
+        assertThat(afterOne).isEqualTo(19);
+        assertThat(limit.getLimit()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir multiplicativamente a cada falha, sem passar do mínimo")
+    void shouldBackOffOnDrops() {
+        // Arrange
+        AdaptiveLimit limit = new AdaptiveLimit(20, 5, 20);
+
+        // Act
+        limit.onSample(FAST, 20, true);
+        int afterOne = limit.getLimit();
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(FAST, 20, true);
+        }
+
+        // Assert
+        assertThat(afterOne).isEqualTo(18);
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve cair à metade e renovar a referência na sondagem periódica")
+    void shouldHalveOnProbe() {
+        // Arrange
+        AdaptiveLimit limit = new AdaptiveLimit(20, 1, 20);
+
+        // Act
+        for (int i = 0; i < 999; i++) {
+            limit.onSample(FAST, 20, false);
+        }
+        int beforeProbe = limit.getLimit();
+        limit.onSample(FAST, 20, false);
+
+        // Assert
+        assertThat(beforeProbe).isEqualTo(20);
+        assertThat(limit.getLimit()).isEqualTo(10);
+        assertThat(limit.getMinRttMs()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar no bulkhead acima do limite e liberar a vaga")
+    void shouldRejectAboveLimit() {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("test", new AdaptiveLimit(2, 1, 2), new SimpleMeterRegistry());
+
+        // Act
+        int first = bulkhead.tryAcquire();
+        int second = bulkhead.tryAcquire();
+        int rejected = bulkhead.tryAcquire();
+        bulkhead.release();
+        int afterRelease = bulkhead.tryAcquire();
+
+        // Assert
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+        assertThat(rejected).isEqualTo(-1);
+        assertThat(afterRelease).isEqualTo(2);
+        assertThat(bulkhead.getRejected()).isEqualTo(1);
+    }
+}
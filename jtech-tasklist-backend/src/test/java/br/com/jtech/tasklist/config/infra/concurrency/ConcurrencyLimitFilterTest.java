@@ -0,0 +1,95 @@
+/*
+*  @(#)ConcurrencyLimitFilterTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes do filtro de limite de concorrência.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Filtro de Limite de Concorrência")
+class ConcurrencyLimitFilterTest {
+
+    private Bulkhead reads;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        reads = new Bulkhead("reads", new AdaptiveLimit(10, 1, 10), registry);
+        filter = new ConcurrencyLimitFilter(reads,
+            new Bulkhead("writes", new AdaptiveLimit(10, 1, 10), registry),
+            new Bulkhead("bulk", new AdaptiveLimit(1, 1, 1), registry),
+            Set.of("/api/v1/tasks/bulk"), 1, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Não deve alimentar o limite com respostas 4xx")
+    void shouldIgnoreClientErrors() throws Exception {
+        // Act
+        MockHttpServletResponse response = get(HttpServletResponse.SC_NOT_FOUND);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(reads.getLimit()).isEqualTo(10);
+        assertThat(reads.getInFlight()).isZero();
+        assertThat(reads.getMinRttMs()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite com respostas 5xx")
+    void shouldBackOffOnServerErrors() throws Exception {
+        // Act
+        get(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+
+        // Assert
+        assertThat(reads.getLimit()).isEqualTo(9);
+        assertThat(reads.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After sem vaga")
+    void shouldRejectWhenFull() throws Exception {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            reads.tryAcquire();
+        }
+
+        // Act
+        MockHttpServletResponse response = get(HttpServletResponse.SC_OK);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    private MockHttpServletResponse get(int status) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/tasks"), response,
+            (req, res) -> ((HttpServletResponse) res).setStatus(status));
+        return response;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+*  @(#)ConcurrencyLimitInterceptorTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.grpc;
+
+import br.com.jtech.tasklist.adapters.input.grpc.TaskGrpcService;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.CreateTasksResponse;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.GetTaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.TaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.TaskServiceGrpc;
+import br.com.jtech.tasklist.adapters.output.memory.InMemoryTaskAdapter;
+import br.com.jtech.tasklist.adapters.output.outbox.TaskEventOutbox;
+import br.com.jtech.tasklist.application.core.usecases.TaskUseCase;
+import br.com.jtech.tasklist.config.infra.cache.DataVersion;
+import br.com.jtech.tasklist.config.infra.concurrency.AdaptiveLimit;
+import br.com.jtech.tasklist.config.infra.concurrency.Bulkhead;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+* Testes do limite de concorrência das chamadas gRPC, com servidor e canal em
+* processo sobre o caso de uso com o adapter em memória.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Interceptor de Limite de Concorrência gRPC")
+class ConcurrencyLimitInterceptorTest {
+
+    private Bulkhead reads;
+    private Bulkhead writes;
+    private Bulkhead bulk;
+    private Server server;
+    private ManagedChannel channel;
+    private TaskServiceGrpc.TaskServiceBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        reads = new Bulkhead("read", new AdaptiveLimit(1, 1, 1), registry);
+        writes = new Bulkhead("write", new AdaptiveLimit(10, 1, 10), registry);
+        bulk = new Bulkhead("bulk", new AdaptiveLimit(1, 1, 1), registry);
+        TaskGrpcService service = new TaskGrpcService(
+            new TaskUseCase(new InMemoryTaskAdapter(new DataVersion(), new TaskEventOutbox(null, ""))),
+            Validation.buildDefaultValidatorFactory().getValidator());
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor()
+            .addService(ServerInterceptors.intercept(service, new ConcurrencyLimitInterceptor(reads, writes, bulk)))
+            .build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        stub = TaskServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Deve recusar leituras com UNAVAILABLE quando o bulkhead de leitura está cheio")
+    void shouldRejectReadsWhenReadBulkheadIsFull() {
+        // Arrange
+        TaskResponse created = stub.createTask(TaskRequest.newBuilder().setTitle("Relatório").build());
+        reads.tryAcquire();
+
+        // Act & Assert
+        assertThatThrownBy(() -> stub.getTask(GetTaskRequest.newBuilder().setId(created.getId()).build()))
+            .isInstanceOfSatisfying(StatusRuntimeException.class,
+                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAVAILABLE));
+        assertThat(reads.getRejected()).isEqualTo(1);
+        // Escritas têm vagas próprias
+        assertThat(stub.createTask(TaskRequest.newBuilder().setTitle("Outra").build()).getId()).isNotEmpty();
+
+        reads.release();
+        assertThat(stub.getTask(GetTaskRequest.newBuilder().setId(created.getId()).build()).getTitle())
+            .isEqualTo("Relatório");
+        assertThat(reads.getInFlight()).isZero();
+        assertThat(writes.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve liberar a vaga sem alimentar o limite em erros do cliente")
+    void shouldReleaseWithoutSamplingOnClientErrors() {
+        // Act
+        assertThatThrownBy(() -> stub.getTask(GetTaskRequest.newBuilder().setId("inexistente").build()))
+            .isInstanceOfSatisfying(StatusRuntimeException.class,
+                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+        stub.createTask(TaskRequest.newBuilder().setTitle("Amostrada").build());
+
+        // Assert
+        assertThat(reads.getInFlight()).isZero();
+        assertThat(reads.getMinRttMs()).isZero();
+        assertThat(writes.getInFlight()).isZero();
+        assertThat(writes.getMinRttMs()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve recusar lotes com RESOURCE_EXHAUSTED quando o bulkhead de lote está cheio")
+    void shouldRejectBulkWhenBulkBulkheadIsFull() {
+        // Arrange
+        bulk.tryAcquire();
+        CompletableFuture<CreateTasksResponse> response = new CompletableFuture<>();
+
+        // Act
+        StreamObserver<TaskRequest> requests = TaskServiceGrpc.newStub(channel).createTasks(new StreamObserver<>() {
+            @Override
+            public void onNext(CreateTasksResponse value) {
+                response.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                response.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+        requests.onNext(TaskRequest.newBuilder().setTitle("Em lote").build());
+        requests.onCompleted();
+
+        // Assert
+        assertThatThrownBy(() -> response.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .cause()
+            .isInstanceOfSatisfying(StatusRuntimeException.class,
+                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED));
+        assertThat(bulk.getInFlight()).isEqualTo(1);
+        assertThat(writes.getRejected()).isZero();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+*  @(#)StaleResponseInterceptorTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.grpc;
+
+import br.com.jtech.tasklist.adapters.input.grpc.TaskGrpcService;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.GetTaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.protocols.grpc.TaskServiceGrpc;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.usecases.TaskUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import br.com.jtech.tasklist.config.infra.resilience.CircuitBreaker;
+import br.com.jtech.tasklist.config.infra.resilience.CircuitBreakerTaskOutputGateway;
+import br.com.jtech.tasklist.config.infra.resilience.StaleResponse;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+* Testes da marcação de respostas desatualizadas nas chamadas gRPC, com servidor e
+* canal em processo sobre o caso de uso com o disjuntor.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Interceptor de Respostas Desatualizadas gRPC")
+class StaleResponseInterceptorTest {
+
+    private TaskOutputGateway delegate;
+    private Server server;
+    private ManagedChannel channel;
+    private final AtomicReference<Metadata> headers = new AtomicReference<>();
+    private final AtomicReference<Metadata> trailers = new AtomicReference<>();
+    private TaskServiceGrpc.TaskServiceBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        delegate = mock(TaskOutputGateway.class);
+        CircuitBreaker.Settings settings = new CircuitBreaker.Settings(2, 2, 0.5, Duration.ofSeconds(2), 1.0,
+            Duration.ofSeconds(10), 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TaskGrpcService service = new TaskGrpcService(
+            new TaskUseCase(new CircuitBreakerTaskOutputGateway(delegate,
+                new CircuitBreaker("test", settings, registry), 100, registry)),
+            Validation.buildDefaultValidatorFactory().getValidator());
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor()
+            .addService(ServerInterceptors.intercept(service, new StaleResponseInterceptor()))
+            .build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        stub = TaskServiceGrpc.newBlockingStub(channel)
+            .withInterceptors(MetadataUtils.newCaptureMetadataInterceptor(headers, trailers));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Deve enviar warning e x-data-staleness quando a leitura vem da última cópia")
+    void shouldMarkStaleReadsInMetadata() {
+        // Arrange
+        String id = UUID.randomUUID().toString();
+        Task task = Task.builder().id(id).title("Relatório").status("pendente").build();
+        when(delegate.findById(id))
+            .thenReturn(Optional.of(task))
+            .thenThrow(new DataAccessResourceFailureException("banco fora"));
+        GetTaskRequest request = GetTaskRequest.newBuilder().setId(id).build();
+        stub.getTask(request);
+        assertThat(headers.get().get(StaleResponseInterceptor.WARNING)).isNull();
+
+        // Act
+        TaskResponse stale = stub.getTask(request);
+
+        // Assert
+        assertThat(stale.getTitle()).isEqualTo("Relatório");
+        assertThat(headers.get().get(StaleResponseInterceptor.WARNING)).isEqualTo(StaleResponse.WARNING);
+        assertThat(headers.get().get(StaleResponseInterceptor.STALENESS)).isEqualTo("0");
+    }
+}
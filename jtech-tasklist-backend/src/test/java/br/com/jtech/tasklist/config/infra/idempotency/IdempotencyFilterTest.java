@@ -0,0 +1,274 @@
+/*
+*  @(#)IdempotencyFilterTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import br.com.jtech.tasklist.adapters.output.repositories.IdempotencyKeyRepository;
+import br.com.jtech.tasklist.adapters.output.repositories.entities.IdempotencyKeyEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+* Testes do filtro e do armazenamento de Idempotency-Key, com a tabela
+* idempotency_keys simulada em memória.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Filtro de Idempotência")
+class IdempotencyFilterTest {
+
+    private static final String CREATED = "{\"id\":\"1\"}";
+
+    private final Map<String, IdempotencyKeyEntity> rows = new ConcurrentHashMap<>();
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyStore store;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(repository(), Duration.ofHours(1), Duration.ofSeconds(60),
+            Duration.ofMillis(200), 100);
+        filter = new IdempotencyFilter(store, Set.of("/tasks"), new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Deve repetir a resposta gravada para a mesma chave e corpo")
+    void shouldReplaySameKeyAndBody() throws Exception {
+        // Act
+        MockHttpServletResponse first = post("k1", "{\"title\":\"A\"}", created());
+        MockHttpServletResponse second = post("k1", "{\"title\":\"A\"}", created());
+
+        // Assert
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(second.getStatus()).isEqualTo(201);
+        assertThat(second.getContentAsString()).isEqualTo(CREATED);
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Deve responder 422 para a mesma chave com outro corpo")
+    void shouldRejectSameKeyWithDifferentBody() throws Exception {
+        // Act
+        post("k1", "{\"title\":\"A\"}", created());
+        MockHttpServletResponse second = post("k1", "{\"title\":\"B\"}", created());
+
+        // Assert
+        assertThat(executions).hasValue(1);
+        assertThat(second.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    @DisplayName("Deve responder 409 enquanto a primeira execução não termina")
+    void shouldRejectWhileFirstIsRunning() throws Exception {
+        // Arrange
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<MockHttpServletResponse> first = executor.submit(() -> post("k1", "{}", (req, res) -> {
+                entered.countDown();
+                try {
+                    finish.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                created().doFilter(req, res);
+            }));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Act
+            MockHttpServletResponse second = post("k1", "{}", created());
+            finish.countDown();
+
+            // Assert
+            assertThat(second.getStatus()).isEqualTo(409);
+            assertThat(second.getHeader("Retry-After")).isEqualTo("1");
+            assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+            assertThat(executions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve liberar a chave após uma resposta 5xx")
+    void shouldReleaseClaimAfterServerError() throws Exception {
+        // Act
+        MockHttpServletResponse failed = post("k1", "{}",
+            (req, res) -> ((HttpServletResponse) res).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE));
+        MockHttpServletResponse retried = post("k1", "{}", created());
+
+        // Assert
+        assertThat(failed.getStatus()).isEqualTo(503);
+        assertThat(retried.getStatus()).isEqualTo(201);
+        assertThat(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve entregar o corpo já lido a leitores assíncronos")
+    void shouldNotifyReadListener() throws Exception {
+        // Arrange
+        List<String> events = new ArrayList<>();
+
+        // Act
+        post("k1", "{}", (req, res) -> {
+            ServletInputStream input = req.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() {
+                    events.add("data");
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    events.add("done");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    events.add("error");
+                }
+            });
+        });
+
+        // Assert
+        assertThat(events).containsExactly("data", "done");
+    }
+
+    @Test
+    @DisplayName("Deve executar uma única vez com duplicatas concorrentes")
+    void shouldProceedOnceForConcurrentDuplicates() throws Exception {
+        // Arrange
+        IdempotencyStore patient = new IdempotencyStore(repository(), Duration.ofHours(1), Duration.ofSeconds(60),
+            Duration.ofSeconds(5), 100);
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<IdempotencyStore.Decision.Type>> decisions = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                decisions.add(executor.submit(() -> {
+                    start.await();
+                    IdempotencyStore.Decision decision = patient.begin("k1", "hash");
+                    if (decision.type() == IdempotencyStore.Decision.Type.PROCEED) {
+                        Thread.sleep(50);
+                        patient.complete("k1", "hash", 201, "application/json", CREATED);
+                    }
+                    return decision.type();
+                }));
+            }
+
+            // Act
+            start.countDown();
+            List<IdempotencyStore.Decision.Type> types = new ArrayList<>();
+            for (Future<IdempotencyStore.Decision.Type> decision : decisions) {
+                types.add(decision.get(10, TimeUnit.SECONDS));
+            }
+
+            // Assert
+            assertThat(types).filteredOn(IdempotencyStore.Decision.Type.PROCEED::equals).hasSize(1);
+            assertThat(types).filteredOn(IdempotencyStore.Decision.Type.REPLAY::equals).hasSize(callers - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private MockHttpServletResponse post(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/tasks");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private FilterChain created() {
+        return (req, res) -> {
+            executions.incrementAndGet();
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.setStatus(HttpServletResponse.SC_CREATED);
+            response.setContentType("application/json");
+            response.getOutputStream().write(CREATED.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    /**
+     * Tabela idempotency_keys em memória: a reivindicação falha se a chave existir,
+     * como a violação de chave primária do INSERT.
+     */
+    private IdempotencyKeyRepository repository() {
+        IdempotencyKeyRepository repository = mock(IdempotencyKeyRepository.class);
+        when(repository.findById(anyString()))
+            .thenAnswer(call -> Optional.ofNullable(rows.get(call.<String>getArgument(0))));
+        when(repository.claim(anyString(), anyString(), any(), any())).thenAnswer(call -> {
+            IdempotencyKeyEntity entity = IdempotencyKeyEntity.builder()
+                .key(call.getArgument(0))
+                .requestHash(call.getArgument(1))
+                .createdAt(call.getArgument(2))
+                .expiresAt(call.getArgument(3))
+                .build();
+            if (rows.putIfAbsent(entity.getKey(), entity) != null) {
+                throw new DataIntegrityViolationException("duplicate key " + entity.getKey());
+            }
+            return 1;
+        });
+        when(repository.complete(anyString(), anyInt(), any(), any(), any())).thenAnswer(call -> {
+            IdempotencyKeyEntity entity = rows.get(call.<String>getArgument(0));
+            entity.setResponseStatus(call.getArgument(1));
+            entity.setContentType(call.getArgument(2));
+            entity.setResponseBody(call.getArgument(3));
+            entity.setExpiresAt(call.<LocalDateTime>getArgument(4));
+            return 1;
+        });
+        when(repository.release(anyString())).thenAnswer(call -> {
+            IdempotencyKeyEntity entity = rows.get(call.<String>getArgument(0));
+            return entity != null && entity.getResponseStatus() == null
+                && rows.remove(entity.getKey(), entity) ? 1 : 0;
+        });
+        return repository;
+    }
+}
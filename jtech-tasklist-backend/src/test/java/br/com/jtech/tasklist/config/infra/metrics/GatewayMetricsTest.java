@@ -0,0 +1,94 @@
+/*
+*  @(#)GatewayMetricsTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.metrics;
+
+import br.com.jtech.tasklist.application.core.domains.DomainError;
+import br.com.jtech.tasklist.application.core.domains.Result;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.ports.input.TaskInputGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+* Testes do outcome registrado nas métricas dos gateways.
+*
+* @author JTech
+*/
+@DisplayName("Testes das Métricas de Gateway")
+class GatewayMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private TaskInputGateway delegate;
+    private MeteredTaskInputGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        delegate = mock(TaskInputGateway.class);
+        gateway = new MeteredTaskInputGateway(delegate, registry);
+    }
+
+    @Test
+    @DisplayName("Deve registrar falhas de negócio como rejected")
+    void shouldTagFailureAsRejected() {
+        // Arrange
+        when(delegate.tryCreate(any(Task.class))).thenReturn(Result.fail(DomainError.duplicateTitle("A")));
+        when(delegate.tryUpdate(eq("1"), any(Task.class))).thenReturn(Result.fail(DomainError.NOT_FOUND));
+
+        // Act
+        gateway.tryCreate(new Task());
+        gateway.tryUpdate("1", new Task());
+
+        // Assert
+        assertThat(count("create", "rejected")).isEqualTo(1);
+        assertThat(count("update", "rejected")).isEqualTo(1);
+        assertThat(registry.find("tasklist.gateway").tag("outcome", "success").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve registrar sucessos e exceções separadamente")
+    void shouldTagSuccessAndError() {
+        // Arrange
+        when(delegate.tryCreate(any(Task.class)))
+            .thenReturn(Result.ok(new Task()))
+            .thenThrow(new IllegalStateException("falha"));
+
+        // Act
+        gateway.tryCreate(new Task());
+        assertThatThrownBy(() -> gateway.tryCreate(new Task())).isInstanceOf(IllegalStateException.class);
+
+        // Assert
+        assertThat(count("create", "success")).isEqualTo(1);
+        assertThat(count("create", "error")).isEqualTo(1);
+        assertThat(registry.get("tasklist.gateway.errors").tag("exception", "IllegalStateException").counter().count())
+            .isEqualTo(1);
+    }
+
+    private long count(String method, String outcome) {
+        return registry.get("tasklist.gateway")
+            .tag("gateway", "input")
+            .tag("method", method)
+            .tag("outcome", outcome)
+            .timer()
+            .count();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+*  @(#)CircuitBreakerTaskOutputGatewayTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.resilience;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.ports.output.TaskOutputGateway;
+import br.com.jtech.tasklist.config.infra.exceptions.ApiError;
+import br.com.jtech.tasklist.config.infra.utils.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+* Testes do decorator do disjuntor: leituras servidas pela última cópia e
+* rejeições mapeadas para 503 com Retry-After.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Gateway com Disjuntor")
+class CircuitBreakerTaskOutputGatewayTest {
+
+    private TaskOutputGateway delegate;
+    private CircuitBreakerTaskOutputGateway gateway;
+    private MockHttpServletResponse response;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(TaskOutputGateway.class);
+        CircuitBreaker.Settings settings = new CircuitBreaker.Settings(2, 2, 0.5, Duration.ofSeconds(2), 1.0,
+            Duration.ofSeconds(10), 1);
+        AtomicLong clock = new AtomicLong();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        gateway = new CircuitBreakerTaskOutputGateway(delegate,
+            new CircuitBreaker("test", settings, registry, clock::get), 100, registry);
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+        task = Task.builder().id("1").title("Tarefa").status("pendente").build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Deve servir a última cópia marcada como desatualizada quando o banco falha")
+    void shouldServeStaleSnapshot() {
+        // Arrange
+        when(delegate.findAll())
+            .thenReturn(List.of(task))
+            .thenThrow(new DataAccessResourceFailureException("banco fora"));
+        gateway.findAll();
+
+        // Act
+        List<Task> failed = gateway.findAll();
+        List<Task> rejected = gateway.findAll();
+
+        // Assert
+        assertThat(failed).extracting(Task::getTitle).containsExactly("Tarefa");
+        assertThat(rejected).extracting(Task::getTitle).containsExactly("Tarefa");
+        assertThat(response.getHeader(HttpHeaders.WARNING)).isEqualTo(StaleResponse.WARNING);
+        assertThat(response.getHeader(StaleResponse.STALENESS_HEADER)).isEqualTo("0");
+        verify(delegate, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Não deve marcar a resposta quando a leitura tem sucesso")
+    void shouldNotMarkFreshReads() {
+        // Arrange
+        when(delegate.findAll()).thenReturn(List.of(task));
+
+        // Act
+        gateway.findAll();
+
+        // Assert
+        assertThat(response.getHeader(HttpHeaders.WARNING)).isNull();
+        assertThat(response.getHeader(StaleResponse.STALENESS_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar escritas com o disjuntor aberto e responder 503 com Retry-After")
+    void shouldMapOpenCircuitTo503() {
+        // Arrange
+        when(delegate.save(any(Task.class))).thenThrow(new DataAccessResourceFailureException("banco fora"));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> gateway.save(task)).isInstanceOf(DataAccessResourceFailureException.class);
+        }
+
+        // Act
+        CircuitOpenException rejected = catchOpen(() -> gateway.save(task));
+        ResponseEntity<ApiError> mapped = new GlobalExceptionHandler().handleCircuitOpenException(rejected);
+
+        // Assert
+        assertThat(rejected.getRetryAfterSeconds()).isEqualTo(10);
+        assertThat(mapped.getStatusCode().value()).isEqualTo(503);
+        assertThat(mapped.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+        verify(delegate, times(2)).save(any(Task.class));
+    }
+
+    private static CircuitOpenException catchOpen(Runnable call) {
+        try {
+            call.run();
+        } catch (CircuitOpenException e) {
+            return e;
+        }
+        throw new AssertionError("CircuitOpenException esperada");
+    }
+}
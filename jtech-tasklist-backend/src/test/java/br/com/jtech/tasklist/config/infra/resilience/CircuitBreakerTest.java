@@ -0,0 +1,181 @@
+/*
+*  @(#)CircuitBreakerTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes das transições do disjuntor, com relógio controlado pelo teste.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Disjuntor")
+class CircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreaker.Settings settings = new CircuitBreaker.Settings(10, 5, 0.5, Duration.ofMillis(100), 0.5,
+            Duration.ofSeconds(10), 2);
+        breaker = new CircuitBreaker("test", settings, new SimpleMeterRegistry(), clock::get);
+    }
+
+    @Test
+    @DisplayName("Deve abrir quando a taxa de falhas atinge o limite")
+    void shouldOpenOnFailureRate() {
+        // Act
+        call(FAST, false);
+        call(FAST, false);
+        call(FAST, true);
+        call(FAST, true);
+        CircuitBreaker.State beforeMinimum = breaker.getState();
+        call(FAST, true);
+
+        // Assert
+        assertThat(beforeMinimum).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Deve abrir quando a taxa de chamadas lentas atinge o limite")
+    void shouldOpenOnSlowCallRate() {
+        // Act
+        call(FAST, false);
+        call(FAST, false);
+        call(SLOW, false);
+        call(SLOW, false);
+        call(SLOW, false);
+
+        // Assert
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Deve permanecer fechado abaixo dos limites")
+    void shouldStayClosedBelowThresholds() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            call(i % 5 == 0 ? SLOW : FAST, i % 5 == 1);
+        }
+
+        // Assert
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar até o fim da espera e então passar para HALF_OPEN")
+    void shouldWaitInOpenBeforeHalfOpen() {
+        // Arrange
+        open();
+
+        // Act
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        long duringWait = breaker.tryAcquire();
+        long secondsLeft = breaker.secondsUntilRetry();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        long afterWait = breaker.tryAcquire();
+
+        // Assert
+        assertThat(duringWait).isEqualTo(-1);
+        assertThat(secondsLeft).isEqualTo(1);
+        assertThat(afterWait).isNotNegative();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    @DisplayName("Deve fechar quando as chamadas de teste têm sucesso")
+    void shouldCloseAfterSuccessfulTrials() {
+        // Arrange
+        halfOpen();
+
+        // Act
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+        long third = breaker.tryAcquire();
+        breaker.onResult(first, FAST, false);
+        breaker.onResult(second, FAST, false);
+
+        // Assert
+        assertThat(third).isEqualTo(-1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Deve reabrir quando as chamadas de teste falham")
+    void shouldReopenAfterFailedTrials() {
+        // Arrange
+        halfOpen();
+
+        // Act
+        call(FAST, false);
+        call(FAST, true);
+
+        // Assert
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.secondsUntilRetry()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Não deve contar como teste a chamada iniciada antes da transição")
+    void shouldIgnoreResultsFromEarlierState() {
+        // Arrange
+        long startedWhileClosed = breaker.tryAcquire();
+        open();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        long trial = breaker.tryAcquire();
+
+        // Act
+        breaker.onResult(startedWhileClosed, SLOW, true);
+        CircuitBreaker.State afterLateResult = breaker.getState();
+        breaker.onResult(trial, FAST, false);
+        call(FAST, false);
+
+        // Assert
+        assertThat(afterLateResult).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void call(long durationNanos, boolean failed) {
+        long permit = breaker.tryAcquire();
+        assertThat(permit).isNotNegative();
+        clock.addAndGet(durationNanos);
+        breaker.onResult(permit, durationNanos, failed);
+    }
+
+    private void open() {
+        for (int i = 0; i < 5; i++) {
+            call(FAST, true);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void halfOpen() {
+        open();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+*  @(#)SqlNormalizerTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes da normalização de comandos SQL usada como chave das estatísticas.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Normalizador de SQL")
+class SqlNormalizerTest {
+
+    @Test
+    @DisplayName("Deve substituir literais de texto, inclusive com aspas escapadas")
+    void shouldReplaceStringLiterals() {
+        // Act
+        String normalized = SqlNormalizer.normalize(
+            "SELECT * FROM tasks WHERE title = 'O''Brien' AND status = 'pendente'");
+
+        // Assert
+        assertThat(normalized).isEqualTo("select * from tasks where title = ? and status = ?");
+    }
+
+    @Test
+    @DisplayName("Deve colapsar listas IN de qualquer tamanho")
+    void shouldCollapseInLists() {
+        // Act
+        String literals = SqlNormalizer.normalize("select id from tasks where id IN (1, 2, 3)");
+        String parameters = SqlNormalizer.normalize("select id from tasks where id in (?, ?,?)");
+
+        // Assert
+        assertThat(literals).isEqualTo("select id from tasks where id in (?)");
+        assertThat(parameters).isEqualTo(literals);
+    }
+
+    @Test
+    @DisplayName("Deve substituir números negativos e decimais")
+    void shouldReplaceNegativeAndDecimalNumbers() {
+        // Act
+        String normalized = SqlNormalizer.normalize("SELECT * FROM t WHERE x = -5 AND y > 3.14 AND z < -0.5");
+
+        // Assert
+        assertThat(normalized).isEqualTo("select * from t where x = ? and y > ? and z < ?");
+    }
+
+    @Test
+    @DisplayName("Deve preservar identificadores que contêm dígitos")
+    void shouldKeepIdentifiersWithDigits() {
+        // Act
+        String normalized = SqlNormalizer.normalize("select t1.col2, sha256(x) from table1 t1 where t1.v2 = 7");
+
+        // Assert
+        assertThat(normalized).isEqualTo("select t1.col2, sha256(x) from table1 t1 where t1.v2 = ?");
+    }
+
+    @Test
+    @DisplayName("Deve colapsar espaços e quebras de linha")
+    void shouldCollapseWhitespace() {
+        // Act & Assert
+        assertThat(SqlNormalizer.normalize("  update  tasks\n   set x = 1  ")).isEqualTo("update tasks set x = ?");
+        assertThat(SqlNormalizer.normalize(null)).isEmpty();
+    }
+}
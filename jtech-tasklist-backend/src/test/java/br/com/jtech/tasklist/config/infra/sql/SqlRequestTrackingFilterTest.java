@@ -0,0 +1,96 @@
+/*
+*  @(#)SqlRequestTrackingFilterTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes da detecção de N+1 por requisição.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Filtro de Rastreamento de SQL por Requisição")
+class SqlRequestTrackingFilterTest {
+
+    private static final int THRESHOLD = 3;
+    private static final String SELECT = "select * from tasks where id = ?";
+
+    private SqlStatementRegistry registry;
+    private SqlRequestTrackingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SqlStatementRegistry(new SimpleMeterRegistry(), 200, 100);
+        filter = new SqlRequestTrackingFilter();
+    }
+
+    @Test
+    @DisplayName("Deve reportar N+1 uma única vez ao atingir o limite na mesma requisição")
+    void shouldReportNPlusOneOncePerRequest() throws Exception {
+        // Act
+        execute(SELECT, 5);
+
+        // Assert
+        assertThat(nPlusOne(SELECT)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Não deve reportar abaixo do limite nem somar execuções de requisições diferentes")
+    void shouldCountPerRequest() throws Exception {
+        // Act
+        execute(SELECT, THRESHOLD - 1);
+        execute(SELECT, THRESHOLD - 1);
+
+        // Assert
+        assertThat(registry.snapshot()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar comandos que não são SELECT e execuções fora de requisição")
+    void shouldIgnoreWritesAndCallsOutsideRequests() throws Exception {
+        // Act
+        execute("update tasks set status = ? where id = ?", 5);
+        for (int i = 0; i < 5; i++) {
+            SqlRequestTrackingFilter.track(SELECT, THRESHOLD, registry);
+        }
+
+        // Assert
+        assertThat(registry.snapshot()).isEmpty();
+    }
+
+    /**
+     * Executa o comando {@code times} vezes dentro de uma requisição.
+     */
+    private void execute(String sql, int times) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        FilterChain chain = (req, res) -> {
+            for (int i = 0; i < times; i++) {
+                SqlRequestTrackingFilter.track(sql, THRESHOLD, registry);
+            }
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+
+    private Object nPlusOne(String sql) {
+        return registry.snapshot().stream().filter(stats -> sql.equals(stats.get("sql"))).findFirst()
+            .map(stats -> stats.get("nPlusOne")).orElse(null);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+*  @(#)SqlStatementRegistryTest.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+* Testes do registro de estatísticas por comando SQL.
+*
+* @author JTech
+*/
+@DisplayName("Testes do Registro de Comandos SQL")
+class SqlStatementRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new SqlStatementRegistry(meterRegistry, 200, 2);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar os comandos excedentes no balde 'other' ao atingir o limite")
+    void shouldCapStatementCardinality() {
+        // Act
+        registry.record("select 1", 1, 0, true);
+        registry.record("select 2", 1, 0, true);
+        registry.record("select 3", 1, 0, true);
+        registry.record("select 4", 1, 0, true);
+        registry.record("select 1", 1, 0, true);
+
+        // Assert
+        List<Map<String, Object>> snapshot = registry.snapshot();
+        assertThat(snapshot).extracting(stats -> stats.get("sql"))
+            .containsExactlyInAnyOrder("select 1", "select 2", SqlStatementRegistry.OTHER_STATEMENTS);
+        assertThat(count(snapshot, "select 1")).isEqualTo(2L);
+        assertThat(count(snapshot, SqlStatementRegistry.OTHER_STATEMENTS)).isEqualTo(2L);
+        assertThat(meterRegistry.find("tasklist.sql.statement").timers()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Deve contar erros, execuções lentas e suspeitas de N+1")
+    void shouldCountErrorsSlowAndNPlusOne() {
+        // Act
+        registry.record("select 1", 250, 1, false);
+        registry.recordNPlusOne("select 1", 10, "GET /api/v1/tasks");
+
+        // Assert
+        Map<String, Object> stats = registry.snapshot().get(0);
+        assertThat(stats.get("errors")).isEqualTo(1L);
+        assertThat(stats.get("slow")).isEqualTo(1L);
+        assertThat(stats.get("nPlusOne")).isEqualTo(1L);
+    }
+
+    private static Object count(List<Map<String, Object>> snapshot, String sql) {
+        return snapshot.stream().filter(stats -> sql.equals(stats.get("sql"))).findFirst()
+            .map(stats -> stats.get("count")).orElse(null);
+    }
+}